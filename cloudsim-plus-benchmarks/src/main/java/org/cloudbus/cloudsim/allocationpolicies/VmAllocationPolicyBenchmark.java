@@ -0,0 +1,115 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.allocationpolicies;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.HostSimple;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for the {@link VmAllocationPolicySimple},
+ * measuring the time to place a VM and then remove it from its Host,
+ * according to the number of Hosts in the Datacenter.
+ *
+ * <p>Half of the Hosts already have a VM placed,
+ * so that Hosts have different number of free PEs.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class VmAllocationPolicyBenchmark {
+    private static final int HOST_PES = 8;
+    private static final long MIPS = 1000;
+
+    @Param({"10", "100", "1000"})
+    private int hosts;
+
+    private VmAllocationPolicy policy;
+    private Vm vm;
+
+    @Setup
+    public void doSetup() {
+        Log.disable();
+        final CloudSim simulation = new CloudSim();
+        final List<Host> hostList = new ArrayList<>(hosts);
+        for (int i = 0; i < hosts; i++) {
+            hostList.add(createHost());
+        }
+
+        policy = new VmAllocationPolicySimple();
+        new DatacenterSimple(simulation, new DatacenterCharacteristicsSimple(hostList), policy);
+        for (int i = 0; i < hosts / 2; i++) {
+            policy.allocateHostForVm(createVm(i, 1 + i % HOST_PES));
+        }
+
+        vm = createVm(hosts, 2);
+    }
+
+    static Host createHost() {
+        final List<Pe> peList = new ArrayList<>(HOST_PES);
+        for (int i = 0; i < HOST_PES; i++) {
+            peList.add(new PeSimple(MIPS, new PeProvisionerSimple()));
+        }
+
+        return new HostSimple(1_000_000, 1_000_000, 1_000_000, peList)
+            .setRamProvisioner(new ResourceProvisionerSimple())
+            .setBwProvisioner(new ResourceProvisionerSimple())
+            .setVmScheduler(new VmSchedulerTimeShared());
+    }
+
+    static Vm createVm(final int id, final int pes) {
+        return new VmSimple(id, MIPS, pes).setRam(512).setBw(1000).setSize(1000);
+    }
+
+    @Benchmark
+    public boolean allocateAndDeallocateVm() {
+        final boolean allocated = policy.allocateHostForVm(vm);
+        policy.deallocateHostForVm(vm);
+        return allocated;
+    }
+}
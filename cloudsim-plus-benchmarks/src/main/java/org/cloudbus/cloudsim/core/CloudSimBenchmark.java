@@ -0,0 +1,120 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for the {@link CloudSim} main loop, measuring the average time
+ * to process each event (a simulation tick) according to the number of
+ * events pending in the future event queue.
+ *
+ * <p>A single entity keeps a given number of events scheduled to itself:
+ * every time it receives an event, it schedules a new one,
+ * until {@link #EVENTS} are processed.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class CloudSimBenchmark {
+    /**
+     * The number of events processed in each benchmark invocation.
+     */
+    private static final int EVENTS = 200_000;
+
+    /**
+     * The number of events that are kept pending in the future event queue.
+     */
+    @Param({"10", "1000", "100000"})
+    private int pendingEvents;
+
+    private CloudSim simulation;
+
+    @Setup(Level.Invocation)
+    public void doSetup() {
+        Log.disable();
+        simulation = new CloudSim();
+        new EventGenerator(simulation, pendingEvents);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public double processEvents() {
+        return simulation.start();
+    }
+
+    /**
+     * An entity that keeps a given number of events scheduled to itself.
+     */
+    private static final class EventGenerator extends CloudSimEntity {
+        private static final int TAG = 1;
+        private final int pendingEvents;
+        private final Random random;
+        private int scheduledEvents;
+
+        EventGenerator(final CloudSim simulation, final int pendingEvents) {
+            super(simulation);
+            this.pendingEvents = pendingEvents;
+            this.random = new Random(pendingEvents);
+        }
+
+        @Override
+        protected void startEntity() {
+            for (int i = 0; i < pendingEvents; i++) {
+                scheduleNext();
+            }
+        }
+
+        @Override
+        public void processEvent(final SimEvent ev) {
+            if (scheduledEvents < EVENTS) {
+                scheduleNext();
+            }
+        }
+
+        @Override
+        public void shutdownEntity() {/**/}
+
+        private void scheduleNext() {
+            scheduledEvents++;
+            schedule(getId(), random.nextDouble() * pendingEvents, TAG);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core.events;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.util.Log;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A set of benchmarks for the {@link FutureQueue} and {@link DeferredQueue} classes,
+ * that keep a given number of pending events in the queues.
+ *
+ * <p>The benchmarks implement the classic "hold" model for priority queues:
+ * each operation removes the first event and adds a new one,
+ * so that the size of the queue doesn't change along the benchmark.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EventQueueBenchmark {
+    /**
+     * The number of pending events inside the queues.
+     */
+    @Param({"100", "10000", "1000000"})
+    private int pendingEvents;
+
+    private CloudSim simulation;
+    private Random random;
+    private FutureQueue futureQueue;
+    private DeferredQueue deferredQueue;
+
+    /**
+     * The time of the last event added to the {@link #deferredQueue}.
+     */
+    private double deferredMaxTime;
+
+    @Setup
+    public void doSetup() {
+        Log.disable();
+        simulation = new CloudSim();
+        random = new Random(pendingEvents);
+        futureQueue = new FutureQueue();
+        deferredQueue = new DeferredQueue();
+        for (int i = 0; i < pendingEvents; i++) {
+            futureQueue.addEvent(newEvent(random.nextDouble() * pendingEvents));
+            deferredQueue.addEvent(newEvent(i));
+        }
+
+        deferredMaxTime = pendingEvents;
+    }
+
+    private SimEvent newEvent(final double time) {
+        return new CloudSimEvent(simulation, SimEvent.Type.SEND, time, 0, 0, 0, null);
+    }
+
+    /**
+     * Removes the first event from the {@link FutureQueue},
+     * as the simulation does to process the next event,
+     * and schedules a new one at a random future time.
+     *
+     * @return the removed event
+     */
+    @Benchmark
+    public SimEvent futureQueueHold() {
+        final SimEvent first = futureQueue.first();
+        futureQueue.remove(first);
+        futureQueue.addEvent(newEvent(first.eventTime() + random.nextDouble() * pendingEvents));
+        return first;
+    }
+
+    /**
+     * Removes an event in the middle of the {@link FutureQueue},
+     * as it happens when an event is cancelled, and adds it again.
+     *
+     * @return true if the event was removed
+     */
+    @Benchmark
+    public boolean futureQueueCancel() {
+        final SimEvent event = newEvent(random.nextDouble() * pendingEvents);
+        futureQueue.addEvent(event);
+        return futureQueue.remove(event);
+    }
+
+    /**
+     * Removes the first event from the {@link DeferredQueue}
+     * and adds a new one at the end of the queue, which is the usual case.
+     *
+     * @return the removed event
+     */
+    @Benchmark
+    public SimEvent deferredQueueHold() {
+        final SimEvent first = deferredQueue.first();
+        deferredQueue.remove(first);
+        deferredQueue.addEvent(newEvent(++deferredMaxTime));
+        return first;
+    }
+
+    /**
+     * Adds an event in the middle of the {@link DeferredQueue}, which requires
+     * looking for its position, then removes it.
+     *
+     * @return true if the event was removed
+     */
+    @Benchmark
+    public boolean deferredQueueInsertInTheMiddle() {
+        final SimEvent event = newEvent(deferredMaxTime - pendingEvents / 2.0);
+        deferredQueue.addEvent(event);
+        return deferredQueue.remove(event);
+    }
+
+    /**
+     * Looks for the first event matching a predicate in the {@link DeferredQueue},
+     * as done when an entity waits for a specific event.
+     *
+     * @return the event found
+     */
+    @Benchmark
+    public SimEvent deferredQueueFindLast() {
+        final double lastTime = deferredMaxTime;
+        return deferredQueue.stream().filter(e -> e.eventTime() >= lastTime).findFirst().orElse(SimEvent.NULL);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark for the {@link CloudletScheduler#updateProcessing(double, List)} method
+ * of different {@link CloudletScheduler} implementations,
+ * according to the number of Cloudlets submitted to the VM.
+ *
+ * <p>Cloudlets are long enough to never finish along the benchmark,
+ * so that each invocation updates the processing of the same number of Cloudlets.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CloudletSchedulerBenchmark {
+    private static final int VM_PES = 4;
+    private static final long VM_MIPS = 1000;
+
+    /**
+     * The time interval between two consecutive processing updates.
+     */
+    private static final double UPDATE_INTERVAL = 0.1;
+
+    @Param({"TimeShared", "SpaceShared", "CompletelyFair"})
+    private String schedulerType;
+
+    @Param({"10", "100", "1000"})
+    private int cloudletsPerVm;
+
+    private CloudletScheduler scheduler;
+    private List<Double> mipsShare;
+    private double time;
+
+    @Setup
+    public void doSetup() {
+        Log.disable();
+        scheduler = createScheduler();
+        scheduler.setVm(new VmSimple(0, VM_MIPS, VM_PES));
+        mipsShare = new ArrayList<>(VM_PES);
+        for (int i = 0; i < VM_PES; i++) {
+            mipsShare.add((double) VM_MIPS);
+        }
+
+        for (int i = 0; i < cloudletsPerVm; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(i, Long.MAX_VALUE / 2, 1);
+            cloudlet.setUtilizationModel(new UtilizationModelFull());
+            cloudlet.assignToDatacenter(Datacenter.NULL);
+            scheduler.cloudletSubmit(cloudlet);
+        }
+
+        time = 0;
+        scheduler.updateProcessing(time, mipsShare);
+    }
+
+    private CloudletScheduler createScheduler() {
+        switch (schedulerType) {
+            case "SpaceShared": return new CloudletSchedulerSpaceShared();
+            case "CompletelyFair": return new CloudletSchedulerCompletelyFair();
+            default: return new CloudletSchedulerTimeShared();
+        }
+    }
+
+    @Benchmark
+    public double updateProcessing() {
+        time += UPDATE_INTERVAL;
+        return scheduler.updateProcessing(time, mipsShare);
+    }
+}
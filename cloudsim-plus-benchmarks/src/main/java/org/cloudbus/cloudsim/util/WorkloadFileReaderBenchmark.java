@@ -0,0 +1,97 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A benchmark for the {@link WorkloadFileReader}, measuring the time to parse
+ * a workload file in the Standard Workload Format (swf),
+ * according to the number of jobs in the file and the file format.
+ *
+ * <p>The workload file is randomly generated before the benchmark starts.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class WorkloadFileReaderBenchmark {
+    private static final int MIPS = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    private int jobs;
+
+    @Param({"swf", "gz"})
+    private String format;
+
+    private File file;
+
+    @Setup
+    public void doSetup() throws IOException {
+        file = File.createTempFile("workload", ".swf." + format);
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(createOutputStream()))) {
+            writer.write("; Randomly generated workload for benchmarking\n");
+            final Random random = new Random(jobs);
+            for (int i = 1; i <= jobs; i++) {
+                final int procs = 1 + random.nextInt(8);
+                writer.write(String.format(
+                    "%d %d %d %d %d -1 -1 %d -1 -1 1 %d %d -1 -1 -1 -1 -1%n",
+                    i, i * 10, random.nextInt(100), 1 + random.nextInt(10000),
+                    procs, procs, 1 + random.nextInt(50), 1 + random.nextInt(5)));
+            }
+        }
+    }
+
+    private OutputStream createOutputStream() throws IOException {
+        final OutputStream out = new FileOutputStream(file);
+        return "gz".equals(format) ? new GZIPOutputStream(out) : out;
+    }
+
+    @TearDown
+    public void doTearDown() throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+
+    @Benchmark
+    public List<Cloudlet> generateWorkload() throws IOException {
+        return new WorkloadFileReader(file.getAbsolutePath(), MIPS).generateWorkload();
+    }
+}
@@ -24,6 +24,7 @@
 package org.cloudsimplus.benchmarks;
 
 import java.io.IOException;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -37,6 +38,12 @@ import org.openjdk.jmh.runner.options.VerboseMode;
  *
  * To run the benchmarks, clean & build the main project.
  * Then clean & build this project and run this class.
+ * A regular expression can be given as argument to run just
+ * the benchmarks matching it, such as {@code CloudletSchedulerBenchmark}.
+ *
+ * <p>Benchmarks are executed with the {@link GCProfiler},
+ * that shows the allocation rate and the time spent on garbage collection
+ * for each benchmark.</p>
  *
  * @author Manoel Campos da Silva Filho
  * @see <a href="http://tutorials.jenkov.com/java-performance/jmh.html">JMH - Java Microbenchmark Harness Tutorial</a>
@@ -47,7 +54,7 @@ public final class Run {
      * Regex that identifies the classes with benchmarks that have to be
      * executed.
      */
-    private static final String TEST_CLASSES_REGEX = "org.cloudsimplus.*";
+    private static final String TEST_CLASSES_REGEX = "org\\.(cloudsimplus|cloudbus)\\..*Benchmark.*";
 
     /**
      * A private constructor to avoid class instantiation.
@@ -55,9 +62,11 @@ public final class Run {
     private Run(){}
 
     public static void main(String[] args) throws IOException, RunnerException {
-        System.out.println(TEST_CLASSES_REGEX);
+        final String regex = args.length > 0 ? args[0] : TEST_CLASSES_REGEX;
+        System.out.println(regex);
         Options options = new OptionsBuilder()
-                .include(TEST_CLASSES_REGEX)
+                .include(regex)
+                .addProfiler(GCProfiler.class)
                 .forks(1)
                 .measurementIterations(5)
                 .measurementTime(TimeValue.milliseconds(100))
@@ -0,0 +1,249 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.util.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A macro benchmark that runs complete simulations of the {@link ScalingScenario}s,
+ * doubling the number of Hosts, VMs and Cloudlets until a maximum scale,
+ * to assess the end-to-end simulator throughput.
+ *
+ * <p>For each scenario and scale, it records the events processed per second, the wall time,
+ * the peak heap usage and the garbage collection pauses during the simulation execution.
+ * The results are printed and written as scaling curves to the files
+ * {@code scaling-results.json} and {@code scaling-results.csv}.
+ * The {@link ScalingResult#getScalingEfficiency() scaling efficiency}
+ * shows where the simulator stops scaling linearly.</p>
+ *
+ * <p>Differently from JMH benchmarks, each simulation is executed just a few times,
+ * after a warm-up execution of the smallest scale. The arguments, all optional, are:</p>
+ * <ol>
+ *     <li>the maximum scale (default {@link #DEFAULT_MAX_SCALE});</li>
+ *     <li>the number of repetitions for each scale (default {@link #DEFAULT_REPETITIONS});</li>
+ *     <li>the directory where the result files are written (default {@link #DEFAULT_OUTPUT_DIR}).</li>
+ * </ol>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public final class ScalingBenchmark {
+    public static final int DEFAULT_MAX_SCALE = 64;
+    public static final int DEFAULT_REPETITIONS = 3;
+    public static final String DEFAULT_OUTPUT_DIR = "target";
+
+    private static final double MEGABYTE = 1024.0 * 1024.0;
+
+    private final int maxScale;
+    private final int repetitions;
+
+    /**
+     * Creates a ScalingBenchmark.
+     *
+     * @param maxScale the maximum scale, that is doubled starting from 1 until this value
+     * @param repetitions the number of times the simulation for each scale is executed
+     */
+    public ScalingBenchmark(final int maxScale, final int repetitions) {
+        if(maxScale < 1 || repetitions < 1){
+            throw new IllegalArgumentException("The maximum scale and the number of repetitions must be greater than 0.");
+        }
+
+        this.maxScale = maxScale;
+        this.repetitions = repetitions;
+    }
+
+    public static void main(String[] args) {
+        final int maxScale = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_MAX_SCALE;
+        final int repetitions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_REPETITIONS;
+        final Path outputDir = Paths.get(args.length > 2 ? args[2] : DEFAULT_OUTPUT_DIR);
+
+        Log.disable();
+        final List<ScalingResult> results = new ScalingBenchmark(maxScale, repetitions).run();
+        writeJson(results, outputDir.resolve("scaling-results.json"));
+        writeCsv(results, outputDir.resolve("scaling-results.csv"));
+    }
+
+    /**
+     * Runs all the {@link ScalingScenario}s for every scale, printing each result.
+     * @return the list of results for all scenarios and scales
+     */
+    public List<ScalingResult> run() {
+        final List<ScalingResult> results = new ArrayList<>();
+        System.out.printf(
+            "%-15s %5s %7s %8s %10s %11s %10s %13s %10s %8s %10s %10s%n",
+            "Scenario", "Scale", "Hosts", "VMs", "Cloudlets", "Events", "Wall (ms)", "Events/sec",
+            "Heap (MB)", "GCs", "GC (ms)", "Efficiency");
+        for (final ScalingScenario scenario : ScalingScenario.values()) {
+            //Warm-up execution, so that JIT compilation doesn't affect the results of the first scale
+            runOnce(scenario, 1);
+
+            ScalingResult base = null;
+            for (int scale = 1; scale <= maxScale; scale *= 2) {
+                final ScalingResult result = run(scenario, scale);
+                if(base == null) {
+                    base = result;
+                }
+                result.computeScalingEfficiency(base);
+                results.add(result);
+                System.out.println(result);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Runs a scenario at a given scale the defined number of repetitions.
+     *
+     * @param scenario the scenario to run
+     * @param scale the scale of the scenario
+     * @return the average result of all repetitions
+     */
+    private ScalingResult run(final ScalingScenario scenario, final int scale) {
+        final List<ScalingResult> runs = new ArrayList<>(repetitions);
+        for (int i = 0; i < repetitions; i++) {
+            runs.add(runOnce(scenario, scale));
+        }
+
+        return new ScalingResult(
+            scenario, scale, runs.get(0).getEvents(),
+            runs.stream().mapToDouble(ScalingResult::getBuildTimeMs).average().orElse(0),
+            runs.stream().mapToDouble(ScalingResult::getWallTimeMs).average().orElse(0),
+            runs.stream().mapToDouble(ScalingResult::getPeakHeapMb).max().orElse(0),
+            runs.stream().mapToDouble(ScalingResult::getGcCount).average().orElse(0),
+            runs.stream().mapToDouble(ScalingResult::getGcTimeMs).average().orElse(0));
+    }
+
+    private ScalingResult runOnce(final ScalingScenario scenario, final int scale) {
+        final long[] events = {0};
+        System.gc();
+        resetPeakHeapUsage();
+        final long gcCountBefore = getGcCount();
+        final long gcTimeBefore = getGcTimeMs();
+
+        final long buildStart = System.nanoTime();
+        final CloudSim simulation = scenario.build(scale);
+        simulation.addOnEventProcessingListener(evt -> events[0]++);
+        final long start = System.nanoTime();
+        simulation.start();
+        final long finish = System.nanoTime();
+
+        return new ScalingResult(
+            scenario, scale, events[0],
+            (start - buildStart) / 1000000.0, (finish - start) / 1000000.0,
+            getPeakHeapUsage() / MEGABYTE,
+            getGcCount() - gcCountBefore, getGcTimeMs() - gcTimeBefore);
+    }
+
+    private static void resetPeakHeapUsage() {
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    /**
+     * Gets the sum of the peak usage of all heap memory pools
+     * since the last time they were reset.
+     * Since the peak of each pool may happen at different times,
+     * that is an upper bound of the actual heap peak.
+     *
+     * @return the peak heap usage in bytes
+     */
+    private static long getPeakHeapUsage() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .mapToLong(pool -> pool.getPeakUsage().getUsed())
+            .sum();
+    }
+
+    private static long getGcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+            .filter(count -> count > 0)
+            .sum();
+    }
+
+    private static long getGcTimeMs() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+            .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+            .filter(time -> time > 0)
+            .sum();
+    }
+
+    /**
+     * Writes the results as a JSON array.
+     * @param results the results to write
+     * @param file the path of the file to write
+     */
+    public static void writeJson(final List<ScalingResult> results, final Path file) {
+        final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        write(file, gson.toJson(results));
+    }
+
+    /**
+     * Writes the results as CSV, with a header line.
+     * @param results the results to write
+     * @param file the path of the file to write
+     */
+    public static void writeCsv(final List<ScalingResult> results, final Path file) {
+        final StringBuilder csv = new StringBuilder(ScalingResult.CSV_HEADER).append(System.lineSeparator());
+        results.forEach(result -> csv.append(result.toCsv()).append(System.lineSeparator()));
+        write(file, csv.toString());
+    }
+
+    private static void write(final Path file, final String content) {
+        try {
+            if(file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(content);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        System.out.println("Results written to " + file.toAbsolutePath());
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import java.util.Locale;
+
+/**
+ * The metrics collected from the execution of a {@link ScalingScenario}
+ * with a given number of Hosts, VMs and Cloudlets, representing a point in a scaling curve.
+ * When the scenario was executed multiple times, the metrics are the average of all repetitions,
+ * except the peak heap, that is the maximum one.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see ScalingBenchmark
+ */
+public final class ScalingResult {
+    /**
+     * The header for the CSV line of each result.
+     * @see #toCsv()
+     */
+    public static final String CSV_HEADER =
+        "scenario,scale,hosts,vms,cloudlets,events,buildTimeMs,wallTimeMs,eventsPerSecond,"+
+        "peakHeapMb,gcCount,gcTimeMs,scalingEfficiency";
+
+    private final String scenario;
+    private final int scale;
+    private final int hosts;
+    private final int vms;
+    private final int cloudlets;
+    private final long events;
+    private final double buildTimeMs;
+    private final double wallTimeMs;
+    private final double eventsPerSecond;
+    private final double peakHeapMb;
+    private final double gcCount;
+    private final double gcTimeMs;
+    private double scalingEfficiency;
+
+    ScalingResult(
+        final ScalingScenario scenario, final int scale, final long events,
+        final double buildTimeMs, final double wallTimeMs, final double peakHeapMb,
+        final double gcCount, final double gcTimeMs)
+    {
+        this.scenario = scenario.name();
+        this.scale = scale;
+        this.hosts = scenario.getHosts(scale);
+        this.vms = scenario.getVms(scale);
+        this.cloudlets = scenario.getCloudlets(scale);
+        this.events = events;
+        this.buildTimeMs = buildTimeMs;
+        this.wallTimeMs = wallTimeMs;
+        this.eventsPerSecond = wallTimeMs > 0 ? events / (wallTimeMs / 1000.0) : 0;
+        this.peakHeapMb = peakHeapMb;
+        this.gcCount = gcCount;
+        this.gcTimeMs = gcTimeMs;
+        this.scalingEfficiency = 1;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public int getHosts() {
+        return hosts;
+    }
+
+    public int getVms() {
+        return vms;
+    }
+
+    public int getCloudlets() {
+        return cloudlets;
+    }
+
+    /**
+     * Gets the number of events processed by the simulation.
+     * @return
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    /**
+     * Gets the time (in milliseconds) spent to create the simulation scenario.
+     * @return
+     */
+    public double getBuildTimeMs() {
+        return buildTimeMs;
+    }
+
+    /**
+     * Gets the time (in milliseconds) spent to run the simulation,
+     * excluding the time to build the scenario.
+     * @return
+     */
+    public double getWallTimeMs() {
+        return wallTimeMs;
+    }
+
+    public double getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    /**
+     * Gets the peak heap usage (in Megabytes) during the simulation execution.
+     * @return
+     */
+    public double getPeakHeapMb() {
+        return peakHeapMb;
+    }
+
+    /**
+     * Gets the number of garbage collections performed during the simulation execution.
+     * @return
+     */
+    public double getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Gets the time (in milliseconds) the garbage collectors spent
+     * during the simulation execution.
+     * @return
+     */
+    public double getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    /**
+     * Gets the ratio between the events per second of this result and the events per second
+     * of the smallest scale of the same scenario.
+     * A value close to 1 means the simulator scales linearly up to this scale,
+     * while lower values mean the time to process each event is growing with the scenario size.
+     *
+     * @return
+     */
+    public double getScalingEfficiency() {
+        return scalingEfficiency;
+    }
+
+    /**
+     * Computes the {@link #getScalingEfficiency() scaling efficiency} of this result,
+     * relative to a given base result.
+     *
+     * @param base the result for the smallest scale of the same scenario
+     */
+    void computeScalingEfficiency(final ScalingResult base) {
+        this.scalingEfficiency = base.eventsPerSecond > 0 ? eventsPerSecond / base.eventsPerSecond : 0;
+    }
+
+    /**
+     * Gets a CSV line with the metrics, in the order defined by the {@link #CSV_HEADER}.
+     * @return
+     */
+    public String toCsv() {
+        return String.format(Locale.US,
+            "%s,%d,%d,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f,%.2f,%.4f",
+            scenario, scale, hosts, vms, cloudlets, events, buildTimeMs, wallTimeMs, eventsPerSecond,
+            peakHeapMb, gcCount, gcTimeMs, scalingEfficiency);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+            "%-15s %5d %7d %8d %10d %11d %10.1f %13.0f %10.1f %8.0f %10.1f %10.4f",
+            scenario, scale, hosts, vms, cloudlets, events, wallTimeMs, eventsPerSecond,
+            peakHeapMb, gcCount, gcTimeMs, scalingEfficiency);
+    }
+}
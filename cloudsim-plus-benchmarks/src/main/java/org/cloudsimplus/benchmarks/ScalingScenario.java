@@ -0,0 +1,134 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.benchmarks;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerCompletelyFair;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerAbstract;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.CloudletBuilder;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * The standard scenarios executed by the {@link ScalingBenchmark}.
+ * Each scenario has a single Datacenter and broker, where the number of Hosts, VMs and Cloudlets
+ * is proportional to a given scale. At scale 1, there are {@link #BASE_HOSTS} Hosts,
+ * {@link #VMS_PER_HOST} VMs for each Host and {@link #CLOUDLETS_PER_VM} Cloudlets for each VM.
+ *
+ * <p>VMs use all Host PEs and Cloudlets have different lengths,
+ * so that they finish at different times, as in usual simulations.
+ * The scenarios just differ in the VM and Cloudlet schedulers used.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public enum ScalingScenario {
+    TIME_SHARED(VmSchedulerTimeShared.class, CloudletSchedulerTimeShared::new),
+    SPACE_SHARED(VmSchedulerSpaceShared.class, CloudletSchedulerSpaceShared::new),
+    COMPLETELY_FAIR(VmSchedulerTimeShared.class, CloudletSchedulerCompletelyFair::new);
+
+    public static final int BASE_HOSTS = 10;
+    public static final int VMS_PER_HOST = 2;
+    public static final int CLOUDLETS_PER_VM = 4;
+
+    private static final int HOST_PES = 8;
+    private static final int VM_PES = HOST_PES / VMS_PER_HOST;
+    private static final double MIPS = 1000;
+    private static final long CLOUDLET_BASE_LENGTH = 10000;
+
+    /**
+     * The number of different Cloudlet lengths, that makes Cloudlets to finish at different times.
+     * The number of Cloudlets at scale 1 must be a multiple of it.
+     */
+    private static final int CLOUDLET_LENGTHS = 10;
+
+    private final Class<? extends VmSchedulerAbstract> vmSchedulerClass;
+    private final Supplier<CloudletScheduler> cloudletSchedulerSupplier;
+
+    ScalingScenario(
+        final Class<? extends VmSchedulerAbstract> vmSchedulerClass,
+        final Supplier<CloudletScheduler> cloudletSchedulerSupplier)
+    {
+        this.vmSchedulerClass = vmSchedulerClass;
+        this.cloudletSchedulerSupplier = cloudletSchedulerSupplier;
+    }
+
+    public int getHosts(final int scale) {
+        return BASE_HOSTS * scale;
+    }
+
+    public int getVms(final int scale) {
+        return getHosts(scale) * VMS_PER_HOST;
+    }
+
+    public int getCloudlets(final int scale) {
+        return getVms(scale) * CLOUDLETS_PER_VM;
+    }
+
+    /**
+     * Builds the scenario for a given scale, without starting the simulation.
+     *
+     * @param scale the scale that defines the number of Hosts, VMs and Cloudlets
+     * @return the simulation, ready to be started
+     */
+    public CloudSim build(final int scale) {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        scenario.getDatacenterBuilder().createDatacenter(
+            new HostBuilder()
+                .setVmSchedulerClass(vmSchedulerClass)
+                .setRam(16000).setBw(100000).setStorage(1000000)
+                .setPes(HOST_PES).setMips(MIPS)
+                .createHosts(getHosts(scale))
+                .getHosts()
+        );
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().createBroker();
+        brokerBuilder.getVmBuilder()
+            .setRam(1000).setBw(1000)
+            .setPes(VM_PES).setMips(MIPS).setSize(1000)
+            .setCloudletSchedulerSupplier(cloudletSchedulerSupplier)
+            .createAndSubmitVms(getVms(scale));
+
+        final CloudletBuilder cloudletBuilder = brokerBuilder.getCloudletBuilder()
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setPEs(1);
+        for (int i = 1; i <= CLOUDLET_LENGTHS; i++) {
+            cloudletBuilder
+                .setLength(CLOUDLET_BASE_LENGTH * i)
+                .createAndSubmitCloudlets(getCloudlets(scale) / CLOUDLET_LENGTHS);
+        }
+
+        return simulation;
+    }
+}
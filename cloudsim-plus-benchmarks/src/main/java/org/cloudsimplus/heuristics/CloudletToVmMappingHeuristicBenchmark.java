@@ -0,0 +1,129 @@
+/**
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A benchmark comparing the time different {@link CloudletToVmMappingHeuristic}s
+ * take to solve the same Cloudlet to VM mapping problem,
+ * according to the number of Cloudlets (there are 2.5 Cloudlets for each VM).
+ *
+ * <p>The Simulated Annealing and the Tabu Search are configured to evaluate about the same
+ * number of moves (swapping the VMs of two Cloudlets), while the Genetic Algorithm evolves
+ * a fixed number of generations. The cost of the solution found is returned,
+ * so that the quality reached by each heuristic can be compared too.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class CloudletToVmMappingHeuristicBenchmark {
+    private static final long SEED = 11;
+
+    @Param({"SimulatedAnnealing", "TabuSearch", "GeneticAlgorithm"})
+    private String heuristicType;
+
+    @Param({"100", "1000", "10000"})
+    private int cloudlets;
+
+    private List<Cloudlet> cloudletList;
+    private List<Vm> vmList;
+    private CloudletToVmMappingHeuristic heuristic;
+
+    @Setup(Level.Trial)
+    public void doSetup() {
+        Log.disable();
+        final UniformDistr random = new UniformDistr(SEED);
+        final int vms = cloudlets * 2 / 5;
+        vmList = new ArrayList<>(vms);
+        for (int i = 0; i < vms; i++) {
+            vmList.add(new VmSimple(i, 1000, 1 + (int) (random.sample() * 8)));
+        }
+
+        cloudletList = new ArrayList<>(cloudlets);
+        for (int i = 0; i < cloudlets; i++) {
+            cloudletList.add(new CloudletSimple(i, 1000, 1 + (int) (random.sample() * 4)));
+        }
+    }
+
+    /**
+     * Creates a new heuristic for each invocation, since heuristics
+     * keep their initial solution after solving the problem.
+     */
+    @Setup(Level.Invocation)
+    public void createHeuristic() {
+        heuristic = newHeuristic();
+        heuristic.setVmList(vmList);
+        heuristic.setCloudletList(cloudletList);
+    }
+
+    private CloudletToVmMappingHeuristic newHeuristic() {
+        switch (heuristicType) {
+            case "TabuSearch":
+                final CloudletToVmMappingTabuSearch tabuSearch = new CloudletToVmMappingTabuSearch(new UniformDistr(SEED));
+                tabuSearch.setMaxIterations(cloudlets * 10);
+                tabuSearch.setNumberOfNeighborhoodSearchesByIteration(50);
+                tabuSearch.setTabuTenure(20);
+                return tabuSearch;
+            case "GeneticAlgorithm":
+                final CloudletToVmMappingGeneticAlgorithm geneticAlgorithm = new CloudletToVmMappingGeneticAlgorithm(new UniformDistr(SEED));
+                geneticAlgorithm.setPopulationSize(100);
+                geneticAlgorithm.setMaxGenerations(500);
+                geneticAlgorithm.setMutationRate(1.0 / cloudlets);
+                geneticAlgorithm.setTournamentSize(3);
+                return geneticAlgorithm;
+            default:
+                final CloudletToVmMappingSimulatedAnnealing annealing = new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(SEED));
+                annealing.setColdTemperature(0.0001);
+                annealing.setCoolingRate(0.003);
+                annealing.setNumberOfNeighborhoodSearchesByIteration(cloudlets / 6);
+                return annealing;
+        }
+    }
+
+    @Benchmark
+    public double solve() {
+        return heuristic.solve().getCost();
+    }
+}
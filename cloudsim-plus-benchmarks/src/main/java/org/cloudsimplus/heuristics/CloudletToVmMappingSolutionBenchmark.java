@@ -95,4 +95,9 @@ public class CloudletToVmMappingSolutionBenchmark {
     public double testGetCostWhenSecondCall() {
         return instance2.getCost();
     }
+
+    @Benchmark
+    public double testGetSwapCostDelta() {
+        return instance1.getSwapCostDelta(0, 1);
+    }
 }
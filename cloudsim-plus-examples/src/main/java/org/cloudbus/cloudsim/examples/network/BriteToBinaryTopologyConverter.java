@@ -0,0 +1,62 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.examples.network;
+
+import org.cloudbus.cloudsim.network.topologies.BinaryNetworkTopology;
+import org.cloudbus.cloudsim.util.Log;
+
+/**
+ * A command line tool that converts a network topology file in the
+ * <a href="http://www.cs.bu.edu/brite/user_manual/node29.html">BRITE format</a>
+ * to the binary format read by the {@link BinaryNetworkTopology}.
+ * The conversion is performed just once, so that simulations
+ * using the same topology don't need to parse the BRITE file and compute
+ * the delay matrix at every startup.
+ *
+ * <p>Usage: {@code BriteToBinaryTopologyConverter <input.brite> <output.bin>}</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public final class BriteToBinaryTopologyConverter {
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private BriteToBinaryTopologyConverter(){}
+
+    /**
+     * Starts the conversion.
+     *
+     * @param args the name of the BRITE file to read and the name of the binary file to create
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            Log.printFormattedLine("Usage: %s <input.brite> <output.bin>", BriteToBinaryTopologyConverter.class.getSimpleName());
+            return;
+        }
+
+        BinaryNetworkTopology.convertFromBrite(args[0], args[1]);
+        Log.printFormattedLine("BRITE topology %s converted to %s", args[0], args[1]);
+    }
+}
@@ -13,7 +13,6 @@ import java.util.List;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
 import org.cloudbus.cloudsim.network.topologies.BriteNetworkTopology;
-import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
@@ -117,7 +116,7 @@ public class NetworkExample4 {
 
         //Sixth step: configure network
         //maps CloudSim entities to BRITE entities
-        NetworkTopology networkTopology = new BriteNetworkTopology();
+        BriteNetworkTopology networkTopology = new BriteNetworkTopology();
         simulation.setNetworkTopology(networkTopology);
         networkTopology.addLink(datacenter0.getId(), broker.getId(), 10.0, 10);
 
@@ -29,9 +29,15 @@ import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.distributions.UniformDistr;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
@@ -53,7 +59,6 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      */
     private long baseSeed;
 
-    private List<Long> seeds;
     /**
      * @see #getSimulationRuns()
      */
@@ -79,6 +84,11 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      */
     private int numberOfBatches;
 
+    /**
+     * @see #getNumberOfThreads()
+     */
+    private int numberOfThreads;
+
     /**
      * Creates an experiment runner, setting the
      * {@link #getBaseSeed() base seed} as the current time.
@@ -94,8 +104,8 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      * @param baseSeed the seed to be used as base for each experiment seed
      */
     public ExperimentRunner(final boolean antitheticVariatesTechnique, final long baseSeed) {
-        seeds = new ArrayList<>();
         setBaseSeed(baseSeed);
+        setNumberOfThreads(1);
         setNumberOfBatches(0);
         setApplyAntitheticVariatesTechnique(antitheticVariatesTechnique);
     }
@@ -139,7 +149,6 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
         }
 
         setup();
-        seeds = new ArrayList<>(getSimulationRuns());
     }
 
     /**
@@ -426,8 +435,24 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
         return baseSeed;
     }
 
+    /**
+     * Gets the seed for a given experiment run.
+     * If it is to apply the
+     * {@link #isApplyAntitheticVariatesTechnique() "Antithetic Variates Technique"},
+     * the second half of experiments reuses the seeds from the first half.
+     *
+     * <p>The seed is computed just from the experiment index,
+     * thus it doesn't depend on the order in which experiments are created or executed.</p>
+     *
+     * @param experimentIndex the index of the experiment to get its seed
+     * @return
+     */
     long getSeed(final int experimentIndex) {
-        return seeds.get(experimentIndex);
+        if (isToReuseSeedFromFirstHalfOfExperiments(experimentIndex)) {
+            return baseSeed + experimentIndex - halfSimulationRuns();
+        }
+
+        return baseSeed + experimentIndex;
     }
 
     /**
@@ -445,14 +470,12 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      * @see UniformDistr#isApplyAntitheticVariatesTechnique()
      */
     public ContinuousDistribution createRandomGen(int experimentIndex, double minValue, double maxValue) {
-        UniformDistr prng;
         if (isToReuseSeedFromFirstHalfOfExperiments(experimentIndex)) {
-            final int expIndexFromFirstHalf = experimentIndex - halfSimulationRuns();
-            return new UniformDistr(minValue, maxValue, seeds.get(expIndexFromFirstHalf))
+            return new UniformDistr(minValue, maxValue, getSeed(experimentIndex))
                     .setApplyAntitheticVariatesTechnique(true);
         }
 
-        return new UniformDistr(minValue, maxValue, seeds.get(experimentIndex));
+        return new UniformDistr(minValue, maxValue, getSeed(experimentIndex));
     }
 
     public boolean isToReuseSeedFromFirstHalfOfExperiments(int currentExperimentIndex) {
@@ -476,17 +499,6 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
         return createRandomGen(experimentIndex, 0, 1);
     }
 
-    /**
-     * Adds a seed to the list of seeds used for each experiment.
-     *
-     * @param seed seed of the current experiment to add to the list
-     */
-    void addSeed(long seed) {
-        if(!seeds.contains(seed)){
-            seeds.add(seed);
-        }
-    }
-
     /**
      * @return the half of {@link #getSimulationRuns()}
      */
@@ -522,11 +534,10 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
         Log.disable();
         try {
             experimentsStartTime = System.currentTimeMillis();
-            for (int i = 0; i < getSimulationRuns(); i++) {
-                if (isVerbose()) {
-                    System.out.print(((i + 1) % 100 == 0 ? String.format(". Run #%d\n", i + 1) : "."));
-                }
-                createExperiment(i).run();
+            if (isParallel()) {
+                runExperimentsInParallel();
+            } else {
+                runExperimentsSequentially();
             }
             System.out.println();
             experimentsFinishTime = (System.currentTimeMillis() - experimentsStartTime) / 1000;
@@ -541,6 +552,81 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
         System.out.printf("\nExperiments finished in %d seconds!\n", getExperimentsFinishTime());
     }
 
+    private void runExperimentsSequentially() {
+        for (int i = 0; i < getSimulationRuns(); i++) {
+            printProgress(i);
+            createExperiment(i).run();
+        }
+    }
+
+    /**
+     * Runs the experiments using a pool of {@link #getNumberOfThreads()} threads.
+     * Each experiment has its own {@link org.cloudbus.cloudsim.core.CloudSim} instance,
+     * thus independent runs can be simulated at the same time.
+     *
+     * <p>Experiments are created and finished in the thread calling {@link #run()},
+     * following the order of their indexes.
+     * This way, the {@link SimulationExperiment#getAfterExperimentFinish() afterExperimentFinish}
+     * Listeners, that usually collect the experiment metrics, are called
+     * in the same order as in a sequential execution, producing the same results.
+     * Just the simulation itself runs in the pool threads.
+     * At most twice the number of threads experiments are kept in memory at the same time,
+     * so that the results of a finished experiment can be released before
+     * the next ones are created.</p>
+     */
+    private void runExperimentsInParallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        final Queue<Future<T>> pending = new ArrayDeque<>(numberOfThreads * 2);
+        try {
+            for (int i = 0; i < getSimulationRuns(); i++) {
+                printProgress(i);
+                final T experiment = createExperiment(i);
+                pending.add(executor.submit(() -> simulate(experiment)));
+                if (pending.size() >= numberOfThreads * 2) {
+                    finishNextExperiment(pending);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                finishNextExperiment(pending);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private T simulate(final T experiment) {
+        experiment.simulate();
+        return experiment;
+    }
+
+    /**
+     * Waits the oldest submitted experiment to finish its simulation
+     * and then process its results.
+     *
+     * @param pending the queue of experiments submitted to the pool
+     */
+    private void finishNextExperiment(final Queue<Future<T>> pending) {
+        try {
+            pending.poll().get().finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting an experiment to finish.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void printProgress(final int experimentIndex) {
+        if (isVerbose()) {
+            System.out.print(((experimentIndex + 1) % 100 == 0 ? String.format(". Run #%d\n", experimentIndex + 1) : "."));
+        }
+    }
+
     /**
      * Creates a Map adding a List of values for each metric to be computed.
      * The computation of final experiments results are performed on this map.
@@ -650,6 +736,49 @@ public abstract class ExperimentRunner<T extends SimulationExperiment> implement
      */
     protected abstract void printFinalResults(String metricName, SummaryStatistics stats);
 
+    /**
+     * Gets the number of threads used to run experiments at the same time.
+     * If it is equal to 1, experiments are run sequentially in the
+     * thread calling {@link #run()}.
+     *
+     * @return
+     * @see #isParallel()
+     */
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    /**
+     * Sets the number of threads used to run experiments at the same time.
+     * Since each experiment has its own simulation instance, independent
+     * runs can be executed in parallel, using all available CPU cores.
+     * The results are the same as running experiments sequentially.
+     *
+     * <p>Experiments with {@link SimulationExperiment#isVerbose() verbose}
+     * enabled will have their outputs interleaved when run in parallel.</p>
+     *
+     * @param numberOfThreads the number of threads to set, that must be at least 1
+     * @return
+     * @see Runtime#availableProcessors()
+     */
+    public final ExperimentRunner setNumberOfThreads(final int numberOfThreads) {
+        if (numberOfThreads < 1) {
+            throw new IllegalArgumentException("The number of threads must be greater than zero.");
+        }
+
+        this.numberOfThreads = numberOfThreads;
+        return this;
+    }
+
+    /**
+     * Checks if experiments are run in parallel, using multiple threads.
+     * @return
+     * @see #setNumberOfThreads(int)
+     */
+    public boolean isParallel() {
+        return numberOfThreads > 1;
+    }
+
     public final ExperimentRunner setBaseSeed(long baseSeed) {
         this.baseSeed = baseSeed;
         return this;
@@ -120,15 +120,7 @@ public abstract class SimulationExperiment implements Runnable {
             return seed;
         }
 
-        if (runner.isToReuseSeedFromFirstHalfOfExperiments(index)) {
-            final int previousExperiment = index - runner.halfSimulationRuns();
-            seed = runner.getSeed(previousExperiment);
-        } else {
-            seed = runner.getBaseSeed() + index;
-        }
-
-        runner.addSeed(seed);
-        return seed;
+        return runner.getSeed(index);
     }
 
     public final List<Cloudlet> getCloudletList() {
@@ -186,8 +178,28 @@ public abstract class SimulationExperiment implements Runnable {
      */
     @Override
     public final void run() {
+        simulate();
+        finish();
+    }
+
+    /**
+     * Builds the simulation scenario and runs the simulation,
+     * without processing its results.
+     * It allows the {@link ExperimentRunner} to run the simulation
+     * of independent experiments in parallel.
+     * @see #finish()
+     */
+    final void simulate() {
         buildScenario();
         cloudsim.start();
+    }
+
+    /**
+     * Notifies the {@link #getAfterExperimentFinish() afterExperimentFinish} Listener
+     * and prints the experiment results, after the simulation is finished.
+     * @see #simulate()
+     */
+    final void finish() {
         getAfterExperimentFinish().accept(this);
         printResultsInternal();
     }
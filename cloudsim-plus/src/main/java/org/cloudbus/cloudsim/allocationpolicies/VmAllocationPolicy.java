@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.allocationpolicies;
 
+import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
@@ -24,7 +25,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface VmAllocationPolicy {
+public interface VmAllocationPolicy extends Serializable {
     /**
      * A property that implements the Null Object Design Pattern for {@link VmAllocationPolicy}
      * objects.
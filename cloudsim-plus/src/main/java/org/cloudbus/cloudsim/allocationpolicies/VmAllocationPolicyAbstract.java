@@ -17,7 +17,6 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
 import org.cloudbus.cloudsim.resources.*;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 
@@ -114,13 +113,23 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
     /**
      * Gets the number of working PEs from each Host in the {@link #getHostList() host list}
      * and adds these numbers to the {@link #getHostFreePesMap() list of free PEs}.
+     * The PEs of VMs already placed into a Host are registered as {@link #getUsedPes() used},
+     * which enables the policy to be set to a Datacenter along the simulation.
      * <b>The method expects that the {@link #datacenter} is already set.</b>
      *
      */
     private void addPesFromHostsToFreePesList() {
         setHostFreePesMap(new HashMap<>(getHostList().size()));
         setUsedPes(new HashMap<>());
-        getHostList().forEach(host -> hostFreePesMap.put(host, host.getNumberOfWorkingPes()));
+        for (final Host host : getHostList()) {
+            long freePes = host.getNumberOfWorkingPes();
+            for (final Vm vm : host.getVmList()) {
+                addUsedPes(vm);
+                freePes -= vm.getNumberOfPes();
+            }
+
+            hostFreePesMap.put(host, freePes);
+        }
     }
 
     /**
@@ -294,7 +303,7 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
             return false;
         }
 
-        Log.printFormattedLine(
+        scaling.getVm().getSimulation().getLogger().info(getClass(),
             "%.2f: %s: %.0f more %s allocated to Vm %d: new capacity is %d. Current resource usage is %.2f%%",
             scaling.getVm().getSimulation().clock(),
             scaling.getClass().getSimpleName(),
@@ -309,8 +318,8 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         final ResourceManageable hostResource = scaling.getVm().getHost().getResource(resourceClass);
         final ResourceManageable vmResource = scaling.getVm().getResource(resourceClass);
         final double extraAmountToAllocate = scaling.getResourceAmountToScale();
-        Log.printFormattedLine(
-            "%.2f: %s: Vm %d requested more %d of %s capacity but the Host %d has just %d of available %s",
+        scaling.getVm().getSimulation().getLogger().info(getClass(),
+            "%.2f: %s: Vm %d requested more %.0f of %s capacity but the Host %d has just %d of available %s",
             scaling.getVm().getSimulation().clock(),
             scaling.getClass().getSimpleName(),
             scaling.getVm().getId(), extraAmountToAllocate,
@@ -332,8 +341,8 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
         final ResourceProvisioner provisioner = scaling.getVm().getHost().getProvisioner(resourceClass);
         final double newTotalVmResource = vmResource.getCapacity() - amountToDeallocate;
         if(!provisioner.allocateResourceForVm(scaling.getVm(), newTotalVmResource)){
-            Log.printFormattedLine(
-                "%.2f: %s: Vm %d requested to reduce %s capacity by %d but an unexpected error occurred and the resource was not resized",
+            scaling.getVm().getSimulation().getLogger().info(getClass(),
+                "%.2f: %s: Vm %d requested to reduce %s capacity by %.0f but an unexpected error occurred and the resource was not resized",
                 scaling.getVm().getSimulation().clock(),
                 scaling.getClass().getSimpleName(),
                 scaling.getVm().getId(),
@@ -341,8 +350,8 @@ public abstract class VmAllocationPolicyAbstract implements VmAllocationPolicy {
             return false;
         }
 
-        Log.printFormattedLine(
-            "%.2f: %s: %d %s deallocated from Vm %d: new capacity is %d. Current resource usage is %.2f%%",
+        scaling.getVm().getSimulation().getLogger().info(getClass(),
+            "%.2f: %s: %.0f %s deallocated from Vm %d: new capacity is %d. Current resource usage is %.2f%%",
             scaling.getVm().getSimulation().clock(),
             scaling.getClass().getSimpleName(),
             amountToDeallocate, resourceClass.getSimpleName(),
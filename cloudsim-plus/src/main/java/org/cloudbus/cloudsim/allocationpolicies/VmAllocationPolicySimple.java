@@ -8,7 +8,6 @@
 package org.cloudbus.cloudsim.allocationpolicies;
 
 import org.cloudbus.cloudsim.hosts.Host;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
 import java.util.*;
@@ -48,9 +47,9 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
     @Override
     public boolean allocateHostForVm(Vm vm) {
         if(getHostList().isEmpty()){
-            Log.printFormattedLine(
+            vm.getSimulation().getLogger().info(getClass(),
                 "%.2f: %s: Vm %s could not be allocated because there isn't any Host for Datacenter %d",
-                vm.getSimulation().clock(), vm.getId(), getDatacenter().getId());
+                vm.getSimulation().clock(), getClass().getSimpleName(), vm.getId(), getDatacenter().getId());
             return false;
         }
 
@@ -81,7 +80,7 @@ public class VmAllocationPolicySimple extends VmAllocationPolicyAbstract {
         addUsedPes(vm);
         getHostFreePesMap().put(host, getHostFreePesMap().get(host) - vm.getNumberOfPes());
 
-        Log.printFormattedLine(
+        vm.getSimulation().getLogger().info(getClass(),
             "%.2f: %s: VM #%d has been allocated to the host #%d",
             vm.getSimulation().clock(), getClass().getSimpleName(),  vm.getId(), host.getId());
         return true;
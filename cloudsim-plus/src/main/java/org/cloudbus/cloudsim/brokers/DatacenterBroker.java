@@ -18,6 +18,8 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.SimEntity;
 import org.cloudsimplus.listeners.DatacenterBrokerEventInfo;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.batch.BatchScheduler;
+import org.cloudsimplus.results.CloudletSink;
 
 /**
  * Represents a broker acting on behalf of a cloud customer.
@@ -122,6 +124,17 @@ public interface DatacenterBroker extends SimEntity {
      */
     void submitVm(Vm vm);
 
+    /**
+     * Requests the destruction of the idle VMs in a given list, at once.
+     * VMs that are running or waiting Cloudlets or that are not running
+     * (such as VMs not created yet) are ignored.
+     *
+     * @param list the list of VMs to be destroyed if idle
+     * @param <T> the class of VMs in the list
+     * @return the list of VMs which destruction was requested
+     */
+    <T extends Vm> List<T> destroyIdleVms(List<T> list);
+
     /**
      * Submits a single {@link Cloudlet} to the broker.
      *
@@ -279,10 +292,24 @@ public interface DatacenterBroker extends SimEntity {
 
     /**
      * Gets a <b>read-only</b> list of cloudlets created inside some Vm.
+     * If a {@link #setCloudletSink(CloudletSink) sink} is set,
+     * finished Cloudlets are removed from this list.
      * @return the list of created Cloudlets
      */
     Set<Cloudlet> getCloudletCreatedList();
 
+    /**
+     * Gets the total number of Cloudlets submitted to be created inside some Vm
+     * since the beginning of the simulation.
+     * Differently from the size of the {@link #getCloudletCreatedList()},
+     * this number never decreases, even if finished Cloudlets are
+     * sent to a {@link #setCloudletSink(CloudletSink) sink}.
+     * Therefore, it can be cheaply used to check if new Cloudlets were submitted.
+     *
+     * @return the total number of Cloudlet creation requests
+     */
+    long getCloudletCreationRequests();
+
     /**
      * Adds an {@link EventListener} that will be notified every time
      * VMs in the waiting list are all created.
@@ -373,4 +400,43 @@ public interface DatacenterBroker extends SimEntity {
      * @see Vm#getIdleInterval()
      */
     DatacenterBroker setVmDestructionDelayFunction(final Function<Vm, Double> function);
+
+    /**
+     * Gets the {@link CloudletSink} that receives each finished Cloudlet.
+     * @return the sink or {@link CloudletSink#NULL} if finished Cloudlets are kept
+     *         in the {@link #getCloudletFinishedList() finished list}
+     */
+    CloudletSink getCloudletSink();
+
+    /**
+     * Sets a {@link CloudletSink} to receive each finished Cloudlet as soon as it is returned to the broker,
+     * enabling a streaming results mode for simulations with a huge number of Cloudlets.
+     *
+     * <p>When a sink is set, finished Cloudlets are not added to the {@link #getCloudletFinishedList() finished list}
+     * and are removed from the {@link #getCloudletCreatedList() created list} and from their VM's scheduler,
+     * so that they can be garbage collected after the sink receives them.
+     * This way, memory doesn't grow with the number of finished Cloudlets.</p>
+     *
+     * @param sink the sink to set or {@link CloudletSink#NULL} to keep finished Cloudlets in the broker
+     * @return
+     */
+    DatacenterBroker setCloudletSink(CloudletSink sink);
+
+    /**
+     * Gets the {@link BatchScheduler} that decides when and where submitted Cloudlets will run.
+     * @return the batch scheduler or {@link BatchScheduler#NULL} if Cloudlets are sent straight to Datacenters
+     */
+    BatchScheduler getBatchScheduler();
+
+    /**
+     * Sets a {@link BatchScheduler} to keep a single queue of Cloudlets for all the broker's VMs,
+     * instead of queueing Cloudlets inside each VM.
+     * Submitted Cloudlets are sent to the batch scheduler, which dispatches
+     * them to the Datacenters when some VM has enough free PEs to run them.
+     * This way, the {@link #setVmMapper(Function) VM mapper} isn't used.
+     *
+     * @param scheduler the batch scheduler to set or {@link BatchScheduler#NULL} to send Cloudlets straight to Datacenters
+     * @return
+     */
+    DatacenterBroker setBatchScheduler(BatchScheduler scheduler);
 }
@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.brokers;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -20,6 +21,8 @@ import org.cloudbus.cloudsim.core.*;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 import org.cloudsimplus.listeners.*;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.batch.BatchScheduler;
+import org.cloudsimplus.results.CloudletSink;
 
 /**
  * An abstract class to be used as base for implementing a {@link DatacenterBroker}.
@@ -40,7 +43,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      *
      * @see #setVmDestructionDelayFunction(Function)
      */
-    private static final Function<Vm, Double> DEFAULT_VM_DESTRUCTION_DELAY_FUNCTION = vm -> DEFAULT_VM_DESTRUCTION_DELAY;
+    private static final Function<Vm, Double> DEFAULT_VM_DESTRUCTION_DELAY_FUNCTION =
+        (Function<Vm, Double> & Serializable) vm -> DEFAULT_VM_DESTRUCTION_DELAY;
 
     /**
      * A map of registered event listeners for the onCreationOfWaitingVmsFinish event
@@ -111,10 +115,24 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     private final List<Cloudlet> cloudletsFinishedList;
 
+    /**
+     * @see #getCloudletSink()
+     */
+    private CloudletSink cloudletSink;
+
+    /**
+     * @see #getBatchScheduler()
+     */
+    private BatchScheduler batchScheduler;
+
     /**
      * @see #getCloudletCreatedList()
      */
     private int cloudletsCreated;
+    /**
+     * @see #getCloudletCreationRequests()
+     */
+    private long cloudletCreationRequests;
     /**
      * @see #getVmCreationRequests()
      */
@@ -156,6 +174,7 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.lastSelectedDc = Datacenter.NULL;
 
         cloudletsCreated = 0;
+        cloudletCreationRequests = 0;
         vmCreationRequests = 0;
         vmCreationAcks = 0;
 
@@ -164,6 +183,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         this.vmCreatedList = new ArrayList<>();
         this.cloudletWaitingList = new ArrayList<>();
         this.cloudletsFinishedList = new ArrayList<>();
+        this.cloudletSink = CloudletSink.NULL;
+        this.batchScheduler = BatchScheduler.NULL;
 
         setDatacenterList(new TreeSet<>());
         datacenterRequestedList = new TreeSet<>();
@@ -183,9 +204,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * concrete DatacenterBroker classes.
      */
     private void setDefaultPolicies() {
-        datacenterSupplier = () -> Datacenter.NULL;
+        datacenterSupplier = (Supplier<Datacenter> & Serializable) () -> Datacenter.NULL;
         fallbackDatacenterSupplier = datacenterSupplier;
-        vmMapper = (cloudlet) -> Vm.NULL;
+        vmMapper = (Function<Cloudlet, Vm> & Serializable) cloudlet -> Vm.NULL;
     }
 
     @Override
@@ -215,9 +236,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmWaitingList.addAll(list);
 
         if (isStarted() && !list.isEmpty()) {
-            println(String.format(
+            println(
                 "%.2f: %s: List of %d VMs submitted to the broker during simulation execution.\n\t VMs creation request sent to Datacenter.",
-                getSimulation().clock(), getName(), list.size()));
+                getSimulation().clock(), getName(), list.size());
             requestDatacenterToCreateWaitingVms();
         }
     }
@@ -260,6 +281,18 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         submitVmList(newList);
     }
 
+    @Override
+    public <T extends Vm> List<T> destroyIdleVms(final List<T> list) {
+        final List<T> destroyed = new ArrayList<>();
+        for (final T vm : list) {
+            if(vm.getCloudletScheduler().isEmpty() && vmExecList.contains(vm) && requestIdleVmDestruction(vm, __ -> 0.0)) {
+                destroyed.add(vm);
+            }
+        }
+
+        return destroyed;
+    }
+
     @Override
     public void submitCloudlet(Cloudlet cloudlet) {
         if(cloudlet == null || cloudlet == Cloudlet.NULL){
@@ -332,9 +365,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             return;
         }
 
-        println(String.format(
+        println(
             "%.2f: %s: List of %d Cloudlets submitted to the broker during simulation execution.",
-            getSimulation().clock(), getName(), list.size()));
+            getSimulation().clock(), getName(), list.size());
 
         //If there aren't more VMs to be created, then request Cloudlets creation
         if(vmWaitingList.isEmpty()){
@@ -342,9 +375,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             requestDatacentersToCreateWaitingCloudlets();
             notifyOnCreationOfWaitingVmsFinishListeners();
         } else
-            println(String.format(
+            println(
                     " Waiting creation of %d VMs to send Cloudlets creation request to Datacenter.",
-                    vmWaitingList.size()));
+                    vmWaitingList.size());
     }
 
     private void sortCloudletsIfComparatorIsSet(List<? extends Cloudlet> list) {
@@ -468,9 +501,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     protected void processDatacenterListRequest(SimEvent ev) {
         setDatacenterList((Set<Datacenter>) ev.getData());
-        println(String.format(
+        println(
             "\n%.2f: %s: List of Datacenters received with %d datacenters(s).",
-            getSimulation().clock(), getName(), datacenterList.size()));
+            getSimulation().clock(), getName(), datacenterList.size());
         requestDatacenterToCreateWaitingVms();
     }
 
@@ -543,8 +576,8 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         /* If it gets here, it means that all datacenters were already queried
          * and not all VMs could be created, but some of them could. */
         if (vmExecList.isEmpty()) {
-            println(String.format("%.2f: %s: %s", getSimulation().clock(), getName(),
-                "none of the required VMs could be created. Aborting"));
+            println("%.2f: %s: %s", getSimulation().clock(), getName(),
+                "none of the required VMs could be created. Aborting");
             requestShutDown();
             return;
         }
@@ -580,9 +613,10 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         vmWaitingList.remove(vm);
         vmExecList.add(vm);
         vmCreatedList.add(vm);
-        println(String.format(
+        batchScheduler.addVm(vm);
+        println(
             "%.2f: %s: %s has been created in %s.",
-            getSimulation().clock(), getName(), vm, vm.getHost()));
+            getSimulation().clock(), getName(), vm, vm.getHost());
     }
 
     /**
@@ -594,9 +628,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     protected void processFailedVmCreationInDatacenter(Vm vm, Datacenter datacenter) {
         vm.notifyOnCreationFailureListeners(datacenter);
-        println(String.format(
+        println(
             "%.2f: %s: Creation of %s failed in Datacenter #%s",
-            getSimulation().clock(), getName(), vm, datacenter.getId()));
+            getSimulation().clock(), getName(), vm, datacenter.getId());
     }
 
     /**
@@ -608,9 +642,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      */
     protected void processCloudletReturn(SimEvent ev) {
         final Cloudlet c = (Cloudlet) ev.getData();
-        cloudletsFinishedList.add(c);
-        println(String.format("%.2f: %s: %s %d finished and returned to broker.",
-            getSimulation().clock(), getName(), c.getClass().getSimpleName(), c.getId()));
+        if(batchScheduler != BatchScheduler.NULL) {
+            sendNow(batchScheduler.getId(), CloudSimTags.CLOUDLET_RETURN, c);
+        }
+        addCloudletToFinishedListOrSink(c);
+        println("%.2f: %s: %s %d finished and returned to broker.",
+            getSimulation().clock(), getName(), c.getClass().getSimpleName(), c.getId());
         cloudletsCreated--;
 
         if(isNotAllRunningCloudletsReturned()){
@@ -621,9 +658,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         final Function<Vm, Double> func = vmDestructionDelayFunction.apply(c.getVm()) < 0 ? vm -> 0.0 : vmDestructionDelayFunction;
         //If gets here, all running cloudlets have finished and returned to the broker.
         if (cloudletWaitingList.isEmpty()) {
-            println(String.format(
+            println(
                 "%.2f: %s: All submitted Cloudlets finished executing.",
-                getSimulation().clock(), getName()));
+                getSimulation().clock(), getName());
             requestIdleVmsDestruction(func);
             return;
         }
@@ -640,6 +677,24 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         requestDatacenterToCreateWaitingVms();
     }
 
+    /**
+     * Adds a finished Cloudlet to the {@link #getCloudletFinishedList() finished list}
+     * or, if a {@link #getCloudletSink() sink} is set, sends it to the sink and
+     * releases all references to it.
+     *
+     * @param cloudlet the finished Cloudlet
+     */
+    private void addCloudletToFinishedListOrSink(final Cloudlet cloudlet) {
+        if(cloudletSink == CloudletSink.NULL) {
+            cloudletsFinishedList.add(cloudlet);
+            return;
+        }
+
+        cloudletSink.accept(cloudlet);
+        cloudletCreationRequestsMap.remove(cloudlet);
+        cloudlet.getVm().getCloudletScheduler().removeReturnedCloudlet(cloudlet);
+    }
+
     /**
      * Checks if <b>NOT</b> all created Cloudlets have returned to the broker,
      * indicating some of them are executing yet.
@@ -686,14 +741,15 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
                 return true;
             }
 
-            println(String.format("%.2f: %s: Destroying %s", getSimulation().clock(), getName(), vm));
+            println("%.2f: %s: Destroying %s", getSimulation().clock(), getName(), vm);
             //request the Datacenter to destroy the VM
+            batchScheduler.removeVm(vm);
             sendNow(getVmDatacenter(vm).getId(), CloudSimTags.VM_DESTROY, vm);
             vmExecList.remove(vm);
             if (cloudletWaitingList.isEmpty() && vmExecList.isEmpty()) {
-                println(String.format(
+                println(
                     "%.2f: %s: Destroying VMs and requesting broker shutdown...",
-                    getSimulation().clock(), getName()));
+                    getSimulation().clock(), getName());
                 requestShutDown();
             }
             return true;
@@ -734,9 +790,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         int requestedVms = 0;
         for (final Vm vm :vmWaitingList) {
             if (!vmsToDatacentersMap.containsKey(vm) && !vmCreationRequestsMap.containsKey(vm)) {
-                println(String.format(
+                println(
                     "%.2f: %s: Trying to Create %s in %s",
-                    getSimulation().clock(), getName(), vm, datacenter.getName()));
+                    getSimulation().clock(), getName(), vm, datacenter.getName());
                 sendNow(datacenter.getId(), CloudSimTags.VM_CREATE_ACK, vm);
                 vmCreationRequestsMap.put(vm, datacenter);
                 requestedVms++;
@@ -762,6 +818,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
      * @see #submitCloudletList(java.util.List)
      */
     protected void requestDatacentersToCreateWaitingCloudlets() {
+        if(batchScheduler != BatchScheduler.NULL) {
+            requestBatchSchedulerToCreateWaitingCloudlets();
+            return;
+        }
+
         final List<Cloudlet> successfullySubmitted = new ArrayList<>();
         for (final Cloudlet cloudlet : cloudletWaitingList) {
             if (cloudletCreationRequestsMap.containsKey(cloudlet)) {
@@ -772,9 +833,9 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
             lastSelectedVm = vmMapper.apply(cloudlet);
             if (lastSelectedVm == Vm.NULL) {
                 // vm was not created
-                println(String.format(
+                println(
                     "%.2f: %s: : Postponing execution of cloudlet %d: bind VM not available.",
-                    getSimulation().clock(), getName(), cloudlet.getId()));
+                    getSimulation().clock(), getName(), cloudlet.getId());
                 continue;
             }
 
@@ -782,15 +843,16 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
                 cloudlet.getSubmissionDelay() > 0 ?
                     String.format(" with a requested delay of %.0f seconds", cloudlet.getSubmissionDelay()) :
                     "";
-            println(String.format(
+            println(
                 "%.2f: %s: Sending %s %d to %s in %s%s.",
                 getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId(),
-                lastSelectedVm, lastSelectedVm.getHost(), delayStr));
+                lastSelectedVm, lastSelectedVm.getHost(), delayStr);
             cloudlet.setVm(lastSelectedVm);
             send(getVmDatacenter(lastSelectedVm).getId(),
                 cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
             cloudletCreationRequestsMap.put(cloudlet, getVmDatacenter(lastSelectedVm));
             cloudletsCreated++;
+            cloudletCreationRequests++;
             successfullySubmitted.add(cloudlet);
         }
 
@@ -798,6 +860,31 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         cloudletWaitingList.removeAll(successfullySubmitted);
     }
 
+    /**
+     * Sends all waiting Cloudlets to the {@link #getBatchScheduler() batch scheduler},
+     * which will decide when and to which VM each one will be sent.
+     * Cloudlets whose creation was already requested aren't sent again.
+     */
+    private void requestBatchSchedulerToCreateWaitingCloudlets() {
+        final List<Cloudlet> successfullySubmitted = new ArrayList<>();
+        for (final Cloudlet cloudlet : cloudletWaitingList) {
+            if (cloudletCreationRequestsMap.containsKey(cloudlet)) {
+                continue;
+            }
+
+            println(
+                "%.2f: %s: Sending %s %d to %s.",
+                getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId(), batchScheduler.getName());
+            send(batchScheduler.getId(), cloudlet.getSubmissionDelay(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+            cloudletCreationRequestsMap.put(cloudlet, Datacenter.NULL);
+            cloudletsCreated++;
+            cloudletCreationRequests++;
+            successfullySubmitted.add(cloudlet);
+        }
+
+        cloudletWaitingList.removeAll(successfullySubmitted);
+    }
+
     /**
      * Send an internal event to the broker itself, communicating there is not more
      * events to process (no more VMs to create or Cloudlets to execute).
@@ -811,12 +898,12 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
 
     @Override
     public void shutdownEntity() {
-        println(String.format("%s is shutting down...", getName()));
+        println("%s is shutting down...", getName());
     }
 
     @Override
     public void startEntity() {
-        println(String.format("%s is starting...", getName()));
+        println("%s is starting...", getName());
         schedule(getSimulation().getCloudInfoServiceEntityId(), 0, CloudSimTags.DATACENTER_LIST_REQUEST);
     }
 
@@ -848,6 +935,11 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return cloudletCreationRequestsMap.keySet();
     }
 
+    @Override
+    public long getCloudletCreationRequests() {
+        return cloudletCreationRequests;
+    }
+
     @Override
     public <T extends Cloudlet> List<T> getCloudletWaitingList() {
         return (List<T>) cloudletWaitingList;
@@ -993,6 +1085,28 @@ public abstract class DatacenterBrokerAbstract extends CloudSimEntity implements
         return this;
     }
 
+    @Override
+    public CloudletSink getCloudletSink() {
+        return cloudletSink;
+    }
+
+    @Override
+    public DatacenterBroker setCloudletSink(final CloudletSink sink) {
+        this.cloudletSink = Objects.requireNonNull(sink);
+        return this;
+    }
+
+    @Override
+    public BatchScheduler getBatchScheduler() {
+        return batchScheduler;
+    }
+
+    @Override
+    public DatacenterBroker setBatchScheduler(final BatchScheduler scheduler) {
+        this.batchScheduler = Objects.requireNonNull(scheduler);
+        return this;
+    }
+
     @Override
     public boolean isThereWaitingCloudlets() {
         return !cloudletWaitingList.isEmpty();
@@ -1,8 +1,9 @@
 package org.cloudbus.cloudsim.brokers;
 
+import java.io.Serializable;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudsimplus.heuristics.CloudletToVmMappingHeuristic;
@@ -13,7 +14,9 @@ import org.cloudsimplus.heuristics.Heuristic;
  * <p>A simple implementation of {@link DatacenterBroker} that uses some heuristic
  * to get a suboptimal mapping among submitted cloudlets and Vm's.
  * Such heuristic can be, for instance, the {@link org.cloudsimplus.heuristics.CloudletToVmMappingSimulatedAnnealing}
- * that implements a Simulated Annealing algorithm.
+ * that implements a Simulated Annealing algorithm,
+ * the {@link org.cloudsimplus.heuristics.CloudletToVmMappingTabuSearch}
+ * or the {@link org.cloudsimplus.heuristics.CloudletToVmMappingGeneticAlgorithm}.
  * The Broker then places the submitted Vm's at the first Datacenter found.
  * If there isn't capacity in that one, it will try the other ones.</p>
  *
@@ -34,7 +37,7 @@ public class DatacenterBrokerHeuristic extends DatacenterBrokerSimple {
      */
     public DatacenterBrokerHeuristic(CloudSim simulation) {
         super(simulation);
-        setVmMapper(this::selectVmForWaitingCloudlet);
+        setVmMapper((Function<Cloudlet, Vm> & Serializable) this::selectVmForWaitingCloudlet);
         heuristic = CloudletToVmMappingHeuristic.NULL;
     }
 
@@ -59,12 +62,12 @@ public class DatacenterBrokerHeuristic extends DatacenterBrokerSimple {
         Depending on the heuristic parameters, it may take a while
         to get a solution.
         */
-        Log.printFormattedLine(
+        getSimulation().getLogger().info(getClass(),
                 "\n# Broker %d started the heuristic to get a suboptimal solution for mapping Cloudlets to Vm's running %d neighborhood searches by iteration",
                 getId(), heuristic.getNumberOfNeighborhoodSearchesByIteration());
-        Log.printLine("Please wait... It may take a while, depending on heuristic parameters and number of Cloudlets and Vm's.");
+        getSimulation().getLogger().info(getClass(), "Please wait... It may take a while, depending on heuristic parameters and number of Cloudlets and Vm's.");
 	    CloudletToVmMappingSolution solution = heuristic.solve();
-        Log.printFormattedLine(
+        getSimulation().getLogger().info(getClass(),
                 "# Broker %d finished the solution find for mapping Cloudlets to Vm's in %.2f seconds with a solution cost of %.2f\n",
                 getId(), heuristic.getSolveTime(), solution.getCost());
     }
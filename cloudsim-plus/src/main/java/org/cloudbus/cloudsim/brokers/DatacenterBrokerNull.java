@@ -8,6 +8,8 @@ import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.DatacenterBrokerEventInfo;
 import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.batch.BatchScheduler;
+import org.cloudsimplus.results.CloudletSink;
 
 import java.util.Collections;
 import java.util.Comparator;
@@ -66,6 +68,7 @@ final class DatacenterBrokerNull implements DatacenterBroker {
     }
     @Override public <T extends Vm> List<T> getVmCreatedList() { return Collections.EMPTY_LIST; }
     @Override public void submitVm(Vm vm) {/**/}
+    @Override public <T extends Vm> List<T> destroyIdleVms(List<T> list) { return Collections.emptyList(); }
     @Override public void submitCloudlet(Cloudlet cloudlet) {/**/}
     @Override public void submitCloudletList(List<? extends Cloudlet> list) {/**/}
     @Override public void submitCloudletList(List<? extends Cloudlet> list, double submissionDelay) {/**/}
@@ -78,10 +81,15 @@ final class DatacenterBrokerNull implements DatacenterBroker {
     @Override public void setFallbackDatacenterSupplier(Supplier<Datacenter> fallbackDatacenterSupplier) {/**/}
     @Override public void setVmMapper(Function<Cloudlet, Vm> vmMapper) {/**/}
     @Override public Set<Cloudlet> getCloudletCreatedList() { return Collections.EMPTY_SET; }
+    @Override public long getCloudletCreationRequests() { return 0; }
     @Override public DatacenterBroker addOnVmsCreatedListener(EventListener<DatacenterBrokerEventInfo> listener) { return this; }
     @Override public DatacenterBroker addOneTimeOnVmsCreatedListener(EventListener<DatacenterBrokerEventInfo> listener) { return this; }
     @Override public Function<Vm, Double> getVmDestructionDelayFunction() { return vm -> 0.0; }
     @Override public DatacenterBroker setVmDestructionDelayFunction(Function<Vm, Double> function) { return this; }
+    @Override public CloudletSink getCloudletSink() { return CloudletSink.NULL; }
+    @Override public DatacenterBroker setCloudletSink(CloudletSink sink) { return this; }
+    @Override public BatchScheduler getBatchScheduler() { return BatchScheduler.NULL; }
+    @Override public DatacenterBroker setBatchScheduler(BatchScheduler scheduler) { return this; }
     @Override public void setVmComparator(Comparator<Vm> comparator) {/**/}
     @Override public void setCloudletComparator(Comparator<Cloudlet> comparator) {/**/}
     @Override public void setLog(boolean log) {}
@@ -13,6 +13,10 @@ import org.cloudbus.cloudsim.vms.Vm;
 
 import org.cloudbus.cloudsim.core.CloudSim;
 
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * A simple implementation of {@link DatacenterBroker} that try to host customer's VMs
  * at the first Datacenter found. If there isn't capacity in that one,
@@ -36,9 +40,9 @@ public class DatacenterBrokerSimple extends DatacenterBrokerAbstract {
      */
     public DatacenterBrokerSimple(CloudSim simulation) {
         super(simulation);
-        setDatacenterSupplier(this::selectDatacenterForWaitingVms);
-        setFallbackDatacenterSupplier(this::selectFallbackDatacenterForWaitingVms);
-        setVmMapper(this::selectVmForWaitingCloudlet);
+        setDatacenterSupplier((Supplier<Datacenter> & Serializable) this::selectDatacenterForWaitingVms);
+        setFallbackDatacenterSupplier((Supplier<Datacenter> & Serializable) this::selectFallbackDatacenterForWaitingVms);
+        setVmMapper((Function<Cloudlet, Vm> & Serializable) this::selectVmForWaitingCloudlet);
     }
 
     /**
@@ -425,6 +425,10 @@ public interface Cloudlet extends UniquelyIdentificable, Comparable<Cloudlet>, C
      * percentage or absolute values, depending of the {@link UtilizationModel#getUnit()}
      * defined for the {@link #getUtilizationModelCpu()}.
      *
+     * <p>The utilization model is called just once for the same time
+     * (which also applies to RAM and BW utilization),
+     * since schedulers get the utilization many times along a single simulation clock tick.</p>
+     *
      * @param time the time to get the utilization
      * @return the utilization value
      * @see #getUtilizationModelCpu()
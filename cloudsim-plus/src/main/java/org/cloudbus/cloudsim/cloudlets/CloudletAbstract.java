@@ -16,6 +16,7 @@ import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.listeners.CloudletVmEventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
+import java.io.Serializable;
 import java.text.DecimalFormat;
 import java.util.*;
 
@@ -130,6 +131,15 @@ public abstract class CloudletAbstract implements Cloudlet {
      */
     private UtilizationModel utilizationModelBw;
 
+    /**
+     * The last CPU, RAM and BW utilization computed by each {@link UtilizationModel},
+     * which is memoized because schedulers get the utilization of each Cloudlet
+     * many times along the same simulation clock tick.
+     */
+    private final MemoizedUtilization cpuUtilization = new MemoizedUtilization();
+    private final MemoizedUtilization ramUtilization = new MemoizedUtilization();
+    private final MemoizedUtilization bwUtilization = new MemoizedUtilization();
+
     private Set<EventListener<CloudletVmEventInfo>> onFinishListeners;
     private Set<EventListener<CloudletVmEventInfo>> onUpdateProcessingListeners;
 
@@ -237,7 +247,11 @@ public abstract class CloudletAbstract implements Cloudlet {
 
     @Override
     public void notifyOnUpdateProcessingListeners(double time) {
-        CloudletVmEventInfo info = CloudletVmEventInfo.of(time, this);
+        if(onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
+        final CloudletVmEventInfo info = CloudletVmEventInfo.of(time, this);
         onUpdateProcessingListeners.forEach(l -> l.update(info));
     }
 
@@ -727,7 +741,7 @@ public abstract class CloudletAbstract implements Cloudlet {
 
     @Override
     public double getUtilizationOfCpu(final double time) {
-        return getUtilizationModelCpu().getUtilization(time);
+        return cpuUtilization.get(getUtilizationModelCpu(), time);
     }
 
     @Override
@@ -737,7 +751,7 @@ public abstract class CloudletAbstract implements Cloudlet {
 
     @Override
     public double getUtilizationOfBw(final double time) {
-        return getUtilizationModelBw().getUtilization(time);
+        return bwUtilization.get(getUtilizationModelBw(), time);
     }
 
     @Override
@@ -747,7 +761,7 @@ public abstract class CloudletAbstract implements Cloudlet {
 
     @Override
     public double getUtilizationOfRam(final double time) {
-        return getUtilizationModelRam().getUtilization(time);
+        return ramUtilization.get(getUtilizationModelRam(), time);
     }
 
     @Override
@@ -913,4 +927,24 @@ public abstract class CloudletAbstract implements Cloudlet {
         return result;
     }
 
+    /**
+     * Stores the last utilization computed by a {@link UtilizationModel}
+     * and the time it was computed for, so that the model is just called
+     * again for a different time or if it is replaced.
+     */
+    private static final class MemoizedUtilization implements Serializable {
+        private UtilizationModel model;
+        private double time = Double.NaN;
+        private double utilization;
+
+        private double get(final UtilizationModel model, final double time) {
+            if(model != this.model || time != this.time) {
+                this.utilization = model.getUtilization(time);
+                this.model = model;
+                this.time = time;
+            }
+
+            return utilization;
+        }
+    }
 }
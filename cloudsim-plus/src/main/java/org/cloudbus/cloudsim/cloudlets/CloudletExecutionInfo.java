@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.core.CloudSim;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.util.Conversion;
 
+import java.io.Serializable;
+
 /**
  * Stores execution information about a {@link Cloudlet} submitted to a specific {@link Datacenter} for
  * processing. This class keeps track of the time for all activities in the
@@ -32,7 +34,7 @@ import org.cloudbus.cloudsim.util.Conversion;
  * @author Rajkumar Buyya
  * @since CloudSim Toolkit 1.0
  */
-public class CloudletExecutionInfo {
+public class CloudletExecutionInfo implements Serializable {
     /**
      * A property that implements the Null Object Design Pattern for {@link CloudletExecutionInfo}
      * objects.
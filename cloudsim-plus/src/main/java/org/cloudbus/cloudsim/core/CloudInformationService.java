@@ -9,7 +9,6 @@ package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
-import org.cloudbus.cloudsim.util.Log;
 
 import java.util.*;
 
@@ -152,13 +151,14 @@ public class CloudInformationService extends CloudSimEntity {
      */
     protected void processOtherEvent(SimEvent ev) {
         if (Objects.isNull(ev)) {
-            Log.printConcatLine("CloudInformationService.processOtherEvent(): ",
-                "Unable to handle a request since the event is null.");
+            getSimulation().getLogger().info(getClass(),
+                "CloudInformationService.processOtherEvent(): Unable to handle a request since the event is null.");
             return;
         }
 
-        Log.printLine("CloudInformationSevice.processOtherEvent(): " + "Unable to handle a request from "
-            + getSimulation().getEntityName(ev.getSource()) + " with event tag = " + ev.getTag());
+        getSimulation().getLogger().info(getClass(),
+            "CloudInformationSevice.processOtherEvent(): Unable to handle a request from %s with event tag = %d",
+            getSimulation().getEntityName(ev.getSource()), ev.getTag());
     }
 
     /**
@@ -176,7 +176,7 @@ public class CloudInformationService extends CloudSimEntity {
      * @post $none
      */
     private void notifyAllEntity() {
-        Log.printConcatLine(super.getName(), ": Notify all CloudSim Plus entities to shutdown.");
+        getSimulation().getLogger().info(getClass(), "%s: Notify all CloudSim Plus entities to shutdown.", super.getName());
 
         signalShutdown(datacenterList);
         signalShutdown(cisList);
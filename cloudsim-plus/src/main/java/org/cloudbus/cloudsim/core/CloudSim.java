@@ -7,15 +7,19 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Stream;
 
 import org.cloudbus.cloudsim.core.events.*;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
-import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SimulationLogger;
 import java.util.function.Predicate;
 
+import org.cloudsimplus.listeners.EventBatchInfo;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
@@ -69,6 +73,11 @@ public class CloudSim implements Simulation {
      */
     private NetworkTopology networkTopology;
 
+    /**
+     * @see #getLogger()
+     */
+    private transient SimulationLogger logger;
+
     /**
      * The Cloud Information Service (CIS) entity.
      */
@@ -151,9 +160,26 @@ public class CloudSim implements Simulation {
      */
     private boolean alreadyRunOnce;
 
-    private Set<EventListener<SimEvent>> onEventProcessingListeners;
-    private Set<EventListener<EventInfo>> onSimulationPausedListeners;
-    private Set<EventListener<EventInfo>> onClockTickListeners;
+    /**
+     * @see #getMetrics()
+     */
+    private final SimulationMetrics metrics;
+
+    /*
+     * The listeners of the simulation itself are not included in a snapshot,
+     * since they usually belong to the application running the simulation.
+     */
+    private transient Set<EventListener<SimEvent>> onEventProcessingListeners;
+    private transient Set<EventListener<EventInfo>> onSimulationPausedListeners;
+    private transient Set<EventListener<EventInfo>> onClockTickListeners;
+    private transient Set<EventListener<EventBatchInfo>> onEventBatchProcessedListeners;
+
+    /**
+     * Reusable objects passed to clock tick and event batch listeners,
+     * avoiding the allocation of a new object at every notification.
+     */
+    private transient ReusableEventInfo clockTickInfo;
+    private transient ReusableEventBatchInfo eventBatchInfo;
 
     /**
      * Creates a CloudSim simulation using a default calendar.
@@ -188,9 +214,8 @@ public class CloudSim implements Simulation {
         this.clockTime = 0;
         this.running = false;
         this.alreadyRunOnce = false;
-        this.onEventProcessingListeners = new HashSet<>();
-        this.onSimulationPausedListeners = new HashSet<>();
-        this.onClockTickListeners = new HashSet<>();
+        this.metrics = new SimulationMetrics(this);
+        initTransientAttributes();
         this.circularClockTimesQueue = new double[]{0, -1};
         this.lastTimeClockTickListenersWereUpdated = 0;
 
@@ -230,7 +255,7 @@ public class CloudSim implements Simulation {
 
     @Override
     public double start() {
-        Log.printConcatLine("Starting CloudSim Plus ", VERSION);
+        logger.info(getClass(), "Starting CloudSim Plus %s", VERSION);
         return run();
     }
 
@@ -413,6 +438,29 @@ public class CloudSim implements Simulation {
             processEvent(evt);
             future.remove(evt);
         }
+
+        notifyOnEventBatchProcessedListeners(firstEvent.eventTime());
+    }
+
+    /**
+     * Notifies all Listeners of onEventBatchProcessed event with the events processed at a given time.
+     * The events are always cleared, even if all Listeners were removed
+     * while the events were processed, so that they aren't sent in the next batch.
+     * Listeners are iterated over a copy of the set, since they may remove themselves.
+     *
+     * @param time the time of the processed events
+     */
+    private void notifyOnEventBatchProcessedListeners(final double time) {
+        if(onEventBatchProcessedListeners.isEmpty()) {
+            eventBatchInfo.events.clear();
+            return;
+        }
+
+        eventBatchInfo.time = time;
+        for (final EventListener<EventBatchInfo> listener : new ArrayList<>(onEventBatchProcessedListeners)) {
+            listener.update(eventBatchInfo);
+        }
+        eventBatchInfo.events.clear();
     }
 
     /**
@@ -424,7 +472,22 @@ public class CloudSim implements Simulation {
                 .filter(ent -> ent.getState() == SimEntity.State.RUNNABLE)
                 .collect(toList());
 
-        runableEntities.forEach(SimEntity::run);
+        runableEntities.forEach(this::runEntity);
+    }
+
+    /**
+     * Runs an entity, measuring its processing time if {@link #getMetrics() metrics} are enabled.
+     * @param entity the entity to run
+     */
+    private void runEntity(final SimEntity entity) {
+        if(!metrics.isEnabled()) {
+            entity.run();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        entity.run();
+        metrics.entityProcessed(entity, System.nanoTime() - start);
     }
 
     @Override
@@ -437,6 +500,7 @@ public class CloudSim implements Simulation {
         validateDelay(delay);
         final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.SEND, clockTime + delay, src, dest, tag, data);
         future.addEvent(evt);
+        updateQueueSizesMetrics();
     }
 
     @Override
@@ -444,6 +508,13 @@ public class CloudSim implements Simulation {
         validateDelay(delay);
         final SimEvent evt = new CloudSimEvent(this, SimEvent.Type.SEND, clockTime + delay, src, dest, tag, data);
         future.addEventFirst(evt);
+        updateQueueSizesMetrics();
+    }
+
+    private void updateQueueSizesMetrics() {
+        if(metrics.isEnabled()) {
+            metrics.updateQueueSizes(future.size(), deferred.size());
+        }
     }
 
     private void validateDelay(double delay) {
@@ -543,6 +614,14 @@ public class CloudSim implements Simulation {
         setClock(e.eventTime());
 
         processEventByType(e);
+        if(!onEventBatchProcessedListeners.isEmpty()) {
+            eventBatchInfo.events.add(e);
+        }
+
+        if(metrics.isEnabled()) {
+            metrics.eventProcessed(e);
+            metrics.updateQueueSizes(future.size(), deferred.size());
+        }
         notifyOnClockTickListenersIfClockChanged();
         notifyOnEventProcessingListeners(e);
     }
@@ -559,8 +638,10 @@ public class CloudSim implements Simulation {
         if(clockTime != circularClockTimesQueue[0] || clockTime != circularClockTimesQueue[1]) {
             if (lastTimeClockTickListenersWereUpdated != circularClockTimesQueue[0] && lastTimeClockTickListenersWereUpdated != circularClockTimesQueue[1]) {
                 lastTimeClockTickListenersWereUpdated = circularClockTimesQueue[0];
-                final EventInfo info = EventInfo.of(clockTime);
-                onClockTickListeners.forEach(l -> l.update(info));
+                clockTickInfo.time = clockTime;
+                for (final EventListener<EventInfo> listener : onClockTickListeners) {
+                    listener.update(clockTickInfo);
+                }
             }
 
             addCurrentTimeToCircularQueue();
@@ -621,7 +702,13 @@ public class CloudSim implements Simulation {
      * @param e the processed event
      */
     private void notifyOnEventProcessingListeners(SimEvent e) {
-        onEventProcessingListeners.forEach(l -> l.update(e));
+        if(onEventProcessingListeners.isEmpty()) {
+            return;
+        }
+
+        for (final EventListener<SimEvent> listener : onEventProcessingListeners) {
+            listener.update(e);
+        }
     }
 
     /**
@@ -701,10 +788,10 @@ public class CloudSim implements Simulation {
         this.alreadyRunOnce = true;
 
         while (running) {
-            runClockTickAndProcessFutureEventQueue();
+            runClockTick();
 
             if (isThereRequestToTerminateSimulationAndItWasAttended()) {
-                Log.printFormattedLine(
+                logger.info(getClass(),
                     "\nSimulation finished at time %.2f, before completing, in reason of an explicit request to terminate() or terminateAt().\n", clockTime);
                 break;
             }
@@ -720,6 +807,20 @@ public class CloudSim implements Simulation {
         return lastSimulationTime;
     }
 
+    /**
+     * Runs a clock tick, measuring its time if {@link #getMetrics() metrics} are enabled.
+     */
+    private void runClockTick() {
+        if(!metrics.isEnabled()) {
+            runClockTickAndProcessFutureEventQueue();
+            return;
+        }
+
+        final long start = System.nanoTime();
+        runClockTickAndProcessFutureEventQueue();
+        metrics.clockTickFinished(System.nanoTime() - start);
+    }
+
     private boolean isThereRequestToTerminateSimulationAndItWasAttended() {
         if(abortRequested){
             return true;
@@ -816,6 +917,7 @@ public class CloudSim implements Simulation {
 
         entities.forEach(SimEntity::shutdownEntity);
         running = false;
+        logger.flush();
     }
 
     @Override
@@ -829,7 +931,7 @@ public class CloudSim implements Simulation {
      * @param message the message
      */
     private void printMessage(String message) {
-        Log.printLine(message);
+        logger.info(getClass(), message);
     }
 
     @Override
@@ -873,6 +975,18 @@ public class CloudSim implements Simulation {
         return onClockTickListeners.remove(listener);
     }
 
+    @Override
+    public Simulation addOnEventBatchProcessedListener(EventListener<EventBatchInfo> listener) {
+        Objects.requireNonNull(listener);
+        onEventBatchProcessedListeners.add(listener);
+        return this;
+    }
+
+    @Override
+    public boolean removeOnEventBatchProcessedListener(EventListener<EventBatchInfo> listener) {
+        return onEventBatchProcessedListeners.remove(listener);
+    }
+
     @Override
     public NetworkTopology getNetworkTopology() {
         return networkTopology;
@@ -883,8 +997,254 @@ public class CloudSim implements Simulation {
         this.networkTopology = networkTopology;
     }
 
+    @Override
+    public SimulationLogger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Enables the collection of {@link #getMetrics() metrics} about the execution of the simulation engine.
+     * It can be called before starting the simulation or while it is running.
+     *
+     * @return this simulation
+     * @see #disableMetrics()
+     */
+    public CloudSim enableMetrics() {
+        metrics.setEnabled(true);
+        return this;
+    }
+
+    /**
+     * Disables the collection of {@link #getMetrics() metrics},
+     * keeping the values collected so far.
+     *
+     * @return this simulation
+     * @see #enableMetrics()
+     */
+    public CloudSim disableMetrics() {
+        metrics.setEnabled(false);
+        return this;
+    }
+
+    /**
+     * Gets metrics about the execution of the simulation engine,
+     * such as the number of events processed per tag and the time each entity spent processing them.
+     * Metrics are just collected after calling {@link #enableMetrics()}.
+     *
+     * @return the simulation metrics
+     */
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void initTransientAttributes() {
+        this.logger = new SimulationLogger(this);
+        this.onEventProcessingListeners = new HashSet<>();
+        this.onSimulationPausedListeners = new HashSet<>();
+        this.onClockTickListeners = new HashSet<>();
+        this.onEventBatchProcessedListeners = new HashSet<>();
+        this.clockTickInfo = new ReusableEventInfo();
+        this.eventBatchInfo = new ReusableEventBatchInfo();
+    }
+
+    /**
+     * Writes the complete state of the simulation to a given stream,
+     * in a compact binary format, so that it can be {@link #restore(InputStream) restored}
+     * later, even in a different JVM, to continue running from the current point.
+     * The snapshot includes the future and deferred event queues and all entities,
+     * with their Hosts, VMs, Cloudlets and schedulers.
+     *
+     * <p>A running simulation has to be {@link #pause(double) paused} before taking a snapshot.
+     * It can be taken, for instance, from a Listener added by
+     * {@link #addOnSimulationPausedListener(EventListener)}.</p>
+     *
+     * <p>Every object in the simulation has to be {@link Serializable}.
+     * That includes Listeners and functions set on simulation objects,
+     * such as a VM mapper set to a broker. Lambda expressions used as {@link EventListener}s
+     * are serializable as long as the values they capture are, while other lambda expressions
+     * can be made serializable by casting them to an intersection type,
+     * such as {@code (Function<Cloudlet, Vm> & Serializable)}.
+     * The Listeners added directly to the simulation, such as the ones
+     * for clock ticks and pauses, are not included in the snapshot and must be added
+     * again to the restored simulation, if required.</p>
+     *
+     * @param out the stream to write the snapshot to, which is not closed
+     * @throws IllegalStateException when the simulation is running and is not paused
+     * @throws UncheckedIOException when the stream cannot be written or
+     *                              some simulation object is not {@link Serializable}
+     * @see #snapshot(Path)
+     */
+    public void snapshot(final OutputStream out) {
+        validateSnapshotState();
+        try {
+            SimulationSnapshot.write(this, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the complete state of the simulation to a given file.
+     *
+     * @param file the path of the file to write the snapshot to
+     * @throws IllegalStateException when the simulation is running and is not paused
+     * @throws UncheckedIOException when the file cannot be written or
+     *                              some simulation object is not {@link Serializable}
+     * @see #snapshot(OutputStream)
+     */
+    public void snapshot(final Path file) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            snapshot(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restores a simulation from a snapshot previously written by {@link #snapshot(OutputStream)}.
+     * The restored simulation is independent of the one the snapshot was taken from.
+     * Calling {@link #start()} on it continues the execution from the point where
+     * the snapshot was taken.
+     *
+     * @param in the stream to read the snapshot from, which is not closed
+     * @return the restored simulation
+     * @throws UncheckedIOException when the stream cannot be read
+     * @throws IllegalArgumentException when the stream doesn't contain a valid snapshot
+     */
+    public static CloudSim restore(final InputStream in) {
+        try {
+            return SimulationSnapshot.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IllegalArgumentException("The stream doesn't contain a valid simulation snapshot.", e);
+        }
+    }
+
+    /**
+     * Restores a simulation from a snapshot file previously written by {@link #snapshot(Path)}.
+     *
+     * @param file the path of the snapshot file
+     * @return the restored simulation
+     * @throws UncheckedIOException when the file cannot be read
+     * @throws IllegalArgumentException when the file doesn't contain a valid snapshot
+     * @see #restore(InputStream)
+     */
+    public static CloudSim restore(final Path file) {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return restore(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a number of independent copies (branches) of the simulation at its current state,
+     * enabling the evaluation of different policies from the same point of the simulation
+     * without re-running it from the beginning.
+     * For instance, a different {@link org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy}
+     * can be {@link Datacenter#setVmAllocationPolicy(org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy) set}
+     * to the Datacenters of each branch.
+     *
+     * <p>The simulation state is copied in memory just once, then each branch is built from that copy.
+     * Branches don't share any object with this simulation or with each other,
+     * so each one can be {@link #start() started} in a different thread.
+     * The entities of a branch can be got from {@link #getEntityList()}.</p>
+     *
+     * <p>The same restrictions of {@link #snapshot(OutputStream)} apply:
+     * a running simulation has to be paused and every object in the simulation has to be {@link Serializable}.
+     * The Listeners added directly to this simulation are not copied to the branches.</p>
+     *
+     * @param branches the number of branches to create
+     * @return the list of created branches
+     * @throws IllegalArgumentException when the number of branches is lower than 1
+     * @throws IllegalStateException when the simulation is running and is not paused
+     * @throws UncheckedIOException when some simulation object is not {@link Serializable}
+     * @see #fork()
+     */
+    public List<CloudSim> fork(final int branches) {
+        if (branches < 1) {
+            throw new IllegalArgumentException("The number of branches must be greater than zero.");
+        }
+
+        validateSnapshotState();
+        try {
+            final byte[] state = SimulationSnapshot.toByteArray(this);
+            final List<CloudSim> list = new ArrayList<>(branches);
+            for (int i = 0; i < branches; i++) {
+                list.add(SimulationSnapshot.fromByteArray(state));
+            }
+
+            return list;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates an independent copy of the simulation at its current state.
+     *
+     * @return the simulation copy
+     * @throws IllegalStateException when the simulation is running and is not paused
+     * @throws UncheckedIOException when some simulation object is not {@link Serializable}
+     * @see #fork(int)
+     */
+    public CloudSim fork() {
+        return fork(1).get(0);
+    }
+
+    private void validateSnapshotState() {
+        if (running && !paused) {
+            throw new IllegalStateException("The simulation must be paused before taking a snapshot.");
+        }
+    }
+
+    /**
+     * Initializes the attributes that are not included in a snapshot
+     * and enables the restored simulation to be started again,
+     * continuing from where it was when the snapshot was taken.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initTransientAttributes();
+        if (running) {
+            alreadyRunOnce = false;
+        }
+        paused = false;
+        pauseAt = -1;
+    }
+
     @Override
     public Map<String, SimEntity> getEntitiesByName() {
         return Collections.unmodifiableMap(entitiesByName);
     }
+
+    /**
+     * An {@link EventInfo} which time is updated before each notification,
+     * so that the same instance is reused for all notifications.
+     */
+    private static class ReusableEventInfo implements EventInfo {
+        protected double time;
+
+        @Override
+        public double getTime() {
+            return time;
+        }
+    }
+
+    /**
+     * An {@link EventBatchInfo} reused for all notifications,
+     * which list of events is cleared after each batch.
+     */
+    private static final class ReusableEventBatchInfo extends ReusableEventInfo implements EventBatchInfo {
+        private final List<SimEvent> events = new ArrayList<>();
+        private final List<SimEvent> readOnlyEvents = Collections.unmodifiableList(events);
+
+        @Override
+        public List<SimEvent> getEvents() {
+            return readOnlyEvents;
+        }
+    }
 }
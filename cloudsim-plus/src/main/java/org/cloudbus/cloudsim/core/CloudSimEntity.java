@@ -8,7 +8,6 @@
 package org.cloudbus.cloudsim.core;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
-import org.cloudbus.cloudsim.util.Log;
 
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -554,7 +553,7 @@ public abstract class CloudSimEntity implements SimEntity {
         }
 
         if (destEntityId < 0) {
-            Log.printConcatLine(getName(), ".send(): Error - " + "invalid entity id ", destEntityId);
+            getSimulation().getLogger().error(getClass(), "%s.send(): invalid entity id %d", getName(), destEntityId);
             return;
         }
 
@@ -745,7 +744,21 @@ public abstract class CloudSimEntity implements SimEntity {
     @Override
     public void println(String msg){
         if(log){
-            Log.printLine(msg);
+            getSimulation().getLogger().info(getClass(), msg);
+        }
+    }
+
+    /**
+     * Prints a formatted message if the logging is enabled for this entity.
+     * The message is just formatted if it is in fact going to be logged
+     * by the {@link Simulation#getLogger() simulation logger}.
+     *
+     * @param format the message format, as accepted by {@link String#format(String, Object...)}
+     * @param args the message arguments
+     */
+    protected void println(String format, Object... args){
+        if(log){
+            getSimulation().getLogger().info(getClass(), format, args);
         }
     }
 }
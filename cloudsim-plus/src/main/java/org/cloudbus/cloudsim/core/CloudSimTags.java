@@ -290,6 +290,24 @@ public final class CloudSimTags {
      */
     public static final int HOST_FAILURE = FAILURE + 1;
 
+    /**
+     * Denotes an internal event generated in a {@link Datacenter}
+     * to notify itself to periodically evaluate if its VMs having
+     * a {@link org.cloudsimplus.autoscaling.HorizontalVmScaling} or {@link VerticalVmScaling}
+     * have to be scaled, checking all of them in a single pass.
+     * When an event of this type is sent, the {@link SimEvent#getData()}
+     * can be a {@link Vm} object to indicate that such a Vm, already created
+     * inside the Datacenter, has a new scaling object that must be evaluated.
+     */
+    public static final int VM_SCALING_EVALUATION = FAILURE + 2;
+
+    /**
+     * Denotes an internal event generated in a {@link org.cloudsimplus.batch.BatchScheduler}
+     * to notify itself to try dispatching waiting Cloudlets,
+     * after all Cloudlet submissions and completions received at the same time were processed.
+     */
+    public static final int BATCH_SCHEDULING = FAILURE + 3;
+
     /**
      * Private constructor to avoid instantiating such a class.
      */
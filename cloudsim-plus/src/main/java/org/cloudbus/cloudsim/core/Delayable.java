@@ -4,6 +4,7 @@ import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
+import java.io.Serializable;
 
 /**
  * Defines methods for an object that its execution can be delayed by some time
@@ -14,7 +15,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  *
  * @author Manoel Campos da Silva Filho
  */
-public interface Delayable {
+public interface Delayable extends Serializable {
     /**
      * Gets the delay (in seconds) that a {@link DatacenterBroker} has to include
      * when submitting the Cloudlet, in order that it will be assigned
@@ -6,6 +6,7 @@
  */
 package org.cloudbus.cloudsim.core;
 
+import java.io.Serializable;
 import java.util.*;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
@@ -17,7 +18,9 @@ import org.cloudbus.cloudsim.core.predicates.PredicateAny;
 import org.cloudbus.cloudsim.core.predicates.PredicateNone;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudbus.cloudsim.util.SimulationLogger;
 import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.listeners.EventBatchInfo;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
@@ -32,7 +35,7 @@ import org.cloudsimplus.listeners.EventListener;
  * @see CloudSim
  * @since CloudSim Plus 1.0
  */
-public interface Simulation {
+public interface Simulation extends Serializable {
     /**
      * A standard predicate that matches any event.
      */
@@ -262,6 +265,31 @@ public interface Simulation {
      */
     boolean removeOnClockTickListener(EventListener<EventInfo> listener);
 
+    /**
+     * Adds a {@link EventListener} object that will be notified just once for each batch of events
+     * processed from the future event queue, receiving the list of such events.
+     * Each batch contains all events in the queue for the same simulation time.
+     * Since entities may send new events to that same time while processing the batch,
+     * consecutive batches may have the same time.
+     * That avoids the overhead of calling a Listener for every processed event,
+     * as it happens for the {@link #addOnEventProcessingListener(EventListener) onEventProcessing} Listeners.
+     *
+     * <p>The {@link EventBatchInfo} object may be reused for all notifications,
+     * thus Listeners must not keep a reference to it.</p>
+     *
+     * @param listener the event listener to add
+     * @return
+     */
+    Simulation addOnEventBatchProcessedListener(EventListener<EventBatchInfo> listener);
+
+    /**
+     * Removes a listener from the onEventBatchProcessedListener List.
+     *
+     * @param listener the listener to remove
+     * @return true if the listener was found and removed, false otherwise
+     */
+    boolean removeOnEventBatchProcessedListener(EventListener<EventBatchInfo> listener);
+
     /**
      * Pauses an entity for some time.
      *
@@ -444,6 +472,15 @@ public interface Simulation {
      */
     void setNetworkTopology(NetworkTopology networkTopology);
 
+    /**
+     * Gets the logger of this simulation,
+     * which enables each simulation instance to have its own log output
+     * and to format messages only when they are going to be logged.
+     *
+     * @return
+     */
+    SimulationLogger getLogger();
+
     /**
      * Gets a <b>read-only</b> map where each key is the name of an {@link SimEntity} and each value
      * is the actual {@link SimEntity}.
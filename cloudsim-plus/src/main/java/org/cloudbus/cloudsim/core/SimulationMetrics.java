@@ -0,0 +1,304 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Low overhead metrics about the execution of a {@link CloudSim} simulation engine,
+ * such as the number of processed events per {@link CloudSimTags tag},
+ * the wall time each entity spent processing events, the event queues' high-water marks
+ * and the number of events and clock ticks per second.
+ * They enable finding which Datacenter or broker is slowing down a simulation
+ * without attaching a profiler.
+ *
+ * <p>Metrics are just collected after they are enabled by {@link CloudSim#enableMetrics()}.
+ * Otherwise, the simulation doesn't pay any time measurement cost.
+ * The metrics can be read at any time, including from listeners while the simulation is running,
+ * and can be exposed as a JMX MBean by calling {@link #registerMBean()}.
+ * Metrics are only updated by the simulation thread, but the values are safely
+ * published to other threads, such as the one of a JMX client.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public final class SimulationMetrics implements SimulationMetricsMXBean, Serializable {
+    private static final String MBEAN_NAME_FORMAT = "org.cloudsimplus:type=SimulationMetrics,name=Simulation%d";
+    private static final AtomicInteger MBEAN_COUNT = new AtomicInteger();
+    private static final double NANOS_PER_MILLISECOND = 1000000.0;
+
+    /**
+     * A map where each key is the value of a {@link CloudSimTags} constant and the value is its name.
+     */
+    private static final Map<Integer, String> TAG_NAMES = getTagNames();
+
+    private final CloudSim simulation;
+
+    /*
+     * The scalar metrics are volatile because they may be read by a JMX client
+     * while the simulation is running. Since they are just changed by the simulation thread,
+     * increments don't need to be atomic.
+     */
+    private volatile boolean enabled;
+    private volatile long processedEvents;
+    private volatile long clockTicks;
+    private volatile long wallTimeNanos;
+    private volatile int futureQueueHighWaterMark;
+    private volatile int deferredQueueHighWaterMark;
+
+    /**
+     * A map where each key is an event tag and the value is
+     * the number of events processed for that tag, avoiding boxing at every event.
+     * It's a concurrent map of {@link LongAdder}s because metrics may be read by a
+     * JMX client while the simulation is running.
+     */
+    private final Map<Integer, LongAdder> eventsByTag;
+
+    /**
+     * The processing time (in nanoseconds) of each entity, indexed by the entity id.
+     * When an entity with a greater id is processed, the values are copied to a larger array,
+     * which is then published through this volatile reference.
+     */
+    private volatile AtomicLongArray entityProcessingNanos;
+
+    private transient ObjectName mbeanName;
+
+    SimulationMetrics(final CloudSim simulation) {
+        this.simulation = simulation;
+        this.eventsByTag = new ConcurrentHashMap<>();
+        this.entityProcessingNanos = new AtomicLongArray(0);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    void eventProcessed(final SimEvent evt) {
+        processedEvents++;
+        eventsByTag.computeIfAbsent(evt.getTag(), tag -> new LongAdder()).increment();
+    }
+
+    void clockTickFinished(final long elapsedNanos) {
+        clockTicks++;
+        wallTimeNanos += elapsedNanos;
+    }
+
+    void entityProcessed(final SimEntity entity, final long elapsedNanos) {
+        AtomicLongArray processingNanos = entityProcessingNanos;
+        if(entity.getId() >= processingNanos.length()){
+            final AtomicLongArray newProcessingNanos = new AtomicLongArray(entity.getId() + 1);
+            for (int id = 0; id < processingNanos.length(); id++) {
+                newProcessingNanos.set(id, processingNanos.get(id));
+            }
+
+            entityProcessingNanos = processingNanos = newProcessingNanos;
+        }
+
+        processingNanos.addAndGet(entity.getId(), elapsedNanos);
+    }
+
+    void updateQueueSizes(final int futureQueueSize, final int deferredQueueSize) {
+        futureQueueHighWaterMark = Math.max(futureQueueHighWaterMark, futureQueueSize);
+        deferredQueueHighWaterMark = Math.max(deferredQueueHighWaterMark, deferredQueueSize);
+    }
+
+    @Override
+    public long getProcessedEvents() {
+        return processedEvents;
+    }
+
+    @Override
+    public long getClockTicks() {
+        return clockTicks;
+    }
+
+    @Override
+    public double getWallTimeMs() {
+        return wallTimeNanos / NANOS_PER_MILLISECOND;
+    }
+
+    @Override
+    public double getEventsPerSecond() {
+        return perSecond(processedEvents);
+    }
+
+    @Override
+    public double getTicksPerSecond() {
+        return perSecond(clockTicks);
+    }
+
+    private double perSecond(final long amount) {
+        return wallTimeNanos > 0 ? amount / (wallTimeNanos / (NANOS_PER_MILLISECOND * 1000)) : 0;
+    }
+
+    @Override
+    public int getFutureQueueHighWaterMark() {
+        return futureQueueHighWaterMark;
+    }
+
+    @Override
+    public int getDeferredQueueHighWaterMark() {
+        return deferredQueueHighWaterMark;
+    }
+
+    @Override
+    public Map<String, Long> getEventsByTag() {
+        final Map<String, Long> map = new HashMap<>();
+        eventsByTag.forEach((tag, count) -> map.put(getTagName(tag), count.sum()));
+        return sortByValueDescending(map);
+    }
+
+    /**
+     * Gets the number of processed events having a given tag.
+     *
+     * @param tag the tag of the events, usually one of the {@link CloudSimTags} constants
+     * @return the number of processed events with that tag
+     */
+    public long getEventsByTag(final int tag) {
+        final LongAdder count = eventsByTag.get(tag);
+        return count == null ? 0 : count.sum();
+    }
+
+    @Override
+    public Map<String, Double> getEntityProcessingTimeMs() {
+        final Map<String, Double> map = new HashMap<>();
+        final AtomicLongArray processingNanos = entityProcessingNanos;
+        for (int id = 0; id < processingNanos.length(); id++) {
+            final long nanos = processingNanos.get(id);
+            if(nanos > 0) {
+                map.put(simulation.getEntityName(id), nanos / NANOS_PER_MILLISECOND);
+            }
+        }
+
+        return sortByValueDescending(map);
+    }
+
+    /**
+     * Gets the wall time (in milliseconds) a given entity spent processing its events.
+     *
+     * @param entity the entity to get its processing time
+     * @return the entity processing time
+     */
+    public double getEntityProcessingTimeMs(final SimEntity entity) {
+        final int id = entity.getId();
+        final AtomicLongArray processingNanos = entityProcessingNanos;
+        return id >= 0 && id < processingNanos.length() ? processingNanos.get(id) / NANOS_PER_MILLISECOND : 0;
+    }
+
+    /**
+     * Registers these metrics as a JMX MBean into the platform MBean server,
+     * if not registered yet.
+     *
+     * @return the name of the registered MBean
+     * @throws IllegalStateException when the MBean cannot be registered
+     */
+    public ObjectName registerMBean() {
+        if(mbeanName != null){
+            return mbeanName;
+        }
+
+        try {
+            final ObjectName name = new ObjectName(String.format(MBEAN_NAME_FORMAT, MBEAN_COUNT.incrementAndGet()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            mbeanName = name;
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("It wasn't possible to register the simulation metrics MBean", e);
+        }
+    }
+
+    /**
+     * Unregisters the JMX MBean of these metrics, if it was registered.
+     *
+     * @return true if the MBean was unregistered, false if it wasn't registered
+     */
+    public boolean unregisterMBean() {
+        if(mbeanName == null){
+            return false;
+        }
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if(server.isRegistered(mbeanName)) {
+                server.unregisterMBean(mbeanName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("It wasn't possible to unregister the simulation metrics MBean", e);
+        }
+
+        mbeanName = null;
+        return true;
+    }
+
+    private static String getTagName(final int tag) {
+        return TAG_NAMES.getOrDefault(tag, String.valueOf(tag));
+    }
+
+    private static <V extends Comparable<V>> Map<String, V> sortByValueDescending(final Map<String, V> map) {
+        final Map<String, V> sorted = new LinkedHashMap<>();
+        map.entrySet().stream()
+            .sorted(Map.Entry.<String, V>comparingByValue().reversed())
+            .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * Gets the names of the public {@link CloudSimTags} constants.
+     * If multiple constants have the same value, the first declared one is used.
+     *
+     * @return a map where each key is the value of a constant and the value is its name
+     */
+    private static Map<Integer, String> getTagNames() {
+        final Map<Integer, String> names = new HashMap<>();
+        for (final Field field : CloudSimTags.class.getFields()) {
+            if(Modifier.isStatic(field.getModifiers()) && field.getType() == int.class) {
+                try {
+                    names.putIfAbsent(field.getInt(null), field.getName());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap(names);
+    }
+}
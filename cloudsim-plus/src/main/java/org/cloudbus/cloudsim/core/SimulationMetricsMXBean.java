@@ -0,0 +1,104 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import java.util.Map;
+
+/**
+ * The management interface that exposes the {@link SimulationMetrics} of a {@link CloudSim}
+ * instance as a JMX MXBean, so that they can be monitored by tools such as JConsole and VisualVM
+ * while the simulation is running.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see SimulationMetrics#registerMBean()
+ */
+public interface SimulationMetricsMXBean {
+    /**
+     * Checks if metrics are being collected.
+     * @return
+     */
+    boolean isEnabled();
+
+    /**
+     * Gets the total number of events processed by the simulation.
+     * @return
+     */
+    long getProcessedEvents();
+
+    /**
+     * Gets the number of clock ticks executed by the simulation,
+     * where each tick processes all events happening at the same simulation time.
+     * @return
+     */
+    long getClockTicks();
+
+    /**
+     * Gets the wall time (in milliseconds) spent running the simulation,
+     * excluding the time it was paused.
+     * @return
+     */
+    double getWallTimeMs();
+
+    /**
+     * Gets the number of events processed for each second of {@link #getWallTimeMs() wall time}.
+     * @return
+     */
+    double getEventsPerSecond();
+
+    /**
+     * Gets the number of clock ticks executed for each second of {@link #getWallTimeMs() wall time}.
+     * @return
+     */
+    double getTicksPerSecond();
+
+    /**
+     * Gets the maximum number of events the future event queue has stored at the same time.
+     * @return
+     */
+    int getFutureQueueHighWaterMark();
+
+    /**
+     * Gets the maximum number of events the deferred event queue has stored at the same time.
+     * @return
+     */
+    int getDeferredQueueHighWaterMark();
+
+    /**
+     * Gets the number of processed events for each {@link CloudSimTags tag},
+     * where the key is the name of the tag and the value is the number of events.
+     * The map is sorted in descending order of the number of events.
+     * @return
+     */
+    Map<String, Long> getEventsByTag();
+
+    /**
+     * Gets the wall time (in milliseconds) each entity spent processing its events,
+     * where the key is the name of the entity and the value is the time.
+     * The map is sorted in descending order of time, so that the
+     * entities slowing down the simulation come first.
+     * @return
+     */
+    Map<String, Double> getEntityProcessingTimeMs();
+}
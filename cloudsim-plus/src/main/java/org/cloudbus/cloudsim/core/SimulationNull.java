@@ -3,6 +3,9 @@ package org.cloudbus.cloudsim.core;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudbus.cloudsim.util.LogSink;
+import org.cloudbus.cloudsim.util.SimulationLogger;
+import org.cloudsimplus.listeners.EventBatchInfo;
 import org.cloudsimplus.listeners.EventInfo;
 import org.cloudsimplus.listeners.EventListener;
 
@@ -17,6 +20,14 @@ import java.util.function.Predicate;
  * @see Simulation#NULL
  */
 final class SimulationNull implements Simulation {
+    /**
+     * A single logger that discards every record.
+     * It isn't static because {@link Simulation#NULL}
+     * (the only instance of this class) is null while this class is being initialized.
+     * It isn't serialized, since deserialized instances are replaced by {@link Simulation#NULL}.
+     */
+    private final transient SimulationLogger logger = new SimulationLogger(this, LogSink.NULL);
+
     @Override public void abort() {/**/}
     @Override public void addEntity(CloudSimEntity e) {/**/}
     @Override public SimEvent cancel(int src, Predicate<SimEvent> p) {
@@ -102,6 +113,12 @@ final class SimulationNull implements Simulation {
     @Override public boolean removeOnClockTickListener(EventListener<EventInfo> listener) {
         return false;
     }
+    @Override public Simulation addOnEventBatchProcessedListener(EventListener<EventBatchInfo> listener) {
+        return this;
+    }
+    @Override public boolean removeOnEventBatchProcessedListener(EventListener<EventBatchInfo> listener) {
+        return false;
+    }
     @Override public double start() throws RuntimeException { return 0; }
     @Override public boolean terminate() {
         return false;
@@ -117,7 +134,24 @@ final class SimulationNull implements Simulation {
         return NetworkTopology.NULL;
     }
     @Override public void setNetworkTopology(NetworkTopology networkTopology) {/**/}
+    /**
+     * Returns a logger that discards every record,
+     * shared by all objects that aren't attached to a simulation.
+     * @return
+     */
+    @Override public SimulationLogger getLogger() {
+        return logger;
+    }
     @Override public Map<String, SimEntity> getEntitiesByName() { return Collections.EMPTY_MAP; }
     @Override public boolean updateEntityName(String oldName) { return false; }
     @Override public long getNumberOfFutureEvents(Predicate<SimEvent> predicate) { return 0; }
+
+    /**
+     * Ensures the {@link Simulation#NULL} instance is kept unique
+     * when objects attached to no simulation are deserialized.
+     * @return the {@link Simulation#NULL} instance
+     */
+    private Object readResolve() {
+        return Simulation.NULL;
+    }
 }
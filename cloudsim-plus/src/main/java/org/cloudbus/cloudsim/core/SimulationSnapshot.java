@@ -0,0 +1,356 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.power.PowerVmAllocationPolicyMigration;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristics;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.power.PowerHost;
+import org.cloudbus.cloudsim.network.topologies.NetworkTopology;
+import org.cloudbus.cloudsim.power.models.PowerModel;
+import org.cloudbus.cloudsim.provisioners.PeProvisioner;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisioner;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.Processor;
+import org.cloudbus.cloudsim.resources.Resource;
+import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
+import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketScheduler;
+import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.autoscaling.HorizontalVmScaling;
+import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import org.cloudsimplus.autoscaling.VmScaling;
+import org.cloudsimplus.autoscaling.forecasting.Forecaster;
+import org.cloudsimplus.autoscaling.resources.ResourceScaling;
+import org.cloudsimplus.batch.BatchScheduler;
+import org.cloudsimplus.faultinjection.VmCloner;
+import org.cloudsimplus.heuristics.CloudletToVmMappingHeuristic;
+import org.cloudsimplus.heuristics.Heuristic;
+import org.cloudsimplus.heuristics.HeuristicSolution;
+import org.cloudsimplus.listeners.EventListener;
+import org.cloudsimplus.results.CloudletSink;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes and reads the complete state of a {@link CloudSim} simulation,
+ * in a compact binary format (GZIP compressed Java serialization).
+ * It includes the future and deferred event queues and all entities,
+ * with their Hosts, VMs, Cloudlets and schedulers.
+ *
+ * <p>Objects such as {@link Vm#NULL} are written just as a reference,
+ * so that after a snapshot is read, they are the same instances
+ * used by the running JVM and can be compared by identity.</p>
+ *
+ * <p>Hash-based collections are written as {@link DeferredCollection}s,
+ * which elements are just added after the entire snapshot is read.
+ * That is required because the hash code of objects such as
+ * {@link Vm} and {@link Host} depends on other objects
+ * that may have not been read yet when a collection containing them is read.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see CloudSim#snapshot(OutputStream)
+ * @see CloudSim#restore(InputStream)
+ * @see CloudSim#fork(int)
+ */
+final class SimulationSnapshot {
+    /**
+     * The shared NULL objects that have to be kept unique after a snapshot is read.
+     */
+    private static final List<Object> NULL_OBJECTS = Arrays.asList(
+        Simulation.NULL, Simulation.SIM_ANY, Simulation.SIM_NONE,
+        SimEntity.NULL, SimEvent.NULL, Machine.NULL,
+        Datacenter.NULL, DatacenterCharacteristics.NULL, DatacenterBroker.NULL,
+        Host.NULL, PowerHost.NULL, Vm.NULL, Cloudlet.NULL, CloudletExecutionInfo.NULL,
+        VmAllocationPolicy.NULL, PowerVmAllocationPolicyMigration.NULL,
+        VmScheduler.NULL, CloudletScheduler.NULL, PacketScheduler.NULL,
+        ResourceProvisioner.NULL, PeProvisioner.NULL,
+        Resource.NULL, ResourceManageable.NULL, Pe.NULL, Processor.NULL,
+        NetworkTopology.NULL,
+        UtilizationModel.NULL, ContinuousDistribution.NULL, PowerModel.NULL,
+        EventListener.NULL, VmScaling.NULL, HorizontalVmScaling.NULL,
+        HorizontalVmScaling.FALSE_PREDICATE,
+        VerticalVmScaling.NULL, ResourceScaling.NULL, Forecaster.NULL, VmCloner.NULL,
+        Heuristic.NULL, CloudletToVmMappingHeuristic.NULL, HeuristicSolution.NULL,
+        CloudletSink.NULL, BatchScheduler.NULL
+    );
+
+    /**
+     * Maps each NULL object to its index inside the {@link #NULL_OBJECTS} list.
+     */
+    private static final Map<Object, Integer> NULL_OBJECTS_INDEXES = new IdentityHashMap<>();
+
+    static {
+        for (int i = 0; i < NULL_OBJECTS.size(); i++) {
+            NULL_OBJECTS_INDEXES.putIfAbsent(NULL_OBJECTS.get(i), i);
+        }
+    }
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private SimulationSnapshot(){}
+
+    /**
+     * Writes the state of a simulation to a given stream.
+     * The stream is not closed.
+     *
+     * @param simulation the simulation to write
+     * @param out the stream to write the simulation to
+     * @throws IOException when the stream cannot be written or some object
+     *                     of the simulation is not {@link Serializable}
+     */
+    static void write(final CloudSim simulation, final OutputStream out) throws IOException {
+        final GZIPOutputStream zip = new GZIPOutputStream(out);
+        final ObjectOutputStream objOut = new SnapshotOutputStream(zip);
+        objOut.writeObject(simulation);
+        objOut.flush();
+        zip.finish();
+        out.flush();
+    }
+
+    /**
+     * Reads a simulation from a given stream.
+     * The stream is not closed.
+     *
+     * @param in the stream to read a simulation from
+     * @return the read simulation
+     * @throws IOException when the stream cannot be read
+     * @throws ClassNotFoundException when a class of some object in the stream was not found
+     */
+    static CloudSim read(final InputStream in) throws IOException, ClassNotFoundException {
+        return readSimulation(new SnapshotInputStream(new GZIPInputStream(in)));
+    }
+
+    /**
+     * Writes the state of a simulation to an uncompressed byte array,
+     * that can be read multiple times by {@link #fromByteArray(byte[])}
+     * to create independent copies of the simulation.
+     *
+     * @param simulation the simulation to write
+     * @return the byte array with the simulation state
+     * @throws IOException when some object of the simulation is not {@link Serializable}
+     */
+    static byte[] toByteArray(final CloudSim simulation) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objOut = new SnapshotOutputStream(out)) {
+            objOut.writeObject(simulation);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads a simulation from a byte array created by {@link #toByteArray(CloudSim)}.
+     *
+     * @param state the byte array with the simulation state
+     * @return a new simulation instance
+     * @throws IOException when the array cannot be read
+     * @throws ClassNotFoundException when a class of some object in the array was not found
+     */
+    static CloudSim fromByteArray(final byte[] state) throws IOException, ClassNotFoundException {
+        return readSimulation(new SnapshotInputStream(new ByteArrayInputStream(state)));
+    }
+
+    private static CloudSim readSimulation(final SnapshotInputStream objIn) throws IOException, ClassNotFoundException {
+        final CloudSim simulation = (CloudSim) objIn.readObject();
+        objIn.fillDeferredCollections();
+        return simulation;
+    }
+
+    /**
+     * A reference to one of the {@link #NULL_OBJECTS}, that is written in their place.
+     */
+    private static final class NullObjectRef implements Serializable {
+        private final int index;
+
+        NullObjectRef(final int index) {
+            this.index = index;
+        }
+    }
+
+    private static final class SnapshotOutputStream extends ObjectOutputStream {
+        SnapshotOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+            final Integer index = NULL_OBJECTS_INDEXES.get(obj);
+            if(index != null){
+                return new NullObjectRef(index);
+            }
+
+            final Class<?> klass = obj.getClass();
+            if(klass == HashMap.class || klass == DeferredHashMap.class){
+                return new DeferredHashMap((Map<?, ?>) obj);
+            }
+            if(klass == LinkedHashMap.class || klass == DeferredLinkedHashMap.class){
+                return new DeferredLinkedHashMap((Map<?, ?>) obj);
+            }
+            if(klass == HashSet.class || klass == DeferredHashSet.class){
+                return new DeferredHashSet((Set<?>) obj);
+            }
+            if(klass == LinkedHashSet.class || klass == DeferredLinkedHashSet.class){
+                return new DeferredLinkedHashSet((Set<?>) obj);
+            }
+
+            return obj;
+        }
+    }
+
+    private static final class SnapshotInputStream extends ObjectInputStream {
+        /**
+         * The collections read from the stream which elements
+         * have to be added after the entire object graph is read.
+         */
+        private final List<DeferredCollection> deferredCollections = new ArrayList<>();
+
+        SnapshotInputStream(final InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            if(obj instanceof NullObjectRef){
+                return NULL_OBJECTS.get(((NullObjectRef) obj).index);
+            }
+
+            if(obj instanceof DeferredCollection){
+                deferredCollections.add((DeferredCollection) obj);
+            }
+
+            return obj;
+        }
+
+        void fillDeferredCollections() {
+            deferredCollections.forEach(DeferredCollection::fill);
+            deferredCollections.clear();
+        }
+    }
+
+    /**
+     * A hash-based collection which is written empty, along with an array
+     * of its elements, that are just added after all of them are
+     * completely read.
+     */
+    private interface DeferredCollection {
+        /**
+         * Adds the pending elements to the collection.
+         */
+        void fill();
+    }
+
+    private static Object[] toArray(final Map<?, ?> map) {
+        final Object[] entries = new Object[map.size() * 2];
+        int i = 0;
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            entries[i++] = entry.getKey();
+            entries[i++] = entry.getValue();
+        }
+
+        return entries;
+    }
+
+    private static void putEntries(final Map<Object, Object> map, final Object[] entries) {
+        for (int i = 0; i < entries.length; i += 2) {
+            map.put(entries[i], entries[i + 1]);
+        }
+    }
+
+    private static final class DeferredHashMap extends HashMap<Object, Object> implements DeferredCollection {
+        private Object[] entries;
+
+        DeferredHashMap(final Map<?, ?> source) {
+            super();
+            this.entries = toArray(source);
+        }
+
+        @Override
+        public void fill() {
+            putEntries(this, entries);
+            entries = null;
+        }
+    }
+
+    private static final class DeferredLinkedHashMap extends LinkedHashMap<Object, Object> implements DeferredCollection {
+        private Object[] entries;
+
+        DeferredLinkedHashMap(final Map<?, ?> source) {
+            super();
+            this.entries = toArray(source);
+        }
+
+        @Override
+        public void fill() {
+            putEntries(this, entries);
+            entries = null;
+        }
+    }
+
+    private static final class DeferredHashSet extends HashSet<Object> implements DeferredCollection {
+        private Object[] elements;
+
+        DeferredHashSet(final Set<?> source) {
+            super();
+            this.elements = source.toArray();
+        }
+
+        @Override
+        public void fill() {
+            Collections.addAll(this, elements);
+            elements = null;
+        }
+    }
+
+    private static final class DeferredLinkedHashSet extends LinkedHashSet<Object> implements DeferredCollection {
+        private Object[] elements;
+
+        DeferredLinkedHashSet(final Set<?> source) {
+            super();
+            this.elements = source.toArray();
+        }
+
+        @Override
+        public void fill() {
+            Collections.addAll(this, elements);
+            elements = null;
+        }
+    }
+}
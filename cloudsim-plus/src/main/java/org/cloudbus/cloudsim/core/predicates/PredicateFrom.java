@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.core.predicates;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,7 +25,7 @@ import java.util.stream.Collectors;
  * @see PredicateNotFrom
  * @see Predicate
  */
-public class PredicateFrom implements Predicate<SimEvent> {
+public class PredicateFrom implements Predicate<SimEvent>, Serializable {
 
 	/** The IDs of source entities to check the reception of events from. */
 	private final List<Integer> ids;
@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.core.predicates;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
 
+import java.io.Serializable;
 import java.util.function.Predicate;
 
 /**
@@ -21,7 +22,7 @@ import java.util.function.Predicate;
  * @since CloudSim Toolkit 1.0
  * @see Predicate
  */
-public class PredicateNone implements Predicate<SimEvent> {
+public class PredicateNone implements Predicate<SimEvent>, Serializable {
 
 	/**
 	 * Considers that no event received by the predicate matches.
@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.core.predicates;
 
 import org.cloudbus.cloudsim.core.events.SimEvent;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,7 +25,7 @@ import java.util.stream.Collectors;
  * @see Predicate
  * @since CloudSim Toolkit 1.0
  */
-public class PredicateType implements Predicate<SimEvent> {
+public class PredicateType implements Predicate<SimEvent>, Serializable {
 
     /**
      * Array of tags to verify if the tag of received events correspond to.
@@ -64,6 +64,17 @@ public interface Datacenter extends SimEntity {
      */
     VmAllocationPolicy getVmAllocationPolicy();
 
+    /**
+     * Sets the policy to be used by the Datacenter to allocate VMs into hosts.
+     * It can be changed along the simulation, for instance, to evaluate different
+     * policies in {@link org.cloudbus.cloudsim.core.CloudSim#fork(int) forked} simulations.
+     * The new policy takes into account the VMs already placed into each Host.
+     *
+     * @param vmAllocationPolicy the new VM allocation policy
+     * @return this Datacenter
+     */
+    Datacenter setVmAllocationPolicy(VmAllocationPolicy vmAllocationPolicy);
+
     /**
      * Gets a <b>read-only</b> list all VMs from all Hosts of this Datacenter.
      *
@@ -38,6 +38,9 @@ final class DatacenterNull implements Datacenter {
     @Override public VmAllocationPolicy getVmAllocationPolicy() {
         return VmAllocationPolicy.NULL;
     }
+    @Override public Datacenter setVmAllocationPolicy(VmAllocationPolicy vmAllocationPolicy) {
+        return this;
+    }
     @Override public List<Vm> getVmList() {
         return Collections.emptyList();
     }
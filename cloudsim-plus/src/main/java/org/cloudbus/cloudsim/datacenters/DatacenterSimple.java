@@ -12,7 +12,6 @@ import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.network.IcmpPacket;
 import org.cloudbus.cloudsim.util.DataCloudTags;
 import org.cloudbus.cloudsim.hosts.Host;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.*;
@@ -23,6 +22,7 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import java.util.*;
 
 import org.cloudbus.cloudsim.resources.FileStorage;
+import org.cloudsimplus.autoscaling.HorizontalVmScaling;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
 
 import static java.util.stream.Collectors.toList;
@@ -55,6 +55,19 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
     /** @see #getSchedulingInterval() */
     private double schedulingInterval;
 
+    /**
+     * The VMs created inside this Datacenter that have some
+     * {@link HorizontalVmScaling} or {@link VerticalVmScaling},
+     * which are evaluated in a single pass at every {@link #getSchedulingInterval() scheduling interval}.
+     * @see #evaluateVmScaling()
+     */
+    private final Set<Vm> scalableVms;
+
+    /**
+     * Indicates if a {@link CloudSimTags#VM_SCALING_EVALUATION} event is scheduled.
+     */
+    private boolean vmScalingEvaluationScheduled;
+
     /**
      * Creates a Datacenter with the given parameters.
      *
@@ -106,6 +119,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         VmAllocationPolicy vmAllocationPolicy)
     {
         super(simulation);
+        this.scalableVms = new LinkedHashSet<>();
 
         // If this resource doesn't have any PEs then it isn't useful at all
         if (characteristics.getNumberOfPes() == 0) {
@@ -219,6 +233,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
                 updateCloudletProcessing();
                 checkCloudletsCompletionForAllHosts();
                 return 1;
+            case CloudSimTags.VM_SCALING_EVALUATION:
+                processVmScalingEvaluation(ev);
+                return 1;
         }
 
         return 0;
@@ -325,8 +342,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
             cloudlet = (Cloudlet) ev.getData();
         }
         catch (ClassCastException e) {
-            Log.printConcatLine(super.getName(), ": Error in processing Cloudlet");
-            Log.printLine(e.getMessage());
+            getSimulation().getLogger().error(getClass(), "%s: Error in processing Cloudlet: %s", super.getName(), e.getMessage());
             return;
         }
 
@@ -368,6 +384,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         // process this Cloudlet to this Datacenter
         cl.assignToDatacenter(this);
         submitCloudletToVm(cl, ack);
+        scheduleVmScalingEvaluation();
     }
 
     /**
@@ -534,6 +551,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
             final List<Double> mipsList = vm.getHost().getVmScheduler().getAllocatedMips(vm);
             vm.updateProcessing(getSimulation().clock(), mipsList);
+            addScalableVm(vm);
         }
 
         return hostAllocatedForVm;
@@ -555,6 +573,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         Vm vm = (Vm) ev.getData();
         final int cloudlets = vm.getCloudletScheduler().getCloudletList().size();
         vmAllocationPolicy.deallocateHostForVm(vm);
+        scalableVms.remove(vm);
 
         if (ack) {
             sendNow(vm.getBroker().getId(), CloudSimTags.VM_DESTROY_ACK, vm);
@@ -563,7 +582,7 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         final String msg = cloudlets > 0 ?
             String.format("It had a total of %d cloudlets (running + waiting).", cloudlets) :
             "It had no running or waiting cloudlets.";
-        Log.printFormatted("%.2f: %s: %s destroyed on %s. %s\n",
+        getSimulation().getLogger().info(getClass(), "%.2f: %s: %s destroyed on %s. %s",
                 getSimulation().clock(), getClass().getSimpleName(), vm, vm.getHost(), msg);
     }
 
@@ -597,12 +616,101 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
         vm.setInMigration(false);
         if (result) {
-            Log.printFormattedLine(
+            getSimulation().getLogger().info(getClass(),
                 "%.2f: Migration of VM #%d to Host #%d is completed",
                 getSimulation().clock(), vm.getId(), targetHost.getId());
         } else {
-            Log.printFormattedLine("[Datacenter] VM %d allocation to the destination host failed!", vm.getId());
+            getSimulation().getLogger().info(getClass(), "[Datacenter] VM %d allocation to the destination host failed!", vm.getId());
+
+        }
+    }
+
+    /**
+     * Processes a {@link CloudSimTags#VM_SCALING_EVALUATION} event,
+     * which either registers a VM that got a new scaling object after being created
+     * or periodically evaluates the scaling of all VMs.
+     *
+     * @param ev the received event
+     */
+    private void processVmScalingEvaluation(final SimEvent ev) {
+        if(ev.getData() instanceof Vm) {
+            addScalableVm((Vm) ev.getData());
+            return;
+        }
+
+        vmScalingEvaluationScheduled = false;
+        evaluateVmScaling();
+    }
+
+    /**
+     * Adds a VM to the set of VMs which scaling is periodically evaluated,
+     * if it has some {@link HorizontalVmScaling} or {@link VerticalVmScaling}.
+     * The evaluation is just scheduled if the VM is already running Cloudlets,
+     * otherwise, it's scheduled when Cloudlets are submitted.
+     *
+     * @param vm the VM to add
+     */
+    private void addScalableVm(final Vm vm) {
+        if(!isScalable(vm) || vm.getHost().getDatacenter() != this) {
+            return;
+        }
+
+        scalableVms.add(vm);
+        if(!vm.getCloudletScheduler().isEmpty()) {
+            scheduleVmScalingEvaluation();
+        }
+    }
+
+    private static boolean isScalable(final Vm vm) {
+        return vm.getHorizontalScaling() != HorizontalVmScaling.NULL ||
+               vm.getRamVerticalScaling() != VerticalVmScaling.NULL ||
+               vm.getBwVerticalScaling() != VerticalVmScaling.NULL ||
+               vm.getPeVerticalScaling() != VerticalVmScaling.NULL;
+    }
 
+    /**
+     * Schedules the next evaluation of VMs scaling after the {@link #getSchedulingInterval()},
+     * if there are scalable VMs and it isn't scheduled yet.
+     * That makes the evaluation to usually happen together with the periodic update of Cloudlets processing.
+     * Since the scheduling interval is used to define the evaluation period,
+     * VMs are not scaled if it is zero.
+     */
+    private void scheduleVmScalingEvaluation() {
+        if(vmScalingEvaluationScheduled || schedulingInterval <= 0 || scalableVms.isEmpty()) {
+            return;
+        }
+
+        schedule(getId(), schedulingInterval, CloudSimTags.VM_SCALING_EVALUATION);
+        vmScalingEvaluationScheduled = true;
+    }
+
+    /**
+     * Evaluates if the scalable VMs inside this Datacenter are under or overloaded,
+     * requesting them to be scaled accordingly, in a single pass.
+     * VMs utilization is the one computed at the last processing update,
+     * since any Cloudlet arrival or completion already triggers such an update.
+     * The next evaluation is just scheduled while scalable VMs are running Cloudlets,
+     * otherwise, it's scheduled when new Cloudlets are submitted.
+     */
+    protected void evaluateVmScaling() {
+        final double time = getSimulation().clock();
+        boolean busyVms = false;
+        for (final Iterator<Vm> it = scalableVms.iterator(); it.hasNext(); ) {
+            final Vm vm = it.next();
+            if(vm.getHost().getDatacenter() != this) {
+                it.remove();
+                continue;
+            }
+
+            vm.getHorizontalScaling().requestScalingIfPredicateMatch(time);
+            vm.getRamVerticalScaling().requestScalingIfPredicateMatch(time);
+            vm.getBwVerticalScaling().requestScalingIfPredicateMatch(time);
+            vm.getPeVerticalScaling().requestScalingIfPredicateMatch(time);
+            busyVms = busyVms || !vm.getCloudletScheduler().isEmpty();
+        }
+
+        if(busyVms) {
+            scheduleVmScalingEvaluation();
         }
     }
 
@@ -643,11 +751,9 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         }
 
         final String name = getSimulation().getEntityName(cl.getBroker().getId());
-        Log.printConcatLine(
-                getName(), ": Warning - Cloudlet #", cl.getId(), " owned by ", name,
-                " is already completed/finished.");
-        Log.printLine("Therefore, it is not being executed again");
-        Log.printLine();
+        getSimulation().getLogger().info(getClass(),
+            "%s: Warning - Cloudlet #%d owned by %s is already completed/finished.%nTherefore, it is not being executed again%n",
+            getName(), cl.getId(), name);
 
         /*
          NOTE: If a Cloudlet has finished, then it won't be processed.
@@ -955,12 +1061,12 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
 
     @Override
     public void shutdownEntity() {
-        Log.printConcatLine(getName(), " is shutting down...");
+        getSimulation().getLogger().info(getClass(), "%s is shutting down...", getName());
     }
 
     @Override
     protected void startEntity() {
-        Log.printConcatLine(getName(), " is starting...");
+        getSimulation().getLogger().info(getClass(), "%s is starting...", getName());
         // this resource should register to regional CIS.
         // However, if not specified, then register to system CIS (the
         // default CloudInformationService) entity.
@@ -1018,12 +1124,8 @@ public class DatacenterSimple extends CloudSimEntity implements Datacenter {
         return vmAllocationPolicy;
     }
 
-    /**
-     * Sets the policy to be used by the Datacenter to allocate VMs into hosts.
-     *
-     * @param vmAllocationPolicy the new vm allocation policy
-     */
-    protected final Datacenter setVmAllocationPolicy(VmAllocationPolicy vmAllocationPolicy) {
+    @Override
+    public final Datacenter setVmAllocationPolicy(VmAllocationPolicy vmAllocationPolicy) {
         Objects.requireNonNull(vmAllocationPolicy);
         vmAllocationPolicy.setDatacenter(this);
         this.vmAllocationPolicy = vmAllocationPolicy;
@@ -19,9 +19,9 @@ import org.cloudbus.cloudsim.datacenters.DatacenterSimple;
 import org.cloudbus.cloudsim.network.switches.AbstractSwitch;
 import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
 import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.network.topologies.NetworkFabric;
 import org.cloudbus.cloudsim.resources.FileStorage;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
 import java.util.*;
@@ -56,6 +56,11 @@ public class NetworkDatacenter extends DatacenterSimple {
      */
     private final List<Switch> switchMap;
 
+    /**
+     * @see #getFabric()
+     */
+    private NetworkFabric fabric;
+
     /**
      * Creates a NetworkDatacenter with the given parameters.
      *
@@ -132,7 +137,7 @@ public class NetworkDatacenter extends DatacenterSimple {
             return false;
 
         final Vm vm = (Vm) ev.getData();
-        Log.printLine(vm.getId() + " VM is created on " + vm.getHost().getId());
+        getSimulation().getLogger().info(getClass(), "%d VM is created on %d", vm.getId(), vm.getHost().getId());
         return true;
     }
 
@@ -154,11 +159,9 @@ public class NetworkDatacenter extends DatacenterSimple {
         // checks whether this Cloudlet has finished or not
         if (cl.isFinished()) {
             final String name = getSimulation().getEntityName(cl.getBroker().getId());
-            Log.printConcatLine(
-                    getName(), ": Warning - Cloudlet #",
-                    cl.getId(), " owned by ", name,
-                    " is already completed/finished.");
-            Log.printLine("Therefore, it is not being executed again\n");
+            getSimulation().getLogger().info(getClass(),
+                "%s: Warning - Cloudlet #%d owned by %s is already completed/finished.%nTherefore, it is not being executed again%n",
+                getName(), cl.getId(), name);
 
             // NOTE: If a Cloudlet has finished, then it won't be processed.
             // So, if ack is required, this method sends back a result.
@@ -212,4 +215,23 @@ public class NetworkDatacenter extends DatacenterSimple {
         return Collections.unmodifiableList(switchMap);
     }
 
+    /**
+     * Gets the {@link NetworkFabric} used to route packets between Hosts analytically,
+     * or null if the Datacenter network was wired manually
+     * and packets are routed through the switches' uplink and downlink lists.
+     * @return
+     */
+    public NetworkFabric getFabric() {
+        return fabric;
+    }
+
+    /**
+     * Sets the {@link NetworkFabric} used to route packets between Hosts analytically.
+     * It is usually set by {@link NetworkFabric#build(NetworkDatacenter)}.
+     * @param fabric the fabric to set
+     */
+    public void setFabric(NetworkFabric fabric) {
+        this.fabric = fabric;
+    }
+
 }
@@ -7,6 +7,8 @@
  */
 package org.cloudbus.cloudsim.distributions;
 
+import java.io.Serializable;
+
 /**
  * Interface to be implemented by a pseudo random number generator (PRNG)
  * that follows a defined statistical continuous distribution.
@@ -14,7 +16,7 @@ package org.cloudbus.cloudsim.distributions;
  * @author Marcos Dias de Assuncao
  * @since CloudSim Toolkit 1.0
  */
-public interface ContinuousDistribution {
+public interface ContinuousDistribution extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link ContinuousDistribution}
      * objects.
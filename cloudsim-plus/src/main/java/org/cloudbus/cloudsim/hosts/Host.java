@@ -424,6 +424,10 @@ public interface Host extends Machine, Comparable<Host> {
     /**
      * Adds a listener object that will be notified every time when
      * the host updates the processing of all its {@link Vm VMs}.
+     * The {@link HostUpdatesVmsProcessingEventInfo} object is reused for all notifications,
+     * thus the listener must not keep a reference to it.
+     * A listener that doesn't need to be notified at every update
+     * can be wrapped by {@link EventListener#sampled(double, EventListener)}.
      *
      * @param listener the OnUpdateProcessingListener to add
      * @return
@@ -7,7 +7,6 @@
 package org.cloudbus.cloudsim.hosts;
 
 import org.cloudbus.cloudsim.resources.*;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
@@ -101,6 +100,12 @@ public class HostSimple implements Host {
      */
     private Set<EventListener<HostUpdatesVmsProcessingEventInfo>> onUpdateProcessingListeners;
 
+    /**
+     * The object passed to the {@link #onUpdateProcessingListeners},
+     * which is reused for all notifications to avoid allocating a new one at every update.
+     */
+    private transient UpdateProcessingEventInfo updateProcessingInfo;
+
     /**
      * @see #getSimulation()
      */
@@ -202,8 +207,19 @@ public class HostSimple implements Host {
     }
 
     private void notifyOnUpdateProcessingListeners(double nextSimulationTime) {
-        final HostUpdatesVmsProcessingEventInfo info = HostUpdatesVmsProcessingEventInfo.of(this, nextSimulationTime);
-        onUpdateProcessingListeners.forEach(l -> l.update(info));
+        if(onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
+        if(updateProcessingInfo == null) {
+            updateProcessingInfo = new UpdateProcessingEventInfo();
+        }
+
+        updateProcessingInfo.time = getSimulation().clock();
+        updateProcessingInfo.nextCloudletCompletionTime = nextSimulationTime;
+        for (final EventListener<HostUpdatesVmsProcessingEventInfo> listener : onUpdateProcessingListeners) {
+            listener.update(updateProcessingInfo);
+        }
     }
 
     @Override
@@ -250,7 +266,7 @@ public class HostSimple implements Host {
     private boolean allocateResourcesForVm(Vm vm, boolean inMigration){
         final String msg = inMigration ? "VM Migration" : "VM Creation";
         if (!storage.isResourceAmountAvailable(vm.getStorage())) {
-            Log.printFormattedLine(
+            simulation.getLogger().info(getClass(),
                 "%.2f: %s: [%s] Allocation of %s to %s failed due to lack of storage. Required %d but there is just %d MB available.",
                 simulation.clock(), getClass().getSimpleName(),
                 msg, vm, this, vm.getStorage().getCapacity(), storage.getAvailableResource());
@@ -258,7 +274,7 @@ public class HostSimple implements Host {
         }
 
         if (!ramProvisioner.isSuitableForVm(vm, vm.getCurrentRequestedRam())) {
-            Log.printFormattedLine(
+            simulation.getLogger().info(getClass(),
                 "%.2f: %s: [%s] Allocation of %s to %s failed due to lack of RAM. Required %d but there is just %d MB available.",
                 simulation.clock(), getClass().getSimpleName(),
                 msg, vm, this, vm.getRam().getCapacity(), ram.getAvailableResource());
@@ -266,7 +282,7 @@ public class HostSimple implements Host {
         }
 
         if (!bwProvisioner.isSuitableForVm(vm, vm.getCurrentRequestedBw())) {
-            Log.printFormattedLine(
+            simulation.getLogger().info(getClass(),
                 "%.2f: %s: [%s] Allocation of %s to %s failed due to lack of BW. Required %d but there is just %d Mbps available.",
                 simulation.clock(), getClass().getSimpleName(),
                 msg, vm, this, vm.getBw().getCapacity(), bw.getAvailableResource());
@@ -274,7 +290,7 @@ public class HostSimple implements Host {
         }
 
         if (!vmScheduler.isSuitableForVm(vm)) {
-            Log.printFormattedLine(
+            simulation.getLogger().info(getClass(),
                     "%.2f: %s: [%s] Allocation of %s to %s failed due to lack of PEs.\n\t  "+
                     "Required %d PEs of %.0f MIPS (%.0f MIPS total). However, there are just %d working PEs of %.0f MIPS, from which %.0f MIPS are available.",
                     getSimulation().clock(), getClass().getSimpleName(), msg, vm, this,
@@ -766,4 +782,17 @@ public class HostSimple implements Host {
     public long getUtilizationOfBw() {
         return bwProvisioner.getTotalAllocatedResource();
     }
+
+    /**
+     * A {@link HostUpdatesVmsProcessingEventInfo} for this Host which attributes
+     * are updated before each notification.
+     */
+    private final class UpdateProcessingEventInfo implements HostUpdatesVmsProcessingEventInfo {
+        private double time;
+        private double nextCloudletCompletionTime;
+
+        @Override public double getNextCloudletCompletionTime() { return nextCloudletCompletionTime; }
+        @Override public Host getHost() { return HostSimple.this; }
+        @Override public double getTime() { return time; }
+    }
 }
@@ -7,17 +7,19 @@
  */
 package org.cloudbus.cloudsim.hosts.network;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
 
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.hosts.HostSimple;
 import org.cloudbus.cloudsim.network.HostPacket;
+import org.cloudbus.cloudsim.network.HostPacketPool;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketScheduler;
 import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketSchedulerSimple;
 import org.cloudbus.cloudsim.util.Conversion;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
 import org.cloudbus.cloudsim.network.VmPacket;
 import org.cloudbus.cloudsim.resources.Pe;
@@ -56,18 +58,29 @@ public class NetworkHost extends HostSimple {
 
     /**
      * A buffer of packets to send for VMs inside this Host.
+     * It is a ring buffer that is drained at every processing update
+     * and reused along the simulation.
      */
-    private final List<HostPacket> pktsToSendForLocalVms;
+    private final Queue<HostPacket> pktsToSendForLocalVms;
 
     /**
      * A buffer of packets to send for VMs outside this Host.
+     * It is a ring buffer that is drained at every processing update
+     * and reused along the simulation.
      */
-    private final List<HostPacket> pktsToSendForExternalVms;
+    private final Queue<HostPacket> pktsToSendForExternalVms;
 
     /**
-     * List of received packets.
+     * A buffer of received packets.
+     * It is a ring buffer that is drained at every processing update
+     * and reused along the simulation.
      */
-    private final List<HostPacket> hostPktsReceived;
+    private final Queue<HostPacket> hostPktsReceived;
+
+    /**
+     * @see #getHostPacketPool()
+     */
+    private final HostPacketPool hostPktPool;
 
     /**
      * Edge switch in which the Host is connected.
@@ -93,9 +106,10 @@ public class NetworkHost extends HostSimple {
      */
     public NetworkHost(long ram, long bw, long storage, List<Pe> peList) {
         super(ram, bw, storage, peList);
-        hostPktsReceived = new ArrayList<>();
-        pktsToSendForExternalVms = new ArrayList<>();
-        pktsToSendForLocalVms = new ArrayList<>();
+        hostPktsReceived = new ArrayDeque<>();
+        pktsToSendForExternalVms = new ArrayDeque<>();
+        pktsToSendForLocalVms = new ArrayDeque<>();
+        hostPktPool = new HostPacketPool();
     }
 
     /**
@@ -138,16 +152,20 @@ public class NetworkHost extends HostSimple {
 
     /**
      * Receives packets and forwards them to targeting VMs and respective Cloudlets.
+     * After the {@link VmPacket} inside a received {@link HostPacket} is delivered,
+     * the HostPacket is released to the {@link #getHostPacketPool() pool}
+     * of the sender Host for reuse.
      */
     private void receivePackets() {
-        for (final HostPacket hostPkt : hostPktsReceived) {
+        HostPacket hostPkt;
+        while ((hostPkt = hostPktsReceived.poll()) != null) {
             hostPkt.getVmPacket().setReceiveTime(getSimulation().clock());
 
             //Checks if the destinationVm is inside this host
             final Vm destinationVm = VmList.getById(getVmList(), hostPkt.getVmPacket().getDestination().getId());
             if(destinationVm.equals(Vm.NULL)){
-                Log.println(
-                    Log.Level.ERROR, getClass(), getSimulation().clock(),
+                getSimulation().getLogger().error(
+                    getClass(),
                     "Destination VM %d was not found inside the Host %d",
                     hostPkt.getVmPacket().getDestination().getId(), getId());
                 return;
@@ -155,17 +173,29 @@ public class NetworkHost extends HostSimple {
 
             final PacketScheduler pktScheduler = getVmPacketScheduler(destinationVm);
             pktScheduler.addPacketToListOfPacketsSentFromVm(hostPkt.getVmPacket());
-            Log.println(
-                Log.Level.DEBUG, getClass(), getSimulation().clock(),
+            getSimulation().getLogger().debug(
+                getClass(),
                 "Host %d received pkt with %d bytes from Cloudlet %d in VM %d and forwarded it to Cloudlet %d in VM %d",
                 getId(), hostPkt.getVmPacket().getSize(),
                 hostPkt.getVmPacket().getSenderCloudlet().getId(),
                 hostPkt.getVmPacket().getSource().getId(),
                 hostPkt.getVmPacket().getReceiverCloudlet().getId(),
                 hostPkt.getVmPacket().getDestination().getId());
+            releaseToSenderHostPool(hostPkt);
         }
+    }
 
-        hostPktsReceived.clear();
+    /**
+     * Releases a delivered packet to the pool of the Host which sent it,
+     * so that the pool of each Host is bounded by the number of
+     * packets it has in transit.
+     *
+     * @param hostPkt the delivered packet
+     */
+    private void releaseToSenderHostPool(HostPacket hostPkt) {
+        if(!Objects.isNull(hostPkt.getSource())) {
+            hostPkt.getSource().hostPktPool.release(hostPkt);
+        }
     }
 
     /**
@@ -183,22 +213,24 @@ public class NetworkHost extends HostSimple {
      * to VMs inside this host.
      */
     private void sendPacketsToLocalVms() {
-        for (final HostPacket hostPkt : pktsToSendForLocalVms) {
+        if (pktsToSendForLocalVms.isEmpty()) {
+            return;
+        }
+
+        HostPacket hostPkt;
+        while ((hostPkt = pktsToSendForLocalVms.poll()) != null) {
             hostPkt.setSendTime(hostPkt.getReceiveTime());
             hostPkt.getVmPacket().setReceiveTime(getSimulation().clock());
             // insert the packet in receivedlist
             final Vm destinationVm = hostPkt.getVmPacket().getDestination();
             getVmPacketScheduler(destinationVm).addPacketToListOfPacketsSentFromVm(hostPkt.getVmPacket());
+            hostPktPool.release(hostPkt);
         }
 
-        if (!pktsToSendForLocalVms.isEmpty()) {
-            for (final Vm vm : getVmList()) {
-                vm.updateProcessing(
-                    getSimulation().clock(), getVmScheduler().getAllocatedMips(vm));
-            }
+        for (final Vm vm : getVmList()) {
+            vm.updateProcessing(
+                getSimulation().clock(), getVmScheduler().getAllocatedMips(vm));
         }
-
-        pktsToSendForLocalVms.clear();
     }
 
     /**
@@ -207,7 +239,8 @@ public class NetworkHost extends HostSimple {
      */
     private void sendPacketsToExternalVms() {
         final double availableBwByPacket = getBandwidthByPacket(pktsToSendForExternalVms.size());
-        for (final HostPacket hostPkt : pktsToSendForExternalVms) {
+        HostPacket hostPkt;
+        while ((hostPkt = pktsToSendForExternalVms.poll()) != null) {
             final double delay = Conversion.bytesToMegaBites(hostPkt.getVmPacket().getSize()) / availableBwByPacket;
             totalDataTransferBytes += hostPkt.getVmPacket().getSize();
 
@@ -216,8 +249,6 @@ public class NetworkHost extends HostSimple {
                     getDatacenter().getId(), getEdgeSwitch().getId(),
                     delay, CloudSimTags.NETWORK_EVENT_UP, hostPkt);
         }
-
-        pktsToSendForExternalVms.clear();
     }
 
     /**
@@ -280,7 +311,7 @@ public class NetworkHost extends HostSimple {
      * @see #collectListOfPacketsToSendFromVm(Vm)
      */
     private void collectPacketToSendFromVm(VmPacket vmPkt) {
-        final HostPacket hostPkt = new HostPacket(this, vmPkt);
+        final HostPacket hostPkt = hostPktPool.acquire(this, vmPkt);
         //Checks if the VM is inside this Host
         final Vm receiverVm = VmList.getById(this.getVmList(), vmPkt.getDestination().getId());
         if (!receiverVm.equals(Vm.NULL)) {
@@ -314,13 +345,29 @@ public class NetworkHost extends HostSimple {
     }
 
     /**
-     * Adds a packet to the list of received packets in order
-     * to further submit them to the respective target VMs and Cloudlets.
+     * Gets the pool of {@link HostPacket}s used to send packets from this Host.
+     * Packets created by this Host are returned to this pool
+     * after being delivered to the destination Host.
+     * @return
+     */
+    public HostPacketPool getHostPacketPool() {
+        return hostPktPool;
+    }
+
+    /**
+     * Adds a packet to the list of received packets and
+     * immediately submits it to the respective target VM,
+     * so that the {@link PacketScheduler} of the VM knows when
+     * all the packets a Cloudlet is waiting for have arrived.
+     * After the packet is delivered to the target VM, it is
+     * released to the {@link #getHostPacketPool() pool} of the sender Host,
+     * thus no reference to it should be kept.
      *
      * @param hostPacket received network packet
      */
     public void addReceivedNetworkPacket(HostPacket hostPacket){
         hostPktsReceived.add(hostPacket);
+        receivePackets();
     }
 
     /**
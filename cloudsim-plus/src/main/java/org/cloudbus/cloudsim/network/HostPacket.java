@@ -38,7 +38,7 @@ public class HostPacket implements NetworkPacket<NetworkHost> {
      * Information about the virtual sender and receiver entities of the packet
      * (the sender and receiver Cloudlet and their respective VMs).
      */
-    private final VmPacket vmPacket;
+    private VmPacket vmPacket;
 
     /**
      * Id of the sender host.
@@ -67,9 +67,23 @@ public class HostPacket implements NetworkPacket<NetworkHost> {
      * @param vmPacket The vm packet containing information of sender and receiver Cloudlets and their VMs.
      */
     public HostPacket(NetworkHost senderHost, VmPacket vmPacket) {
+        init(senderHost, vmPacket);
+    }
+
+    /**
+     * Initializes the packet attributes,
+     * enabling a {@link HostPacketPool} to reuse a packet
+     * already delivered to send another {@link VmPacket}.
+     *
+     * @param senderHost The host sending the packet
+     * @param vmPacket The vm packet containing information of sender and receiver Cloudlets and their VMs.
+     */
+    final void init(NetworkHost senderHost, VmPacket vmPacket) {
         this.vmPacket = vmPacket;
         this.sendTime = vmPacket.getSendTime();
         this.senderHost = senderHost;
+        this.receiverHost = null;
+        this.receiveTime = 0;
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network;
+
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * A pool of {@link HostPacket}s that enables a {@link NetworkHost}
+ * to reuse packets already delivered, instead of creating a new packet
+ * for every {@link VmPacket} sent to other Hosts.
+ * This way, network-heavy simulations keep a stable number of packet
+ * objects, that is bounded by the maximum number of packets in transit
+ * at the same time.
+ *
+ * <p>A packet must be {@link #release(HostPacket) released} only after
+ * it has been delivered and no other object keeps a reference to it.
+ * The {@link VmPacket} carried by a released packet is not reused,
+ * since it is kept by the receiver Cloudlet.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class HostPacketPool {
+    /**
+     * The default value for {@link #getMaxSize()}.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The packets available for reuse.
+     */
+    private final Deque<HostPacket> freePackets;
+
+    /**
+     * @see #getMaxSize()
+     */
+    private final int maxSize;
+
+    /**
+     * @see #getCreatedPackets()
+     */
+    private long createdPackets;
+
+    /**
+     * Creates a pool that keeps up to {@link #DEFAULT_MAX_SIZE} packets for reuse.
+     */
+    public HostPacketPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a pool that keeps up to a given number of packets for reuse.
+     *
+     * @param maxSize the maximum number of free packets the pool keeps
+     */
+    public HostPacketPool(final int maxSize) {
+        if(maxSize < 0){
+            throw new IllegalArgumentException("The maximum size of the pool cannot be negative.");
+        }
+
+        this.maxSize = maxSize;
+        this.freePackets = new ArrayDeque<>();
+    }
+
+    /**
+     * Gets a packet to be sent by a given Host, reusing a released
+     * packet if there is any or creating a new one otherwise.
+     *
+     * @param senderHost the Host sending the packet
+     * @param vmPacket the vm packet containing information of sender and receiver Cloudlets and their VMs
+     * @return a packet ready to be sent
+     */
+    public HostPacket acquire(final NetworkHost senderHost, final VmPacket vmPacket) {
+        final HostPacket pkt = freePackets.poll();
+        if(Objects.isNull(pkt)){
+            createdPackets++;
+            return new HostPacket(senderHost, vmPacket);
+        }
+
+        pkt.init(senderHost, vmPacket);
+        return pkt;
+    }
+
+    /**
+     * Returns a delivered packet to the pool so that it can be reused.
+     * If the pool is full, the packet is just discarded.
+     *
+     * @param pkt the packet to release
+     * @return true if the packet was added to the pool, false otherwise
+     */
+    public boolean release(final HostPacket pkt) {
+        if(Objects.isNull(pkt) || freePackets.size() >= maxSize){
+            return false;
+        }
+
+        return freePackets.offer(pkt);
+    }
+
+    /**
+     * Gets the maximum number of free packets the pool keeps.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of packets currently available for reuse.
+     * @return
+     */
+    public int size() {
+        return freePackets.size();
+    }
+
+    /**
+     * Gets the total number of packets this pool has created
+     * because there was no released packet to reuse.
+     * @return
+     */
+    public long getCreatedPackets() {
+        return createdPackets;
+    }
+}
@@ -17,7 +17,6 @@ import org.cloudbus.cloudsim.hosts.network.NetworkHost;
 import org.cloudbus.cloudsim.lists.VmList;
 import org.cloudbus.cloudsim.network.HostPacket;
 import org.cloudbus.cloudsim.util.Conversion;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
 import java.util.*;
@@ -104,7 +103,7 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
 
     @Override
     protected void startEntity() {
-        Log.printConcatLine(getName(), " is starting...");
+        getSimulation().getLogger().info(getClass(), "%s is starting...", getName());
         schedule(getId(), 0, CloudSimTags.DATACENTER_LIST_REQUEST);
     }
 
@@ -311,7 +310,7 @@ public abstract class AbstractSwitch extends CloudSimEntity implements Switch {
 
     @Override
     public void shutdownEntity() {
-        Log.printConcatLine(getName(), " is shutting down...");
+        getSimulation().getLogger().info(getClass(), "%s is shutting down...", getName());
     }
 
     @Override
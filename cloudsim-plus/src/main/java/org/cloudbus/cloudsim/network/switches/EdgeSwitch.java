@@ -10,11 +10,14 @@ package org.cloudbus.cloudsim.network.switches;
 import java.util.Objects;
 
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.hosts.network.NetworkHost;
 import org.cloudbus.cloudsim.network.HostPacket;
+import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.network.topologies.NetworkFabric;
 import org.cloudbus.cloudsim.vms.Vm;
 
 /**
@@ -102,8 +105,12 @@ public class EdgeSwitch extends AbstractSwitch {
         final NetworkHost host = getVmHost(receiverVm);
         hostPkt.setDestination(host);
 
+        if(sendThroughFabric(hostPkt, host)){
+            return;
+        }
+
         // packet needs to go to a host which is connected directly to switch
-        if (!Objects.isNull(host)) {
+        if (!Objects.isNull(host) && host.getEdgeSwitch() == this) {
             addPacketToBeSentToHost(host, hostPkt);
             return;
         }
@@ -117,6 +124,44 @@ public class EdgeSwitch extends AbstractSwitch {
         addPacketToBeSentToUplinkSwitch(aggregateSwitch, hostPkt);
     }
 
+    /**
+     * Sends a packet to the Edge Switch of the destination Host,
+     * computing the route and delay analytically by the Datacenter's {@link NetworkFabric},
+     * if there is one.
+     * The packet is sent straight to the destination Edge Switch,
+     * so it doesn't queue or share bandwidth with other packets on the intermediate links.
+     *
+     * @param hostPkt the packet to send
+     * @param destHost the destination Host of the packet
+     * @return true if the packet was handled by the fabric, false if there is no fabric
+     * or this switch doesn't belong to it
+     */
+    private boolean sendThroughFabric(final HostPacket hostPkt, final NetworkHost destHost) {
+        final NetworkFabric fabric = getDatacenter().getFabric();
+        if(Objects.isNull(fabric)){
+            return false;
+        }
+
+        final EdgeSwitch destEdgeSwitch = destHost.getEdgeSwitch();
+        if(destEdgeSwitch == this) {
+            addPacketToBeSentToHost(destHost, hostPkt);
+            return true;
+        }
+
+        final int srcIndex = fabric.getEdgeSwitchIndex(this);
+        final int destIndex = fabric.getEdgeSwitchIndex(destEdgeSwitch);
+        if(srcIndex < 0 || destIndex < 0){
+            return false;
+        }
+
+        final VmPacket vmPkt = hostPkt.getVmPacket();
+        final int flowHash = (vmPkt.getSource().getId() * 31 + vmPkt.getDestination().getId()) & Integer.MAX_VALUE;
+        final double delay =
+            getSwitchingDelay() + fabric.getDelay(srcIndex, destIndex, flowHash, vmPkt.getSize());
+        send(destEdgeSwitch.getId(), delay, CloudSimTags.NETWORK_EVENT_DOWN, hostPkt);
+        return true;
+    }
+
     @Override
     public int getLevel() {
         return LEVEL;
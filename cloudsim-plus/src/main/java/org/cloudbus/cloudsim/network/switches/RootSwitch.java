@@ -12,7 +12,6 @@ import org.cloudbus.cloudsim.core.events.SimEvent;
 import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
 import org.cloudbus.cloudsim.network.HostPacket;
 import org.cloudbus.cloudsim.util.Conversion;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
 /**
@@ -84,7 +83,7 @@ public class RootSwitch extends AbstractSwitch {
         final Switch aggSwitch = findAggregateSwitchConnectedToGivenEdgeSwitch(edgeSwitch);
 
         if (aggSwitch == Switch.NULL) {
-            Log.printLine("No destination switch for this packet");
+            getSimulation().getLogger().info(getClass(), "No destination switch for this packet");
             return;
         }
 
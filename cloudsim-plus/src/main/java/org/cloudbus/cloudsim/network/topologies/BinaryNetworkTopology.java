@@ -0,0 +1,370 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.topologies;
+
+import org.cloudbus.cloudsim.network.DelayMatrix;
+import org.cloudbus.cloudsim.util.Log;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A {@link NetworkTopology} loaded from a compact binary file that stores the
+ * delay and bandwidth matrices already computed.
+ * The file is memory-mapped using {@link FileChannel#map(FileChannel.MapMode, long, long)},
+ * so that loading a topology doesn't require parsing a text file,
+ * rebuilding the {@link TopologicalGraph} or running the
+ * {@link org.cloudbus.cloudsim.network.FloydWarshall} algorithm again,
+ * as it happens with the {@link BriteNetworkTopology}.
+ * Values are just read from the mapped file when they are requested.
+ *
+ * <p>A binary topology file can be created from a BRITE file
+ * using the {@link #convertFromBrite(String, String)} method.
+ * The file is structured as follows (all values in big-endian order):</p>
+ * <ul>
+ *     <li>Header: magic number (int), format version (int), number of nodes (int), number of links (int);</li>
+ *     <li>Node-section: for each node, NodeID (int), xpos (int), ypos (int);</li>
+ *     <li>Link-section: for each link, fromNode (int), toNode (int), linkDelay (double), linkBandwidth (double);</li>
+ *     <li>Delay matrix: nodes x nodes doubles with the shortest-path delay between every pair of nodes (row-major);</li>
+ *     <li>Bandwidth matrix: nodes x nodes doubles with the bandwidth between every pair of nodes (row-major).</li>
+ * </ul>
+ *
+ * <p>Since the topology is pre-computed, it is read-only:
+ * differently from the {@link BriteNetworkTopology}, links cannot be added to it.
+ * Since a single file region is mapped, the size of the file is limited to 2GB,
+ * what is enough for a topology with about 11000 nodes.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class BinaryNetworkTopology implements NetworkTopology {
+    /**
+     * The number that identifies a binary topology file ("CSPT" in ASCII).
+     */
+    public static final int MAGIC_NUMBER = 0x43535054;
+
+    /**
+     * The current version of the binary topology file format.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Number of bytes of the file header.
+     */
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    /**
+     * Number of bytes of each node entry.
+     */
+    private static final int NODE_BYTES = 3 * Integer.BYTES;
+
+    /**
+     * Number of bytes of each link entry.
+     */
+    private static final int LINK_BYTES = 2 * Integer.BYTES + 2 * Double.BYTES;
+
+    /**
+     * Number of nodes in the topology.
+     */
+    private final int numberOfNodes;
+
+    /**
+     * Number of links in the topology.
+     */
+    private final int numberOfLinks;
+
+    /**
+     * The memory-mapped file content.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * A view of the delay matrix inside the {@link #buffer}.
+     */
+    private final DoubleBuffer delayMatrix;
+
+    /**
+     * A view of the bandwidth matrix inside the {@link #buffer}.
+     */
+    private final DoubleBuffer bwMatrix;
+
+    /**
+     * The Topological Graph of the network,
+     * which is just built when requested.
+     * @see #getTopologycalGraph()
+     */
+    private TopologicalGraph graph;
+
+    /**
+     * The map between CloudSim entities and BRITE entities. Each key is a
+     * CloudSim entity ID and each value the corresponding BRITE entity ID.
+     */
+    private final Map<Integer, Integer> map;
+
+    /**
+     * Creates a network topology by memory-mapping a binary topology file.
+     *
+     * @param fileName name of the binary topology file
+     * @throws UncheckedIOException when the file cannot be read
+     * @throws IllegalArgumentException when the file is not a valid binary topology file
+     * @see #convertFromBrite(String, String)
+     */
+    public BinaryNetworkTopology(final String fileName) {
+        Log.printConcatLine("Binary topology file: ", fileName);
+        this.map = new HashMap<>();
+        this.buffer = mapFile(Paths.get(fileName));
+
+        if (buffer.getInt() != MAGIC_NUMBER) {
+            throw new IllegalArgumentException(fileName + " is not a binary topology file.");
+        }
+
+        final int version = buffer.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException(
+                String.format("Unsupported binary topology version %d at %s.", version, fileName));
+        }
+
+        this.numberOfNodes = buffer.getInt();
+        this.numberOfLinks = buffer.getInt();
+        final long matrixSize = (long)numberOfNodes * numberOfNodes;
+        final long expectedSize = getMatricesOffset() + 2 * matrixSize * Double.BYTES;
+        if(buffer.capacity() != expectedSize){
+            throw new IllegalArgumentException(fileName + " is truncated or corrupted.");
+        }
+
+        this.delayMatrix = sliceMatrix(getMatricesOffset(), matrixSize);
+        this.bwMatrix = sliceMatrix(getMatricesOffset() + matrixSize * Double.BYTES, matrixSize);
+    }
+
+    private static MappedByteBuffer mapFile(final Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a read-only view of a matrix stored inside the {@link #buffer}.
+     * @param offset the position where the matrix starts
+     * @param elements number of elements of the matrix
+     * @return the matrix view
+     */
+    private DoubleBuffer sliceMatrix(final long offset, final long elements) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        duplicate.position((int)offset);
+        duplicate.limit((int)(offset + elements * Double.BYTES));
+        return duplicate.slice().asDoubleBuffer();
+    }
+
+    private long getMatricesOffset() {
+        return getLinksOffset() + (long)numberOfLinks * LINK_BYTES;
+    }
+
+    private long getLinksOffset() {
+        return HEADER_BYTES + (long)numberOfNodes * NODE_BYTES;
+    }
+
+    /**
+     * Converts a network topology file in the
+     * <a href="http://www.cs.bu.edu/brite/user_manual/node29.html">BRITE format</a>
+     * to the binary format supported by this class,
+     * computing the delay and bandwidth matrices just once.
+     *
+     * @param briteFileName name of the BRITE file to read
+     * @param binaryFileName name of the binary file to create (or overwrite)
+     * @throws UncheckedIOException when some of the files cannot be accessed
+     */
+    public static void convertFromBrite(final String briteFileName, final String binaryFileName) {
+        write(new BriteNetworkTopology(briteFileName), binaryFileName);
+    }
+
+    /**
+     * Writes an existing {@link BriteNetworkTopology} into a file
+     * in the binary format supported by this class.
+     *
+     * @param topology the topology to write
+     * @param binaryFileName name of the binary file to create (or overwrite)
+     * @throws UncheckedIOException when the file cannot be written
+     */
+    public static void write(final BriteNetworkTopology topology, final String binaryFileName) {
+        final TopologicalGraph graph = topology.getTopologycalGraph();
+        final int nodes = graph.getNumberOfNodes();
+        final DelayMatrix delays = topology.getDelayMatrix();
+        final double[][] bw = topology.getBwMatrix();
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(binaryFileName))))
+        {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(nodes);
+            out.writeInt(graph.getNumberOfLinks());
+
+            final Iterator<TopologicalNode> it = graph.getNodeIterator();
+            while (it.hasNext()) {
+                final TopologicalNode node = it.next();
+                final Point2D coordinates = node.getWorldCoordinates();
+                out.writeInt(node.getNodeId());
+                out.writeInt(coordinates.getX());
+                out.writeInt(coordinates.getY());
+            }
+
+            for (final TopologicalLink link : graph.getLinksList()) {
+                out.writeInt(link.getSrcNodeID());
+                out.writeInt(link.getDestNodeID());
+                out.writeDouble(link.getLinkDelay());
+                out.writeDouble(link.getLinkBw());
+            }
+
+            for (int i = 0; i < nodes; i++) {
+                for (int j = 0; j < nodes; j++) {
+                    out.writeDouble(delays.getDelay(i, j));
+                }
+            }
+
+            for (int i = 0; i < nodes; i++) {
+                for (int j = 0; j < nodes; j++) {
+                    out.writeDouble(bw[i][j]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void mapNode(int cloudSimEntityID, int briteID) {
+        if (map.containsKey(cloudSimEntityID)) {
+            Log.printConcatLine("Warning: Network mapping. CloudSim entity ", cloudSimEntityID,
+                " already mapped.");
+            return;
+        }
+
+        if (map.containsValue(briteID)) {
+            Log.printConcatLine("Warning: BRITE node ", briteID, " already in use.");
+            return;
+        }
+
+        map.put(cloudSimEntityID, briteID);
+    }
+
+    @Override
+    public void unmapNode(int cloudSimEntityID) {
+        map.remove(cloudSimEntityID);
+    }
+
+    @Override
+    public double getDelay(int srcID, int destID) {
+        return getMatrixValue(delayMatrix, srcID, destID);
+    }
+
+    /**
+     * Gets the bandwidth of the link between two CloudSim entities.
+     *
+     * @param srcID ID of the CloudSim entity that represents the link's source node
+     * @param destID ID of the CloudSim entity that represents the link's destination node
+     * @return the bandwidth between the two nodes or 0 if there is no direct link between them
+     * or some of the entities is not mapped to a node
+     */
+    public double getBw(int srcID, int destID) {
+        return getMatrixValue(bwMatrix, srcID, destID);
+    }
+
+    /**
+     * Gets a value from a matrix inside the mapped file,
+     * for a pair of CloudSim entities.
+     *
+     * @param matrix the matrix to get the value from
+     * @param srcID ID of the CloudSim entity that represents the source node
+     * @param destID ID of the CloudSim entity that represents the destination node
+     * @return the value or 0 if some of the entities is not mapped to a valid node
+     */
+    private double getMatrixValue(final DoubleBuffer matrix, final int srcID, final int destID) {
+        final Integer srcNode = map.get(srcID);
+        final Integer destNode = map.get(destID);
+        if (Objects.isNull(srcNode) || Objects.isNull(destNode) || !isValidNode(srcNode) || !isValidNode(destNode)) {
+            return 0.0;
+        }
+
+        return matrix.get(srcNode * numberOfNodes + destNode);
+    }
+
+    private boolean isValidNode(final int node) {
+        return node >= 0 && node < numberOfNodes;
+    }
+
+    @Override
+    public boolean isNetworkEnabled() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The graph is built from the mapped file just at the first time
+     * this method is called.</p>
+     * @return {@inheritDoc}
+     */
+    @Override
+    public TopologicalGraph getTopologycalGraph() {
+        if (Objects.isNull(graph)) {
+            graph = readGraph();
+        }
+
+        return graph;
+    }
+
+    private TopologicalGraph readGraph() {
+        final TopologicalGraph newGraph = new TopologicalGraph();
+        final ByteBuffer reader = buffer.duplicate();
+        reader.position(HEADER_BYTES);
+        for (int i = 0; i < numberOfNodes; i++) {
+            final int nodeId = reader.getInt();
+            newGraph.addNode(new TopologicalNode(nodeId, new Point2D(reader.getInt(), reader.getInt())));
+        }
+
+        for (int i = 0; i < numberOfLinks; i++) {
+            final int src = reader.getInt();
+            final int dest = reader.getInt();
+            newGraph.addLink(new TopologicalLink(src, dest, reader.getDouble(), reader.getDouble()));
+        }
+
+        return newGraph;
+    }
+
+    /**
+     * Gets the number of nodes in the topology.
+     * @return the number of nodes
+     */
+    public int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+}
@@ -136,8 +136,21 @@ public class BriteNetworkTopology implements NetworkTopology {
         return mtx;
     }
 
-
-    @Override
+    /**
+     * Adds a new link in the network topology. The CloudSim entities that
+     * represent the source and destination of the link will be mapped to BRITE
+     * entities.
+     *
+     * @param srcId ID of the CloudSim entity that represents the link's source
+     * node
+     * @param destId ID of the CloudSim entity that represents the link's
+     * destination node
+     * @param bw Link's bandwidth
+     * @param lat link's latency
+     * @pre srcId > 0
+     * @pre destId > 0
+     * @post $none
+     */
     public void addLink(int srcId, int destId, double bw, double lat) {
         if (Objects.isNull(getTopologycalGraph())) {
             graph = new TopologicalGraph();
@@ -219,6 +232,14 @@ public class BriteNetworkTopology implements NetworkTopology {
         return graph;
     }
 
+    /**
+     * Gets the matrix containing the delay between every pair of nodes in the network.
+     * @return the delay matrix
+     */
+    DelayMatrix getDelayMatrix() {
+        return delayMatrix;
+    }
+
     /**
      * Gets a<b>copy</b> of the matrix containing the bandwidth between every pair of nodes in the
      * network.
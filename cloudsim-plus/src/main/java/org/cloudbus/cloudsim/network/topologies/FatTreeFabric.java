@@ -0,0 +1,159 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.topologies;
+
+/**
+ * A <a href="https://doi.org/10.1145/1402946.1402967">k-ary fat-tree</a> {@link NetworkFabric},
+ * built from k-port switches and organized in k pods.
+ * Each pod has k/2 {@link org.cloudbus.cloudsim.network.switches.EdgeSwitch}es and
+ * k/2 {@link org.cloudbus.cloudsim.network.switches.AggregateSwitch}es,
+ * where every Edge Switch is connected to every Aggregate Switch in the pod.
+ * There are (k/2)² {@link org.cloudbus.cloudsim.network.switches.RootSwitch}es (core switches),
+ * where the i-th Aggregate Switch of every pod is connected to the k/2 core switches
+ * of the i-th group.
+ * The fabric supports k³/4 Hosts, k/2 for each Edge Switch.
+ *
+ * <p>The route between two Edge Switches is computed from their pods:
+ * Edge Switches in the same pod are connected through an Aggregate Switch
+ * of that pod, while Edge Switches in different pods are connected through
+ * an Aggregate Switch in each pod and a core switch.
+ * The Aggregate and core switches are chosen from the flow hash (ECMP).</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class FatTreeFabric extends NetworkFabricAbstract {
+    /**
+     * @see #getPorts()
+     */
+    private final int ports;
+
+    /**
+     * Half the number of ports, that is the number of
+     * Edge and Aggregate Switches in each pod.
+     */
+    private final int half;
+
+    /**
+     * Creates a k-ary fat-tree fabric.
+     *
+     * @param ports the number of ports of each switch (k), which must be an even number
+     */
+    public FatTreeFabric(final int ports) {
+        super();
+        if(requirePositive(ports, "ports") % 2 != 0){
+            throw new IllegalArgumentException("The number of ports of a fat-tree must be an even number.");
+        }
+
+        this.ports = ports;
+        this.half = ports / 2;
+    }
+
+    /**
+     * Gets the number of ports of each switch (k), which is also the number of pods.
+     * @return
+     */
+    public int getPorts() {
+        return ports;
+    }
+
+    @Override
+    public int getNumberOfHosts() {
+        return ports * half * half;
+    }
+
+    @Override
+    public int getHostsPerEdgeSwitch() {
+        return half;
+    }
+
+    @Override
+    public int getNumberOfEdgeSwitches() {
+        return ports * half;
+    }
+
+    @Override
+    public int getNumberOfAggregateSwitches() {
+        return ports * half;
+    }
+
+    @Override
+    public int getNumberOfRootSwitches() {
+        return half * half;
+    }
+
+    @Override
+    protected int getAggregateSwitchPorts() {
+        return ports;
+    }
+
+    @Override
+    protected int getRootSwitchPorts() {
+        return ports;
+    }
+
+    /**
+     * Gets the pod an Edge Switch belongs to.
+     * @param edgeIndex the index of the Edge Switch
+     * @return the pod number
+     */
+    public int getPod(final int edgeIndex) {
+        return edgeIndex / half;
+    }
+
+    @Override
+    public int[] getRoute(final int srcEdgeIndex, final int destEdgeIndex, final int flowHash) {
+        if(srcEdgeIndex == destEdgeIndex){
+            return new int[]{srcEdgeIndex};
+        }
+
+        final int srcPod = getPod(srcEdgeIndex);
+        final int destPod = getPod(destEdgeIndex);
+        final int aggregate = flowHash % half;
+        final int srcAggregateIndex = getFirstAggregateSwitchIndex() + srcPod * half + aggregate;
+        if(srcPod == destPod){
+            return new int[]{srcEdgeIndex, srcAggregateIndex, destEdgeIndex};
+        }
+
+        final int rootIndex = getFirstRootSwitchIndex() + aggregate * half + (flowHash / half) % half;
+        final int destAggregateIndex = getFirstAggregateSwitchIndex() + destPod * half + aggregate;
+        return new int[]{srcEdgeIndex, srcAggregateIndex, rootIndex, destAggregateIndex, destEdgeIndex};
+    }
+
+    @Override
+    protected void wireSwitches() {
+        for (int pod = 0; pod < ports; pod++) {
+            for (int aggregate = 0; aggregate < half; aggregate++) {
+                final int aggregateIndex = getFirstAggregateSwitchIndex() + pod * half + aggregate;
+                for (int edge = 0; edge < half; edge++) {
+                    connect(aggregateIndex, pod * half + edge);
+                }
+
+                for (int root = 0; root < half; root++) {
+                    connect(getFirstRootSwitchIndex() + aggregate * half + root, aggregateIndex);
+                }
+            }
+        }
+    }
+}
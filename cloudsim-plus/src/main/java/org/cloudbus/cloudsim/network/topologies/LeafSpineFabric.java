@@ -0,0 +1,111 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.topologies;
+
+/**
+ * A two-tier leaf-spine {@link NetworkFabric}, where every leaf switch
+ * (represented by an {@link org.cloudbus.cloudsim.network.switches.EdgeSwitch})
+ * is connected to every spine switch
+ * (represented by an {@link org.cloudbus.cloudsim.network.switches.AggregateSwitch}).
+ * There are no {@link org.cloudbus.cloudsim.network.switches.RootSwitch}es.
+ *
+ * <p>Hosts connected to the same leaf communicate just through that leaf,
+ * while Hosts connected to different leaves communicate through a single spine,
+ * which is chosen from the flow hash (ECMP).</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class LeafSpineFabric extends NetworkFabricAbstract {
+    private final int leaves;
+    private final int spines;
+    private final int hostsPerLeaf;
+
+    /**
+     * Creates a leaf-spine fabric.
+     *
+     * @param leaves number of leaf switches
+     * @param spines number of spine switches
+     * @param hostsPerLeaf number of Hosts connected to each leaf switch
+     */
+    public LeafSpineFabric(final int leaves, final int spines, final int hostsPerLeaf) {
+        super();
+        this.leaves = requirePositive(leaves, "leaves");
+        this.spines = requirePositive(spines, "spines");
+        this.hostsPerLeaf = requirePositive(hostsPerLeaf, "hostsPerLeaf");
+    }
+
+    @Override
+    public int getNumberOfHosts() {
+        return leaves * hostsPerLeaf;
+    }
+
+    @Override
+    public int getHostsPerEdgeSwitch() {
+        return hostsPerLeaf;
+    }
+
+    @Override
+    public int getNumberOfEdgeSwitches() {
+        return leaves;
+    }
+
+    @Override
+    public int getNumberOfAggregateSwitches() {
+        return spines;
+    }
+
+    @Override
+    public int getNumberOfRootSwitches() {
+        return 0;
+    }
+
+    @Override
+    protected int getAggregateSwitchPorts() {
+        return leaves;
+    }
+
+    @Override
+    protected int getRootSwitchPorts() {
+        return 0;
+    }
+
+    @Override
+    public int[] getRoute(final int srcEdgeIndex, final int destEdgeIndex, final int flowHash) {
+        if(srcEdgeIndex == destEdgeIndex){
+            return new int[]{srcEdgeIndex};
+        }
+
+        return new int[]{srcEdgeIndex, getFirstAggregateSwitchIndex() + flowHash % spines, destEdgeIndex};
+    }
+
+    @Override
+    protected void wireSwitches() {
+        for (int spine = 0; spine < spines; spine++) {
+            for (int leaf = 0; leaf < leaves; leaf++) {
+                connect(getFirstAggregateSwitchIndex() + spine, leaf);
+            }
+        }
+    }
+}
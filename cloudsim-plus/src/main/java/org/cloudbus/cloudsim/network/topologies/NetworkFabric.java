@@ -0,0 +1,169 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.topologies;
+
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.network.switches.Switch;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A regular, hierarchical network fabric for a {@link NetworkDatacenter},
+ * such as a fat-tree or a leaf-spine network,
+ * that is able to create and wire all the {@link Switch}es of the Datacenter
+ * and to compute routes and delays analytically.
+ *
+ * <p>Hosts and switches are identified by their position (index) in the fabric.
+ * Switch indexes are numbered by level, starting from the
+ * {@link EdgeSwitch}es, followed by the {@link org.cloudbus.cloudsim.network.switches.AggregateSwitch}es
+ * and finally the {@link org.cloudbus.cloudsim.network.switches.RootSwitch}es.
+ * Since the structure of the fabric is regular, the route between two hosts
+ * is computed just from these indexes, without looking up
+ * the switches connected to each other.</p>
+ *
+ * <p>When a Datacenter has a fabric, a packet sent between Hosts on different {@link EdgeSwitch}es
+ * goes straight from the source to the destination Edge Switch,
+ * with the delay given by {@link #getDelay(int, int, int, long)}.
+ * That delay considers just the route of the packet, assuming the links are idle.
+ * Differently from the hop-by-hop forwarding through manually wired switches,
+ * concurrent flows sharing an uplink don't queue and don't split the link bandwidth.
+ * For a single flow, both ways give the same delay.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see FatTreeFabric
+ * @see LeafSpineFabric
+ */
+public interface NetworkFabric extends Serializable {
+    /**
+     * Gets the maximum number of Hosts that can be connected to the fabric.
+     * @return
+     */
+    int getNumberOfHosts();
+
+    /**
+     * Gets the number of Hosts connected to each {@link EdgeSwitch}.
+     * @return
+     */
+    int getHostsPerEdgeSwitch();
+
+    /**
+     * Gets the number of {@link EdgeSwitch}es in the fabric.
+     * @return
+     */
+    int getNumberOfEdgeSwitches();
+
+    /**
+     * Gets the number of {@link org.cloudbus.cloudsim.network.switches.AggregateSwitch}es in the fabric.
+     * @return
+     */
+    int getNumberOfAggregateSwitches();
+
+    /**
+     * Gets the number of {@link org.cloudbus.cloudsim.network.switches.RootSwitch}es in the fabric.
+     * @return
+     */
+    int getNumberOfRootSwitches();
+
+    /**
+     * Gets the total number of switches in the fabric.
+     * @return
+     */
+    default int getNumberOfSwitches() {
+        return getNumberOfEdgeSwitches() + getNumberOfAggregateSwitches() + getNumberOfRootSwitches();
+    }
+
+    /**
+     * Gets the index of the {@link EdgeSwitch} a Host is connected to.
+     * @param hostIndex the index of the Host in the fabric
+     * @return the index of the Edge Switch
+     */
+    int getEdgeSwitchIndex(int hostIndex);
+
+    /**
+     * Gets the index of a given {@link EdgeSwitch} in the fabric.
+     * @param edgeSwitch the Edge Switch to get its index
+     * @return the index of the Edge Switch or -1 if it doesn't belong to this fabric
+     */
+    int getEdgeSwitchIndex(EdgeSwitch edgeSwitch);
+
+    /**
+     * Gets the level of a switch, according to the constants
+     * defined in each {@link Switch} class, such as {@link EdgeSwitch#LEVEL}.
+     * @param switchIndex the index of the switch in the fabric
+     * @return the switch level
+     */
+    int getSwitchLevel(int switchIndex);
+
+    /**
+     * Computes the route between two {@link EdgeSwitch}es.
+     *
+     * @param srcEdgeIndex index of the source Edge Switch
+     * @param destEdgeIndex index of the destination Edge Switch
+     * @param flowHash a non-negative number identifying a flow (such as a pair of VMs),
+     *                 used to choose among the multiple equal-cost paths between two switches
+     *                 (Equal-Cost Multi-Path routing, ECMP).
+     *                 Packets of the same flow always follow the same path.
+     * @return an array with the indexes of all the switches in the route,
+     * including the source and destination Edge Switches
+     */
+    int[] getRoute(int srcEdgeIndex, int destEdgeIndex, int flowHash);
+
+    /**
+     * Computes the time to transfer a packet between two {@link EdgeSwitch}es,
+     * following the route given by {@link #getRoute(int, int, int)}.
+     * It includes the switching delay of all intermediate switches and
+     * the transmission time on every link of the route.
+     * The switching delay of the source and destination Edge Switches is not included.
+     *
+     * @param srcEdgeIndex index of the source Edge Switch
+     * @param destEdgeIndex index of the destination Edge Switch
+     * @param flowHash a non-negative number identifying a flow
+     * @param bytes size of the packet in bytes
+     * @return the transfer delay (in seconds)
+     */
+    double getDelay(int srcEdgeIndex, int destEdgeIndex, int flowHash, long bytes);
+
+    /**
+     * Creates all the switches of the fabric, wires them
+     * and connects the Hosts of a given Datacenter to the {@link EdgeSwitch}es.
+     * Each Host is connected according to its position in the Datacenter Host List.
+     * The fabric is also set as the Datacenter's {@link NetworkDatacenter#getFabric() fabric}
+     * so that packets between Hosts are routed analytically.
+     *
+     * @param datacenter the Datacenter to build the fabric for
+     * @return the list of created switches, in the order of their indexes
+     * @throws IllegalArgumentException when the Datacenter has more Hosts than the fabric supports
+     */
+    List<Switch> build(NetworkDatacenter datacenter);
+
+    /**
+     * Gets the switches created by the {@link #build(NetworkDatacenter)} method,
+     * in the order of their indexes.
+     * @return a read-only list of switches or an empty list if the fabric was not built yet
+     */
+    List<Switch> getSwitches();
+}
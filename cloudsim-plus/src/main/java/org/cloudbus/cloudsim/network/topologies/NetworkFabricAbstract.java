@@ -0,0 +1,343 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.network.topologies;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.switches.AggregateSwitch;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.network.switches.RootSwitch;
+import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.util.Conversion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A base class for implementing {@link NetworkFabric}s.
+ * It creates the switches, connects the Hosts and
+ * computes the delay of the routes defined by subclasses.
+ *
+ * <p>The bandwidth of the links and the switching delay of each level
+ * are by default the ones defined by the constants in the {@link EdgeSwitch},
+ * {@link AggregateSwitch} and {@link RootSwitch} classes.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public abstract class NetworkFabricAbstract implements NetworkFabric {
+    /**
+     * @see #getSwitches()
+     */
+    private final List<Switch> switches;
+
+    /**
+     * The id of the first created {@link EdgeSwitch} entity.
+     * Since the Edge Switches are created in sequence,
+     * their ids are consecutive.
+     */
+    private int firstEdgeSwitchId;
+
+    /**
+     * @see #getHostBandwidth()
+     */
+    private double hostBandwidth;
+
+    /**
+     * @see #getEdgeUplinkBandwidth()
+     */
+    private double edgeUplinkBandwidth;
+
+    /**
+     * @see #getAggregateUplinkBandwidth()
+     */
+    private double aggregateUplinkBandwidth;
+
+    /**
+     * The switching delay of each switch level,
+     * where the index is the {@link Switch#getLevel() level}.
+     */
+    private final double[] switchingDelays;
+
+    public NetworkFabricAbstract() {
+        this.switches = new ArrayList<>();
+        this.firstEdgeSwitchId = -1;
+        this.hostBandwidth = EdgeSwitch.DOWNLINK_BW;
+        this.edgeUplinkBandwidth = AggregateSwitch.DOWNLINK_BW;
+        this.aggregateUplinkBandwidth = RootSwitch.DOWNLINK_BW;
+        this.switchingDelays = new double[3];
+        switchingDelays[RootSwitch.LEVEL] = RootSwitch.SWITCHING_DELAY;
+        switchingDelays[AggregateSwitch.LEVEL] = AggregateSwitch.SWITCHING_DELAY;
+        switchingDelays[EdgeSwitch.LEVEL] = EdgeSwitch.SWITCHING_DELAY;
+    }
+
+    @Override
+    public int getEdgeSwitchIndex(final int hostIndex) {
+        return hostIndex / getHostsPerEdgeSwitch();
+    }
+
+    @Override
+    public int getEdgeSwitchIndex(final EdgeSwitch edgeSwitch) {
+        final int index = edgeSwitch.getId() - firstEdgeSwitchId;
+        if(firstEdgeSwitchId < 0 || index < 0 || index >= getNumberOfEdgeSwitches() || switches.get(index) != edgeSwitch){
+            return -1;
+        }
+
+        return index;
+    }
+
+    @Override
+    public int getSwitchLevel(final int switchIndex) {
+        if(switchIndex < getNumberOfEdgeSwitches()) {
+            return EdgeSwitch.LEVEL;
+        }
+
+        return switchIndex < getFirstRootSwitchIndex() ? AggregateSwitch.LEVEL : RootSwitch.LEVEL;
+    }
+
+    /**
+     * Gets the index of the first {@link AggregateSwitch} in the fabric.
+     * @return
+     */
+    protected final int getFirstAggregateSwitchIndex() {
+        return getNumberOfEdgeSwitches();
+    }
+
+    /**
+     * Gets the index of the first {@link RootSwitch} in the fabric.
+     * @return
+     */
+    protected final int getFirstRootSwitchIndex() {
+        return getNumberOfEdgeSwitches() + getNumberOfAggregateSwitches();
+    }
+
+    @Override
+    public double getDelay(final int srcEdgeIndex, final int destEdgeIndex, final int flowHash, final long bytes) {
+        final int[] route = getRoute(srcEdgeIndex, destEdgeIndex, flowHash);
+        final double megabits = Conversion.bytesToMegaBites(bytes);
+        double delay = 0;
+        for (int i = 1; i < route.length; i++) {
+            final int previousLevel = getSwitchLevel(route[i-1]);
+            final int level = getSwitchLevel(route[i]);
+            delay += megabits / getLinkBandwidth(Math.min(previousLevel, level));
+            if(i < route.length-1) {
+                delay += switchingDelays[level];
+            }
+        }
+
+        return delay;
+    }
+
+    /**
+     * Gets the bandwidth of the link between a switch at a given level and
+     * the switches at the level below.
+     *
+     * @param upperLevel the level of the upper switch of the link
+     * @return the link bandwidth (in Megabits/s)
+     */
+    private double getLinkBandwidth(final int upperLevel) {
+        return upperLevel == RootSwitch.LEVEL ? aggregateUplinkBandwidth : edgeUplinkBandwidth;
+    }
+
+    @Override
+    public List<Switch> build(final NetworkDatacenter datacenter) {
+        final List<NetworkHost> hostList = datacenter.getHostList();
+        if(hostList.size() > getNumberOfHosts()){
+            throw new IllegalArgumentException(
+                String.format(
+                    "The Datacenter has %d Hosts but the %s supports just %d.",
+                    hostList.size(), getClass().getSimpleName(), getNumberOfHosts()));
+        }
+
+        final CloudSim simulation = (CloudSim) datacenter.getSimulation();
+        switches.clear();
+        for (int i = 0; i < getNumberOfEdgeSwitches(); i++) {
+            switches.add(createSwitch(new EdgeSwitch(simulation, datacenter), hostBandwidth, edgeUplinkBandwidth, getHostsPerEdgeSwitch()));
+        }
+        firstEdgeSwitchId = switches.isEmpty() ? -1 : switches.get(0).getId();
+
+        for (int i = 0; i < getNumberOfAggregateSwitches(); i++) {
+            switches.add(createSwitch(new AggregateSwitch(simulation, datacenter), edgeUplinkBandwidth, aggregateUplinkBandwidth, getAggregateSwitchPorts()));
+        }
+
+        for (int i = 0; i < getNumberOfRootSwitches(); i++) {
+            switches.add(createSwitch(new RootSwitch(simulation, datacenter), aggregateUplinkBandwidth, 0, getRootSwitchPorts()));
+        }
+
+        wireSwitches();
+        for (int i = 0; i < hostList.size(); i++) {
+            final EdgeSwitch edgeSwitch = (EdgeSwitch)switches.get(getEdgeSwitchIndex(i));
+            final NetworkHost host = hostList.get(i);
+            edgeSwitch.connectHost(host);
+            host.setEdgeSwitch(edgeSwitch);
+        }
+
+        switches.forEach(datacenter::addSwitch);
+        datacenter.setFabric(this);
+        return getSwitches();
+    }
+
+    private Switch createSwitch(final Switch sw, final double downlinkBw, final double uplinkBw, final int ports) {
+        sw.setDownlinkBandwidth(downlinkBw);
+        sw.setUplinkBandwidth(uplinkBw);
+        sw.setSwitchingDelay(switchingDelays[sw.getLevel()]);
+        sw.setPorts(ports);
+        return sw;
+    }
+
+    /**
+     * Connects two switches, where the first one is
+     * at the level immediately above the second one.
+     *
+     * @param upperIndex index of the upper switch
+     * @param lowerIndex index of the lower switch
+     */
+    protected final void connect(final int upperIndex, final int lowerIndex) {
+        final Switch upper = switches.get(upperIndex);
+        final Switch lower = switches.get(lowerIndex);
+        upper.getDownlinkSwitches().add(lower);
+        lower.getUplinkSwitches().add(upper);
+    }
+
+    /**
+     * Connects all the created switches, according to the fabric structure,
+     * using the {@link #connect(int, int)} method.
+     */
+    protected abstract void wireSwitches();
+
+    /**
+     * Gets the number of ports of each {@link AggregateSwitch}.
+     * @return
+     */
+    protected abstract int getAggregateSwitchPorts();
+
+    /**
+     * Gets the number of ports of each {@link RootSwitch}.
+     * @return
+     */
+    protected abstract int getRootSwitchPorts();
+
+    /**
+     * Checks if a number is positive, throwing an exception otherwise.
+     * @param value the value to check
+     * @param name the name of the attribute the value will be assigned to
+     * @return the value
+     */
+    protected static int requirePositive(final int value, final String name) {
+        if(value <= 0){
+            throw new IllegalArgumentException(name + " must be a positive number.");
+        }
+
+        return value;
+    }
+
+    @Override
+    public List<Switch> getSwitches() {
+        return Collections.unmodifiableList(switches);
+    }
+
+    /**
+     * Gets the bandwidth of the links between Hosts and {@link EdgeSwitch}es (in Megabits/s).
+     * @return
+     */
+    public double getHostBandwidth() {
+        return hostBandwidth;
+    }
+
+    /**
+     * Sets the bandwidth of the links between Hosts and {@link EdgeSwitch}es (in Megabits/s).
+     * It must be set before {@link #build(NetworkDatacenter) building} the fabric.
+     * @param hostBandwidth the bandwidth to set
+     * @return
+     */
+    public NetworkFabricAbstract setHostBandwidth(final double hostBandwidth) {
+        this.hostBandwidth = hostBandwidth;
+        return this;
+    }
+
+    /**
+     * Gets the bandwidth of the links between {@link EdgeSwitch}es
+     * and {@link AggregateSwitch}es (in Megabits/s).
+     * @return
+     */
+    public double getEdgeUplinkBandwidth() {
+        return edgeUplinkBandwidth;
+    }
+
+    /**
+     * Sets the bandwidth of the links between {@link EdgeSwitch}es
+     * and {@link AggregateSwitch}es (in Megabits/s).
+     * It must be set before {@link #build(NetworkDatacenter) building} the fabric.
+     * @param edgeUplinkBandwidth the bandwidth to set
+     * @return
+     */
+    public NetworkFabricAbstract setEdgeUplinkBandwidth(final double edgeUplinkBandwidth) {
+        this.edgeUplinkBandwidth = edgeUplinkBandwidth;
+        return this;
+    }
+
+    /**
+     * Gets the bandwidth of the links between {@link AggregateSwitch}es
+     * and {@link RootSwitch}es (in Megabits/s).
+     * @return
+     */
+    public double getAggregateUplinkBandwidth() {
+        return aggregateUplinkBandwidth;
+    }
+
+    /**
+     * Sets the bandwidth of the links between {@link AggregateSwitch}es
+     * and {@link RootSwitch}es (in Megabits/s).
+     * It must be set before {@link #build(NetworkDatacenter) building} the fabric.
+     * @param aggregateUplinkBandwidth the bandwidth to set
+     * @return
+     */
+    public NetworkFabricAbstract setAggregateUplinkBandwidth(final double aggregateUplinkBandwidth) {
+        this.aggregateUplinkBandwidth = aggregateUplinkBandwidth;
+        return this;
+    }
+
+    /**
+     * Gets the switching delay of the switches at a given level (in seconds).
+     * @param level the {@link Switch#getLevel() switch level}
+     * @return
+     */
+    public double getSwitchingDelay(final int level) {
+        return switchingDelays[level];
+    }
+
+    /**
+     * Sets the switching delay of the switches at a given level (in seconds).
+     * It must be set before {@link #build(NetworkDatacenter) building} the fabric.
+     * @param level the {@link Switch#getLevel() switch level}
+     * @param delay the switching delay to set
+     * @return
+     */
+    public NetworkFabricAbstract setSwitchingDelay(final int level, final double delay) {
+        this.switchingDelays[level] = delay;
+        return this;
+    }
+}
@@ -7,6 +7,8 @@
  */
 package org.cloudbus.cloudsim.network.topologies;
 
+import java.io.Serializable;
+
 /**
  **
  * Implements a network layer by reading the topology from a file in a specific format
@@ -19,7 +21,7 @@ package org.cloudbus.cloudsim.network.topologies;
  * @see BriteNetworkTopology
  * @since CloudSim Plus 1.0
  */
-public interface NetworkTopology {
+public interface NetworkTopology extends Serializable {
 
     /**
      * An attribute that implements the Null Object Design Pattern for {@link NetworkTopology}
@@ -27,23 +29,6 @@ public interface NetworkTopology {
      */
     NetworkTopology NULL = new NetworkTopologyNull();
 
-    /**
-     * Adds a new link in the network topology. The CloudSim entities that
-     * represent the source and destination of the link will be mapped to BRITE
-     * entities.
-     *
-     * @param srcId ID of the CloudSim entity that represents the link's source
-     * node
-     * @param destId ID of the CloudSim entity that represents the link's
-     * destination node
-     * @param bw Link's bandwidth
-     * @param lat link's latency
-     * @pre srcId > 0
-     * @pre destId > 0
-     * @post $none
-     */
-    void addLink(int srcId, int destId, double bw, double lat);
-
     /**
      * Maps a CloudSim entity to a BRITE node in the network topology.
      *
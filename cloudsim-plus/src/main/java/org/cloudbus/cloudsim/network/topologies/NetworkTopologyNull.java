@@ -10,7 +10,6 @@ package org.cloudbus.cloudsim.network.topologies;
 final class NetworkTopologyNull implements NetworkTopology {
     private final TopologicalGraph graph = new TopologicalGraph();
 
-    @Override public void addLink(int srcId, int destId, double bw, double lat) {/**/}
     @Override public void mapNode(int cloudSimEntityID, int briteID) {/**/}
     @Override public void unmapNode(int cloudSimEntityID) {/**/}
     @Override public double getDelay(int srcID, int destID) {
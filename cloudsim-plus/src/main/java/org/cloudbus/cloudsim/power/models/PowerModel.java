@@ -8,6 +8,7 @@
 package org.cloudbus.cloudsim.power.models;
 
 import org.cloudbus.cloudsim.hosts.power.PowerHost;
+import java.io.Serializable;
 
 /**
  * The PowerModel interface needs to be implemented in order to provide a model
@@ -34,7 +35,7 @@ import org.cloudbus.cloudsim.hosts.power.PowerHost;
  *
  * @since CloudSim Toolkit 2.0
  */
-public interface PowerModel {
+public interface PowerModel extends Serializable {
     PowerHost getHost();
     void setHost(PowerHost host);
 
@@ -11,6 +11,7 @@ package org.cloudbus.cloudsim.provisioners;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.resources.*;
 import org.cloudbus.cloudsim.vms.Vm;
+import java.io.Serializable;
 
 /**
  * An interface that represents the provisioning policy used by a {@link Host}
@@ -24,7 +25,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface ResourceProvisioner {
+public interface ResourceProvisioner extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for
      * ResourceProvisioner objects.
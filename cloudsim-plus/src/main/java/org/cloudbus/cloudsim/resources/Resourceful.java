@@ -27,6 +27,7 @@ import org.cloudbus.cloudsim.core.Machine;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -38,7 +39,7 @@ import java.util.List;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface Resourceful {
+public interface Resourceful extends Serializable {
     /**
      * Gets a given {@link Machine} {@link Resource}, such as {@link Ram} or {@link Bandwidth},
      * from the List of machine resources.
@@ -15,6 +15,10 @@ import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
 import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Processor;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.core.CloudSimTags;
@@ -193,6 +197,24 @@ public interface CloudletScheduler extends Serializable {
      */
     double getCurrentRequestedRamPercentUtilization();
 
+    /**
+     * Gets the absolute utilization of a resource by each Cloudlet in the {@link #getCloudletExecList() execution list},
+     * evaluating all Cloudlets in a single pass into a primitive array.
+     * This way, schedulers and VMs can compute aggregate resource usage
+     * without calling utilization methods for each Cloudlet separately.
+     *
+     * @param resourceClass the class of the resource to get the utilization,
+     *                      which can be {@link Processor} (for CPU utilization in MIPS, considering all the Cloudlet PEs),
+     *                      {@link Ram} or {@link Bandwidth}
+     * @param time the simulation time to get the utilization
+     * @param utilizations an array to store the utilizations, which is reused if it is large enough
+     *                     to store the utilization of all Cloudlets in execution (it can be null)
+     * @return the given array or a new one, where the element at index i is the utilization
+     * by the i-th Cloudlet in the execution list. Just the first {@code getCloudletExecList().size()} elements are set.
+     * @throws IllegalArgumentException when the resource class is not one of the accepted ones
+     */
+    double[] getCloudletsAbsoluteUtilization(Class<? extends ResourceManageable> resourceClass, double time, double[] utilizations);
+
     /**
      * Gets the previous time when the scheduler updated the processing of
      * cloudlets it is managing.
@@ -383,4 +405,14 @@ public interface CloudletScheduler extends Serializable {
      * @param cloudlet the Cloudlet to be added
      */
 	void addCloudletToReturnedList(Cloudlet cloudlet);
+
+    /**
+     * Removes a Cloudlet that was already returned to its {@link DatacenterBroker}
+     * from the {@link #getCloudletFinishedList() finished} and {@link #getCloudletReturnedList() returned} lists,
+     * so that the scheduler doesn't keep references to it anymore.
+     *
+     * @param cloudlet the Cloudlet to be removed
+     * @return true if the Cloudlet was returned and was removed, false otherwise
+     */
+    boolean removeReturnedCloudlet(Cloudlet cloudlet);
 }
@@ -20,6 +20,8 @@ import java.util.stream.Stream;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet.Status;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Processor;
 import org.cloudbus.cloudsim.resources.Ram;
 import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketScheduler;
@@ -27,7 +29,6 @@ import org.cloudbus.cloudsim.util.Conversion;
 
 import static org.cloudbus.cloudsim.utilizationmodels.UtilizationModel.Unit;
 
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -79,7 +80,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     /**
      * @see #getCloudletWaitingList()
      */
-    private List<CloudletExecutionInfo> cloudletWaitingList;
+    private final Collection<CloudletExecutionInfo> cloudletWaitingList;
 
     /**
      * @see #getVm()
@@ -91,6 +92,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private Set<Cloudlet> cloudletReturnedList;
 
+    /**
+     * A buffer reused to get the utilization of each Cloudlet in execution,
+     * avoiding an array allocation every time the total utilization of a resource is computed.
+     * @see #sumCloudletsAbsoluteUtilization(Class, double)
+     */
+    private double[] utilizationBuffer;
+
     /**
      * Creates a new CloudletScheduler object. A CloudletScheduler must be
      * created before starting the actual simulation.
@@ -99,6 +107,18 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * @post $none
      */
     public CloudletSchedulerAbstract() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Creates a new CloudletScheduler object that stores waiting Cloudlets
+     * into a given Collection. It enables subclasses to keep
+     * the {@link #getCloudletWaitingList() waiting Cloudlets} in a specific order
+     * without having to sort them every time a Cloudlet is selected to run.
+     *
+     * @param cloudletWaitingList the empty Collection where to store waiting Cloudlets
+     */
+    protected CloudletSchedulerAbstract(final Collection<CloudletExecutionInfo> cloudletWaitingList) {
         setPreviousTime(0.0);
         usedPes = 0;
         vm = Vm.NULL;
@@ -106,10 +126,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         cloudletPausedList = new ArrayList<>();
         cloudletFinishedList = new ArrayList<>();
         cloudletFailedList = new ArrayList<>();
-        cloudletWaitingList = new ArrayList<>();
+        this.cloudletWaitingList = Objects.requireNonNull(cloudletWaitingList);
         cloudletReturnedList = new HashSet<>();
         currentMipsShare = new ArrayList<>();
         packetScheduler = PacketScheduler.NULL;
+        utilizationBuffer = new double[0];
     }
 
     @Override
@@ -141,7 +162,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected void setCurrentMipsShare(List<Double> currentMipsShare) {
         if(currentMipsShare.size() > vm.getNumberOfPes()){
-            Log.printFormattedLine("Requested %d PEs but %s has just %d", currentMipsShare.size(), vm, vm.getNumberOfPes());
+            vm.getSimulation().getLogger().info(getClass(), "Requested %d PEs but %s has just %d", currentMipsShare.size(), vm, vm.getNumberOfPes());
         }
         this.currentMipsShare = currentMipsShare;
     }
@@ -238,15 +259,26 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public List<CloudletExecutionInfo> getCloudletWaitingList() {
-        return Collections.unmodifiableList(cloudletWaitingList);
+        if(cloudletWaitingList instanceof List) {
+            return Collections.unmodifiableList((List<CloudletExecutionInfo>) cloudletWaitingList);
+        }
+
+        return Collections.unmodifiableList(new ArrayList<>(cloudletWaitingList));
     }
 
     /**
      * Sorts the {@link #cloudletWaitingList} using a given {@link Comparator}.
      * @param comparator the {@link Comparator} to sort the Waiting Cloudlets List
+     * @throws UnsupportedOperationException when the waiting Cloudlets are not stored
+     * into a {@link List}, but into a Collection that defines its own order
+     * @see #CloudletSchedulerAbstract(Collection)
      */
     protected void sortCloudletWaitingList(Comparator<CloudletExecutionInfo> comparator){
-        cloudletWaitingList.sort(comparator);
+        if(!(cloudletWaitingList instanceof List)) {
+            throw new UnsupportedOperationException("The Cloudlet waiting list of " + getClass().getSimpleName() + " cannot be sorted.");
+        }
+
+        ((List<CloudletExecutionInfo>) cloudletWaitingList).sort(comparator);
     }
 
     @Override
@@ -349,13 +381,13 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected Optional<CloudletExecutionInfo> findCloudletInAllLists(final double cloudletId) {
         //Concatenate all lists into a strem
-        final Stream<List<CloudletExecutionInfo>> streamOfAllLists
+        final Stream<Collection<CloudletExecutionInfo>> streamOfAllLists
             = Stream.of(cloudletExecList, cloudletPausedList, cloudletWaitingList,
             cloudletFinishedList, cloudletFailedList);
         //Gets all elements in each list and makes them a single full list,
         //returning the first Cloudlet with the given id
         return streamOfAllLists
-            .flatMap(List::stream)
+            .flatMap(Collection::stream)
             .filter(c -> c.getCloudletId() == cloudletId)
             .findFirst();
     }
@@ -463,7 +495,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * given list
      */
     private Cloudlet changeStatusOfCloudletIntoList(
-        List<CloudletExecutionInfo> cloudletList, int cloudletId,
+        Collection<CloudletExecutionInfo> cloudletList, int cloudletId,
         Consumer<CloudletExecutionInfo> cloudletStatusUpdaterConsumer)
     {
         Function<CloudletExecutionInfo, Cloudlet> removeCloudletFromListAndUpdateItsStatus = c -> {
@@ -521,9 +553,17 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
     private void updateCloudletProcessingAndPacketsDispatch(CloudletExecutionInfo rcl, double currentTime) {
         if (packetScheduler.isTimeToUpdateCloudletProcessing(rcl.getCloudlet())) {
             updateCloudletProcessing(rcl, currentTime);
+        } else {
+            /*The Cloudlet is waiting (such as for network packets) and doesn't execute instructions.
+            The waiting time must not be accounted as processing time when it starts executing again.*/
+            rcl.setLastProcessingTime(currentTime);
         }
 
-        packetScheduler.processCloudletPackets(rcl.getCloudlet(), currentTime);
+        /*A Cloudlet blocked waiting for packets has nothing to process until all of them arrive,
+        when the PacketScheduler notifies the Datacenter to update processing.*/
+        if (!packetScheduler.isWaitingForPackets(rcl.getCloudlet())) {
+            packetScheduler.processCloudletPackets(rcl.getCloudlet(), currentTime);
+        }
     }
 
     /**
@@ -544,29 +584,11 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     private void updateVmRamAbsoluteUtilization() {
         final ResourceManageable ram = vm.getResource(Ram.class);
-        final double totalUsedRam = cloudletExecList.stream()
-            .map(CloudletExecutionInfo::getCloudlet)
-            .mapToDouble(this::getCloudletRamAbsoluteUtilization)
-            .sum();
+        final double totalUsedRam = sumCloudletsAbsoluteUtilization(Ram.class, vm.getSimulation().clock());
 
         ram.setAllocatedResource(totalUsedRam);
     }
 
-    /**
-     * Gets the absolute value of RAM utilization for a given Cloudlet
-     *
-     * @param cloudlet the Cloudlet to get the absolute value of RAM utilization
-     * @return the Cloudlet RAM utilization in absolute value
-     */
-    private double getCloudletRamAbsoluteUtilization(Cloudlet cloudlet) {
-        final ResourceManageable ram = vm.getResource(Ram.class);
-        final UtilizationModel um = cloudlet.getUtilizationModelRam();
-        final double utilization = um.getUnit() == Unit.ABSOLUTE ?
-            Math.min(um.getUtilization(), vm.getRam().getCapacity()) :
-            um.getUtilization() * ram.getCapacity();
-        return utilization;
-    }
-
     /**
      * Computes the length of a given cloudlet, in number
      * of Instructions (I), which has been executed since the last time cloudlet
@@ -603,8 +625,7 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
          */
         final double actualProcessingTime = (hasCloudletFileTransferTimePassed(cl, currentTime) ? timeSpan(cl, currentTime) : 0);
         final double cloudletUsedMips =
-            getAbsoluteCloudletResourceUtilization(cl.getCloudlet().getUtilizationModelCpu(),
-                currentTime, getAvailableMipsByPe());
+            getAbsoluteCloudletCpuUtilization(cl.getCloudlet(), currentTime, getAvailableMipsByPe());
         return (long) (cloudletUsedMips * actualProcessingTime * Conversion.MILLION);
     }
 
@@ -703,6 +724,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      * Gets the estimated time when a given cloudlet is supposed to finish
      * executing. It considers the amount of Vm PES and the sum of PEs required
      * by all VMs running inside the VM.
+     * If the cloudlet has multiple stages, such as a
+     * {@link org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet},
+     * it is the time its current stage is supposed to finish
+     * (see {@link PacketScheduler#getRemainingLengthOfCurrentTask(Cloudlet)}).
      *
      * @param rcl         cloudlet to get the estimated finish time
      * @param currentTime current simulation time
@@ -711,9 +736,10 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
      */
     protected double getEstimatedFinishTimeOfCloudlet(CloudletExecutionInfo rcl, final double currentTime) {
         final double cloudletUsedMips =
-            getAbsoluteCloudletResourceUtilization(rcl.getCloudlet().getUtilizationModelCpu(),
-                currentTime, getAvailableMipsByPe());
-        double estimatedFinishTime = rcl.getRemainingCloudletLength() / cloudletUsedMips;
+            getAbsoluteCloudletCpuUtilization(rcl.getCloudlet(), currentTime, getAvailableMipsByPe());
+        final long remainingLength =
+            Math.min(rcl.getRemainingCloudletLength(), packetScheduler.getRemainingLengthOfCurrentTask(rcl.getCloudlet()));
+        double estimatedFinishTime = remainingLength / cloudletUsedMips;
 
         if (estimatedFinishTime < vm.getSimulation().getMinTimeBetweenEvents()) {
             estimatedFinishTime = vm.getSimulation().getMinTimeBetweenEvents();
@@ -877,83 +903,130 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
 
     @Override
     public double getRequestedCpuPercentUtilization(double time) {
-        return cloudletExecList.stream()
-            .map(CloudletExecutionInfo::getCloudlet)
-            .mapToDouble(c -> getAbsoluteCloudletCpuUtilizationForAllPes(time, c))
-            .sum() / vm.getTotalMipsCapacity();
-    }
-
-    /**
-     * Gets the total CPU utilization in MIPS for a Cloudlet, considering
-     * all the PEs in which it is running.
-     *
-     * @param time the simulation time
-     * @param cloudlet the Cloudlet to get the total CPU utilization
-     * @return the total Cloudlet CPU utilization (in MIPS) across all PEs it is using
-     */
-    private double getAbsoluteCloudletCpuUtilizationForAllPes(double time, Cloudlet cloudlet) {
-        final double cloudletCpuUsageForOnePe =
-            getAbsoluteCloudletResourceUtilization(
-                cloudlet.getUtilizationModelCpu(), time, getAvailableMipsByPe());
-
-        return cloudletCpuUsageForOnePe * cloudlet.getNumberOfPes();
+        return sumCloudletsAbsoluteUtilization(Processor.class, time) / vm.getTotalMipsCapacity();
     }
 
     @Override
     public double getRequestedMipsForCloudlet(CloudletExecutionInfo rcl, double time) {
-        return getAbsoluteCloudletResourceUtilization(rcl.getCloudlet().getUtilizationModelCpu(), time, vm.getMips());
+        return getAbsoluteCloudletCpuUtilization(rcl.getCloudlet(), time, vm.getMips());
     }
 
     @Override
     public double getAllocatedMipsForCloudlet(CloudletExecutionInfo rcl, double time) {
-        return getAbsoluteCloudletResourceUtilization(rcl.getCloudlet().getUtilizationModelCpu(), time, getAvailableMipsByPe());
+        return getAbsoluteCloudletCpuUtilization(rcl.getCloudlet(), time, getAvailableMipsByPe());
     }
 
     @Override
     public double getCurrentRequestedBwPercentUtilization() {
-        return cloudletExecList.stream()
-            .map(CloudletExecutionInfo::getCloudlet)
-            .map(Cloudlet::getUtilizationModelBw)
-            .mapToDouble(um -> getAbsoluteCloudletResourceUtilization(um, vm.getBw().getCapacity()))
-            .sum() / vm.getBw().getCapacity();
+        return sumCloudletsAbsoluteUtilization(Bandwidth.class, vm.getSimulation().clock()) / vm.getBw().getCapacity();
     }
 
     @Override
     public double getCurrentRequestedRamPercentUtilization() {
-        return cloudletExecList.stream()
-            .map(CloudletExecutionInfo::getCloudlet)
-            .map(Cloudlet::getUtilizationModelRam)
-            .mapToDouble(um -> getAbsoluteCloudletResourceUtilization(um, vm.getRam().getCapacity()))
-            .sum() / vm.getRam().getCapacity();
+        return sumCloudletsAbsoluteUtilization(Ram.class, vm.getSimulation().clock()) / vm.getRam().getCapacity();
+    }
+
+    @Override
+    public double[] getCloudletsAbsoluteUtilization(
+        final Class<? extends ResourceManageable> resourceClass, final double time, final double[] utilizations)
+    {
+        final int size = cloudletExecList.size();
+        final double[] result = utilizations != null && utilizations.length >= size ? utilizations : new double[size];
+        if(Processor.class.equals(resourceClass)) {
+            final double mipsByPe = getAvailableMipsByPe();
+            for (int i = 0; i < size; i++) {
+                final Cloudlet cloudlet = cloudletExecList.get(i).getCloudlet();
+                result[i] = getAbsoluteCloudletCpuUtilization(cloudlet, time, mipsByPe) * cloudlet.getNumberOfPes();
+            }
+        } else if(Ram.class.equals(resourceClass)) {
+            final long capacity = vm.getRam().getCapacity();
+            for (int i = 0; i < size; i++) {
+                final Cloudlet cloudlet = cloudletExecList.get(i).getCloudlet();
+                final UtilizationModel um = cloudlet.getUtilizationModelRam();
+                result[i] = toAbsoluteUtilization(um, cloudlet.getUtilizationOfRam(getUtilizationTime(um, time)), capacity);
+            }
+        } else if(Bandwidth.class.equals(resourceClass)) {
+            final long capacity = vm.getBw().getCapacity();
+            for (int i = 0; i < size; i++) {
+                final Cloudlet cloudlet = cloudletExecList.get(i).getCloudlet();
+                final UtilizationModel um = cloudlet.getUtilizationModelBw();
+                result[i] = toAbsoluteUtilization(um, cloudlet.getUtilizationOfBw(getUtilizationTime(um, time)), capacity);
+            }
+        } else {
+            throw new IllegalArgumentException(
+                "Resource class must be Processor, Ram or Bandwidth, but it was " + resourceClass.getSimpleName());
+        }
+
+        return result;
     }
 
     /**
-     * Computes the absolute amount of a resource used by a given Cloudlet
-     * for the current simulation time, based on the maximum amount of resource that the Cloudlet can use
-     * this time.
+     * Sums the absolute utilization of a resource by all Cloudlets in execution,
+     * evaluated in a single pass by {@link #getCloudletsAbsoluteUtilization(Class, double, double[])}
+     * into the {@link #utilizationBuffer}.
+     * The buffer is detached while in use, so that a nested call
+     * (such as from a utilization model that reads the VM utilization) uses a new array
+     * instead of overwriting it.
      *
-     * @param um                      the {@link UtilizationModel} to get the absolute amount of resource used by the Cloudlet
-     * @param maxResourceAllowedToUse the maximum absolute resource that the Cloudlet will be allowed to use
-     * @return the absolute amount of resource that the Cloudlet will use
+     * @param resourceClass the class of the resource to get the utilization
+     * @param time the simulation time
+     * @return the total absolute utilization of the resource
      */
-    private double getAbsoluteCloudletResourceUtilization(UtilizationModel um, double maxResourceAllowedToUse) {
-        return getAbsoluteCloudletResourceUtilization(um, vm.getSimulation().clock(), maxResourceAllowedToUse);
+    private double sumCloudletsAbsoluteUtilization(final Class<? extends ResourceManageable> resourceClass, final double time) {
+        final double[] buffer = utilizationBuffer;
+        utilizationBuffer = null;
+        final double[] utilizations = getCloudletsAbsoluteUtilization(resourceClass, time, buffer);
+        utilizationBuffer = utilizations;
+
+        double sum = 0;
+        for (int i = 0; i < cloudletExecList.size(); i++) {
+            sum += utilizations[i];
+        }
+
+        return sum;
     }
 
     /**
-     * Computes the absolute amount of a resource used by a given Cloudlet
-     * for a given time, based on the maximum amount of resource that the Cloudlet can use
+     * Computes the absolute CPU (in MIPS) used by a given Cloudlet in each one of its PEs
+     * for a given time, based on the maximum MIPS that the Cloudlet can use
      * this time.
      *
-     * @param um                      the {@link UtilizationModel} to get the absolute amount of resource used by the Cloudlet
-     * @param time                    the simulation time
+     * @param cloudlet the Cloudlet to get the absolute amount of CPU used
+     * @param time     the simulation time
+     * @param maxMips  the maximum MIPS that the Cloudlet will be allowed to use in each PE
+     * @return the absolute CPU that the Cloudlet will use in each PE
+     */
+    private double getAbsoluteCloudletCpuUtilization(final Cloudlet cloudlet, final double time, final double maxMips) {
+        final UtilizationModel um = cloudlet.getUtilizationModelCpu();
+        return toAbsoluteUtilization(um, cloudlet.getUtilizationOfCpu(getUtilizationTime(um, time)), maxMips);
+    }
+
+    /**
+     * Gets the time the utilization of a {@link UtilizationModel} has to be got for:
+     * absolute utilization is got for the given time, while percentage utilization
+     * is got for the current time of the model's simulation.
+     *
+     * @param um   the {@link UtilizationModel} to get the utilization from
+     * @param time the simulation time
+     * @return the time to get the utilization for
+     */
+    private static double getUtilizationTime(final UtilizationModel um, final double time) {
+        return um.getUnit() == Unit.ABSOLUTE ? time : um.getSimulation().clock();
+    }
+
+    /**
+     * Converts the utilization got from a {@link UtilizationModel} to the absolute amount of a resource
+     * used by a Cloudlet, based on the maximum amount of resource that the Cloudlet can use.
+     *
+     * @param um                      the {@link UtilizationModel} the utilization was got from
+     * @param utilization             the utilization got from the model
      * @param maxResourceAllowedToUse the maximum absolute resource that the Cloudlet will be allowed to use
      * @return the absolute amount of resource that the Cloudlet will use
      */
-    private double getAbsoluteCloudletResourceUtilization(UtilizationModel um, double time, double maxResourceAllowedToUse) {
+    private static double toAbsoluteUtilization(final UtilizationModel um, final double utilization, final double maxResourceAllowedToUse) {
         return um.getUnit() == Unit.ABSOLUTE ?
-            Math.min(um.getUtilization(time), maxResourceAllowedToUse) :
-            um.getUtilization() * maxResourceAllowedToUse;
+            Math.min(utilization, maxResourceAllowedToUse) :
+            utilization * maxResourceAllowedToUse;
     }
 
     @Override
@@ -971,6 +1044,16 @@ public abstract class CloudletSchedulerAbstract implements CloudletScheduler {
         this.cloudletReturnedList.add(cloudlet);
     }
 
+    @Override
+    public boolean removeReturnedCloudlet(Cloudlet cloudlet) {
+        if(!cloudletReturnedList.remove(cloudlet)) {
+            return false;
+        }
+
+        cloudletFinishedList.removeIf(info -> info.getCloudlet() == cloudlet);
+        return true;
+    }
+
     @Override
     public void deallocatePesFromVm(Vm vm, int pesToRemove) {
         removeUsedPes(pesToRemove);
@@ -0,0 +1,280 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * A base class for space-shared {@link CloudletScheduler}s that implement
+ * <a href="https://en.wikipedia.org/wiki/Backfilling">backfilling</a>,
+ * which allows Cloudlets to start out of the arrival order to use PEs
+ * that would be idle otherwise, as long as reserved start times of waiting Cloudlets
+ * are not delayed. It is the usual scheduling policy of HPC clusters,
+ * enabling the realistic replay of workload traces such as the ones read by the
+ * {@link org.cloudbus.cloudsim.util.WorkloadFileReader}.
+ *
+ * <p>The scheduler keeps an availability profile, a skyline of PEs used along the time
+ * by running Cloudlets and reservations, which is stored into a Red-Black tree.
+ * This way, checking if a Cloudlet can start without delaying reservations
+ * or finding the earliest time it can start is O(log n + k),
+ * where k is the number of profile steps along the Cloudlet execution.
+ * Waiting Cloudlets are kept in arrival order into a {@link LinkedHashSet},
+ * so that they are removed in constant time when started out of order.</p>
+ *
+ * <p>The execution time of a Cloudlet is estimated from its remaining length and
+ * the VM PE capacity, which corresponds to the exact run time of jobs read from traces.
+ * If a Cloudlet runs longer than estimated, its PEs are kept allocated
+ * along its new estimated execution time.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public abstract class CloudletSchedulerBackfillingAbstract extends CloudletSchedulerSpaceShared {
+    /**
+     * The waiting Cloudlets in arrival order.
+     */
+    private final Set<CloudletExecutionInfo> waitingQueue;
+
+    private final PeAvailabilityProfile profile;
+
+    /**
+     * The PEs allocation of each running Cloudlet.
+     */
+    private final Map<CloudletExecutionInfo, Allocation> runningAllocations;
+
+    /**
+     * The PEs allocation of running Cloudlets sorted by their estimated finish time,
+     * used to find out Cloudlets that are running longer than estimated.
+     */
+    private final NavigableSet<Allocation> runningAllocationsByEnd;
+
+    protected CloudletSchedulerBackfillingAbstract() {
+        this(new LinkedHashSet<>());
+    }
+
+    private CloudletSchedulerBackfillingAbstract(final Set<CloudletExecutionInfo> waitingQueue) {
+        super(waitingQueue);
+        this.waitingQueue = waitingQueue;
+        this.profile = new PeAvailabilityProfile();
+        this.runningAllocations = new HashMap<>();
+        this.runningAllocationsByEnd = new TreeSet<>(Allocation.END_COMPARATOR);
+    }
+
+    @Override
+    public double updateProcessing(final double currentTime, final List<Double> mipsShare) {
+        profile.removeStepsBefore(currentTime);
+        extendOverrunningAllocations(currentTime);
+        return super.updateProcessing(currentTime, mipsShare);
+    }
+
+    /**
+     * Extends the PEs allocation of Cloudlets that are running
+     * longer than estimated, up to their new estimated finish time.
+     *
+     * @param currentTime the current simulation time
+     */
+    private void extendOverrunningAllocations(final double currentTime) {
+        while (!runningAllocationsByEnd.isEmpty() && runningAllocationsByEnd.first().getEnd() <= currentTime) {
+            final Allocation previous = runningAllocationsByEnd.pollFirst();
+            final CloudletExecutionInfo cloudlet = previous.getCloudlet();
+            final Allocation extended = new Allocation(cloudlet, currentTime, currentTime + getEstimatedRuntime(cloudlet));
+            profile.allocate(extended.getStart(), extended.getEnd(), cloudlet.getNumberOfPes());
+            runningAllocations.put(cloudlet, extended);
+            runningAllocationsByEnd.add(extended);
+        }
+    }
+
+    @Override
+    protected void addCloudletToExecList(final CloudletExecutionInfo cloudlet) {
+        super.addCloudletToExecList(cloudlet);
+        final double time = getCurrentTime();
+        final Allocation allocation = new Allocation(cloudlet, time, time + getEstimatedRuntime(cloudlet));
+        profile.allocate(allocation.getStart(), allocation.getEnd(), cloudlet.getNumberOfPes());
+        runningAllocations.put(cloudlet, allocation);
+        runningAllocationsByEnd.add(allocation);
+    }
+
+    @Override
+    protected CloudletExecutionInfo removeCloudletFromExecList(final CloudletExecutionInfo cloudlet) {
+        final CloudletExecutionInfo removed = super.removeCloudletFromExecList(cloudlet);
+        final Allocation allocation = runningAllocations.remove(cloudlet);
+        if(allocation == null) {
+            return removed;
+        }
+
+        runningAllocationsByEnd.remove(allocation);
+        final double time = getCurrentTime();
+        if(allocation.getEnd() > time) {
+            profile.release(time, allocation.getEnd(), cloudlet.getNumberOfPes());
+            if(allocation.getEnd() - time > getVm().getSimulation().getMinTimeBetweenEvents()) {
+                onEarlyCompletion(cloudlet);
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Notifies that a Cloudlet has finished (or was removed from execution)
+     * before its estimated finish time, releasing PEs that may be used by
+     * waiting Cloudlets earlier than previously planned.
+     *
+     * @param cloudlet the Cloudlet that has finished earlier
+     */
+    protected void onEarlyCompletion(final CloudletExecutionInfo cloudlet) {/**/}
+
+    /**
+     * Gets the estimated time a Cloudlet requires to finish, from the current time.
+     *
+     * @param cloudlet the Cloudlet to get the estimated run time
+     * @return the estimated run time (in seconds)
+     */
+    protected double getEstimatedRuntime(final CloudletExecutionInfo cloudlet) {
+        final List<Double> mipsShare = getCurrentMipsShare();
+        final double peMips = mipsShare.isEmpty() ? 0 : mipsShare.get(0);
+        final double minTime = getVm().getSimulation().getMinTimeBetweenEvents();
+        if(peMips <= 0) {
+            return minTime;
+        }
+
+        return Math.max(minTime, cloudlet.getRemainingCloudletLength() / peMips);
+    }
+
+    /**
+     * Checks if a Cloudlet can start running right now,
+     * that is, if there are enough free PEs for it and
+     * it won't delay any reservation.
+     *
+     * @param cloudlet the Cloudlet to check
+     * @return true if the Cloudlet can start, false otherwise
+     */
+    protected boolean canStartNow(final CloudletExecutionInfo cloudlet) {
+        if(!isThereEnoughFreePesForCloudlet(cloudlet)) {
+            return false;
+        }
+
+        final double time = getCurrentTime();
+        return profile.fits(time, time + getEstimatedRuntime(cloudlet), cloudlet.getNumberOfPes(), getPesCapacity());
+    }
+
+    /**
+     * Reserves PEs for a waiting Cloudlet at the earliest time it can start from a given time,
+     * without delaying previous reservations.
+     *
+     * @param cloudlet the Cloudlet to reserve PEs for
+     * @param from the time to start searching for free PEs
+     * @return the reservation, which has an infinite start time if the VM doesn't have enough PEs for the Cloudlet
+     */
+    protected Allocation reserve(final CloudletExecutionInfo cloudlet, final double from) {
+        final double runtime = getEstimatedRuntime(cloudlet);
+        final double start = profile.findEarliestStart(from, runtime, cloudlet.getNumberOfPes(), getPesCapacity());
+        final Allocation reservation = new Allocation(cloudlet, start, start + runtime);
+        profile.allocate(reservation.getStart(), reservation.getEnd(), cloudlet.getNumberOfPes());
+        return reservation;
+    }
+
+    /**
+     * Cancels a reservation created by {@link #reserve(CloudletExecutionInfo, double)},
+     * releasing the PEs from the current time on.
+     *
+     * @param reservation the reservation to cancel
+     */
+    protected void cancelReservation(final Allocation reservation) {
+        final double start = Math.max(reservation.getStart(), getCurrentTime());
+        profile.release(start, reservation.getEnd(), reservation.getCloudlet().getNumberOfPes());
+    }
+
+    /**
+     * Gets the waiting Cloudlets in arrival order.
+     * Cloudlets can be removed from the returned Set (usually by an {@link Iterator}
+     * that is traversing it) to be started, by calling
+     * {@link #addCloudletToExecList(CloudletExecutionInfo)} after that.
+     *
+     * @return
+     */
+    protected Set<CloudletExecutionInfo> getWaitingQueue() {
+        return waitingQueue;
+    }
+
+    /**
+     * Gets the number of PEs the VM currently has available to Cloudlets.
+     * @return
+     */
+    protected long getPesCapacity() {
+        return getCurrentMipsShare().size();
+    }
+
+    protected double getCurrentTime() {
+        return getVm().getSimulation().clock();
+    }
+
+    /**
+     * The PEs allocated to a running Cloudlet or reserved to a waiting one
+     * along a time interval.
+     */
+    protected static final class Allocation implements Serializable {
+        private static final Comparator<Allocation> END_COMPARATOR =
+            (Comparator<Allocation> & Serializable) (a1, a2) -> compare(a1.getEnd(), a2.getEnd(), a1, a2);
+
+        /**
+         * A {@link Comparator} that sorts allocations by their start time,
+         * breaking ties by the Cloudlet id.
+         */
+        public static final Comparator<Allocation> START_COMPARATOR =
+            (Comparator<Allocation> & Serializable) (a1, a2) -> compare(a1.getStart(), a2.getStart(), a1, a2);
+
+        private final CloudletExecutionInfo cloudlet;
+        private final double start;
+        private final double end;
+
+        private Allocation(final CloudletExecutionInfo cloudlet, final double start, final double end) {
+            this.cloudlet = cloudlet;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Compares two allocations by a given time, breaking ties by the Cloudlet id.
+         */
+        private static int compare(final double time1, final double time2, final Allocation a1, final Allocation a2) {
+            final int result = Double.compare(time1, time2);
+            return result != 0 ? result : Integer.compare(a1.getCloudlet().getCloudletId(), a2.getCloudlet().getCloudletId());
+        }
+
+        public CloudletExecutionInfo getCloudlet() {
+            return cloudlet;
+        }
+
+        public double getStart() {
+            return start;
+        }
+
+        public double getEnd() {
+            return end;
+        }
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.cloudbus.cloudsim.schedulers.cloudlet;
 
+import java.io.Serializable;
 import java.util.*;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
@@ -61,6 +62,13 @@ import static java.util.stream.Collectors.toList;
  *     The timeslice is the amount of time that a process is allowed to use the CPU before be preempted to make
  *     room for other process to run.
  *     The CFS scheduler uses a dynamic defined timeslice.</li>
+ *     <li>Uses a Red-Black tree (a {@link TreeSet}) as the waiting list (runqueue), which
+ *     ascendingly sorts Cloudlets based on their virtual runtime (vruntime or VRT),
+ *     placing the Cloudlets that have run the least at the top of the tree.
+ *     Since different Cloudlets may have the same virtual runtime, ties are broken
+ *     by the Cloudlet priority and then by its id, making each key in the tree unique.
+ *     This way, adding, removing and selecting the next Cloudlet to run is O(log n),
+ *     instead of sorting the entire runqueue every time a Cloudlet is selected.</li>
  * </ul>
  *
  * And it currently <b>DOES NOT</b> implement the following features:
@@ -82,14 +90,6 @@ import static java.util.stream.Collectors.toList;
  *     (application execution is simulated just computing the amount of instructions
  *     that can be run), it doesn't matter which PEs are "running" the application.
  *     </li>
- *	   </li>
- *	   <li>It doesn't use a Red-Black tree (such as the TreeSet), as in real implementations of CFS, to accendingly sort
- *	   Cloudlets in the waiting list (runqueue) based on their virtual runtime (vruntime or VRT)
- *	   (placing the Cloudlets that have run the least at the top of the tree) because
- *	   the use of such a data structure added some complexity to the implementation. And once different Cloudlets
- *	   may have the same virtual runtime, this introduced some issues when adding or
- *	   removing elements in a structure such as the TreeSet, that requires
- *	   each value (the virtual runtime in this case) used to sort the Set to be unique.</li>
  * </ul>
  * </p>
  *
@@ -127,6 +127,39 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 	 */
 	private int latency = 3;
 
+    /**
+     * The waiting list (runqueue), which is a Red-Black tree
+     * ascendingly ordered by the Cloudlets virtual runtime.
+     * It's the same Collection used by the super class to store waiting Cloudlets.
+     *
+     * @see #getCloudletWaitingList()
+     */
+    private final NavigableSet<CloudletExecutionInfo> runQueue;
+
+    /**
+     * @see #getWeightSumOfRunningCloudlets()
+     */
+    private double weightSumOfRunningCloudlets;
+
+    /**
+     * The low-order bits lost when adding weights to {@link #weightSumOfRunningCloudlets},
+     * used to compensate such a sum.
+     * @see #addToWeightSumOfRunningCloudlets(double)
+     */
+    private double weightSumCompensation;
+
+    /**
+     * Creates a Completely Fair Scheduler.
+     */
+    public CloudletSchedulerCompletelyFair() {
+        this(new TreeSet<>(new VirtualRuntimeComparator()));
+    }
+
+    private CloudletSchedulerCompletelyFair(final NavigableSet<CloudletExecutionInfo> runQueue) {
+        super(runQueue);
+        this.runQueue = runQueue;
+    }
+
     /**
      * A comparator used to ascendingly sort Cloudlets into the waiting list
      * based on their virtual runtime (vruntime or VRT). By this way, the Cloudlets in the beginning
@@ -134,21 +167,30 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * prioritized when getting Cloudlets from this list to add to the execution
      * list.
      *
-     * @param c1 first Cloudlet to compare
-     * @param c2 second Cloudlet to compare
-     * @return a negative value if c1 is lower than c2, zero if they are equals,
-     * a positive value if c1 is greater than c2
+     * <p>It is a class instead of a lambda expression just to enable
+     * the waiting list to be serialized when a simulation snapshot is taken.</p>
      */
-    private int waitingCloudletsComparator(CloudletExecutionInfo c1, CloudletExecutionInfo c2){
-        final double vRuntimeDiff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
-        final int priorityDiff = c1.getCloudlet().getPriority() - c2.getCloudlet().getPriority();
-        final int idDiff = c1.getCloudletId() - c2.getCloudletId();
-
-        if (vRuntimeDiff != 0) {
-            return MathUtil.doubleToInt(vRuntimeDiff);
+    private static final class VirtualRuntimeComparator implements Comparator<CloudletExecutionInfo>, Serializable {
+        /**
+         * Compares two Cloudlets by their virtual runtime, priority and id, in this order.
+         *
+         * @param c1 first Cloudlet to compare
+         * @param c2 second Cloudlet to compare
+         * @return a negative value if c1 is lower than c2, zero if they are equals,
+         * a positive value if c1 is greater than c2
+         */
+        @Override
+        public int compare(CloudletExecutionInfo c1, CloudletExecutionInfo c2) {
+            final double vRuntimeDiff = c1.getVirtualRuntime() - c2.getVirtualRuntime();
+            final int priorityDiff = c1.getCloudlet().getPriority() - c2.getCloudlet().getPriority();
+            final int idDiff = c1.getCloudletId() - c2.getCloudletId();
+
+            if (vRuntimeDiff != 0) {
+                return MathUtil.doubleToInt(vRuntimeDiff);
+            }
+
+            return priorityDiff != 0 ? priorityDiff : idDiff;
         }
-
-        return priorityDiff != 0 ? priorityDiff : idDiff;
     }
 
     /**
@@ -219,6 +261,11 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
      * there is no point in using different run queues.
      * </p>
      *
+     * <p>The Cloudlets are internally stored into a Red-Black tree ascendingly ordered by
+     * their virtual runtime (vruntime or VRT), which indicates the amount of time the Cloudlet has run.
+     * This way, the list returned is a copy of such a tree, sorted in the same order.
+     * </p>
+     *
      * @return
      */
     @Override
@@ -226,20 +273,6 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         return super.getCloudletWaitingList();
     }
 
-    /**
-     * {@inheritDoc}
-     * The cloudlet waiting list (runqueue) is sorted according to the virtual runtime (vruntime or VRT),
-     * which indicates the amount of time the Cloudlet has run.
-     * This runtime increases as the Cloudlet executes.
-     *
-     * @return {@inheritDoc}
-     */
-    @Override
-    protected Optional<CloudletExecutionInfo> findSuitableWaitingCloudlet() {
-        sortCloudletWaitingList(this::waitingCloudletsComparator);
-        return super.findSuitableWaitingCloudlet();
-    }
-
 	/**
 	 * Gets the weight of the Cloudlet to use the CPU, that is
 	 * defined based on its niceness. As greater is the weight,
@@ -287,13 +320,94 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
 
 	/**
 	 * Gets the weight sum of all cloudlets in the executing list.
+	 * The sum is incrementally updated as Cloudlets are added to or removed from
+	 * such a list, instead of being computed for every Cloudlet timeslice.
 	 */
 	private double getWeightSumOfRunningCloudlets() {
-		return getCloudletExecList().stream()
-            .mapToDouble(this::getCloudletWeight)
-            .sum();
+		return weightSumOfRunningCloudlets;
 	}
 
+    /**
+     * Computes the weight sum of all cloudlets in the executing list
+     * from scratch, updating the {@link #getWeightSumOfRunningCloudlets() incrementally computed value}.
+     */
+    private void recomputeWeightSumOfRunningCloudlets() {
+        resetWeightSumOfRunningCloudlets();
+        for (final CloudletExecutionInfo c : getCloudletExecList()) {
+            addToWeightSumOfRunningCloudlets(getCloudletWeight(c));
+        }
+    }
+
+    private void resetWeightSumOfRunningCloudlets() {
+        weightSumOfRunningCloudlets = 0;
+        weightSumCompensation = 0;
+    }
+
+    /**
+     * Adds a (possibly negative) weight to the {@link #getWeightSumOfRunningCloudlets() weight sum of running Cloudlets}
+     * using the <a href="https://en.wikipedia.org/wiki/Kahan_summation_algorithm">Kahan summation algorithm</a>.
+     * It is the same algorithm used by {@link java.util.stream.DoubleStream#sum()},
+     * avoiding the accumulation of floating-point errors as Cloudlets are added and removed.
+     * That is important because the timeslice computed from such a sum defines
+     * exactly when Cloudlets are preempted.
+     *
+     * @param weight the weight to add
+     */
+    private void addToWeightSumOfRunningCloudlets(final double weight) {
+        final double compensatedWeight = weight - weightSumCompensation;
+        final double sum = weightSumOfRunningCloudlets + compensatedWeight;
+        weightSumCompensation = (sum - weightSumOfRunningCloudlets) - compensatedWeight;
+        weightSumOfRunningCloudlets = sum;
+    }
+
+    @Override
+    protected void addCloudletToExecList(CloudletExecutionInfo cloudlet) {
+        super.addCloudletToExecList(cloudlet);
+        addToWeightSumOfRunningCloudlets(getCloudletWeight(cloudlet));
+    }
+
+    @Override
+    protected CloudletExecutionInfo removeCloudletFromExecList(CloudletExecutionInfo cloudlet) {
+        final CloudletExecutionInfo removed = super.removeCloudletFromExecList(cloudlet);
+        if(getCloudletExecList().isEmpty()) {
+            resetWeightSumOfRunningCloudlets();
+        } else if(removed != CloudletExecutionInfo.NULL) {
+            addToWeightSumOfRunningCloudlets(-getCloudletWeight(removed));
+        }
+
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since a paused Cloudlet may be removed from the execution list,
+     * the weight sum of running Cloudlets is recomputed.
+     *
+     * @param cloudletId {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean cloudletPause(int cloudletId) {
+        final boolean paused = super.cloudletPause(cloudletId);
+        recomputeWeightSumOfRunningCloudlets();
+        return paused;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Since a canceled Cloudlet may be removed from the execution list,
+     * the weight sum of running Cloudlets is recomputed.
+     *
+     * @param cloudletId {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Cloudlet cloudletCancel(int cloudletId) {
+        final Cloudlet cloudlet = super.cloudletCancel(cloudletId);
+        recomputeWeightSumOfRunningCloudlets();
+        return cloudlet;
+    }
+
 	/**
 	 * Gets the minimum granularity that is the minimum amount of
 	 * time (in seconds) that is assigned to each
@@ -478,9 +592,16 @@ public final class CloudletSchedulerCompletelyFair extends CloudletSchedulerTime
         and next Cloudlets on the beginning of this list are moved
         to the execution list, the virtual runtime of these preempted Cloudlets
         is reseted so that they can compete with other waiting Cloudlets to use
-        the processor again.*/
+        the processor again.
+        Since the vruntime is the key of the runqueue tree, a Cloudlet
+        which is still waiting has to be removed before changing such a key
+        and then re-inserted to be placed at the right position.*/
         for(final CloudletExecutionInfo c: preemptedCloudlets) {
+            final boolean waiting = runQueue.remove(c);
             c.setVirtualRuntime(computeCloudletInitialVirtualRuntime(c));
+            if(waiting) {
+                runQueue.add(c);
+            }
         }
     }
 
@@ -0,0 +1,146 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+
+import java.util.*;
+
+/**
+ * A space-shared {@link CloudletScheduler} implementing the conservative backfilling policy,
+ * where every waiting Cloudlet gets a reservation for the earliest time
+ * there will be enough PEs for it, without delaying any previous reservation.
+ * This way, a Cloudlet can start out of the arrival order only if it doesn't delay
+ * any other waiting Cloudlet, making start times predictable at submission.
+ *
+ * <p>When a Cloudlet finishes earlier than estimated, reservations are
+ * recomputed in arrival order, so that waiting Cloudlets can use the released PEs.
+ * As defined by A. W. Mu'alem and D. G. Feitelson, "Utilization, predictability, workloads,
+ * and user runtime estimates in scheduling the IBM SP2 with backfilling", IEEE TPDS, 2001.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see CloudletSchedulerEasyBackfilling
+ */
+public class CloudletSchedulerConservativeBackfilling extends CloudletSchedulerBackfillingAbstract {
+    private final Map<CloudletExecutionInfo, Allocation> reservations;
+    private final NavigableSet<Allocation> reservationsByStart;
+
+    /**
+     * Indicates if reservations have to be recomputed because
+     * some Cloudlet finished earlier than estimated.
+     */
+    private boolean compressionRequired;
+
+    public CloudletSchedulerConservativeBackfilling() {
+        super();
+        this.reservations = new HashMap<>();
+        this.reservationsByStart = new TreeSet<>(Allocation.START_COMPARATOR);
+    }
+
+    @Override
+    public boolean canAddCloudletToExecutionList(final CloudletExecutionInfo cloudlet) {
+        return canStartNow(cloudlet);
+    }
+
+    @Override
+    protected void addCloudletToWaitingList(final CloudletExecutionInfo cloudlet) {
+        super.addCloudletToWaitingList(cloudlet);
+        if(getWaitingQueue().contains(cloudlet)) {
+            addReservation(reserve(cloudlet, getCurrentTime()));
+        }
+    }
+
+    @Override
+    protected void onEarlyCompletion(final CloudletExecutionInfo cloudlet) {
+        compressionRequired = true;
+    }
+
+    @Override
+    protected void moveNextCloudletsFromWaitingToExecList() {
+        if(compressionRequired) {
+            compressReservations();
+        }
+
+        final double time = getCurrentTime();
+        final List<CloudletExecutionInfo> delayed = new ArrayList<>();
+        while(!reservationsByStart.isEmpty() && reservationsByStart.first().getStart() <= time) {
+            final Allocation reservation = reservationsByStart.pollFirst();
+            final CloudletExecutionInfo cloudlet = reservation.getCloudlet();
+            reservations.remove(cloudlet);
+            cancelReservation(reservation);
+
+            //The Cloudlet was canceled or started by other means
+            if(!getWaitingQueue().contains(cloudlet)) {
+                continue;
+            }
+
+            if(canStartNow(cloudlet)) {
+                getWaitingQueue().remove(cloudlet);
+                addCloudletToExecList(cloudlet);
+            } else {
+                delayed.add(cloudlet);
+            }
+        }
+
+        //Cloudlets running longer than estimated have delayed reserved ones
+        delayed.forEach(cloudlet -> addReservation(reserve(cloudlet, time)));
+    }
+
+    /**
+     * Recomputes the reservation of every waiting Cloudlet in arrival order,
+     * so that they can start earlier on PEs released by Cloudlets
+     * that finished before their estimated time.
+     * Reservations of Cloudlets not waiting anymore are just discarded.
+     */
+    private void compressReservations() {
+        compressionRequired = false;
+        reservationsByStart.forEach(this::cancelReservation);
+        reservationsByStart.clear();
+        reservations.clear();
+
+        final double time = getCurrentTime();
+        for (final CloudletExecutionInfo cloudlet : getWaitingQueue()) {
+            addReservation(reserve(cloudlet, time));
+        }
+    }
+
+    private void addReservation(final Allocation reservation) {
+        reservations.put(reservation.getCloudlet(), reservation);
+        reservationsByStart.add(reservation);
+    }
+
+    /**
+     * Gets the time a waiting Cloudlet is expected to start,
+     * according to its current reservation.
+     *
+     * @param cloudlet the waiting Cloudlet
+     * @return the Cloudlet reserved start time or {@link Double#NaN} if the
+     * Cloudlet is not waiting
+     */
+    public double getReservedStartTime(final CloudletExecutionInfo cloudlet) {
+        final Allocation reservation = reservations.get(cloudlet);
+        return reservation == null ? Double.NaN : reservation.getStart();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+
+import java.util.Iterator;
+
+/**
+ * A space-shared {@link CloudletScheduler} implementing the EASY (aggressive) backfilling policy,
+ * where waiting Cloudlets run in arrival order, but just the first waiting Cloudlet
+ * (the queue head) gets a reservation for the earliest time there will be enough PEs for it.
+ * Any other waiting Cloudlet can start out of order if there are enough free PEs for it
+ * and it doesn't delay the queue head.
+ *
+ * <p>This is the policy used by most production HPC schedulers,
+ * as defined by D. Lifka, "The ANL/IBM SP scheduling system", JSSPP 1995.
+ * </p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see CloudletSchedulerConservativeBackfilling
+ */
+public class CloudletSchedulerEasyBackfilling extends CloudletSchedulerBackfillingAbstract {
+    @Override
+    public boolean canAddCloudletToExecutionList(final CloudletExecutionInfo cloudlet) {
+        if(!canStartNow(cloudlet)) {
+            return false;
+        }
+
+        if(getWaitingQueue().isEmpty()) {
+            return true;
+        }
+
+        final Allocation headReservation = reserve(getWaitingQueue().iterator().next(), getCurrentTime());
+        try {
+            return canStartNow(cloudlet);
+        } finally {
+            cancelReservation(headReservation);
+        }
+    }
+
+    @Override
+    protected void moveNextCloudletsFromWaitingToExecList() {
+        final Iterator<CloudletExecutionInfo> it = getWaitingQueue().iterator();
+        CloudletExecutionInfo head = null;
+        while(it.hasNext()) {
+            final CloudletExecutionInfo cloudlet = it.next();
+            if(!canStartNow(cloudlet)) {
+                head = cloudlet;
+                break;
+            }
+
+            it.remove();
+            addCloudletToExecList(cloudlet);
+        }
+
+        if(head == null || getFreePes() == 0) {
+            return;
+        }
+
+        final Allocation headReservation = reserve(head, getCurrentTime());
+        while(it.hasNext() && getFreePes() > 0) {
+            final CloudletExecutionInfo cloudlet = it.next();
+            if(canStartNow(cloudlet)) {
+                it.remove();
+                addCloudletToExecList(cloudlet);
+            }
+        }
+
+        cancelReservation(headReservation);
+    }
+}
@@ -2,6 +2,7 @@ package org.cloudbus.cloudsim.schedulers.cloudlet;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.schedulers.cloudlet.network.PacketScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -48,6 +49,9 @@ final class CloudletSchedulerNull implements CloudletScheduler {
     @Override public double getCurrentRequestedRamPercentUtilization() {
         return 0.0;
     }
+    @Override public double[] getCloudletsAbsoluteUtilization(Class<? extends ResourceManageable> resourceClass, double time, double[] utilizations) {
+        return utilizations == null ? new double[0] : utilizations;
+    }
     @Override public double getPreviousTime() {
         return 0.0;
     }
@@ -89,6 +93,7 @@ final class CloudletSchedulerNull implements CloudletScheduler {
     @Override public Set<Cloudlet> getCloudletReturnedList() { return Collections.EMPTY_SET; }
     @Override public boolean isCloudletReturned(Cloudlet cloudlet) { return false; }
     @Override public void addCloudletToReturnedList(Cloudlet cloudlet) {}
+    @Override public boolean removeReturnedCloudlet(Cloudlet cloudlet) { return false; }
     @Override public List<CloudletExecutionInfo> getCloudletFinishedList() { return Collections.emptyList(); }
     @Override public boolean isEmpty() { return false; }
     @Override public List<CloudletExecutionInfo> getCloudletWaitingList() { return Collections.EMPTY_LIST; }
@@ -12,6 +12,8 @@ import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
 
 import org.cloudbus.cloudsim.resources.Pe;
 
+import java.util.Collection;
+
 /**
  * CloudletSchedulerSpaceShared implements a policy of scheduling performed by a
  * virtual machine to run its {@link Cloudlet Cloudlets}. It considers there
@@ -31,6 +33,22 @@ import org.cloudbus.cloudsim.resources.Pe;
  * @since CloudSim Toolkit 1.0
  */
 public class CloudletSchedulerSpaceShared extends CloudletSchedulerAbstract {
+    /**
+     * Creates a space-shared scheduler.
+     */
+    public CloudletSchedulerSpaceShared() {
+        super();
+    }
+
+    /**
+     * Creates a space-shared scheduler that stores waiting Cloudlets into a given Collection.
+     *
+     * @param cloudletWaitingList the empty Collection where to store waiting Cloudlets
+     * @see CloudletSchedulerAbstract#CloudletSchedulerAbstract(Collection)
+     */
+    protected CloudletSchedulerSpaceShared(final Collection<CloudletExecutionInfo> cloudletWaitingList) {
+        super(cloudletWaitingList);
+    }
 
     @Override
     public double cloudletResume(int cloudletId) {
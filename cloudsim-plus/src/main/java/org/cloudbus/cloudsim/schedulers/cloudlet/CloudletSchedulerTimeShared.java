@@ -10,6 +10,7 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
 import org.cloudbus.cloudsim.schedulers.vm.VmScheduler;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -70,6 +71,22 @@ import java.util.List;
  * @see CloudletSchedulerCompletelyFair
  */
 public class CloudletSchedulerTimeShared extends CloudletSchedulerAbstract {
+    /**
+     * Creates a time-shared CloudletScheduler.
+     */
+    public CloudletSchedulerTimeShared() {
+        super();
+    }
+
+    /**
+     * Creates a time-shared CloudletScheduler that stores waiting Cloudlets into a given Collection.
+     *
+     * @param cloudletWaitingList the empty Collection where to store waiting Cloudlets
+     * @see CloudletSchedulerAbstract#CloudletSchedulerAbstract(Collection)
+     */
+    protected CloudletSchedulerTimeShared(final Collection<CloudletExecutionInfo> cloudletWaitingList) {
+        super(cloudletWaitingList);
+    }
 
     /**
      * {@inheritDoc}
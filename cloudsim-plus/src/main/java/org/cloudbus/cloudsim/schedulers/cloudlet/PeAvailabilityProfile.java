@@ -0,0 +1,211 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An availability profile of PEs along the time, used by backfilling schedulers
+ * to know when there will be enough PEs to run a Cloudlet.
+ * It is a skyline (a step function) that stores, for each time the number of used PEs changes,
+ * the number of PEs used from that time until the next change.
+ * The steps are kept in a Red-Black tree ({@link TreeMap}), so that
+ * finding the step for a given time is O(log n) and
+ * allocating PEs or checking if a Cloudlet fits into an interval is O(log n + k),
+ * where k is the number of steps inside such an interval.
+ *
+ * <p>The profile stores used PEs instead of free ones, so that
+ * it's not affected by changes in the number of VM PEs.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+final class PeAvailabilityProfile implements Serializable {
+    /**
+     * Maps a time to the number of PEs used from that time until the next key.
+     */
+    private final NavigableMap<Double, Long> usedPes;
+
+    PeAvailabilityProfile() {
+        usedPes = new TreeMap<>();
+        usedPes.put(0.0, 0L);
+    }
+
+    /**
+     * Gets the number of PEs used at a given time.
+     * @param time the time to get the used PEs
+     * @return
+     */
+    long getUsedPes(final double time) {
+        final Map.Entry<Double, Long> entry = usedPes.floorEntry(time);
+        return entry == null ? 0 : entry.getValue();
+    }
+
+    /**
+     * Allocates a number of PEs along a time interval.
+     *
+     * @param start the interval start time (inclusive)
+     * @param end the interval end time (exclusive)
+     * @param pes the number of PEs to allocate
+     */
+    void allocate(final double start, final double end, final long pes) {
+        add(start, end, pes);
+    }
+
+    /**
+     * Releases a number of PEs previously allocated along a time interval.
+     *
+     * @param start the interval start time (inclusive)
+     * @param end the interval end time (exclusive)
+     * @param pes the number of PEs to release
+     */
+    void release(final double start, final double end, final long pes) {
+        add(start, end, -pes);
+    }
+
+    private void add(final double start, final double end, final long pes) {
+        if(end <= start || pes == 0 || Double.isInfinite(start)) {
+            return;
+        }
+
+        split(start);
+        split(end);
+        for (final Map.Entry<Double, Long> entry : usedPes.subMap(start, true, end, false).entrySet()) {
+            entry.setValue(entry.getValue() + pes);
+        }
+
+        merge(start);
+        merge(end);
+    }
+
+    /**
+     * Adds a step at a given time, with the same number of used PEs of the step where it is.
+     * @param time the time to add the step
+     */
+    private void split(final double time) {
+        if(!usedPes.containsKey(time)) {
+            usedPes.put(time, getUsedPes(time));
+        }
+    }
+
+    /**
+     * Removes the step at a given time if it has the same number of used PEs of the previous step.
+     * @param time the time of the step
+     */
+    private void merge(final double time) {
+        final Map.Entry<Double, Long> previous = usedPes.lowerEntry(time);
+        final Long value = usedPes.get(time);
+        if(previous != null && previous.getValue().equals(value)) {
+            usedPes.remove(time);
+        }
+    }
+
+    /**
+     * Checks if a number of PEs is free along an entire time interval.
+     *
+     * @param start the interval start time (inclusive)
+     * @param end the interval end time (exclusive)
+     * @param pes the number of required PEs
+     * @param capacity the total number of PEs
+     * @return true if the PEs are free along the interval, false otherwise
+     */
+    boolean fits(final double start, final double end, final long pes, final long capacity) {
+        if(pes > capacity) {
+            return false;
+        }
+
+        final Double first = usedPes.floorKey(start);
+        for (final long used : usedPes.subMap(first == null ? start : first, true, end, false).values()) {
+            if(capacity - used < pes) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Finds the earliest time, from a given one, when a number of PEs
+     * will be free along a given duration.
+     *
+     * @param from the time to start searching
+     * @param duration the time the PEs are required
+     * @param pes the number of required PEs
+     * @param capacity the total number of PEs
+     * @return the earliest start time or {@link Double#POSITIVE_INFINITY} if
+     * the number of PEs is greater than the capacity
+     */
+    double findEarliestStart(final double from, final double duration, final long pes, final long capacity) {
+        if(pes > capacity) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final Double first = usedPes.floorKey(from);
+        final Iterator<Map.Entry<Double, Long>> it = usedPes.tailMap(first == null ? from : first, true).entrySet().iterator();
+        double candidate = from;
+        Map.Entry<Double, Long> entry = it.hasNext() ? it.next() : null;
+        while (entry != null) {
+            final Map.Entry<Double, Long> next = it.hasNext() ? it.next() : null;
+            final double stepEnd = next == null ? Double.POSITIVE_INFINITY : next.getKey();
+            if(capacity - entry.getValue() < pes) {
+                candidate = stepEnd;
+            } else if(candidate + duration <= stepEnd) {
+                return candidate;
+            }
+
+            entry = next;
+        }
+
+        return candidate;
+    }
+
+    /**
+     * Removes the steps before a given time, since the past
+     * is not relevant for scheduling decisions anymore.
+     *
+     * @param time the current time
+     */
+    void removeStepsBefore(final double time) {
+        final Map.Entry<Double, Long> current = usedPes.floorEntry(time);
+        if(current == null || current.getKey() == time) {
+            usedPes.headMap(time, false).clear();
+            return;
+        }
+
+        usedPes.headMap(time, false).clear();
+        usedPes.put(time, current.getValue());
+    }
+
+    /**
+     * Gets the number of steps in the profile.
+     * @return
+     */
+    int size() {
+        return usedPes.size();
+    }
+}
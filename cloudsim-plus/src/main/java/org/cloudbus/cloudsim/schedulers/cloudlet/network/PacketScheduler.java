@@ -8,6 +8,7 @@
 package org.cloudbus.cloudsim.schedulers.cloudlet.network;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletExecutionTask;
 import org.cloudbus.cloudsim.cloudlets.network.CloudletTask;
 import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
 import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
@@ -17,6 +18,7 @@ import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletScheduler;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudbus.cloudsim.vms.network.NetworkVm;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
@@ -37,7 +39,7 @@ import java.util.List;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface PacketScheduler {
+public interface PacketScheduler extends Serializable {
 
     /**
      * An attribute that implements the Null Object Design Pattern for {@link PacketScheduler}
@@ -102,4 +104,32 @@ public interface PacketScheduler {
      * @return true if its timie to update Cloudlet execution, false otherwise.
      */
     boolean isTimeToUpdateCloudletProcessing(Cloudlet cloudlet);
+
+    /**
+     * Checks if a given Cloudlet is blocked waiting for packets to be received,
+     * thus there is nothing to process for it until all the expected packets arrive.
+     * Packets are delivered to such a Cloudlet as soon as they arrive and,
+     * when the last expected one arrives, the Datacenter is notified to update
+     * the Cloudlet processing.
+     *
+     * @param cloudlet the Cloudlet to check
+     * @return true if the Cloudlet is waiting for packets, false otherwise
+     */
+    boolean isWaitingForPackets(Cloudlet cloudlet);
+
+    /**
+     * Gets the length (in MI) a given Cloudlet has yet to execute
+     * until its current stage finishes.
+     * If the Cloudlet is a {@link NetworkCloudlet} executing a {@link CloudletExecutionTask},
+     * that is the remaining length of such a task.
+     * Otherwise, it is the remaining length of the entire Cloudlet.
+     *
+     * <p>It enables the {@link CloudletScheduler} to schedule the processing update
+     * exactly when the current task finishes, so that the next task starts
+     * without waiting for the next Datacenter's scheduling interval.</p>
+     *
+     * @param cloudlet the Cloudlet to get the remaining length of its current stage
+     * @return the remaining length of the current stage (in MI)
+     */
+    long getRemainingLengthOfCurrentTask(Cloudlet cloudlet);
 }
@@ -41,4 +41,11 @@ final class PacketSchedulerNull implements PacketScheduler {
     public boolean isTimeToUpdateCloudletProcessing(Cloudlet cloudlet) {
         return true;
     }
+    @Override public boolean isWaitingForPackets(Cloudlet cloudlet) {
+        return false;
+    }
+    @Override
+    public long getRemainingLengthOfCurrentTask(Cloudlet cloudlet) {
+        return Math.max(cloudlet.getLength() - cloudlet.getFinishedLengthSoFar(), 0);
+    }
 }
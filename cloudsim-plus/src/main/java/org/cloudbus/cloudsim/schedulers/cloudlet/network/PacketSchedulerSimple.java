@@ -8,17 +8,18 @@
 package org.cloudbus.cloudsim.schedulers.cloudlet.network;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.network.VmPacket;
 import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.util.SimulationLogger;
 
 import org.cloudbus.cloudsim.cloudlets.network.CloudletExecutionTask;
 import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
 import org.cloudbus.cloudsim.cloudlets.network.CloudletSendTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletTask;
 import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -48,11 +49,14 @@ public class PacketSchedulerSimple implements PacketScheduler {
     private final List<VmPacket> vmPacketsToSend;
 
     /**
-     * A map of {@link VmPacket}'s received, where each key is the
-     * sender VM and each value is the list of packets sent by that VM
-     * targeting the VM of this scheduler.
+     * An index of {@link VmPacket}'s received, where each key is the
+     * receiver Cloudlet and each value is a map of the packets sent to that Cloudlet.
+     * In such an internal map, each key is the sender VM and each value is the list
+     * of packets sent by that VM targeting the receiver Cloudlet.
+     * It allows a {@link CloudletReceiveTask} to find its packets without filtering
+     * all packets received by the VM of this scheduler.
      */
-    private final Map<Vm, List<VmPacket>> vmPacketsReceivedMap;
+    private final Map<Cloudlet, Map<Vm, List<VmPacket>>> vmPacketsReceivedMap;
 
     /**
      * Creates a PacketSchedulerSimple object.
@@ -68,7 +72,12 @@ public class PacketSchedulerSimple implements PacketScheduler {
 
     @Override
     public void processCloudletPackets(Cloudlet cloudlet, double currentTime) {
-        if (cloudlet.isFinished() || isNotNetworkCloudlet(cloudlet)) {
+        if (isNotNetworkCloudlet(cloudlet)) {
+            return;
+        }
+
+        if (cloudlet.isFinished()) {
+            vmPacketsReceivedMap.remove(cloudlet);
             return;
         }
 
@@ -108,6 +117,29 @@ public class PacketSchedulerSimple implements PacketScheduler {
         return nc.isTasksStarted() && nc.getCurrentTask() instanceof CloudletExecutionTask;
     }
 
+    @Override
+    public boolean isWaitingForPackets(Cloudlet cloudlet) {
+        if(isNotNetworkCloudlet(cloudlet) || cloudlet.isFinished()){
+            return false;
+        }
+
+        final CloudletTask task = ((NetworkCloudlet)cloudlet).getCurrentTask();
+        return task instanceof CloudletReceiveTask && !task.isFinished();
+    }
+
+    @Override
+    public long getRemainingLengthOfCurrentTask(Cloudlet cloudlet) {
+        final long cloudletRemainingLength = Math.max(cloudlet.getLength() - cloudlet.getFinishedLengthSoFar(), 0);
+        if(!isTimeToUpdateCloudletProcessing(cloudlet) || isNotNetworkCloudlet(cloudlet)){
+            return cloudletRemainingLength;
+        }
+
+        /*A CloudletExecutionTask is finished when the total length executed by the Cloudlet
+        reaches the task length (see updateExecutionTask).*/
+        final CloudletExecutionTask task = (CloudletExecutionTask)((NetworkCloudlet)cloudlet).getCurrentTask();
+        return Math.min(Math.max(task.getLength() - cloudlet.getFinishedLengthSoFar(), 0), cloudletRemainingLength);
+    }
+
     private boolean isNotNetworkCloudlet(Cloudlet cloudlet) {
         return !(cloudlet instanceof NetworkCloudlet);
     }
@@ -121,7 +153,7 @@ public class PacketSchedulerSimple implements PacketScheduler {
      */
     private void addPacketsToBeSentFromVm(NetworkCloudlet sourceCloudlet) {
         final CloudletSendTask dataTask = (CloudletSendTask)sourceCloudlet.getCurrentTask();
-        Log.println(Log.Level.DEBUG, getClass(), sourceCloudlet.getSimulation().clock(),
+        sourceCloudlet.getSimulation().getLogger().debug(getClass(),
                 "%d pkts added to be sent from cloudlet %d in VM %d",
                 dataTask.getPacketsToSend().size(), sourceCloudlet.getId(),
                 sourceCloudlet.getVm().getId());
@@ -131,31 +163,13 @@ public class PacketSchedulerSimple implements PacketScheduler {
     }
 
     /**
-     * Check for packets to be received by a given cloudlet
-     * and deliver them to it.
+     * Delivers the packets already arrived for a given cloudlet
+     * and starts its next task if all the expected packets were received.
      *
      * @param sourceCloudlet cloudlet to check if there are packets to be received from.
      */
     private void receivePackets(NetworkCloudlet sourceCloudlet) {
-        final CloudletReceiveTask task = (CloudletReceiveTask)sourceCloudlet.getCurrentTask();
-        final List<VmPacket> receivedPkts = getPacketsSentToGivenTask(task);
-        // Asumption: packet will not arrive in the same cycle
-        receivedPkts.forEach(task::receivePacket);
-        receivedPkts.forEach(pkt ->
-            Log.println(
-                Log.Level.DEBUG, getClass(), sourceCloudlet.getSimulation().clock(),
-                "Cloudlet %d in VM %d received pkt with %d bytes from Cloudlet %d in VM %d",
-                pkt.getReceiverCloudlet().getId(),
-                pkt.getDestination().getId(),
-                pkt.getSize(),
-                pkt.getSenderCloudlet().getId(),
-                pkt.getSource().getId())
-        );
-
-        /*Removes the received packets from the list of sent packets of the VM,
-        to indicate they were in fact received and have to be removed
-        from the list of the sender VM*/
-        getListOfPacketsSentFromVm(task.getSourceVm()).removeAll(receivedPkts);
+        deliverPackets((CloudletReceiveTask)sourceCloudlet.getCurrentTask());
 
         /**
          * @todo @author manoelcampos The task has to wait the reception
@@ -165,19 +179,61 @@ public class PacketSchedulerSimple implements PacketScheduler {
         scheduleNextTaskIfCurrentIsFinished(sourceCloudlet);
     }
 
+    /**
+     * Delivers the packets sent to a {@link CloudletReceiveTask} that have arrived
+     * but were not delivered yet, removing them from the index of received packets.
+     *
+     * @param task the task to deliver packets to, which must be the current task of its cloudlet
+     */
+    private void deliverPackets(CloudletReceiveTask task) {
+        final List<VmPacket> receivedPkts = getPacketsSentToGivenTask(task);
+        if(receivedPkts.isEmpty()){
+            return;
+        }
+
+        receivedPkts.forEach(task::receivePacket);
+        final SimulationLogger logger = task.getCloudlet().getSimulation().getLogger();
+        if(logger.isEnabled(Log.Level.DEBUG)) {
+            receivedPkts.forEach(pkt ->
+                logger.debug(
+                    getClass(),
+                    "Cloudlet %d in VM %d received pkt with %d bytes from Cloudlet %d in VM %d",
+                    pkt.getReceiverCloudlet().getId(),
+                    pkt.getDestination().getId(),
+                    pkt.getSize(),
+                    pkt.getSenderCloudlet().getId(),
+                    pkt.getSource().getId())
+            );
+        }
+
+        /*Removes the received packets from the list of sent packets of the VM,
+        to indicate they were in fact received and have to be removed
+        from the list of the sender VM*/
+        receivedPkts.clear();
+    }
+
     /**
      * Gets the list of packets sent to a given CloudletReceiveTask.
      * @param destinationTask The task that is waiting for packets
-     * @return
+     * @return the list of packets or an empty list if no packet was sent to the task
      */
     private List<VmPacket> getPacketsSentToGivenTask(CloudletReceiveTask destinationTask) {
-        final List<VmPacket> pktsFromExpectedSenderVm =
-                getListOfPacketsSentFromVm(destinationTask.getSourceVm());
+        final Map<Vm, List<VmPacket>> pktsBySenderVm = vmPacketsReceivedMap.get(destinationTask.getCloudlet());
+        if(Objects.isNull(pktsBySenderVm)){
+            return Collections.emptyList();
+        }
 
-        return pktsFromExpectedSenderVm
-                .stream()
-                .filter(pkt -> pkt.getDestination().getId() == destinationTask.getCloudlet().getVm().getId())
-                .collect(Collectors.toList());
+        return pktsBySenderVm.getOrDefault(destinationTask.getSourceVm(), Collections.emptyList());
+    }
+
+    /**
+     * Gets the number of Cloudlets which have received packets in this scheduler
+     * that were not discarded yet.
+     * The packets index of a Cloudlet is discarded when it finishes.
+     * @return the number of Cloudlets having an index of received packets
+     */
+    int getNumberOfReceiverCloudlets() {
+        return vmPacketsReceivedMap.size();
     }
 
     private void updateExecutionTask(NetworkCloudlet cloudlet) {
@@ -194,12 +250,25 @@ public class PacketSchedulerSimple implements PacketScheduler {
 
     /**
      * Schedules the execution of the next task of a given cloudlet.
+     * If such a task is a {@link CloudletReceiveTask}, the packets that arrived
+     * before it started are delivered right away.
      */
     private void scheduleNextTaskIfCurrentIsFinished(NetworkCloudlet cloudlet) {
         if(!cloudlet.startNextTaskIfCurrentIsFinished(cloudlet.getSimulation().clock())){
             return;
         }
 
+        if(cloudlet.getCurrentTask() instanceof CloudletReceiveTask) {
+            deliverPackets((CloudletReceiveTask)cloudlet.getCurrentTask());
+        }
+
+        notifyDatacenterToUpdateProcessing();
+    }
+
+    /**
+     * Sends an event to the Datacenter of the {@link #getVm() Vm} to update Cloudlets processing.
+     */
+    private void notifyDatacenterToUpdateProcessing() {
         final Datacenter dc = getVm().getHost().getDatacenter();
         dc.schedule(dc.getId(), dc.getSimulation().getMinTimeBetweenEvents(), CloudSimTags.VM_UPDATE_CLOUDLET_PROCESSING_EVENT);
     }
@@ -226,18 +295,62 @@ public class PacketSchedulerSimple implements PacketScheduler {
 
     /**
      * Gets the list of packets received that were sent from a given VM,
-     * targeting the VM of this scheduler.
+     * targeting a given Cloudlet running in the VM of this scheduler.
      *
      * @param sourceVm VM to get the list of packets sent from
-     * @return the list of packets sent from the given VM
+     * @param receiverCloudlet the Cloudlet the packets are sent to
+     * @return the list of packets sent from the given VM to the given Cloudlet
      */
-    private List<VmPacket> getListOfPacketsSentFromVm(Vm sourceVm){
-        vmPacketsReceivedMap.putIfAbsent(sourceVm, new ArrayList<>());
-        return vmPacketsReceivedMap.get(sourceVm);
+    private List<VmPacket> getListOfPacketsSent(Vm sourceVm, Cloudlet receiverCloudlet){
+        return vmPacketsReceivedMap
+                .computeIfAbsent(receiverCloudlet, cloudlet -> new HashMap<>())
+                .computeIfAbsent(sourceVm, vm -> new ArrayList<>());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>If the receiver Cloudlet is waiting for the packet, it is delivered right away.
+     * Otherwise, it is kept until the Cloudlet starts the {@link CloudletReceiveTask} expecting it.
+     * If the packet is the last one the receiver Cloudlet is waiting for,
+     * the Datacenter is notified to update Cloudlets processing,
+     * so that the Cloudlet starts its next task without waiting for the next scheduling interval.</p>
+     *
+     * @param pkt {@inheritDoc}
+     * @return {@inheritDoc}
+     */
     @Override
     public boolean addPacketToListOfPacketsSentFromVm(VmPacket pkt){
-        return getListOfPacketsSentFromVm(pkt.getSource()).add(pkt);
+        getListOfPacketsSent(pkt.getSource(), pkt.getReceiverCloudlet()).add(pkt);
+
+        final CloudletReceiveTask task = getReceiveTaskWaitingForPacket(pkt);
+        if(!Objects.isNull(task)) {
+            deliverPackets(task);
+            if(task.isFinished()) {
+                notifyDatacenterToUpdateProcessing();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the {@link CloudletReceiveTask} the receiver Cloudlet of a packet is currently executing,
+     * if such a task expects packets from the VM which sent the given packet.
+     *
+     * @param pkt the received packet
+     * @return the receive task waiting for the packet or null if the receiver Cloudlet
+     * is not waiting for packets from the packet's source VM
+     */
+    private CloudletReceiveTask getReceiveTaskWaitingForPacket(VmPacket pkt) {
+        if(isNotNetworkCloudlet(pkt.getReceiverCloudlet())){
+            return null;
+        }
+
+        final CloudletTask task = ((NetworkCloudlet)pkt.getReceiverCloudlet()).getCurrentTask();
+        if(task instanceof CloudletReceiveTask && !task.isFinished() && ((CloudletReceiveTask)task).getSourceVm() == pkt.getSource()){
+            return (CloudletReceiveTask)task;
+        }
+
+        return null;
     }
 }
@@ -7,6 +7,7 @@
  */
 package org.cloudbus.cloudsim.schedulers.vm;
 
+import java.io.Serializable;
 import java.util.List;
 
 import org.cloudbus.cloudsim.hosts.Host;
@@ -31,7 +32,7 @@ import org.cloudbus.cloudsim.resources.Resource;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0
  */
-public interface VmScheduler {
+public interface VmScheduler extends Serializable {
 
     /**
      * An attribute that implements the Null Object Design Pattern for {@link VmScheduler}
@@ -9,7 +9,6 @@ package org.cloudbus.cloudsim.schedulers.vm;
 import java.util.*;
 
 import static java.util.stream.Collectors.toList;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.resources.Pe;
 import org.cloudbus.cloudsim.vms.Vm;
 
@@ -167,7 +166,7 @@ public class VmSchedulerTimeShared extends VmSchedulerAbstract {
         final String msg = allocatedMipsForVmPe > 0 ?
                 String.format("Only %.0f MIPS were allocated.", allocatedMipsForVmPe)
                 : "No MIPS were allocated.";
-        Log.printFormattedLine(
+        getHost().getSimulation().getLogger().info(getClass(),
                 "%.2f: %s: %s is requiring a total of %.0f MIPS but the PEs of %s\n\t currently don't have such an available MIPS amount. %s",
                 getHost().getSimulation().clock(),
                 getClass().getSimpleName(), vm,
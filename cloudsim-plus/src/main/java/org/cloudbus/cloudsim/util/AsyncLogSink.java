@@ -0,0 +1,270 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import java.io.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A {@link LogSink} that formats and writes records in a background thread,
+ * taking the formatting and I/O out of the simulation thread.
+ * Records are written in a compact format, with one record per line and
+ * tab-separated fields: the simulation time, the level, the name of the
+ * source class and the message.
+ *
+ * <p>Since messages are formatted later, the arguments of a message
+ * should be immutable values (such as numbers and strings),
+ * not objects whose state changes along the simulation.
+ * When the buffer is full, the simulation thread waits for
+ * the background thread to make room for new records, thus no record is lost.
+ * The sink must be {@link #close() closed} at the end, to write all pending
+ * records and finish the background thread.</p>
+ *
+ * <p>If writing to the output or formatting a record fails, the first error is kept and
+ * thrown by the next call to {@link #flush()} or {@link #close()}.
+ * The remaining records keep being written.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class AsyncLogSink implements LogSink, Closeable {
+    /**
+     * The default maximum number of records waiting to be written.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * A record indicating the background thread has to finish.
+     */
+    private static final Record CLOSE = new Record(Log.Level.INFO, 0, Object.class, "");
+
+    private final BlockingQueue<Record> queue;
+    private final Writer writer;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    /**
+     * The first error that happened when formatting or writing records, or null if none happened.
+     */
+    private volatile Exception failure;
+
+    /**
+     * Creates a sink with a {@link #DEFAULT_CAPACITY} buffer.
+     *
+     * @param output the stream to write the records to
+     */
+    public AsyncLogSink(final OutputStream output) {
+        this(output, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a sink with a given buffer capacity.
+     *
+     * @param output the stream to write the records to
+     * @param capacity the maximum number of records waiting to be written
+     */
+    public AsyncLogSink(final OutputStream output, final int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.writer = new BufferedWriter(new OutputStreamWriter(output));
+        this.thread = new Thread(this::writeRecords, getClass().getSimpleName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !closed;
+    }
+
+    @Override
+    public void write(final Log.Level level, final double time, final Class source, final String format, final Object... args) {
+        if(closed){
+            throw new IllegalStateException(getClass().getSimpleName() + " is closed.");
+        }
+
+        put(new Record(level, time, source, format, args));
+    }
+
+    /**
+     * {@inheritDoc}
+     * It waits until all records sent so far are written.
+     *
+     * @throws UncheckedIOException when some record could not be written
+     * @throws IllegalStateException when some record could not be formatted
+     */
+    @Override
+    public void flush() {
+        if(closed){
+            return;
+        }
+
+        final Record flushRecord = new Record(Log.Level.INFO, 0, Object.class, "");
+        flushRecord.written = new CountDownLatch(1);
+        put(flushRecord);
+        try {
+            flushRecord.written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        throwFailureIfAny();
+    }
+
+    /**
+     * Writes all pending records, finishes the background thread
+     * and closes the output stream.
+     *
+     * @throws UncheckedIOException when some record could not be written
+     * or the output stream could not be closed
+     * @throws IllegalStateException when some record could not be formatted
+     */
+    @Override
+    public void close() {
+        if(closed){
+            return;
+        }
+
+        closed = true;
+        put(CLOSE);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        throwFailureIfAny();
+    }
+
+    private void throwFailureIfAny() {
+        final Exception e = failure;
+        if(e instanceof IOException) {
+            throw new UncheckedIOException((IOException) e);
+        }
+
+        if(e != null) {
+            throw new IllegalStateException("A log record could not be formatted.", e);
+        }
+    }
+
+    /**
+     * Keeps the first error that happened when writing records,
+     * so that it can be reported to the simulation thread.
+     * Runs in the background thread.
+     *
+     * @param e the error that happened
+     */
+    private void setFailure(final Exception e) {
+        if(failure == null) {
+            failure = e;
+        }
+    }
+
+    private void put(final Record record) {
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes records until the sink is closed.
+     * Runs in the background thread.
+     */
+    private void writeRecords() {
+        try {
+            Record record;
+            while ((record = queue.take()) != CLOSE) {
+                writeRecord(record);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            setFailure(e);
+        }
+    }
+
+    /**
+     * Writes a record, flushing the output when there are no more records
+     * waiting to be written or when the record is a flush request.
+     * Errors are kept instead of thrown, so that the background thread
+     * keeps running and a {@link #flush()} waiting for the record is always released.
+     *
+     * @param record the record to write
+     */
+    private void writeRecord(final Record record) {
+        try {
+            if(record.written == null) {
+                writer.write(record.toString());
+            }
+
+            if(queue.isEmpty() || record.written != null) {
+                writer.flush();
+            }
+        } catch (IOException | RuntimeException e) {
+            setFailure(e);
+        } finally {
+            if(record.written != null) {
+                record.written.countDown();
+            }
+        }
+    }
+
+    /**
+     * A log record waiting to be written.
+     */
+    private static final class Record {
+        private final Log.Level level;
+        private final double time;
+        private final Class source;
+        private final String format;
+        private final Object[] args;
+
+        /**
+         * A latch released when the record is written,
+         * used only by records requesting a {@link #flush()}.
+         */
+        private CountDownLatch written;
+
+        Record(final Log.Level level, final double time, final Class source, final String format, final Object... args) {
+            this.level = level;
+            this.time = time;
+            this.source = source;
+            this.format = format;
+            this.args = args;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.4f\t%s\t%s\t%s%n",
+                time, level.name(), source.getSimpleName(), SimulationLogger.format(format, args));
+        }
+    }
+}
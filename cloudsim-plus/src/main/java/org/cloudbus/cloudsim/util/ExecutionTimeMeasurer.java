@@ -25,8 +25,12 @@ public final class ExecutionTimeMeasurer {
      * time the method/process started (in milliseconds).
      * Usually, this name is the method/process name, making
      * it easy to identify the execution start times into the map.
+     *
+     * <p>Each thread has its own map, so that simulations running concurrently
+     * in different threads can measure processes with the same name
+     * without interfering with each other.</p>
      */
-    private static final Map<String, Long> executionStartTimes = new HashMap<>();
+    private static final ThreadLocal<Map<String, Long>> executionStartTimes = ThreadLocal.withInitial(HashMap::new);
 
     /**
      * A private constructor to avoid class instantiation.
@@ -59,13 +63,13 @@ public final class ExecutionTimeMeasurer {
     }
 
     /**
-     * Gets map the execution times.
+     * Gets map the execution times for the current thread.
      *
      * @return the execution times map
      * @see #executionStartTimes
      */
     public static Map<String, Long> getExecutionStartTimes() {
-        return executionStartTimes;
+        return executionStartTimes.get();
     }
 
 }
@@ -41,19 +41,18 @@ public final class Log {
 
     /**
      * The stream where the log will the outputted.
+     * Since multiple simulations may run concurrently in the same JVM,
+     * the field is volatile and messages are written while holding the
+     * {@link Log} class lock, avoiding the output of different threads
+     * to be mixed inside a single message.
      */
-    private static OutputStream output;
+    private static volatile OutputStream output;
 
     /**
      * Indicates if the logger is disabled or not. If set to true, the call for
      * any print method has no effect.
      */
-    private static boolean disabled;
-
-    /**
-     * Buffer to avoid creating new string builder upon every print.
-     */
-    private static StringBuilder buffer = new StringBuilder();
+    private static volatile boolean disabled;
 
     /**
      * Checks if application is running in debug mode.
@@ -63,7 +62,7 @@ public final class Log {
      *
      * @see #isDebug()
      */
-    private static boolean debug =
+    private static final boolean debug =
             ManagementFactory.getRuntimeMXBean().getInputArguments()
                     .toString().indexOf("jdwp") > 0;
 
@@ -79,10 +78,13 @@ public final class Log {
      */
     public static void print(String message) {
         if (isEnabled()) {
-            try {
-                getOutput().write(message.getBytes());
-            } catch (IOException e) {
-                e.printStackTrace();
+            final byte[] bytes = message.getBytes();
+            synchronized (Log.class) {
+                try {
+                    getOutput().write(bytes);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
             }
         }
     }
@@ -128,7 +130,7 @@ public final class Log {
      */
     public static void printConcat(Object... messages) {
         if (isEnabled()) {
-            buffer = new StringBuilder(messages.length);
+            final StringBuilder buffer = new StringBuilder(messages.length);
             for (Object message : messages) {
                 buffer.append(String.valueOf(message));
             }
@@ -144,7 +146,7 @@ public final class Log {
      */
     public static void printConcatLine(Object... messages) {
         if (isEnabled()) {
-            buffer = new StringBuilder(messages.length);
+            final StringBuilder buffer = new StringBuilder(messages.length);
             for (Object message : messages) {
                 buffer.append(String.valueOf(message));
             }
@@ -207,10 +209,8 @@ public final class Log {
      * @return the output
      */
     public static OutputStream getOutput() {
-        if (Objects.isNull(output)) {
-            setOutput(System.out);
-        }
-        return output;
+        final OutputStream out = output;
+        return Objects.isNull(out) ? System.out : out;
     }
 
     /**
@@ -0,0 +1,71 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+/**
+ * A destination for the log records of a {@link SimulationLogger}.
+ * A sink receives the message format and its arguments instead of
+ * a ready-made message, so that it decides when (and if) the message
+ * is in fact formatted.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see StaticLogSink
+ * @see AsyncLogSink
+ */
+public interface LogSink {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link LogSink}
+     * objects, which discards every record.
+     */
+    LogSink NULL = new LogSinkNull();
+
+    /**
+     * Checks if the sink is currently accepting records.
+     * When it isn't, the {@link SimulationLogger} doesn't even
+     * create the records.
+     *
+     * @return true if the sink is enabled, false otherwise
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Writes a log record.
+     *
+     * @param level the level of the message
+     * @param time the simulation time the message was logged
+     * @param source the class which logged the message
+     * @param format the message format, as accepted by {@link String#format(String, Object...)}.
+     *               If there are no arguments, it is the message itself and it isn't formatted.
+     * @param args the message arguments
+     */
+    void write(Log.Level level, double time, Class source, String format, Object... args);
+
+    /**
+     * Writes all buffered records (if any) to the underlying output.
+     */
+    default void flush() {/**/}
+}
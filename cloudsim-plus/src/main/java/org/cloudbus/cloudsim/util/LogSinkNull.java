@@ -0,0 +1,15 @@
+package org.cloudbus.cloudsim.util;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link LogSink}
+ * class.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @see LogSink#NULL
+ */
+final class LogSinkNull implements LogSink {
+    @Override public boolean isEnabled() {
+        return false;
+    }
+    @Override public void write(Log.Level level, double time, Class source, String format, Object... args) {/**/}
+}
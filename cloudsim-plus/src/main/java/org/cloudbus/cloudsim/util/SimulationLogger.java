@@ -0,0 +1,241 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.core.Simulation;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A logger that belongs to a single {@link Simulation} instance,
+ * so that simulations running in the same JVM don't share the output state.
+ * Messages are given as a format and its arguments (or as a {@link Supplier})
+ * and they are just formatted after checking that their level is enabled,
+ * and by the {@link LogSink} itself, which may do it asynchronously
+ * (see {@link AsyncLogSink}).
+ *
+ * <p>By default, records are written through the static {@link Log} class
+ * (see {@link StaticLogSink}), keeping the behaviour of previous versions.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see Simulation#getLogger()
+ */
+public class SimulationLogger {
+    /**
+     * The simulation which gives the time of each message.
+     */
+    private final Simulation simulation;
+
+    /**
+     * @see #getSink()
+     */
+    private LogSink sink;
+
+    /**
+     * @see #isEnabled()
+     */
+    private boolean enabled;
+
+    /**
+     * @see #isDebug()
+     */
+    private boolean debug;
+
+    /**
+     * Creates a logger for a given simulation that writes records
+     * through the static {@link Log} class.
+     *
+     * @param simulation the simulation that owns the logger
+     */
+    public SimulationLogger(final Simulation simulation) {
+        this(simulation, new StaticLogSink());
+    }
+
+    /**
+     * Creates a logger for a given simulation.
+     *
+     * @param simulation the simulation that owns the logger
+     * @param sink the destination of the log records
+     */
+    public SimulationLogger(final Simulation simulation, final LogSink sink) {
+        this.simulation = Objects.requireNonNull(simulation);
+        this.enabled = true;
+        this.debug = Log.isDebug();
+        setSink(sink);
+    }
+
+    /**
+     * Checks if messages of a given level are going to be logged.
+     * It may be used to avoid computing the arguments of a message
+     * that will be discarded.
+     *
+     * @param level the level to check
+     * @return true if messages of the given level are logged, false otherwise
+     */
+    public boolean isEnabled(final Log.Level level) {
+        return enabled && (level != Log.Level.DEBUG || debug) && sink.isEnabled();
+    }
+
+    /**
+     * Logs a message at a given level, if such a level is {@link #isEnabled(Log.Level) enabled}.
+     * The message is not formatted when the level is disabled.
+     *
+     * @param level the level of the message
+     * @param source the class which is logging the message
+     * @param format the message format, as accepted by {@link String#format(String, Object...)}.
+     *               If there are no arguments, it is the message itself.
+     * @param args the message arguments
+     */
+    public void log(final Log.Level level, final Class source, final String format, final Object... args) {
+        if(isEnabled(level)) {
+            sink.write(level, simulation.clock(), source, format, args);
+        }
+    }
+
+    /**
+     * Logs a message at a given level, if such a level is {@link #isEnabled(Log.Level) enabled}.
+     * The message {@link Supplier} is not called when the level is disabled.
+     *
+     * @param level the level of the message
+     * @param source the class which is logging the message
+     * @param message a {@link Supplier} which builds the message
+     */
+    public void log(final Log.Level level, final Class source, final Supplier<String> message) {
+        if(isEnabled(level)) {
+            sink.write(level, simulation.clock(), source, message.get());
+        }
+    }
+
+    /**
+     * Logs an {@link Log.Level#INFO} message.
+     *
+     * @param source the class which is logging the message
+     * @param format the message format, as accepted by {@link String#format(String, Object...)}
+     * @param args the message arguments
+     * @see #log(Log.Level, Class, String, Object...)
+     */
+    public void info(final Class source, final String format, final Object... args) {
+        log(Log.Level.INFO, source, format, args);
+    }
+
+    /**
+     * Logs an {@link Log.Level#ERROR} message.
+     *
+     * @param source the class which is logging the message
+     * @param format the message format, as accepted by {@link String#format(String, Object...)}
+     * @param args the message arguments
+     * @see #log(Log.Level, Class, String, Object...)
+     */
+    public void error(final Class source, final String format, final Object... args) {
+        log(Log.Level.ERROR, source, format, args);
+    }
+
+    /**
+     * Logs a {@link Log.Level#DEBUG} message.
+     *
+     * @param source the class which is logging the message
+     * @param format the message format, as accepted by {@link String#format(String, Object...)}
+     * @param args the message arguments
+     * @see #log(Log.Level, Class, String, Object...)
+     */
+    public void debug(final Class source, final String format, final Object... args) {
+        log(Log.Level.DEBUG, source, format, args);
+    }
+
+    /**
+     * Writes all records buffered by the {@link #getSink() sink}.
+     */
+    public void flush() {
+        sink.flush();
+    }
+
+    /**
+     * Gets the destination of the log records.
+     * @return
+     */
+    public LogSink getSink() {
+        return sink;
+    }
+
+    /**
+     * Sets the destination of the log records.
+     * @param sink the sink to set. If null, records are discarded.
+     * @return
+     */
+    public SimulationLogger setSink(final LogSink sink) {
+        this.sink = Objects.isNull(sink) ? LogSink.NULL : sink;
+        return this;
+    }
+
+    /**
+     * Checks if the logger is enabled. If it isn't, all messages are discarded.
+     * @return
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the logger.
+     * @param enabled true to enable, false to disable
+     * @return
+     */
+    public SimulationLogger setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Checks if {@link Log.Level#DEBUG} messages are logged.
+     * The default value is {@link Log#isDebug()}.
+     * @return
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * Defines if {@link Log.Level#DEBUG} messages are logged.
+     * @param debug true to log debug messages, false otherwise
+     * @return
+     */
+    public SimulationLogger setDebug(final boolean debug) {
+        this.debug = debug;
+        return this;
+    }
+
+    /**
+     * Formats a message, just calling {@link String#format(String, Object...)}
+     * when there are arguments.
+     *
+     * @param format the message format
+     * @param args the message arguments
+     * @return the formatted message
+     */
+    public static String format(final String format, final Object... args) {
+        return Objects.isNull(args) || args.length == 0 ? format : String.format(format, args);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudbus.cloudsim.util;
+
+/**
+ * A {@link LogSink} that writes records through the static {@link Log} class,
+ * honoring its {@link Log#setOutput(java.io.OutputStream) output} and
+ * {@link Log#disable() enabled/disabled} state.
+ * It is the default sink of a {@link SimulationLogger}, keeping
+ * the log format of previous versions.
+ *
+ * <p>{@link Log.Level#INFO} messages are printed as they are,
+ * while other levels are prefixed with the simulation time, level and source class,
+ * as done by {@link Log#println(Log.Level, Class, double, String, Object...)}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class StaticLogSink implements LogSink {
+    @Override
+    public boolean isEnabled() {
+        return Log.isEnabled();
+    }
+
+    @Override
+    public void write(Log.Level level, double time, Class source, String format, Object... args) {
+        final String msg = SimulationLogger.format(format, args);
+        if(level == Log.Level.INFO) {
+            Log.printLine(msg);
+            return;
+        }
+
+        Log.printFormattedLine("Time %.1f %s/%s\n   %s", time, level.name(), source.getSimpleName(), msg);
+    }
+}
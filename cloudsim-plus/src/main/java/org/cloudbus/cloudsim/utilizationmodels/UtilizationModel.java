@@ -10,6 +10,7 @@ package org.cloudbus.cloudsim.utilizationmodels;
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.core.Simulation;
 import org.cloudbus.cloudsim.vms.Vm;
+import java.io.Serializable;
 
 /**
  * The UtilizationModel interface needs to be implemented in order to provide a
@@ -23,7 +24,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Toolkit 2.0
  */
-public interface UtilizationModel {
+public interface UtilizationModel extends Serializable {
     /**
      * Defines the unit of the resource utilization.
      */
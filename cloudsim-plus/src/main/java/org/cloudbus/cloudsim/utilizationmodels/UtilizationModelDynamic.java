@@ -25,6 +25,7 @@ package org.cloudbus.cloudsim.utilizationmodels;
 
 import org.cloudbus.cloudsim.util.Conversion;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -125,7 +126,7 @@ public class UtilizationModelDynamic extends UtilizationModelAbstract {
          * The {@link #setUtilizationUpdateFunction(Function)} should be used to defined
          * a different increment function.
          */
-        utilizationUpdateFunction = um -> um.currentUtilization;
+        utilizationUpdateFunction = (Function<UtilizationModelDynamic, Double> & Serializable) um -> um.currentUtilization;
     }
 
     /**
@@ -193,8 +193,12 @@ public interface Vm extends Machine, UniquelyIdentificable, Comparable<Vm>, Cust
     /**
      * Adds a listener object that will be notified every time when
      * the processing of the Vm is updated in its {@link Host}.
+     * The {@link VmHostEventInfo} object is reused for all notifications,
+     * thus the listener must not keep a reference to it.
+     * A listener that doesn't need to be notified at every update
+     * can be wrapped by {@link EventListener#sampled(double, EventListener)}.
      *
-     * @param listener the listener to seaddt
+     * @param listener the listener to add
      * @return
      * @see #updateProcessing(double, List)
      */
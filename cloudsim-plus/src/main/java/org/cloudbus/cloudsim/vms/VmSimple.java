@@ -9,6 +9,7 @@ package org.cloudbus.cloudsim.vms;
 import java.util.*;
 import java.util.stream.LongStream;
 
+import org.cloudbus.cloudsim.core.CloudSimTags;
 import org.cloudbus.cloudsim.core.UniquelyIdentificable;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
@@ -110,6 +111,12 @@ public class VmSimple implements Vm {
     private Set<EventListener<VmHostEventInfo>> onUpdateProcessingListeners;
     private Set<EventListener<VmDatacenterEventInfo>> onCreationFailureListeners;
 
+    /**
+     * The object passed to the {@link #onUpdateProcessingListeners},
+     * which is reused for all notifications to avoid allocating a new one at every update.
+     */
+    private transient UpdateProcessingEventInfo updateProcessingInfo;
+
     private VerticalVmScaling ramVerticalScaling;
     private VerticalVmScaling bwVerticalScaling;
     private VerticalVmScaling peVerticalScaling;
@@ -757,8 +764,18 @@ public class VmSimple implements Vm {
          * Notifies all registered listeners when the processing of the Vm is updated in its {@link Host}.
          */
     public void notifyOnUpdateProcessingListeners() {
-        final VmHostEventInfo info = VmHostEventInfo.of(this);
-        onUpdateProcessingListeners.forEach(l -> l.update(info));
+        if(onUpdateProcessingListeners.isEmpty()) {
+            return;
+        }
+
+        if(updateProcessingInfo == null) {
+            updateProcessingInfo = new UpdateProcessingEventInfo();
+        }
+
+        updateProcessingInfo.time = getSimulation().clock();
+        for (final EventListener<VmHostEventInfo> listener : onUpdateProcessingListeners) {
+            listener.update(updateProcessingInfo);
+        }
     }
 
     @Override
@@ -827,10 +844,25 @@ public class VmSimple implements Vm {
         }
 
         vmScaling.setVm(this);
-        this.addOnUpdateProcessingListener(evt -> vmScaling.requestScalingIfPredicateMatch(evt.getTime()));
+        notifyDatacenterAboutNewScaling(vmScaling);
         return vmScaling;
     }
 
+    /**
+     * If the Vm is already created, notifies its Datacenter that a new scaling object
+     * was set, so that it can be periodically evaluated.
+     * Otherwise, the Datacenter will be aware of the scaling when the Vm is created.
+     *
+     * @param vmScaling the scaling object set
+     */
+    private void notifyDatacenterAboutNewScaling(final VmScaling vmScaling) {
+        if(!isCreated() || vmScaling == HorizontalVmScaling.NULL || vmScaling == VerticalVmScaling.NULL) {
+            return;
+        }
+
+        getSimulation().sendNow(getBroker().getId(), getHost().getDatacenter().getId(), CloudSimTags.VM_SCALING_EVALUATION, this);
+    }
+
     @Override
     public String getDescription() {
         return description;
@@ -841,4 +873,15 @@ public class VmSimple implements Vm {
         this.description = Objects.isNull(description) ? "" : description;
         return this;
     }
+
+    /**
+     * A {@link VmHostEventInfo} for this VM which time is updated before each notification.
+     */
+    private final class UpdateProcessingEventInfo implements VmHostEventInfo {
+        private double time;
+
+        @Override public Host getHost() { return VmSimple.this.getHost(); }
+        @Override public Vm getVm() { return VmSimple.this; }
+        @Override public double getTime() { return time; }
+    }
 }
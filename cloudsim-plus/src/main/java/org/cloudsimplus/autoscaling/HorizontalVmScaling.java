@@ -27,6 +27,7 @@ import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -52,7 +53,7 @@ import java.util.function.Supplier;
  * be introduced.
  */
 public interface HorizontalVmScaling extends VmScaling {
-    Predicate<Vm> FALSE_PREDICATE = vm -> false;
+    Predicate<Vm> FALSE_PREDICATE = (Predicate<Vm> & Serializable) vm -> false;
 
     /**
      * An attribute that implements the Null Object Design Pattern for {@link HorizontalVmScaling}
@@ -24,9 +24,9 @@
 package org.cloudsimplus.autoscaling;
 
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
-import org.cloudbus.cloudsim.util.Log;
 import org.cloudbus.cloudsim.vms.Vm;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -62,7 +62,7 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
         super();
         this.underloadPredicate = FALSE_PREDICATE;
         this.overloadPredicate = FALSE_PREDICATE;
-        this.vmSupplier = () -> Vm.NULL;
+        this.vmSupplier = (Supplier<Vm> & Serializable) () -> Vm.NULL;
     }
 
     @Override
@@ -72,7 +72,7 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
 
     @Override
     public final HorizontalVmScaling setVmSupplier(Supplier<Vm> supplier) {
-        this.vmSupplier = (Objects.isNull(supplier) ? () -> Vm.NULL : supplier);
+        this.vmSupplier = (Objects.isNull(supplier) ? (Supplier<Vm> & Serializable) () -> Vm.NULL : supplier);
         return this;
     }
 
@@ -130,12 +130,12 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
 
         final double vmCpuUsagerPercent = getVm().getCpuPercentUsage() * 100;
         Vm newVm = getVmSupplier().get();
-        Log.printFormattedLine(
+        getVm().getSimulation().getLogger().info(getClass(),
             "\t%.2f: %s%d: Requesting creation of Vm %d to receive new Cloudlets in order to balance load of Vm %d. Vm %d CPU usage is %.2f%%",
             time, getClass().getSimpleName(), getVm().getId(), newVm.getId(), getVm().getId(), getVm().getId(), vmCpuUsagerPercent);
         getVm().getBroker().submitVm(newVm);
 
-        cloudletCreationRequests = getVm().getBroker().getCloudletCreatedList().size();
+        cloudletCreationRequests = getVm().getBroker().getCloudletCreationRequests();
         return true;
     }
 
@@ -145,11 +145,11 @@ public class HorizontalVmScalingSimple extends VmScalingAbstract implements Hori
      * @return
      */
     private boolean isNewCloudletsArrived(){
-        return getVm().getBroker().getCloudletCreatedList().size() > cloudletCreationRequests;
+        return getVm().getBroker().getCloudletCreationRequests() > cloudletCreationRequests;
     }
 
     @Override
-    public final boolean requestScalingIfPredicateMatch(double time) {
+    public boolean requestScalingIfPredicateMatch(double time) {
         if(!isTimeToCheckPredicate(time)) {
             return false;
         }
@@ -0,0 +1,144 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.autoscaling.forecasting.Forecaster;
+import org.cloudsimplus.autoscaling.forecasting.HoltWintersForecaster;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A {@link HorizontalVmScaling} that requests the creation of a new Vm ahead of demand,
+ * when the CPU utilization of the Vm is predicted to exceed an {@link #getOverloadThreshold() overload threshold}
+ * some {@link #getLookahead() steps ahead}, instead of when it is currently exceeded.
+ *
+ * <p>At every scaling evaluation (that is, at every Datacenter scheduling interval),
+ * the current CPU utilization of the Vm is added as a sample to a {@link Forecaster}
+ * exclusive for this scaling object, such as a {@link HoltWintersForecaster},
+ * which predicts the utilization in constant time.
+ * The {@link #getOverloadPredicate() overload predicate} is set to compare the
+ * {@link #getForecast() forecast} with the threshold, but another one can be
+ * set using the {@link #getForecast()}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class PredictiveHorizontalVmScaling extends HorizontalVmScalingSimple {
+    private final Forecaster forecaster;
+    private int lookahead;
+    private double overloadThreshold;
+
+    /**
+     * Creates a PredictiveHorizontalVmScaling that forecasts the CPU utilization
+     * one step ahead, considering the Vm overloaded when such a utilization
+     * is above 80%.
+     *
+     * @param forecaster the {@link Forecaster} to predict the Vm CPU utilization,
+     *                   which must not be shared with other scaling objects
+     */
+    public PredictiveHorizontalVmScaling(final Forecaster forecaster) {
+        super();
+        this.forecaster = Objects.requireNonNull(forecaster);
+        this.lookahead = 1;
+        this.overloadThreshold = 0.8;
+        setOverloadPredicate((Predicate<Vm> & Serializable) vm -> getForecast() > overloadThreshold);
+    }
+
+    @Override
+    public boolean requestScalingIfPredicateMatch(final double time) {
+        if(isTimeToCheckPredicate(time)) {
+            forecaster.addSample(getVm().getCpuPercentUsage());
+        }
+
+        return super.requestScalingIfPredicateMatch(time);
+    }
+
+    /**
+     * Gets the Vm CPU utilization (in scale from 0 to 1) predicted {@link #getLookahead()} steps ahead.
+     * @return
+     */
+    public double getForecast() {
+        return forecaster.forecast(lookahead);
+    }
+
+    /**
+     * Gets the {@link Forecaster} used to predict the Vm CPU utilization.
+     * @return
+     */
+    public Forecaster getForecaster() {
+        return forecaster;
+    }
+
+    /**
+     * Gets the number of scheduling intervals ahead the Vm CPU utilization is predicted.
+     * @return
+     */
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Sets the number of scheduling intervals ahead the Vm CPU utilization is predicted.
+     * It should be long enough for a new Vm to be created before the Vm becomes overloaded.
+     *
+     * @param lookahead the number of intervals to set
+     * @return
+     */
+    public PredictiveHorizontalVmScaling setLookahead(final int lookahead) {
+        if(lookahead < 0) {
+            throw new IllegalArgumentException("Lookahead cannot be negative.");
+        }
+
+        this.lookahead = lookahead;
+        return this;
+    }
+
+    /**
+     * Gets the predicted CPU utilization (in scale from 0 to 1)
+     * above which the Vm is considered overloaded.
+     * @return
+     */
+    public double getOverloadThreshold() {
+        return overloadThreshold;
+    }
+
+    /**
+     * Sets the predicted CPU utilization (in scale from 0 to 1)
+     * above which the Vm is considered overloaded.
+     *
+     * @param overloadThreshold the threshold to set
+     * @return
+     */
+    public PredictiveHorizontalVmScaling setOverloadThreshold(final double overloadThreshold) {
+        if(overloadThreshold < 0 || overloadThreshold > 1) {
+            throw new IllegalArgumentException("Overload threshold must be in the range [0, 1].");
+        }
+
+        this.overloadThreshold = overloadThreshold;
+        return this;
+    }
+}
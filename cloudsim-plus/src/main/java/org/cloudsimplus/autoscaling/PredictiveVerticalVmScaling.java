@@ -0,0 +1,140 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.resources.ResourceManageable;
+import org.cloudsimplus.autoscaling.forecasting.Forecaster;
+import org.cloudsimplus.autoscaling.forecasting.HoltWintersForecaster;
+import org.cloudsimplus.autoscaling.resources.ResourceScalingGradual;
+
+import java.util.Objects;
+
+/**
+ * A {@link VerticalVmScaling} that requests a Vm resource to be scaled ahead of demand,
+ * when its utilization is predicted to be out of the range defined by the
+ * {@link #getLowerThresholdFunction() lower} and {@link #getUpperThresholdFunction() upper}
+ * thresholds some {@link #getLookahead() steps ahead}, instead of when it is currently out of such a range.
+ *
+ * <p>At every scaling evaluation (that is, at every Datacenter scheduling interval),
+ * the current utilization of the resource is added as a sample to a {@link Forecaster}
+ * exclusive for this scaling object, such as a {@link HoltWintersForecaster},
+ * which predicts the utilization in constant time.
+ * Since the resource may not be currently over or underloaded,
+ * a {@link ResourceScalingGradual} should be used to define the amount of resource to scale.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class PredictiveVerticalVmScaling extends VerticalVmScalingSimple {
+    private final Forecaster forecaster;
+    private int lookahead;
+
+    /**
+     * Creates a PredictiveVerticalVmScaling that forecasts the resource utilization one step ahead,
+     * using a {@link ResourceScalingGradual} scaling type.
+     *
+     * @param resourceClassToScale the class of Vm resource that this scaling object will request up or down scaling
+     * @param scalingFactor the factor that will be used to scale a Vm resource up or down (a percentage value in scale from 0 to 1)
+     * @param forecaster the {@link Forecaster} to predict the resource utilization,
+     *                   which must not be shared with other scaling objects
+     * @see VerticalVmScalingSimple#VerticalVmScalingSimple(Class, double)
+     */
+    public PredictiveVerticalVmScaling(
+        final Class<? extends ResourceManageable> resourceClassToScale,
+        final double scalingFactor,
+        final Forecaster forecaster)
+    {
+        super(resourceClassToScale, scalingFactor);
+        this.forecaster = Objects.requireNonNull(forecaster);
+        this.lookahead = 1;
+    }
+
+    @Override
+    public boolean requestScalingIfPredicateMatch(final double time) {
+        if(isTimeToCheckPredicate(time)) {
+            forecaster.addSample(getResource().getPercentUtilization());
+        }
+
+        return super.requestScalingIfPredicateMatch(time);
+    }
+
+    /**
+     * Checks if the Vm resource is predicted to be underloaded,
+     * based on the {@link #getLowerThresholdFunction()}.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isVmUnderloaded() {
+        return getForecast() < getLowerThresholdFunction().apply(getVm());
+    }
+
+    /**
+     * Checks if the Vm resource is predicted to be overloaded,
+     * based on the {@link #getUpperThresholdFunction()}.
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isVmOverloaded() {
+        return getForecast() > getUpperThresholdFunction().apply(getVm());
+    }
+
+    /**
+     * Gets the resource utilization (in scale from 0 to 1) predicted {@link #getLookahead()} steps ahead.
+     * @return
+     */
+    public double getForecast() {
+        return forecaster.forecast(lookahead);
+    }
+
+    /**
+     * Gets the {@link Forecaster} used to predict the resource utilization.
+     * @return
+     */
+    public Forecaster getForecaster() {
+        return forecaster;
+    }
+
+    /**
+     * Gets the number of scheduling intervals ahead the resource utilization is predicted.
+     * @return
+     */
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Sets the number of scheduling intervals ahead the resource utilization is predicted.
+     *
+     * @param lookahead the number of intervals to set
+     * @return
+     */
+    public PredictiveVerticalVmScaling setLookahead(final int lookahead) {
+        if(lookahead < 0) {
+            throw new IllegalArgumentException("Lookahead cannot be negative.");
+        }
+
+        this.lookahead = lookahead;
+        return this;
+    }
+}
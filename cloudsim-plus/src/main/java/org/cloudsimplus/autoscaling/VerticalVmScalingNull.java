@@ -28,6 +28,7 @@ import org.cloudbus.cloudsim.resources.ResourceManageable;
 import org.cloudbus.cloudsim.vms.Vm;
 import org.cloudsimplus.autoscaling.resources.ResourceScaling;
 
+import java.io.Serializable;
 import java.util.function.Function;
 
 /**
@@ -64,10 +65,10 @@ final class VerticalVmScalingNull implements VerticalVmScaling {
         return this;
     }
     @Override public Function<Vm, Double> getUpperThresholdFunction() {
-        return vm -> Double.MAX_VALUE;
+        return (Function<Vm, Double> & Serializable) vm -> Double.MAX_VALUE;
     }
     @Override public VerticalVmScaling setUpperThresholdFunction(Function<Vm, Double> upperThresholdFunction) { return this; }
-    @Override public Function<Vm, Double> getLowerThresholdFunction() { return vm -> Double.MIN_NORMAL; }
+    @Override public Function<Vm, Double> getLowerThresholdFunction() { return (Function<Vm, Double> & Serializable) vm -> Double.MIN_NORMAL; }
     @Override public VerticalVmScaling setLowerThresholdFunction(Function<Vm, Double> lowerThresholdFunction) { return this; }
     @Override public VerticalVmScaling setResourceScaling(ResourceScaling resourceScaling) { return this; }
     @Override public long getAllocatedResource() { return 0; }
@@ -146,7 +146,7 @@ public class VerticalVmScalingSimple extends VmScalingAbstract implements Vertic
     }
 
     @Override
-    public final boolean requestScalingIfPredicateMatch(double time) {
+    public boolean requestScalingIfPredicateMatch(double time) {
         if(!isTimeToCheckPredicate(time)) {
             return false;
         }
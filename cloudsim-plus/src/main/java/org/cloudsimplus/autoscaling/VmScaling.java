@@ -25,7 +25,7 @@ package org.cloudsimplus.autoscaling;
 
 import org.cloudbus.cloudsim.brokers.DatacenterBroker;
 import org.cloudbus.cloudsim.vms.Vm;
-import org.cloudsimplus.listeners.EventListener;
+import java.io.Serializable;
 
 /**
  * An interface to allow implementing <a href="https://en.wikipedia.org/wiki/Scalability#Horizontal_and_vertical_scaling">horizontal and vertical scaling</a>
@@ -34,7 +34,7 @@ import org.cloudsimplus.listeners.EventListener;
  * @author Manoel Campos da Silva Filho
  * @since CloudSim Plus 1.0.0
  */
-public interface VmScaling {
+public interface VmScaling extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link VmScaling}
      * objects.
@@ -64,9 +64,9 @@ public interface VmScaling {
      * if the under or overload condition is met, that depends of the implementation
      * of the scaling mechanisms.
      *
-     * <p>The Vm to which this scaling object is related to, creates an {@link Vm#addOnUpdateProcessingListener(EventListener) UpdateProcessingListener}
-     * that will call this method to check if it time to perform an down or up scaling, every time
-     * the Vm processing is updated.</p>
+     * <p>The Datacenter where the Vm is placed calls this method for all its scalable VMs
+     * in a single pass, at every {@link org.cloudbus.cloudsim.datacenters.Datacenter#getSchedulingInterval() scheduling interval},
+     * to check if it's time to perform a down or up scaling.</p>
      *
      * @param time current simulation time
      * @return true if the Vm is over or underloaded and up or down scaling request was sent to the broker, false otherwise
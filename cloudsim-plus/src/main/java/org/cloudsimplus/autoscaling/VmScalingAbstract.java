@@ -56,12 +56,15 @@ public abstract class VmScalingAbstract implements VmScaling {
 
     /**
      * Checks if it is time to evaluate weather the Vm is under or overloaded.
+     * Since the evaluation is periodically requested by the Datacenter
+     * at every {@link org.cloudbus.cloudsim.datacenters.Datacenter#getSchedulingInterval() scheduling interval},
+     * it just ensures the Vm is not evaluated twice at the same time.
      *
      * @param time current simulation time
      * @return true if it's time to check weather the Vm is over and underloaded, false otherwise
      */
     protected boolean isTimeToCheckPredicate(double time) {
-        return time > lastProcessingTime && (long) time % getVm().getHost().getDatacenter().getSchedulingInterval() == 0;
+        return time > lastProcessingTime;
     }
 
     /**
@@ -0,0 +1,394 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.listeners.EventBatchInfo;
+import org.cloudsimplus.listeners.EventListener;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * A pool of homogeneous VMs which is horizontally scaled as a whole,
+ * according to the aggregate CPU demand of its VMs.
+ * Differently from a {@link HorizontalVmScaling}, which requests a single VM
+ * to be created at a time when an individual VM is overloaded,
+ * the group computes how many VMs are required to keep its
+ * {@link #getTargetUtilization() target utilization}
+ * and submits all new VMs to the {@link DatacenterBroker} in a single request
+ * (or requests all exceeding idle VMs to be destroyed at once).
+ * This way, load bursts are handled in a single evaluation.
+ *
+ * <p>The CPU demand of a VM is the number of PEs required by its running and waiting Cloudlets,
+ * according to their CPU utilization model, divided by the number of VM PEs.
+ * It may be higher than 1 when the VM is overloaded.
+ * The required number of VMs is the total demand divided by the target utilization,
+ * bounded by the {@link #getMinSize() minimum} and {@link #getMaxSize() maximum} group size.
+ * VMs submitted but not created yet are counted as part of the group,
+ * avoiding them to be requested again.</p>
+ *
+ * <p>The group is evaluated after a batch of simulation events is processed,
+ * at most once every {@link #getEvaluationInterval() evaluation interval},
+ * unless some Cloudlet has finished.
+ * This way, it considers the state of VMs after all events of a given time,
+ * such as Cloudlets arrival and completion.
+ * Each evaluation scans the running and waiting Cloudlets of all group VMs.
+ * The group has to be {@link #close() closed} when it isn't used anymore,
+ * to stop being evaluated.</p>
+ *
+ * <p>The group listens to the simulation, but the Listeners of a simulation are not included
+ * in its snapshots. This way, a restored or forked simulation doesn't have the group
+ * and a new one has to be created for it.</p>
+ *
+ * <p>The group doesn't rebalance the load of its VMs: Cloudlets already bound to a VM
+ * keep running on it after a scale out. New VMs just receive the Cloudlets
+ * submitted after they are created, according to the broker's VM mapper.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class VmScalingGroup implements Closeable {
+    /**
+     * The default minimum time interval (in seconds) between two evaluations of the group.
+     * @see #setEvaluationInterval(double)
+     */
+    public static final double DEFAULT_EVALUATION_INTERVAL = 1;
+
+    /**
+     * Tolerance used to avoid requesting an additional VM due to
+     * floating-point errors when the demand exactly matches the group capacity.
+     */
+    private static final double TOLERANCE = 0.000001;
+
+    private final DatacenterBroker broker;
+    private final Supplier<Vm> vmSupplier;
+
+    /**
+     * The VMs submitted by the group and not destroyed yet.
+     */
+    private final List<Vm> vmList;
+    private int minSize;
+    private int maxSize;
+    private double targetUtilization;
+    private double evaluationInterval;
+    private double lastEvaluationTime;
+
+    /**
+     * The Listener that evaluates the group after a batch of events is processed.
+     */
+    private final EventListener<EventBatchInfo> onEventBatchProcessedListener;
+
+    /**
+     * Creates a VmScalingGroup with no VMs, a minimum size of 1,
+     * a target utilization of 70%, which is evaluated
+     * at most once every {@link #DEFAULT_EVALUATION_INTERVAL}.
+     *
+     * @param broker the broker the VMs will be submitted to
+     * @param vmSupplier a {@link Supplier} that creates each new VM for the group
+     */
+    public VmScalingGroup(final DatacenterBroker broker, final Supplier<Vm> vmSupplier) {
+        this.broker = Objects.requireNonNull(broker);
+        this.vmSupplier = Objects.requireNonNull(vmSupplier);
+        this.vmList = new ArrayList<>();
+        this.minSize = 1;
+        this.maxSize = Integer.MAX_VALUE;
+        this.targetUtilization = 0.7;
+        this.evaluationInterval = DEFAULT_EVALUATION_INTERVAL;
+        this.lastEvaluationTime = Double.NEGATIVE_INFINITY;
+        this.onEventBatchProcessedListener = this::onEventBatchProcessed;
+        getSimulation().addOnEventBatchProcessedListener(onEventBatchProcessedListener);
+    }
+
+    /**
+     * Stops evaluating the group after batches of events are processed.
+     * The VMs of the group are not destroyed and it can still be
+     * {@link #evaluate(double) evaluated} on demand.
+     */
+    @Override
+    public void close() {
+        getSimulation().removeOnEventBatchProcessedListener(onEventBatchProcessedListener);
+    }
+
+    private void onEventBatchProcessed(final EventBatchInfo info) {
+        if(info.getTime() - lastEvaluationTime >= evaluationInterval || isAnyCloudletReturned(info)) {
+            evaluate(info.getTime());
+        }
+    }
+
+    /**
+     * Checks if any Cloudlet was returned to the broker in a batch of events.
+     * Since finished Cloudlets may make VMs idle, the group is evaluated
+     * regardless of the {@link #getEvaluationInterval() evaluation interval},
+     * otherwise the last scale in could be missed.
+     *
+     * @param info the information about the processed batch of events
+     * @return
+     */
+    private boolean isAnyCloudletReturned(final EventBatchInfo info) {
+        for (final SimEvent evt : info.getEvents()) {
+            if(evt.getTag() == CloudSimTags.CLOUDLET_RETURN && evt.getDestination() == broker.getId()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates VMs for the group and submits them to the broker in a single request.
+     *
+     * @param amount the number of VMs to create
+     * @return the list of created VMs
+     */
+    public List<Vm> createAndSubmitVms(final int amount) {
+        final List<Vm> newVms = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            newVms.add(vmSupplier.get());
+        }
+
+        vmList.addAll(newVms);
+        broker.submitVmList(newVms);
+        return newVms;
+    }
+
+    /**
+     * Evaluates the aggregate demand of the group VMs, requesting
+     * VMs to be created or destroyed to meet the target utilization.
+     *
+     * @param time the current simulation time
+     * @return the number of VMs requested to be created (positive)
+     *         or destroyed (negative)
+     */
+    public int evaluate(final double time) {
+        lastEvaluationTime = time;
+        final Set<Vm> waitingVms = new HashSet<>(broker.getVmWaitingList());
+        double demand = 0;
+        int running = 0;
+        for (final Iterator<Vm> it = vmList.iterator(); it.hasNext(); ) {
+            final Vm vm = it.next();
+            if(vm.isCreated()) {
+                demand += getCpuDemand(vm, time);
+                running++;
+            } else if(!waitingVms.contains(vm)) {
+                it.remove();
+            }
+        }
+
+        if(running == 0 && !vmList.isEmpty()) {
+            return 0;
+        }
+
+        final int delta = getRequiredSize(demand) - vmList.size();
+        if(delta > 0) {
+            getSimulation().getLogger().info(getClass(),
+                "%.2f: %s: Requesting creation of %d VMs for a CPU demand of %.2f VMs.",
+                time, getClass().getSimpleName(), delta, demand);
+            createAndSubmitVms(delta);
+            return delta;
+        }
+
+        return delta < 0 ? -destroyIdleVms(-delta) : 0;
+    }
+
+    /**
+     * Computes the number of VMs required to meet the target utilization for a given demand.
+     * @param demand the total CPU demand, in number of VMs
+     * @return
+     */
+    private int getRequiredSize(final double demand) {
+        final int required = (int) Math.ceil(demand / targetUtilization - TOLERANCE);
+        return Math.min(maxSize, Math.max(minSize, required));
+    }
+
+    /**
+     * Requests the destruction of up to a given number of idle VMs,
+     * starting from the most recently created ones.
+     *
+     * @param amount the maximum number of VMs to destroy
+     * @return the number of VMs which destruction was requested
+     */
+    private int destroyIdleVms(final int amount) {
+        final List<Vm> idleVms = new ArrayList<>(amount);
+        for (int i = vmList.size() - 1; i >= 0 && idleVms.size() < amount; i--) {
+            final Vm vm = vmList.get(i);
+            if(vm.isCreated() && vm.getCloudletScheduler().isEmpty()) {
+                idleVms.add(vm);
+            }
+        }
+
+        if(idleVms.isEmpty()) {
+            return 0;
+        }
+
+        //VMs which destruction the broker didn't request are kept in the group
+        final List<Vm> destroyedVms = broker.destroyIdleVms(idleVms);
+        vmList.removeAll(new HashSet<>(destroyedVms));
+        return destroyedVms.size();
+    }
+
+    /**
+     * Gets the CPU demand of a VM, that is the number of PEs required by its Cloudlets
+     * divided by the number of VM PEs.
+     *
+     * @param vm the VM to get the demand
+     * @param time the current simulation time
+     * @return
+     */
+    private static double getCpuDemand(final Vm vm, final double time) {
+        final double pes = getRequiredPes(vm.getCloudletScheduler().getCloudletExecList(), time) +
+                           getRequiredPes(vm.getCloudletScheduler().getCloudletWaitingList(), time);
+        return pes / vm.getNumberOfPes();
+    }
+
+    private static double getRequiredPes(final List<CloudletExecutionInfo> cloudlets, final double time) {
+        double pes = 0;
+        for (final CloudletExecutionInfo c : cloudlets) {
+            pes += c.getNumberOfPes() * c.getCloudlet().getUtilizationOfCpu(time);
+        }
+
+        return pes;
+    }
+
+    private Simulation getSimulation() {
+        return broker.getSimulation();
+    }
+
+    /**
+     * Gets a <b>read-only</b> list of VMs submitted by the group and not destroyed yet.
+     * @return
+     */
+    public List<Vm> getVmList() {
+        return Collections.unmodifiableList(vmList);
+    }
+
+    /**
+     * Gets the broker the group VMs are submitted to.
+     * @return
+     */
+    public DatacenterBroker getBroker() {
+        return broker;
+    }
+
+    /**
+     * Gets the minimum number of VMs in the group.
+     * @return
+     */
+    public int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Sets the minimum number of VMs in the group.
+     * If the group has less VMs, they are created at the next evaluation.
+     *
+     * @param minSize the minimum size to set
+     * @return
+     */
+    public VmScalingGroup setMinSize(final int minSize) {
+        if(minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Minimum size must be between 0 and the maximum size.");
+        }
+
+        this.minSize = minSize;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of VMs in the group.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of VMs in the group.
+     *
+     * @param maxSize the maximum size to set
+     * @return
+     */
+    public VmScalingGroup setMaxSize(final int maxSize) {
+        if(maxSize < minSize) {
+            throw new IllegalArgumentException("Maximum size cannot be lower than the minimum size.");
+        }
+
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    /**
+     * Gets the average CPU demand (in scale from 0 to 1) the group tries to keep for its VMs.
+     * @return
+     */
+    public double getTargetUtilization() {
+        return targetUtilization;
+    }
+
+    /**
+     * Sets the average CPU demand (in scale from 0 to 1) the group tries to keep for its VMs.
+     *
+     * @param targetUtilization the target utilization to set
+     * @return
+     */
+    public VmScalingGroup setTargetUtilization(final double targetUtilization) {
+        if(targetUtilization <= 0 || targetUtilization > 1) {
+            throw new IllegalArgumentException("Target utilization must be in the range ]0, 1].");
+        }
+
+        this.targetUtilization = targetUtilization;
+        return this;
+    }
+
+    /**
+     * Gets the minimum time interval (in seconds) between two evaluations of the group.
+     * @return
+     */
+    public double getEvaluationInterval() {
+        return evaluationInterval;
+    }
+
+    /**
+     * Sets the minimum time interval (in seconds) between two evaluations of the group.
+     * Larger intervals reduce the evaluation overhead for large groups.
+     * The group is always evaluated when Cloudlets finish, so that idle VMs can be destroyed.
+     *
+     * @param evaluationInterval the interval to set
+     * @return
+     */
+    public VmScalingGroup setEvaluationInterval(final double evaluationInterval) {
+        if(evaluationInterval < 0) {
+            throw new IllegalArgumentException("Evaluation interval cannot be negative.");
+        }
+
+        this.evaluationInterval = evaluationInterval;
+        return this;
+    }
+}
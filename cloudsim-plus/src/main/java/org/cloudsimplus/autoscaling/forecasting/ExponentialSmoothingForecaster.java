@@ -0,0 +1,77 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling.forecasting;
+
+/**
+ * A {@link Forecaster} that uses
+ * <a href="https://en.wikipedia.org/wiki/Exponential_smoothing">Simple Exponential Smoothing</a>,
+ * also known as Exponentially Weighted Moving Average (EWMA),
+ * to forecast the future value of a time series.
+ * It just keeps the smoothed level of the series, giving
+ * exponentially decreasing weights to older samples.
+ * Since it doesn't model trend nor seasonality,
+ * the forecast is the same for any number of steps ahead.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see HoltWintersForecaster
+ */
+public class ExponentialSmoothingForecaster extends ForecasterAbstract {
+    private final double alpha;
+    private double level;
+
+    /**
+     * Creates an ExponentialSmoothingForecaster.
+     *
+     * @param alpha the smoothing factor in the range ]0, 1],
+     *              where higher values give more weight to recent samples
+     */
+    public ExponentialSmoothingForecaster(final double alpha) {
+        super();
+        this.alpha = validateSmoothingFactor("alpha", alpha, false);
+    }
+
+    @Override
+    protected void initialize(final double value) {
+        level = value;
+    }
+
+    @Override
+    protected void update(final double value) {
+        level = alpha * value + (1 - alpha) * level;
+    }
+
+    @Override
+    protected double computeForecast(final int stepsAhead) {
+        return level;
+    }
+
+    /**
+     * Gets the smoothing factor.
+     * @return
+     */
+    public double getAlpha() {
+        return alpha;
+    }
+}
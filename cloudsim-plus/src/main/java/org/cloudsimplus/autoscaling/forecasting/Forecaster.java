@@ -0,0 +1,69 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling.forecasting;
+
+import java.io.Serializable;
+
+/**
+ * An interface for online forecasters that receive one sample of a time series at a time
+ * (such as the CPU utilization of a VM at every scheduling interval)
+ * and predict its values some steps ahead.
+ * Implementations must update their state in constant time and memory for each sample,
+ * so that the utilization of a large number of VMs can be forecast at every interval.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see ExponentialSmoothingForecaster
+ * @see HoltWintersForecaster
+ */
+public interface Forecaster extends Serializable {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link Forecaster}
+     * objects.
+     */
+    Forecaster NULL = new ForecasterNull();
+
+    /**
+     * Adds the next sample of the time series, updating the forecaster state.
+     *
+     * @param value the sample value
+     */
+    void addSample(double value);
+
+    /**
+     * Predicts the value of the time series some steps ahead of the last sample.
+     *
+     * @param stepsAhead the number of steps (samples) ahead of the last sample to forecast,
+     *                   where 0 gives the smoothed value for the last sample
+     * @return the forecast value or 0 if no sample was added yet
+     * @throws IllegalArgumentException if the number of steps is negative
+     */
+    double forecast(int stepsAhead);
+
+    /**
+     * Gets the number of samples added so far.
+     * @return
+     */
+    long getSamples();
+}
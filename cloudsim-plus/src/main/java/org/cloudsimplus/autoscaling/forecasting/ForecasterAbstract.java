@@ -0,0 +1,98 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling.forecasting;
+
+/**
+ * A base class for implementing {@link Forecaster}s,
+ * which counts the added samples and validates forecast requests.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public abstract class ForecasterAbstract implements Forecaster {
+    private long samples;
+
+    @Override
+    public final void addSample(final double value) {
+        if(samples == 0) {
+            initialize(value);
+        } else {
+            update(value);
+        }
+
+        samples++;
+    }
+
+    @Override
+    public final double forecast(final int stepsAhead) {
+        if(stepsAhead < 0) {
+            throw new IllegalArgumentException("The number of steps ahead to forecast cannot be negative.");
+        }
+
+        return samples == 0 ? 0 : computeForecast(stepsAhead);
+    }
+
+    @Override
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Initializes the forecaster state from the first sample.
+     * @param value the first sample value
+     */
+    protected abstract void initialize(double value);
+
+    /**
+     * Updates the forecaster state with a new sample,
+     * which must take constant time.
+     * @param value the sample value
+     */
+    protected abstract void update(double value);
+
+    /**
+     * Computes the forecast after at least one sample was added.
+     * @param stepsAhead the non-negative number of steps ahead of the last sample to forecast
+     * @return the forecast value
+     */
+    protected abstract double computeForecast(int stepsAhead);
+
+    /**
+     * Checks if a smoothing factor is in the given range.
+     *
+     * @param name the name of the factor, used in the exception message
+     * @param factor the factor to check
+     * @param zeroAllowed if zero is a valid value
+     * @return the given factor
+     * @throws IllegalArgumentException if the factor is out of range
+     */
+    protected static double validateSmoothingFactor(final String name, final double factor, final boolean zeroAllowed) {
+        if(factor > 1 || factor < 0 || (factor == 0 && !zeroAllowed)) {
+            final String range = zeroAllowed ? "[0, 1]" : "]0, 1]";
+            throw new IllegalArgumentException(name + " must be in the range " + range + ".");
+        }
+
+        return factor;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.autoscaling.forecasting;
+
+/**
+ * A {@link Forecaster} that uses the additive
+ * <a href="https://en.wikipedia.org/wiki/Exponential_smoothing#Triple_exponential_smoothing">Holt-Winters method</a>
+ * (triple exponential smoothing) to forecast the future value of a time series
+ * which may have a trend and a seasonal pattern, such as the CPU utilization
+ * of a VM running a workload that follows a daily cycle.
+ *
+ * <p>It keeps the smoothed level and trend of the series and one seasonal component
+ * for each bucket of the season, where each sample belongs to the bucket given
+ * by its position in the season. This way, each sample is processed in constant time and
+ * the memory used just depends on the {@link #getSeasonLength() season length}.
+ * The seasonal components start at zero and are learned along the first seasons.</p>
+ *
+ * <p>A season length of 1 disables seasonality, turning the forecaster into
+ * the Holt's linear trend method.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ * @see ExponentialSmoothingForecaster
+ */
+public class HoltWintersForecaster extends ForecasterAbstract {
+    private final double alpha;
+    private final double beta;
+    private final double gamma;
+
+    /**
+     * The seasonal component of each bucket of the season.
+     */
+    private final double[] seasonal;
+
+    private double level;
+    private double trend;
+
+    /**
+     * Creates a HoltWintersForecaster without seasonality (Holt's linear trend method).
+     *
+     * @param alpha the level smoothing factor in the range ]0, 1]
+     * @param beta the trend smoothing factor in the range [0, 1], where 0 disables the trend
+     */
+    public HoltWintersForecaster(final double alpha, final double beta) {
+        this(alpha, beta, 0, 1);
+    }
+
+    /**
+     * Creates a HoltWintersForecaster.
+     *
+     * @param alpha the level smoothing factor in the range ]0, 1]
+     * @param beta the trend smoothing factor in the range [0, 1], where 0 disables the trend
+     * @param gamma the seasonal smoothing factor in the range [0, 1]
+     * @param seasonLength the number of samples in a season (for instance, the number of scheduling intervals in a day)
+     */
+    public HoltWintersForecaster(final double alpha, final double beta, final double gamma, final int seasonLength) {
+        super();
+        if(seasonLength < 1) {
+            throw new IllegalArgumentException("Season length must be at least 1.");
+        }
+
+        this.alpha = validateSmoothingFactor("alpha", alpha, false);
+        this.beta = validateSmoothingFactor("beta", beta, true);
+        this.gamma = validateSmoothingFactor("gamma", gamma, true);
+        this.seasonal = new double[seasonLength];
+    }
+
+    @Override
+    protected void initialize(final double value) {
+        level = value;
+    }
+
+    @Override
+    protected void update(final double value) {
+        final int bucket = getBucket(getSamples());
+        final double previousLevel = level;
+        level = alpha * (value - seasonal[bucket]) + (1 - alpha) * (level + trend);
+        trend = beta * (level - previousLevel) + (1 - beta) * trend;
+        seasonal[bucket] = gamma * (value - level) + (1 - gamma) * seasonal[bucket];
+    }
+
+    @Override
+    protected double computeForecast(final int stepsAhead) {
+        return level + stepsAhead * trend + seasonal[getBucket(getSamples() - 1 + stepsAhead)];
+    }
+
+    /**
+     * Gets the season bucket a sample belongs to.
+     * @param sampleIndex the index of the sample, starting from 0
+     * @return
+     */
+    private int getBucket(final long sampleIndex) {
+        return (int) (sampleIndex % seasonal.length);
+    }
+
+    /**
+     * Gets the number of samples in a season.
+     * @return
+     */
+    public int getSeasonLength() {
+        return seasonal.length;
+    }
+
+    /**
+     * Gets the smoothed level of the time series.
+     * @return
+     */
+    public double getLevel() {
+        return level;
+    }
+
+    /**
+     * Gets the smoothed trend of the time series,
+     * that is the expected change between two consecutive samples.
+     * @return
+     */
+    public double getTrend() {
+        return trend;
+    }
+}
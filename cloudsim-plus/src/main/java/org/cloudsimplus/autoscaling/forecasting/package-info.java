@@ -0,0 +1,13 @@
+/**
+ * Provides {@link org.cloudsimplus.autoscaling.forecasting.Forecaster} classes
+ * that predict the future value of a time series, such as the resource utilization of a VM,
+ * using online algorithms which take constant time and memory for each new sample.
+ * They are used by predictive scaling mechanisms such as
+ * {@link org.cloudsimplus.autoscaling.PredictiveHorizontalVmScaling} and
+ * {@link org.cloudsimplus.autoscaling.PredictiveVerticalVmScaling}
+ * to request scaling ahead of demand.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+package org.cloudsimplus.autoscaling.forecasting;
@@ -9,6 +9,13 @@
  * belongs to is accountable to evaluate the predicate and then
  * request the scaling mechanism to act.</p>
  *
+ * <p>Predictive scaling mechanisms such as {@link org.cloudsimplus.autoscaling.PredictiveHorizontalVmScaling}
+ * and {@link org.cloudsimplus.autoscaling.PredictiveVerticalVmScaling} use a
+ * {@link org.cloudsimplus.autoscaling.forecasting.Forecaster} to request scaling ahead of demand.</p>
+ *
+ * <p>A {@link org.cloudsimplus.autoscaling.VmScalingGroup} scales a pool of VMs as a whole,
+ * according to their aggregate demand.</p>
+ *
  * @author Manoel Campos da Silva Filho
  */
 package org.cloudsimplus.autoscaling;
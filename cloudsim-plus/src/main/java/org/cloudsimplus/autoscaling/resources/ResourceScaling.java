@@ -25,6 +25,7 @@ package org.cloudsimplus.autoscaling.resources;
 
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudsimplus.autoscaling.VerticalVmScaling;
+import java.io.Serializable;
 
 /**
  * A {@link FunctionalInterface} to define how the capacity of the resource to be scaled by a {@link VerticalVmScaling}
@@ -45,7 +46,7 @@ import org.cloudsimplus.autoscaling.VerticalVmScaling;
  * @see ResourceScalingInstantaneous
  */
 @FunctionalInterface
-public interface ResourceScaling {
+public interface ResourceScaling extends Serializable {
     /**
      * An attribute that implements the Null Object Design Pattern for {@link ResourceScaling}
      * objects.
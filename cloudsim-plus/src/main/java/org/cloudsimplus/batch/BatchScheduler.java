@@ -0,0 +1,76 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.batch;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.vms.Vm;
+
+/**
+ * An entity that sits between a {@link DatacenterBroker} and Datacenters,
+ * keeping a single queue of Cloudlets for a cluster of VMs
+ * and deciding when and where each Cloudlet will run,
+ * as the batch schedulers of HPC clusters do.
+ * Cloudlets are just sent to a Datacenter when the selected VM
+ * has enough free PEs to run them.
+ *
+ * <p>The broker sends Cloudlets to the scheduler by {@link CloudSimTags#CLOUDLET_SUBMIT} events
+ * and forwards finished Cloudlets by {@link CloudSimTags#CLOUDLET_RETURN} events.
+ * It also notifies the scheduler about VMs that were created or destroyed.
+ * To use a scheduler, just call {@link DatacenterBroker#setBatchScheduler(BatchScheduler)}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public interface BatchScheduler extends SimEntity {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link BatchScheduler} objects.
+     */
+    BatchScheduler NULL = new BatchSchedulerNull();
+
+    /**
+     * Adds a VM that has been created and can be used to run Cloudlets.
+     * @param vm the created VM
+     */
+    void addVm(Vm vm);
+
+    /**
+     * Removes a VM that is being destroyed, so that no Cloudlet will be sent to it anymore.
+     * @param vm the VM to remove
+     */
+    void removeVm(Vm vm);
+
+    /**
+     * Gets the number of Cloudlets waiting in the queue.
+     * @return
+     */
+    int getWaitingCloudletsNumber();
+
+    /**
+     * Gets the number of Cloudlets that were sent to Datacenters and have not finished yet.
+     * @return
+     */
+    int getRunningCloudletsNumber();
+}
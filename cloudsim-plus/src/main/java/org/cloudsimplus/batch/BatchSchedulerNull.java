@@ -0,0 +1,56 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.batch;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.vms.Vm;
+
+/**
+ * A class that implements the Null Object Design Pattern for {@link BatchScheduler} class.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @see BatchScheduler#NULL
+ */
+final class BatchSchedulerNull implements BatchScheduler {
+    @Override public int compareTo(SimEntity o) { return 0; }
+    @Override public boolean isStarted() { return false; }
+    @Override public Simulation getSimulation() { return Simulation.NULL; }
+    @Override public SimEntity setSimulation(Simulation simulation) { return this; }
+    @Override public void processEvent(SimEvent ev) {/**/}
+    @Override public void schedule(int dest, double delay, int tag) {/**/}
+    @Override public void run() {/**/}
+    @Override public void start() {/**/}
+    @Override public void shutdownEntity() {/**/}
+    @Override public SimEntity setName(String newName) throws IllegalArgumentException { return this; }
+    @Override public String getName() { return ""; }
+    @Override public int getId() { return -1; }
+    @Override public void setLog(boolean log) {/**/}
+    @Override public void println(String msg) {/**/}
+    @Override public void addVm(Vm vm) {/**/}
+    @Override public void removeVm(Vm vm) {/**/}
+    @Override public int getWaitingCloudletsNumber() { return 0; }
+    @Override public int getRunningCloudletsNumber() { return 0; }
+}
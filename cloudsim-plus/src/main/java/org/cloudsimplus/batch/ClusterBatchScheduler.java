@@ -0,0 +1,449 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.batch;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSimEntity;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.vms.Vm;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * A {@link BatchScheduler} that keeps a First-Come, First-Served (FCFS) queue of Cloudlets
+ * for a cluster of VMs, using EASY backfilling to start Cloudlets out of order
+ * when they don't delay the queue head.
+ *
+ * <p>A Cloudlet is gang allocated: it is just dispatched when a single VM has all the PEs
+ * it requires free, and the best fit VM (the one with the fewest free PEs enough for the Cloudlet) is selected.
+ * VMs are indexed by their number of free PEs into a Red-Black tree,
+ * so that selecting a VM is O(log n), where n is the number of VMs, instead of scanning all VMs or per-VM queues.
+ * When the queue head can't start, the earliest time some VM will have enough PEs
+ * for it (the shadow time) is estimated from the Cloudlets running into each VM.
+ * Other waiting Cloudlets can start if they finish before the shadow time or don't use the PEs
+ * reserved for the head.</p>
+ *
+ * <p>Estimating the shadow time scans the running Cloudlets of all VMs, costing O(n + r),
+ * where r is the number of running Cloudlets. Thus, the reservation is kept between scheduling passes
+ * and is just estimated again when the queue head changes, a Cloudlet running in the reserved VM finishes,
+ * a Cloudlet finishes before its estimated time, the reserved VM is removed or the shadow time is reached.
+ * Other completions can't anticipate the shadow time, so they are handled in O(log n).</p>
+ *
+ * <p>The execution time of a Cloudlet is estimated as its length divided by the VM PE MIPS capacity,
+ * which corresponds to the exact run time of jobs read from workload traces.
+ * Submissions and completions received at the same time are handled in a single scheduling pass.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class ClusterBatchScheduler extends CloudSimEntity implements BatchScheduler {
+    /**
+     * The waiting Cloudlets in arrival order.
+     */
+    private final List<Cloudlet> waitingQueue;
+
+    private final Map<Vm, VmSlot> slots;
+
+    /**
+     * Maps a number of free PEs to the VMs having such a number of free PEs.
+     */
+    private final NavigableMap<Long, Set<VmSlot>> slotsByFreePes;
+
+    private final Map<Cloudlet, RunningCloudlet> runningCloudlets;
+
+    /**
+     * The reservation for the current queue head, kept between scheduling passes,
+     * or null if it has to be computed again.
+     * @see #getShadow(Cloudlet)
+     */
+    private Shadow shadow;
+
+    /**
+     * @see #isBackfilling()
+     */
+    private boolean backfilling;
+
+    /**
+     * Indicates if a {@link CloudSimTags#BATCH_SCHEDULING} event was already sent
+     * for the current time.
+     */
+    private boolean schedulingRequested;
+
+    /**
+     * Creates a batch scheduler using EASY backfilling.
+     *
+     * @param simulation The CloudSim instance that represents the simulation the Entity is related to
+     */
+    public ClusterBatchScheduler(final Simulation simulation) {
+        super(simulation);
+        this.waitingQueue = new LinkedList<>();
+        this.slots = new LinkedHashMap<>();
+        this.slotsByFreePes = new TreeMap<>();
+        this.runningCloudlets = new HashMap<>();
+        this.backfilling = true;
+    }
+
+    @Override
+    protected void startEntity() {
+        println("%s is starting...", getName());
+    }
+
+    @Override
+    public void processEvent(final SimEvent ev) {
+        switch (ev.getTag()) {
+            case CloudSimTags.CLOUDLET_SUBMIT:
+                waitingQueue.add((Cloudlet) ev.getData());
+                requestScheduling();
+                break;
+            case CloudSimTags.CLOUDLET_RETURN:
+                releasePes((Cloudlet) ev.getData());
+                requestScheduling();
+                break;
+            case CloudSimTags.BATCH_SCHEDULING:
+                schedulingRequested = false;
+                dispatchWaitingCloudlets();
+                break;
+            case CloudSimTags.END_OF_SIMULATION:
+                shutdownEntity();
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void shutdownEntity() {
+        println("%s is shutting down...", getName());
+    }
+
+    /**
+     * Sends an event to the scheduler itself to try dispatching waiting Cloudlets
+     * after the other events of the current time are processed.
+     */
+    private void requestScheduling() {
+        if(!schedulingRequested) {
+            schedulingRequested = true;
+            schedule(getId(), 0, CloudSimTags.BATCH_SCHEDULING);
+        }
+    }
+
+    @Override
+    public void addVm(final Vm vm) {
+        if(slots.containsKey(vm)) {
+            return;
+        }
+
+        final VmSlot slot = new VmSlot(vm);
+        slots.put(vm, slot);
+        addToIndex(slot);
+        if(!waitingQueue.isEmpty()) {
+            requestScheduling();
+        }
+    }
+
+    @Override
+    public void removeVm(final Vm vm) {
+        final VmSlot slot = slots.remove(vm);
+        if(slot != null) {
+            removeFromIndex(slot);
+        }
+
+        if(shadow != null && shadow.slot == slot) {
+            shadow = null;
+        }
+    }
+
+    /**
+     * Dispatches waiting Cloudlets in arrival order while there are enough free PEs for them,
+     * then backfills the remaining ones if enabled.
+     */
+    private void dispatchWaitingCloudlets() {
+        final Iterator<Cloudlet> it = waitingQueue.iterator();
+        Cloudlet head = null;
+        while(it.hasNext()) {
+            final Cloudlet cloudlet = it.next();
+            final VmSlot slot = findSlot(cloudlet, null);
+            if(slot == null) {
+                head = cloudlet;
+                break;
+            }
+
+            it.remove();
+            dispatch(cloudlet, slot);
+        }
+
+        if(head == null || !backfilling) {
+            return;
+        }
+
+        final Shadow headShadow = getShadow(head);
+        while(it.hasNext() && getMaxFreePes() > 0) {
+            final Cloudlet cloudlet = it.next();
+            final VmSlot slot = findSlot(cloudlet, headShadow);
+            if(slot != null) {
+                it.remove();
+                dispatch(cloudlet, slot);
+                if(headShadow != null && slot == headShadow.slot && getEstimatedFinishTime(cloudlet, slot) > headShadow.time) {
+                    headShadow.extraPes -= cloudlet.getNumberOfPes();
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the best fit VM having enough free PEs to run a Cloudlet right now.
+     *
+     * @param cloudlet the Cloudlet to find a VM for
+     * @param shadow the reservation for the queue head the Cloudlet must not delay,
+     *               or null if there is no such a reservation
+     * @return the selected VM slot or null if no VM can run the Cloudlet now
+     */
+    private VmSlot findSlot(final Cloudlet cloudlet, final Shadow shadow) {
+        final long pes = cloudlet.getNumberOfPes();
+        if(cloudlet.isBindToVm()) {
+            final VmSlot slot = slots.get(cloudlet.getVm());
+            return slot != null && slot.freePes >= pes && isNotDelayingHead(cloudlet, slot, shadow) ? slot : null;
+        }
+
+        /*Since just the slot of the VM reserved for the head may not be used,
+        * the loop performs at most 2 iterations.*/
+        for (final Set<VmSlot> sameFreePesSlots : slotsByFreePes.tailMap(pes, true).values()) {
+            for (final VmSlot slot : sameFreePesSlots) {
+                if(isNotDelayingHead(cloudlet, slot, shadow)) {
+                    return slot;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isNotDelayingHead(final Cloudlet cloudlet, final VmSlot slot, final Shadow shadow) {
+        return shadow == null ||
+               slot != shadow.slot ||
+               getEstimatedFinishTime(cloudlet, slot) <= shadow.time ||
+               cloudlet.getNumberOfPes() <= shadow.extraPes;
+    }
+
+    /**
+     * Gets the reservation for the queue head, computing it again
+     * just when the previous one may have changed.
+     *
+     * @param head the first waiting Cloudlet
+     * @return the reservation for the head or null if no VM has enough PEs to run it
+     */
+    private Shadow getShadow(final Cloudlet head) {
+        if(shadow == null || shadow.head != head || shadow.time < getSimulation().clock()) {
+            shadow = computeShadow(head);
+        }
+
+        return shadow;
+    }
+
+    /**
+     * Computes the earliest time some VM will have enough free PEs to run the queue head,
+     * according to the estimated finish time of running Cloudlets.
+     *
+     * @param head the first waiting Cloudlet
+     * @return the reservation for the head or null if no VM has enough PEs to run it
+     */
+    private Shadow computeShadow(final Cloudlet head) {
+        final long pes = head.getNumberOfPes();
+        final Collection<VmSlot> candidates =
+            head.isBindToVm() ?
+                Optional.ofNullable(slots.get(head.getVm())).map(Collections::singletonList).orElse(Collections.emptyList()) :
+                slots.values();
+
+        Shadow earliest = null;
+        for (final VmSlot slot : candidates) {
+            long freePes = slot.freePes;
+            double time = getSimulation().clock();
+            for (final RunningCloudlet running : slot.runningByFinishTime) {
+                if(freePes >= pes) {
+                    break;
+                }
+
+                freePes += running.cloudlet.getNumberOfPes();
+                time = Math.max(time, running.estimatedFinishTime);
+            }
+
+            if(freePes >= pes && (earliest == null || time < earliest.time)) {
+                earliest = new Shadow(head, slot, time, freePes - pes);
+            }
+        }
+
+        return earliest;
+    }
+
+    private void dispatch(final Cloudlet cloudlet, final VmSlot slot) {
+        final RunningCloudlet running = new RunningCloudlet(cloudlet, slot, getEstimatedFinishTime(cloudlet, slot));
+        runningCloudlets.put(cloudlet, running);
+        slot.runningByFinishTime.add(running);
+        updateFreePes(slot, -cloudlet.getNumberOfPes());
+
+        cloudlet.setVm(slot.vm);
+        println("%.2f: %s: Dispatching %s %d to %s.",
+            getSimulation().clock(), getName(), cloudlet.getClass().getSimpleName(), cloudlet.getId(), slot.vm);
+        sendNow(slot.vm.getHost().getDatacenter().getId(), CloudSimTags.CLOUDLET_SUBMIT, cloudlet);
+    }
+
+    private void releasePes(final Cloudlet cloudlet) {
+        final RunningCloudlet running = runningCloudlets.remove(cloudlet);
+        if(running == null) {
+            return;
+        }
+
+        running.slot.runningByFinishTime.remove(running);
+        //Just the reserved VM or an early completion may anticipate the shadow time
+        if(shadow != null && (running.slot == shadow.slot || getSimulation().clock() < running.estimatedFinishTime)) {
+            shadow = null;
+        }
+
+        //The VM may have been removed
+        if(slots.get(running.slot.vm) == running.slot) {
+            updateFreePes(running.slot, cloudlet.getNumberOfPes());
+        }
+    }
+
+    private double getEstimatedFinishTime(final Cloudlet cloudlet, final VmSlot slot) {
+        final double mips = slot.vm.getMips();
+        final double runtime = mips > 0 ? cloudlet.getLength() / mips : Double.POSITIVE_INFINITY;
+        return getSimulation().clock() + runtime;
+    }
+
+    private void updateFreePes(final VmSlot slot, final long increment) {
+        removeFromIndex(slot);
+        slot.freePes += increment;
+        addToIndex(slot);
+    }
+
+    private void addToIndex(final VmSlot slot) {
+        slotsByFreePes.computeIfAbsent(slot.freePes, pes -> new LinkedHashSet<>()).add(slot);
+    }
+
+    private void removeFromIndex(final VmSlot slot) {
+        final Set<VmSlot> sameFreePesSlots = slotsByFreePes.get(slot.freePes);
+        if(sameFreePesSlots == null) {
+            return;
+        }
+
+        sameFreePesSlots.remove(slot);
+        if(sameFreePesSlots.isEmpty()) {
+            slotsByFreePes.remove(slot.freePes);
+        }
+    }
+
+    private long getMaxFreePes() {
+        return slotsByFreePes.isEmpty() ? 0 : slotsByFreePes.lastKey();
+    }
+
+    @Override
+    public int getWaitingCloudletsNumber() {
+        return waitingQueue.size();
+    }
+
+    @Override
+    public int getRunningCloudletsNumber() {
+        return runningCloudlets.size();
+    }
+
+    /**
+     * Checks if waiting Cloudlets can start out of the arrival order
+     * when they don't delay the queue head (EASY backfilling)
+     * or if Cloudlets are strictly dispatched in arrival order.
+     * @return
+     */
+    public boolean isBackfilling() {
+        return backfilling;
+    }
+
+    /**
+     * Enables or disables backfilling.
+     * @param backfilling true to enable EASY backfilling, false to dispatch Cloudlets strictly in arrival order
+     * @return
+     * @see #isBackfilling()
+     */
+    public ClusterBatchScheduler setBackfilling(final boolean backfilling) {
+        this.backfilling = backfilling;
+        return this;
+    }
+
+    /**
+     * The PEs usage of a VM in the cluster.
+     */
+    private static final class VmSlot implements Serializable {
+        private final Vm vm;
+        private long freePes;
+        private final NavigableSet<RunningCloudlet> runningByFinishTime;
+
+        private VmSlot(final Vm vm) {
+            this.vm = vm;
+            this.freePes = vm.getNumberOfPes();
+            this.runningByFinishTime = new TreeSet<>(RunningCloudlet.COMPARATOR);
+        }
+    }
+
+    /**
+     * A Cloudlet dispatched to a VM.
+     */
+    private static final class RunningCloudlet implements Serializable {
+        private static final Comparator<RunningCloudlet> COMPARATOR =
+            (Comparator<RunningCloudlet> & Serializable) (r1, r2) -> {
+                final int result = Double.compare(r1.estimatedFinishTime, r2.estimatedFinishTime);
+                return result != 0 ? result : Integer.compare(r1.cloudlet.getId(), r2.cloudlet.getId());
+            };
+
+        private final Cloudlet cloudlet;
+        private final VmSlot slot;
+        private final double estimatedFinishTime;
+
+        private RunningCloudlet(final Cloudlet cloudlet, final VmSlot slot, final double estimatedFinishTime) {
+            this.cloudlet = cloudlet;
+            this.slot = slot;
+            this.estimatedFinishTime = estimatedFinishTime;
+        }
+    }
+
+    /**
+     * The reservation for the queue head: the VM where it will run,
+     * the time it is expected to start and the PEs of such a VM
+     * that will be free yet at that time.
+     */
+    private static final class Shadow implements Serializable {
+        private final Cloudlet head;
+        private final VmSlot slot;
+        private final double time;
+        private long extraPes;
+
+        private Shadow(final Cloudlet head, final VmSlot slot, final double time, final long extraPes) {
+            this.head = head;
+            this.slot = slot;
+            this.time = time;
+            this.extraPes = extraPes;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Provides {@link org.cloudsimplus.batch.BatchScheduler} implementations,
+ * entities that keep a single queue of Cloudlets for a cluster of VMs
+ * and dispatch them to Datacenters when there are enough free PEs,
+ * such as the {@link org.cloudsimplus.batch.ClusterBatchScheduler}.
+ * They enable replaying HPC workload traces at cluster scale.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+package org.cloudsimplus.batch;
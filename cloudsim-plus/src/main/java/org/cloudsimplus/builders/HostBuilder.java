@@ -77,7 +77,6 @@ public class HostBuilder extends Builder {
                 .setBwProvisioner(new ResourceProvisionerSimple())
                 .setVmScheduler((VmScheduler) cons.newInstance())
                 .addOnUpdateProcessingListener(onUpdateVmsProcessingListener);
-            hosts.add(host);
             return host;
         } catch (NoSuchMethodException | SecurityException | InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
             throw new RuntimeException("It wasn't possible to instantiate VmScheduler", ex);
@@ -0,0 +1,251 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.vms.Vm;
+
+/**
+ * A heuristic that uses a <a href="https://en.wikipedia.org/wiki/Genetic_algorithm">Genetic Algorithm</a>
+ * to find a sub-optimal mapping among a set of Cloudlets and VMs in order to reduce
+ * the number of idle or overloaded Vm Pe's.
+ *
+ * <p>Each genome has one gene for each Cloudlet into the {@link #getCloudletList() Cloudlet list},
+ * which value is the index of the VM into the {@link #getVmList() VM list} the Cloudlet is mapped to.
+ * The cost of a genome is the same as the one of the {@link CloudletToVmMappingSolution} it represents,
+ * but it's computed directly from the genome, without creating such a solution.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class CloudletToVmMappingGeneticAlgorithm
+      extends GeneticAlgorithm<CloudletToVmMappingSolution>
+      implements CloudletToVmMappingHeuristic {
+    private CloudletToVmMappingSolution initialSolution;
+
+    /** @see #getVmList() */
+    private List<Vm> vmList;
+
+    /** @see #getCloudletList() */
+    private List<Cloudlet> cloudletList;
+
+    /**
+     * The number of PEs required by each Cloudlet,
+     * where the element at the index i is for the Cloudlet i into the {@link #cloudletList}.
+     */
+    private long[] cloudletsPes;
+
+    /**
+     * A solution used just to compute the cost of each VM,
+     * so that genome costs are computed by the same function of solutions.
+     * @see CloudletToVmMappingSolution#getVmCost(Vm, long)
+     */
+    private final CloudletToVmMappingSolution costFunction;
+
+    /**
+     * A buffer for each thread computing genome costs,
+     * where the element at the index i is the number of PEs required from the VM i
+     * by the genome being evaluated.
+     * It avoids allocating an array at every cost computation,
+     * while enabling the {@link #isParallelFitnessEvaluation() parallel fitness evaluation}.
+     * Each island/replica has its own buffers.
+     * It isn't serialized, being created again when first used after deserialization.
+     */
+    private transient ThreadLocal<long[]> vmsPesBuffer;
+
+    /**
+     * Creates a new Genetic Algorithm Heuristic for solving Cloudlets to Vm's mapping.
+     *
+     * @param random a random number generator
+     * @see #setPopulationSize(int)
+     * @see #setMaxGenerations(int)
+     * @see #setMutationRate(double)
+     */
+    public CloudletToVmMappingGeneticAlgorithm(ContinuousDistribution random) {
+        super(random, CloudletToVmMappingSolution.class);
+        initialSolution = new CloudletToVmMappingSolution(this);
+        costFunction = new CloudletToVmMappingSolution(this);
+        cloudletsPes = new long[0];
+    }
+
+    private CloudletToVmMappingSolution generateRandomSolution() {
+        CloudletToVmMappingSolution solution = new CloudletToVmMappingSolution(this);
+        cloudletList.forEach(c -> solution.bindCloudletToVm(c, getRandomVm()));
+        return solution;
+    }
+
+    private boolean isReadToGenerateInitialSolution(){
+        return !cloudletList.isEmpty() && !vmList.isEmpty();
+    }
+
+    private boolean isThereInitialSolution(){
+        return !initialSolution.getResult().isEmpty();
+    }
+
+    @Override
+    public CloudletToVmMappingSolution getInitialSolution() {
+        if(!isThereInitialSolution() && isReadToGenerateInitialSolution()) {
+            initialSolution = generateRandomSolution();
+        }
+
+        return initialSolution;
+    }
+
+    @Override
+    public List<Vm> getVmList() {
+        return vmList;
+    }
+
+    @Override
+    public void setVmList(List<Vm> vmList) {
+        this.vmList = vmList;
+    }
+
+    @Override
+    public List<Cloudlet> getCloudletList() {
+        return cloudletList;
+    }
+
+    @Override
+    public void setCloudletList(List<Cloudlet> cloudletList) {
+        this.cloudletList = cloudletList;
+    }
+
+    /**
+     * @return a random Vm from the  {@link #getVmList() available Vm's list}.
+     */
+    private Vm getRandomVm() {
+        final int i = getRandomValue(vmList.size());
+        return vmList.get(i);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The replica has the same genetic parameters, VMs and Cloudlets of this heuristic.</p>
+     *
+     * @param random {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected CloudletToVmMappingGeneticAlgorithm createReplica(final ContinuousDistribution random) {
+        final CloudletToVmMappingGeneticAlgorithm replica = new CloudletToVmMappingGeneticAlgorithm(random);
+        replica.setPopulationSize(getPopulationSize());
+        replica.setCrossoverRate(getCrossoverRate());
+        replica.setMutationRate(getMutationRate());
+        replica.setTournamentSize(getTournamentSize());
+        replica.setEliteSize(getEliteSize());
+        replica.setMaxGenerations(getMaxGenerations());
+        replica.setMigrationInterval(getMigrationInterval());
+        replica.setMigrationSize(getMigrationSize());
+        replica.setParallelFitnessEvaluation(isParallelFitnessEvaluation());
+        replica.setNumberOfNeighborhoodSearchesByIteration(getNumberOfNeighborhoodSearchesByIteration());
+        replica.setVmList(vmList);
+        replica.setCloudletList(cloudletList);
+        return replica;
+    }
+
+    @Override
+    public CloudletToVmMappingSolution createNeighbor(CloudletToVmMappingSolution source) {
+        CloudletToVmMappingSolution clone = new CloudletToVmMappingSolution(source);
+        clone.swapVmsOfTwoRandomSelectedCloudlets();
+        return clone;
+    }
+
+    @Override
+    protected void initPopulation() {
+        cloudletsPes = cloudletList.stream().mapToLong(Cloudlet::getNumberOfPes).toArray();
+        super.initPopulation();
+    }
+
+    @Override
+    protected int getGenomeLength() {
+        return cloudletList.size();
+    }
+
+    @Override
+    protected int getNumberOfAlleles() {
+        return vmList.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>As in {@link CloudletToVmMappingSolution}, VMs without Cloudlets don't add cost to the solution.</p>
+     *
+     * @param genome {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected double computeCost(final int[] genome) {
+        //Every Cloudlet requires at least 1 PE, so VMs with no PEs required have no Cloudlets
+        final long[] vmsPes = getVmsPesBuffer();
+        for (int i = 0; i < genome.length; i++) {
+            vmsPes[genome[i]] += cloudletsPes[i];
+        }
+
+        double cost = 0;
+        for (int vm = 0; vm < vmsPes.length; vm++) {
+            if (vmsPes[vm] > 0) {
+                cost += costFunction.getVmCost(vmList.get(vm), vmsPes[vm]);
+            }
+        }
+
+        return cost;
+    }
+
+    /**
+     * Gets the {@link #vmsPesBuffer} of the current thread, cleared and having one element for each VM.
+     * @return the VMs' PEs buffer
+     */
+    private long[] getVmsPesBuffer() {
+        if(vmsPesBuffer == null) {
+            vmsPesBuffer = ThreadLocal.withInitial(() -> new long[0]);
+        }
+
+        long[] vmsPes = vmsPesBuffer.get();
+        if(vmsPes.length == vmList.size()) {
+            Arrays.fill(vmsPes, 0);
+        } else {
+            vmsPes = new long[vmList.size()];
+            vmsPesBuffer.set(vmsPes);
+        }
+
+        return vmsPes;
+    }
+
+    @Override
+    protected CloudletToVmMappingSolution createSolution(final int[] genome) {
+        final CloudletToVmMappingSolution solution = new CloudletToVmMappingSolution(this);
+        for (int i = 0; i < genome.length; i++) {
+            solution.bindCloudletToVm(cloudletList.get(i), vmList.get(genome[i]));
+        }
+
+        return solution;
+    }
+}
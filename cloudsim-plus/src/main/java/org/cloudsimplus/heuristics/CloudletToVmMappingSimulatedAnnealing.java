@@ -113,11 +113,61 @@ public class CloudletToVmMappingSimulatedAnnealing
         return vmList.get(i);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The replica has the same temperatures, cooling rate, VMs and Cloudlets of this heuristic.</p>
+     *
+     * @param random {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected CloudletToVmMappingSimulatedAnnealing createReplica(final ContinuousDistribution random) {
+        final CloudletToVmMappingSimulatedAnnealing replica =
+            new CloudletToVmMappingSimulatedAnnealing(getCurrentTemperature(), random);
+        replica.setColdTemperature(getColdTemperature());
+        replica.setCoolingRate(getCoolingRate());
+        replica.setNumberOfNeighborhoodSearchesByIteration(getNumberOfNeighborhoodSearchesByIteration());
+        replica.setVmList(vmList);
+        replica.setCloudletList(cloudletList);
+        return replica;
+    }
+
     @Override
     public CloudletToVmMappingSolution createNeighbor(CloudletToVmMappingSolution source) {
         CloudletToVmMappingSolution clone = new CloudletToVmMappingSolution(source);
-        clone.swapVmsOfTwoRandomSelectedMapEntries();
+        clone.swapVmsOfTwoRandomSelectedCloudlets();
         return clone;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Instead of cloning the current solution to create a neighbor,
+     * it randomly selects 2 Cloudlets, computes how much swapping their VMs
+     * changes the solution cost and just applies such a swap to the current solution
+     * if the change is accepted. This way, each search takes constant time,
+     * regardless of the number of Cloudlets and VMs.
+     * The {@link #getNeighborSolution() neighbor solution} isn't updated.</p>
+     */
+    @Override
+    protected void searchNeighbor() {
+        /*The initial solution is copied just once,
+        so that it isn't changed by the moves applied to the current solution.*/
+        if(getBestSolutionSoFar() == initialSolution) {
+            setBestSolutionSoFar(new CloudletToVmMappingSolution(initialSolution));
+        }
+
+        final CloudletToVmMappingSolution solution = getBestSolutionSoFar();
+        if(solution.getCloudletsNumber() < 2) {
+            return;
+        }
+
+        final int i = getRandomValue(solution.getCloudletsNumber());
+        final int j = getRandomValue(solution.getCloudletsNumber());
+        if (getAcceptanceProbability(solution.getSwapCostDelta(i, j)) > getRandomValue(1)) {
+            solution.swapVmsOfTwoCloudlets(i, j);
+        }
+    }
+
 }
@@ -24,7 +24,6 @@
 package org.cloudsimplus.heuristics;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.vms.Vm;
@@ -33,6 +32,14 @@ import org.cloudbus.cloudsim.vms.Vm;
  * A possible solution for mapping a set of Cloudlets to a set of Vm's.
  * It represents a solution generated using a {@link Heuristic} implementation.
  *
+ * <p>The mapping is stored into arrays indexed by Cloudlet and VM, instead of a {@link Map}.
+ * The number of PEs required by the Cloudlets mapped to each VM is kept updated,
+ * so that the {@link #getCost() cost} of the solution is incrementally updated
+ * and the cost change of {@link #swapVmsOfTwoCloudlets(int, int) swapping the VMs of two Cloudlets}
+ * can be computed in constant time by {@link #getSwapCostDelta(int, int)},
+ * without changing or cloning the solution.
+ * A swap is undone just by swapping the same Cloudlets again.</p>
+ *
  * @author Manoel Campos da Silva Filho
  * @see Heuristic
  * @since CloudSim Plus 1.0
@@ -46,27 +53,65 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      */
     public static final double MIN_DIFF = 0.0001;
 
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The Cloudlets mapped to VMs, where the index of each Cloudlet
+     * is the one used to access its VM into {@link #cloudletVmIndexes}.
+     */
+    private Cloudlet[] cloudlets;
+
+    /**
+     * The index of the VM (into {@link #vms}) each Cloudlet is mapped to,
+     * where the element at the index i is the VM index for the Cloudlet i.
+     */
+    private int[] cloudletVmIndexes;
+
+    /**
+     * The number of Cloudlets into the solution.
+     */
+    private int cloudletsNumber;
+
     /**
-     * @see #getResult()
+     * The index of each Cloudlet into the {@link #cloudlets} array.
      */
-    private final Map<Cloudlet, Vm> cloudletVmMap;
+    private final Map<Cloudlet, Integer> cloudletIndexes;
 
     /**
-     * Indicates if the {@link #getCost() ()} has to be recomputed
-     * due to changes in {@link #cloudletVmMap}.
-     * When it is computed, its value is stored to be used
-     * in subsequent calls, until the map is changed again, in order to
-     * improve performance.
+     * The VMs which Cloudlets are mapped to.
      */
-    private boolean recomputeCost = true;
+    private final List<Vm> vms;
 
     /**
-     * The last computed cost value, since the
-     * last time the {@link #cloudletVmMap} was changed.
+     * The index of each VM into the {@link #vms} list.
+     */
+    private final Map<Vm, Integer> vmIndexes;
+
+    /**
+     * The sum of PEs required by all Cloudlets mapped to each VM,
+     * where the element at the index i is the sum for the VM i.
+     */
+    private long[] vmCloudletsPes;
+
+    /**
+     * The number of Cloudlets mapped to each VM,
+     * where the element at the index i is the number for the VM i.
+     * Only VMs having Cloudlets are accounted in the solution cost.
+     */
+    private int[] vmCloudletsNumber;
+
+    /**
+     * The cost of the entire mapping, which is incrementally
+     * updated as Cloudlets are mapped to VMs.
      * @see #getCost()
-     * @see #recomputeCost
      */
-    private double lastCost;
+    private double cost;
+
+    /**
+     * The mapping between Cloudlets and VMs returned by {@link #getResult()},
+     * which is just built when requested and kept until the solution is changed.
+     */
+    private Map<Cloudlet, Vm> result;
 
     private final Heuristic heuristic;
 
@@ -78,12 +123,14 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * being created.
      */
     public CloudletToVmMappingSolution(Heuristic heuristic){
-        this(heuristic, new HashMap<>());
-    }
-
-    private CloudletToVmMappingSolution(Heuristic heuristic, Map<Cloudlet, Vm> cloudletVmMap){
         this.heuristic = heuristic;
-        this.cloudletVmMap = cloudletVmMap;
+        this.cloudlets = new Cloudlet[INITIAL_CAPACITY];
+        this.cloudletVmIndexes = new int[INITIAL_CAPACITY];
+        this.cloudletIndexes = new HashMap<>();
+        this.vms = new ArrayList<>();
+        this.vmIndexes = new HashMap<>();
+        this.vmCloudletsPes = new long[INITIAL_CAPACITY];
+        this.vmCloudletsNumber = new int[INITIAL_CAPACITY];
     }
 
     /**
@@ -92,7 +139,17 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @param solution the solution to be cloned
      */
     public CloudletToVmMappingSolution(CloudletToVmMappingSolution solution){
-        this(solution.heuristic, new HashMap<>(solution.cloudletVmMap));
+        this.heuristic = solution.heuristic;
+        this.cloudlets = solution.cloudlets.clone();
+        this.cloudletVmIndexes = solution.cloudletVmIndexes.clone();
+        this.cloudletsNumber = solution.cloudletsNumber;
+        this.cloudletIndexes = new HashMap<>(solution.cloudletIndexes);
+        this.vms = new ArrayList<>(solution.vms);
+        this.vmIndexes = new HashMap<>(solution.vmIndexes);
+        this.vmCloudletsPes = solution.vmCloudletsPes.clone();
+        this.vmCloudletsNumber = solution.vmCloudletsNumber.clone();
+        this.cost = solution.cost;
+        this.result = solution.result;
     }
 
     /**
@@ -102,8 +159,72 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @param vm the Vm to assign a cloudlet to
      */
     public void bindCloudletToVm(Cloudlet cloudlet, Vm vm){
-        cloudletVmMap.put(cloudlet, vm);
-        recomputeCost = true;
+        final int vmIndex = getOrAddVmIndex(vm);
+        final Integer cloudletIndex = cloudletIndexes.get(cloudlet);
+        if(cloudletIndex == null) {
+            addCloudlet(cloudlet, vmIndex);
+        } else {
+            moveCloudlet(cloudletIndex, vmIndex);
+        }
+
+        result = null;
+    }
+
+    private void addCloudlet(final Cloudlet cloudlet, final int vmIndex) {
+        if(cloudletsNumber == cloudlets.length) {
+            cloudlets = Arrays.copyOf(cloudlets, cloudlets.length * 2);
+            cloudletVmIndexes = Arrays.copyOf(cloudletVmIndexes, cloudletVmIndexes.length * 2);
+        }
+
+        cloudlets[cloudletsNumber] = cloudlet;
+        cloudletVmIndexes[cloudletsNumber] = vmIndex;
+        cloudletIndexes.put(cloudlet, cloudletsNumber);
+        cloudletsNumber++;
+        addCloudletPesToVm(vmIndex, cloudlet.getNumberOfPes(), 1);
+    }
+
+    private void moveCloudlet(final int cloudletIndex, final int vmIndex) {
+        final int previousVmIndex = cloudletVmIndexes[cloudletIndex];
+        if(previousVmIndex == vmIndex) {
+            return;
+        }
+
+        final long pes = cloudlets[cloudletIndex].getNumberOfPes();
+        addCloudletPesToVm(previousVmIndex, -pes, -1);
+        addCloudletPesToVm(vmIndex, pes, 1);
+        cloudletVmIndexes[cloudletIndex] = vmIndex;
+    }
+
+    /**
+     * Adds (or removes, if negative values are given) Cloudlets PEs to a VM,
+     * updating the solution cost.
+     *
+     * @param vmIndex the index of the VM
+     * @param pes the number of PEs to add
+     * @param cloudlets the number of Cloudlets the PEs belong to
+     */
+    private void addCloudletPesToVm(final int vmIndex, final long pes, final int cloudlets) {
+        cost -= getVmCostByIndex(vmIndex);
+        vmCloudletsPes[vmIndex] += pes;
+        vmCloudletsNumber[vmIndex] += cloudlets;
+        cost += getVmCostByIndex(vmIndex);
+    }
+
+    private int getOrAddVmIndex(final Vm vm) {
+        final Integer vmIndex = vmIndexes.get(vm);
+        if(vmIndex != null) {
+            return vmIndex;
+        }
+
+        final int newIndex = vms.size();
+        if(newIndex == vmCloudletsPes.length) {
+            vmCloudletsPes = Arrays.copyOf(vmCloudletsPes, vmCloudletsPes.length * 2);
+            vmCloudletsNumber = Arrays.copyOf(vmCloudletsNumber, vmCloudletsNumber.length * 2);
+        }
+
+        vms.add(vm);
+        vmIndexes.put(vm, newIndex);
+        return newIndex;
     }
 
     @Override
@@ -114,25 +235,14 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
     /**
      * {@inheritDoc}
      *
-     * It computes the cost of the entire mapping between Vm's and Cloudlets.
+     * It is the cost of the entire mapping between Vm's and Cloudlets,
+     * which is kept updated as Cloudlets are mapped to VMs.
      *
      * @return {@inheritDoc}
      */
     @Override
     public double getCost() {
-        if(recomputeCost){
-	        final Map<Vm, List<Map.Entry<Cloudlet, Vm>>> cloudletsByVm =
-		        cloudletVmMap.entrySet().stream()
-			        .collect(Collectors.groupingBy(Map.Entry::getValue));
-
-	        lastCost = cloudletsByVm.entrySet().stream()
-		        .mapToDouble(e-> getVmCost(e.getKey(), e.getValue()))
-	            .sum();
-
-            recomputeCost = false;
-        }
-
-        return lastCost;
+        return cost;
     }
 
     /**
@@ -143,27 +253,47 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      * @see #getCost()
      */
     public double getCost(boolean forceRecompute) {
-        recomputeCost |= forceRecompute;
+        if(forceRecompute) {
+            cost = 0;
+            for (int i = 0; i < vms.size(); i++) {
+                cost += getVmCostByIndex(i);
+            }
+        }
+
         return getCost();
     }
 
     /**
-     * Computes the cost of all Cloudlets hosted by a given Vm.
+     * Computes the cost of a Vm hosting Cloudlets that require a given number of PEs.
      * The cost is based on the number of PEs from the VM that
      * will be idle or overloaded.
      *
+     * <p>Since the cost of the solution is incrementally updated,
+     * subclasses defining a different cost function have to override this method.</p>
+     *
      * @param vm VM to compute the cost based on the hosted Cloudlets
-     * @param listOfCloudletsForVm A list containing all Cloudlets for a given VM
+     * @param totalCloudletsPes the sum of PEs required by all Cloudlets hosted by the VM
      * @return the VM cost to host the Cloudlets
      */
-    public double getVmCost(Vm vm, List<Map.Entry<Cloudlet, Vm>> listOfCloudletsForVm) {
-	    final long totalCloudletsPes = listOfCloudletsForVm.stream()
-		    .mapToLong(e->e.getKey().getNumberOfPes())
-		    .sum();
-
+    protected double getVmCost(Vm vm, long totalCloudletsPes) {
         return Math.abs(vm.getNumberOfPes() - totalCloudletsPes);
     }
 
+    /**
+     * Gets the cost of a VM considering the Cloudlets currently mapped to it.
+     * VMs without Cloudlets don't add cost to the solution.
+     *
+     * @param vmIndex the index of the VM
+     * @return the VM cost
+     */
+    private double getVmCostByIndex(final int vmIndex) {
+        return getVmCostByIndex(vmIndex, vmCloudletsPes[vmIndex], vmCloudletsNumber[vmIndex]);
+    }
+
+    private double getVmCostByIndex(final int vmIndex, final long totalCloudletsPes, final int cloudlets) {
+        return cloudlets == 0 ? 0 : getVmCost(vms.get(vmIndex), totalCloudletsPes);
+    }
+
     /**
      * Compares this solution with another given one, based on the solution
      * cost. The current object is considered to be:
@@ -192,82 +322,108 @@ public class CloudletToVmMappingSolution implements HeuristicSolution<Map<Cloudl
      */
     @Override
     public Map<Cloudlet, Vm> getResult() {
-        return Collections.unmodifiableMap(cloudletVmMap);
+        if(result == null) {
+            final Map<Cloudlet, Vm> map = new HashMap<>(cloudletsNumber*4/3 + 1);
+            for (int i = 0; i < cloudletsNumber; i++) {
+                map.put(cloudlets[i], vms.get(cloudletVmIndexes[i]));
+            }
+
+            result = Collections.unmodifiableMap(map);
+        }
+
+        return result;
     }
 
     /**
-     * Swap the Vm's of 2 randomly selected cloudlets
-     * in the {@link #cloudletVmMap} in order to
-     * provide a neighbor solution.
-     *
-     * The method change the given Map entries, moving the
-     * cloudlet of the first entry to the Vm of the second entry
-     * and vice-versa.
+     * Gets the number of Cloudlets mapped to VMs into this solution.
+     * Cloudlets are indexed from 0 to this number minus 1,
+     * in the order they were first bound to a VM.
      *
-     * @param entries an array of 2 entries that the Vm of their cloudlets should
-     * be swapped. If the entries don't have 2 elements, the method will
-     * return without performing any change in the entries.
-     * @return true if the Cloudlet's VMs where swapped, false otherwise
+     * @return the number of Cloudlets
      */
-    protected boolean swapVmsOfTwoMapEntries(Map.Entry<Cloudlet, Vm>... entries) {
-        if(Objects.isNull(entries) || entries.length != 2 || Objects.isNull(entries[0]) || Objects.isNull(entries[1]))
-            return false;
+    public int getCloudletsNumber() {
+        return cloudletsNumber;
+    }
 
-        final Vm vm1 = entries[0].getValue();
-        final Vm vm2 = entries[1].getValue();
-        entries[0].setValue(vm2);
-        entries[1].setValue(vm1);
+    /**
+     * Gets the change in the {@link #getCost() solution cost} if the VMs of two Cloudlets were swapped,
+     * without actually changing the solution.
+     * Since just the 2 VMs hosting such Cloudlets are affected, it is computed in constant time.
+     *
+     * @param cloudletIndex1 the index of the first Cloudlet
+     * @param cloudletIndex2 the index of the second Cloudlet
+     * @return the cost change, which is negative if the swap reduces the solution cost
+     * @see #getCloudletsNumber()
+     */
+    public double getSwapCostDelta(final int cloudletIndex1, final int cloudletIndex2) {
+        final int vm1 = cloudletVmIndexes[cloudletIndex1];
+        final int vm2 = cloudletVmIndexes[cloudletIndex2];
+        if(vm1 == vm2) {
+            return 0;
+        }
 
-        return true;
+        //Moving cloudlet 1 to VM 2 and cloudlet 2 to VM 1 changes the PEs of each VM by the same amount
+        final long pesDiff = cloudlets[cloudletIndex2].getNumberOfPes() - cloudlets[cloudletIndex1].getNumberOfPes();
+        final double previousCost = getVmCostByIndex(vm1) + getVmCostByIndex(vm2);
+        final double newCost =
+            getVmCostByIndex(vm1, vmCloudletsPes[vm1] + pesDiff, vmCloudletsNumber[vm1]) +
+            getVmCostByIndex(vm2, vmCloudletsPes[vm2] - pesDiff, vmCloudletsNumber[vm2]);
+        return newCost - previousCost;
     }
 
     /**
-     * Swap the Vm's of 2 randomly selected cloudlets
-     * in the {@link #cloudletVmMap} in order to
-     * provide a neighbor solution.
-     *
-     * The method change the given Map entries, moving the
-     * cloudlet of the first entry to the Vm of the second entry
-     * and vice-versa.
+     * Checks if two Cloudlets are mapped to the same VM,
+     * so that swapping their VMs doesn't change the solution.
      *
-     * @see #swapVmsOfTwoMapEntries(Map.Entry[])
-     * @return true if the Cloudlet's VMs where swapped, false otherwise
+     * @param cloudletIndex1 the index of the first Cloudlet
+     * @param cloudletIndex2 the index of the second Cloudlet
+     * @return true if the Cloudlets are mapped to the same VM, false otherwise
      */
-    boolean swapVmsOfTwoRandomSelectedMapEntries() {
-        return swapVmsOfTwoMapEntries(getRandomMapEntries());
+    boolean isMappedToSameVm(final int cloudletIndex1, final int cloudletIndex2) {
+        return cloudletVmIndexes[cloudletIndex1] == cloudletVmIndexes[cloudletIndex2];
     }
 
     /**
-     * Try to get 2 randomly selected entries from the {@link #cloudletVmMap}.
+     * Swaps the VMs of two Cloudlets in order to provide a neighbor solution,
+     * updating the solution cost.
+     * Swapping the same Cloudlets again undoes the change.
      *
-     * @return an array with 2 entries from the {@link #cloudletVmMap}
-     * if the map has at least 2 entries, an unitary array if the map
-     * has only one entry, or an empty array if there is no entry.
-     *
-     * @see #swapVmsOfTwoMapEntries(Map.Entry[])
+     * @param cloudletIndex1 the index of the first Cloudlet
+     * @param cloudletIndex2 the index of the second Cloudlet
+     * @return true if the Cloudlet's VMs where swapped, false if they are the same VM
+     * @see #getSwapCostDelta(int, int)
+     * @see #getCloudletsNumber()
      */
-    protected Map.Entry<Cloudlet, Vm>[] getRandomMapEntries() {
-        if(cloudletVmMap.isEmpty())
-            return new Map.Entry[0];
-
-        if(cloudletVmMap.size() == 1) {
-            final Optional<Map.Entry<Cloudlet, Vm>> opt =
-                    cloudletVmMap.entrySet().stream().findFirst();
-
-            return opt.map(entry -> new Map.Entry[]{entry}).orElse(new Map.Entry[0]);
+    public boolean swapVmsOfTwoCloudlets(final int cloudletIndex1, final int cloudletIndex2) {
+        final int vm1 = cloudletVmIndexes[cloudletIndex1];
+        final int vm2 = cloudletVmIndexes[cloudletIndex2];
+        if(vm1 == vm2) {
+            return false;
         }
 
-        final int size = cloudletVmMap.entrySet().size();
-        final Map.Entry<Cloudlet, Vm>[] selectedEntries = new Map.Entry[2];
-        final Map.Entry<Cloudlet, Vm>[] allEntries = new Map.Entry[size];
-
-        final int i = heuristic.getRandomValue(size);
-        final int j = heuristic.getRandomValue(size);
-        cloudletVmMap.entrySet().toArray(allEntries);
-        selectedEntries[0] = allEntries[i];
-        selectedEntries[1] = allEntries[j];
-        return selectedEntries;
+        final long pesDiff = cloudlets[cloudletIndex2].getNumberOfPes() - cloudlets[cloudletIndex1].getNumberOfPes();
+        addCloudletPesToVm(vm1, pesDiff, 0);
+        addCloudletPesToVm(vm2, -pesDiff, 0);
+        cloudletVmIndexes[cloudletIndex1] = vm2;
+        cloudletVmIndexes[cloudletIndex2] = vm1;
+        result = null;
+        return true;
     }
 
+    /**
+     * Swap the Vm's of 2 randomly selected cloudlets
+     * in order to provide a neighbor solution.
+     *
+     * @see #swapVmsOfTwoCloudlets(int, int)
+     * @return true if the Cloudlet's VMs where swapped, false otherwise
+     */
+    boolean swapVmsOfTwoRandomSelectedCloudlets() {
+        if(cloudletsNumber < 2) {
+            return false;
+        }
 
+        final int i = heuristic.getRandomValue(cloudletsNumber);
+        final int j = heuristic.getRandomValue(cloudletsNumber);
+        return swapVmsOfTwoCloudlets(i, j);
+    }
 }
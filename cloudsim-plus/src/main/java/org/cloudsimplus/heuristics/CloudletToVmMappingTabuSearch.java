@@ -0,0 +1,199 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import java.util.List;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.vms.Vm;
+
+/**
+ * A heuristic that uses <a href="https://en.wikipedia.org/wiki/Tabu_search">Tabu Search</a>
+ * to find a sub-optimal mapping among a set of Cloudlets and VMs in order to reduce
+ * the number of idle or overloaded Vm Pe's.
+ *
+ * <p>Each candidate move swaps the VMs of two randomly selected Cloudlets,
+ * which is evaluated in constant time by {@link CloudletToVmMappingSolution#getSwapCostDelta(int, int)}.
+ * After a move, the swapped Cloudlets are tabu, so they cannot be moved again
+ * for the next {@link #getTabuTenure() tabu tenure} iterations.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class CloudletToVmMappingTabuSearch
+      extends TabuSearch<CloudletToVmMappingSolution>
+      implements CloudletToVmMappingHeuristic {
+    private CloudletToVmMappingSolution initialSolution;
+
+    /** @see #getVmList() */
+    private List<Vm> vmList;
+
+    /** @see #getCloudletList() */
+    private List<Cloudlet> cloudletList;
+
+    /**
+     * Creates a new Tabu Search Heuristic for solving Cloudlets to Vm's mapping.
+     *
+     * @param random a random number generator
+     * @see #setMaxIterations(int)
+     * @see #setTabuTenure(int)
+     * @see #setNumberOfNeighborhoodSearchesByIteration(int)
+     */
+    public CloudletToVmMappingTabuSearch(ContinuousDistribution random) {
+        super(random, CloudletToVmMappingSolution.class);
+        initialSolution = new CloudletToVmMappingSolution(this);
+    }
+
+    private CloudletToVmMappingSolution generateRandomSolution() {
+        CloudletToVmMappingSolution solution = new CloudletToVmMappingSolution(this);
+        cloudletList.forEach(c -> solution.bindCloudletToVm(c, getRandomVm()));
+        return solution;
+    }
+
+    private boolean isReadToGenerateInitialSolution(){
+        return !cloudletList.isEmpty() && !vmList.isEmpty();
+    }
+
+    private boolean isThereInitialSolution(){
+        return !initialSolution.getResult().isEmpty();
+    }
+
+    @Override
+    public CloudletToVmMappingSolution getInitialSolution() {
+        if(!isThereInitialSolution() && isReadToGenerateInitialSolution()) {
+            initialSolution = generateRandomSolution();
+        }
+
+        return initialSolution;
+    }
+
+    @Override
+    public List<Vm> getVmList() {
+        return vmList;
+    }
+
+    @Override
+    public void setVmList(List<Vm> vmList) {
+        this.vmList = vmList;
+    }
+
+    @Override
+    public List<Cloudlet> getCloudletList() {
+        return cloudletList;
+    }
+
+    @Override
+    public void setCloudletList(List<Cloudlet> cloudletList) {
+        this.cloudletList = cloudletList;
+    }
+
+    /**
+     * @return a random Vm from the  {@link #getVmList() available Vm's list}.
+     */
+    private Vm getRandomVm() {
+        final int i = getRandomValue(vmList.size());
+        return vmList.get(i);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The replica has the same tabu tenure, maximum iterations, VMs and Cloudlets of this heuristic.</p>
+     *
+     * @param random {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected CloudletToVmMappingTabuSearch createReplica(final ContinuousDistribution random) {
+        final CloudletToVmMappingTabuSearch replica = new CloudletToVmMappingTabuSearch(random);
+        replica.setTabuTenure(getTabuTenure());
+        replica.setMaxIterations(getMaxIterations());
+        replica.setNumberOfNeighborhoodSearchesByIteration(getNumberOfNeighborhoodSearchesByIteration());
+        replica.setVmList(vmList);
+        replica.setCloudletList(cloudletList);
+        return replica;
+    }
+
+    @Override
+    public CloudletToVmMappingSolution createNeighbor(CloudletToVmMappingSolution source) {
+        CloudletToVmMappingSolution clone = new CloudletToVmMappingSolution(source);
+        clone.swapVmsOfTwoRandomSelectedCloudlets();
+        return clone;
+    }
+
+    @Override
+    protected CloudletToVmMappingSolution copySolution(CloudletToVmMappingSolution solution) {
+        return new CloudletToVmMappingSolution(solution);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The candidate moves swap the VMs of two random Cloudlets
+     * and the attributes made tabu are the indexes of the swapped Cloudlets.</p>
+     */
+    @Override
+    protected void searchNeighborhood() {
+        final CloudletToVmMappingSolution solution = getCurrentSolution();
+        final int cloudlets = solution.getCloudletsNumber();
+        if(cloudlets < 2) {
+            return;
+        }
+
+        int bestCloudlet1 = -1;
+        int bestCloudlet2 = -1;
+        double bestDelta = Double.POSITIVE_INFINITY;
+        for (int k = 0; k < getNumberOfNeighborhoodSearchesByIteration(); k++) {
+            final int i = getRandomValue(cloudlets);
+            final int j = getRandomValue(cloudlets);
+            if (solution.isMappedToSameVm(i, j)) {
+                continue;
+            }
+
+            final double delta = solution.getSwapCostDelta(i, j);
+            if (delta >= bestDelta || !isMoveAllowed(i, j, solution.getCost() + delta)) {
+                continue;
+            }
+
+            bestCloudlet1 = i;
+            bestCloudlet2 = j;
+            bestDelta = delta;
+        }
+
+        if(bestCloudlet1 < 0) {
+            return;
+        }
+
+        prepareCurrentSolutionChange(bestDelta);
+        solution.swapVmsOfTwoCloudlets(bestCloudlet1, bestCloudlet2);
+        makeTabu(bestCloudlet1);
+        makeTabu(bestCloudlet2);
+        updateBestSolution();
+    }
+
+    private boolean isMoveAllowed(final int cloudlet1, final int cloudlet2, final double newCost) {
+        return !(isTabu(cloudlet1) || isTabu(cloudlet2)) || isAspirated(newCost);
+    }
+}
@@ -0,0 +1,722 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A base class for implementation of
+ * <a href="https://en.wikipedia.org/wiki/Genetic_algorithm">Genetic Algorithms</a>
+ * used to find a suboptimal solution for a problem defined by sub-classes of this one.
+ *
+ * <p>Solutions are encoded as genomes, which are arrays of integer genes,
+ * where each gene has a value (allele) between 0 (inclusive)
+ * and the {@link #getNumberOfAlleles() number of alleles} (exclusive).
+ * For instance, a gene may represent the index of the VM a Cloudlet is mapped to.
+ * At each generation, a new population is created by:
+ * <ol>
+ *  <li>copying the {@link #getEliteSize() elite} (the best individuals) of the current population;</li>
+ *  <li>selecting parents by tournament;</li>
+ *  <li>recombining parents using one-point crossover, according to the {@link #getCrossoverRate() crossover rate};</li>
+ *  <li>mutating genes of the offspring according to the {@link #getMutationRate() mutation rate}.</li>
+ * </ol>
+ * </p>
+ *
+ * <p>The genome arrays of two populations (the current and the next one) are allocated
+ * just once and reused along all generations.
+ * The {@link #computeCost(int[]) cost} of the individuals of a generation is computed
+ * on a parallel stream (if {@link #isParallelFitnessEvaluation() enabled}),
+ * since it doesn't depend on the random number generator.
+ * Therefore, results are reproducible for a given seed.
+ * The {@link #solveIslandModel(int)} runs multiple populations in parallel,
+ * periodically migrating the best individuals among them.</p>
+ *
+ * @param <S> the class of solutions the heuristic will deal with
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public abstract class GeneticAlgorithm<S extends HeuristicSolution<?>> extends HeuristicAbstract<S> {
+    /**
+     * @see #getPopulationSize()
+     */
+    private int populationSize;
+
+    /**
+     * @see #getCrossoverRate()
+     */
+    private double crossoverRate;
+
+    /**
+     * @see #getMutationRate()
+     */
+    private double mutationRate;
+
+    /**
+     * @see #getTournamentSize()
+     */
+    private int tournamentSize;
+
+    /**
+     * @see #getEliteSize()
+     */
+    private int eliteSize;
+
+    /**
+     * @see #getMaxGenerations()
+     */
+    private int maxGenerations;
+
+    /**
+     * @see #getMigrationInterval()
+     */
+    private int migrationInterval;
+
+    /**
+     * @see #getMigrationSize()
+     */
+    private int migrationSize;
+
+    /**
+     * @see #isParallelFitnessEvaluation()
+     */
+    private boolean parallelFitnessEvaluation;
+
+    /**
+     * @see #getGeneration()
+     */
+    private int generation;
+
+    /**
+     * The genomes of the current population.
+     */
+    private int[][] population;
+
+    /**
+     * The cost of each individual of the current population,
+     * where the element at the index i is the cost of the individual i.
+     */
+    private double[] costs;
+
+    /**
+     * The genomes of the next population, which is swapped with the current one at each generation.
+     */
+    private int[][] offspring;
+
+    /**
+     * The cost of each individual of the next population.
+     */
+    private double[] offspringCosts;
+
+    /**
+     * The index of the lowest cost individual into the current population.
+     */
+    private int bestIndex;
+
+    /**
+     * Instantiates a genetic algorithm heuristic.
+     *
+     * @param random a pseudo random number generator
+     * @param solutionClass reference to the generic class that will be used to instantiate heuristic solutions
+     */
+    GeneticAlgorithm(ContinuousDistribution random, Class<S> solutionClass){
+        super(random, solutionClass);
+        this.populationSize = 50;
+        this.crossoverRate = 0.9;
+        this.mutationRate = 0.01;
+        this.tournamentSize = 2;
+        this.eliteSize = 1;
+        this.maxGenerations = 100;
+        this.migrationInterval = 10;
+        this.migrationSize = 1;
+        this.parallelFitnessEvaluation = true;
+    }
+
+    /**
+     * Gets the number of genes of each genome.
+     * @return the genome length
+     */
+    protected abstract int getGenomeLength();
+
+    /**
+     * Gets the number of values a gene may have,
+     * so that genes have values between 0 (inclusive) and such a number (exclusive).
+     *
+     * @return the number of alleles
+     */
+    protected abstract int getNumberOfAlleles();
+
+    /**
+     * Computes the cost of the solution represented by a genome.
+     * Since costs are computed on a parallel stream, this method must be thread-safe
+     * and must not change the genome.
+     *
+     * @param genome the genome to compute the cost
+     * @return the cost of the represented solution
+     * @see HeuristicSolution#getCost()
+     */
+    protected abstract double computeCost(int[] genome);
+
+    /**
+     * Creates the solution represented by a genome.
+     *
+     * @param genome the genome to create a solution from
+     * @return the created solution
+     */
+    protected abstract S createSolution(int[] genome);
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>It evolves a random population for the {@link #getMaxGenerations() maximum number of generations}
+     * and creates a solution from the best individual found.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public S solve() {
+        final long startTime = System.currentTimeMillis();
+        initPopulation();
+        while (!isToStopSearch()) {
+            evolve();
+            updateSystemState();
+        }
+
+        setBestSolutionSoFar(createSolution(population[bestIndex]));
+        setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+        return getBestSolutionSoFar();
+    }
+
+    /**
+     * Starts the heuristic to find a suboptimal solution using the
+     * <a href="https://en.wikipedia.org/wiki/Genetic_algorithm#Parallel_implementations">island model</a>:
+     * a given number of populations (islands), having the {@link #getPopulationSize() population size}
+     * divided among them, evolve in parallel.
+     * At every {@link #getMigrationInterval() migration interval}, the {@link #getMigrationSize() best individuals}
+     * of each island replace the worst ones of the next island (in a ring).
+     *
+     * <p>Each island is a {@link #createReplica(ContinuousDistribution) replica} of this heuristic
+     * using a random number generator seeded with the seed of this heuristic's random number generator
+     * plus the island index. Since migrations happen sequentially between the parallel evolution periods,
+     * results are reproducible for a given seed.</p>
+     *
+     * @param numberOfIslands the number of islands to evolve in parallel
+     * @return the final solution
+     * @throws IllegalArgumentException when the number of islands is lower than 1
+     */
+    public S solveIslandModel(final int numberOfIslands) {
+        final long startTime = System.currentTimeMillis();
+        final int islandPopulationSize =
+            Math.max(eliteSize + 2, (int)Math.ceil(populationSize / (double)numberOfIslands));
+        final List<GeneticAlgorithm<S>> islands = createReplicas(numberOfIslands).stream()
+            .map(island -> (GeneticAlgorithm<S>) island)
+            .collect(toList());
+        islands.forEach(island -> island.setPopulationSize(islandPopulationSize));
+
+        final ExecutorService executor = newExecutor(numberOfIslands);
+        try {
+            runInParallel(executor, islands, GeneticAlgorithm::initPopulation);
+            generation = 0;
+            while (!isToStopSearch()) {
+                final int generations = Math.min(migrationInterval, maxGenerations - generation);
+                runInParallel(executor, islands, island -> {
+                    for (int i = 0; i < generations; i++) {
+                        island.evolve();
+                        island.updateSystemState();
+                    }
+                });
+                generation += generations;
+                migrate(islands);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        GeneticAlgorithm<S> bestIsland = islands.get(0);
+        for (final GeneticAlgorithm<S> island : islands) {
+            if (island.getBestCost() < bestIsland.getBestCost()) {
+                bestIsland = island;
+            }
+        }
+
+        setBestSolutionSoFar(createSolution(bestIsland.population[bestIsland.bestIndex]));
+        setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+        return getBestSolutionSoFar();
+    }
+
+    /**
+     * Copies the {@link #getMigrationSize() best individuals} of each island to
+     * the next one, replacing its worst individuals.
+     * All migrants are selected before any island is changed.
+     *
+     * @param islands the islands to migrate individuals among
+     */
+    private void migrate(final List<GeneticAlgorithm<S>> islands) {
+        final int islandsNumber = islands.size();
+        if (islandsNumber < 2) {
+            return;
+        }
+
+        final int migrants = Math.min(migrationSize, islands.get(0).populationSize - eliteSize);
+        final int[][][] genomes = new int[islandsNumber][migrants][];
+        final double[][] genomeCosts = new double[islandsNumber][migrants];
+        for (int i = 0; i < islandsNumber; i++) {
+            final GeneticAlgorithm<S> island = islands.get(i);
+            final int[] bestIndexes = island.selectIndexes(migrants, true);
+            for (int m = 0; m < migrants; m++) {
+                genomes[i][m] = island.population[bestIndexes[m]].clone();
+                genomeCosts[i][m] = island.costs[bestIndexes[m]];
+            }
+        }
+
+        for (int i = 0; i < islandsNumber; i++) {
+            final GeneticAlgorithm<S> target = islands.get((i + 1) % islandsNumber);
+            final int[] worstIndexes = target.selectIndexes(migrants, false);
+            for (int m = 0; m < migrants; m++) {
+                System.arraycopy(genomes[i][m], 0, target.population[worstIndexes[m]], 0, genomes[i][m].length);
+                target.costs[worstIndexes[m]] = genomeCosts[i][m];
+            }
+
+            target.updateBestIndex();
+        }
+    }
+
+    /**
+     * Creates the genome arrays (if they weren't created yet or their size has changed),
+     * fills the current population with random genomes and computes their costs.
+     * Sub-classes that need to prepare data before computing genome costs may override this method,
+     * calling the super implementation at the end.
+     */
+    protected void initPopulation() {
+        generation = 0;
+        final int length = getGenomeLength();
+        if (population == null || population.length != populationSize || (populationSize > 0 && population[0].length != length)) {
+            population = new int[populationSize][length];
+            offspring = new int[populationSize][length];
+            costs = new double[populationSize];
+            offspringCosts = new double[populationSize];
+        }
+
+        final int alleles = getNumberOfAlleles();
+        for (final int[] genome : population) {
+            for (int g = 0; g < length; g++) {
+                genome[g] = getRandomValue(alleles);
+            }
+        }
+
+        computeCosts(population, costs, 0);
+        updateBestIndex();
+    }
+
+    /**
+     * Creates the next generation from the current population,
+     * which becomes the current one.
+     */
+    protected void evolve() {
+        final int[] eliteIndexes = selectIndexes(Math.min(eliteSize, populationSize), true);
+        for (int e = 0; e < eliteIndexes.length; e++) {
+            System.arraycopy(population[eliteIndexes[e]], 0, offspring[e], 0, offspring[e].length);
+            offspringCosts[e] = costs[eliteIndexes[e]];
+        }
+
+        for (int k = eliteIndexes.length; k < populationSize; k += 2) {
+            final int[] parent1 = population[selectByTournament()];
+            final int[] parent2 = population[selectByTournament()];
+            final int[] child1 = offspring[k];
+            final int[] child2 = k + 1 < populationSize ? offspring[k + 1] : null;
+            crossover(parent1, parent2, child1, child2);
+            mutate(child1);
+            if (child2 != null) {
+                mutate(child2);
+            }
+        }
+
+        computeCosts(offspring, offspringCosts, eliteIndexes.length);
+        swapPopulations();
+        updateBestIndex();
+    }
+
+    private void swapPopulations() {
+        final int[][] genomes = population;
+        population = offspring;
+        offspring = genomes;
+
+        final double[] previousCosts = costs;
+        costs = offspringCosts;
+        offspringCosts = previousCosts;
+    }
+
+    /**
+     * Computes the cost of the genomes of a population, starting from a given index.
+     *
+     * @param genomes the genomes to compute their costs
+     * @param genomeCosts the array to store the computed costs
+     * @param fromIndex the index of the first genome to compute its cost
+     */
+    private void computeCosts(final int[][] genomes, final double[] genomeCosts, final int fromIndex) {
+        final IntStream indexes = IntStream.range(fromIndex, genomes.length);
+        (parallelFitnessEvaluation ? indexes.parallel() : indexes)
+            .forEach(i -> genomeCosts[i] = computeCost(genomes[i]));
+    }
+
+    /**
+     * Selects an individual from the current population, as the lowest cost one
+     * among a {@link #getTournamentSize() number} of randomly selected individuals.
+     *
+     * @return the index of the selected individual
+     */
+    private int selectByTournament() {
+        int selected = getRandomValue(populationSize);
+        for (int t = 1; t < tournamentSize; t++) {
+            final int candidate = getRandomValue(populationSize);
+            if (costs[candidate] < costs[selected]) {
+                selected = candidate;
+            }
+        }
+
+        return selected;
+    }
+
+    /**
+     * Creates two children from two parents using one-point crossover
+     * (or just copying the parents, according to the {@link #getCrossoverRate() crossover rate}).
+     *
+     * @param parent1 the first parent
+     * @param parent2 the second parent
+     * @param child1 the genome to store the first child
+     * @param child2 the genome to store the second child, or null if just one child is required
+     */
+    private void crossover(final int[] parent1, final int[] parent2, final int[] child1, final int[] child2) {
+        final int length = parent1.length;
+        final int cut = length > 1 && getRandom().sample() < crossoverRate ? 1 + getRandomValue(length - 1) : length;
+        System.arraycopy(parent1, 0, child1, 0, cut);
+        System.arraycopy(parent2, cut, child1, cut, length - cut);
+        if (child2 != null) {
+            System.arraycopy(parent2, 0, child2, 0, cut);
+            System.arraycopy(parent1, cut, child2, cut, length - cut);
+        }
+    }
+
+    /**
+     * Randomly changes the genes of a genome according to the {@link #getMutationRate() mutation rate}.
+     * Instead of drawing a random number for every gene,
+     * it draws the number of genes to skip until the next mutated one from a geometric distribution.
+     *
+     * @param genome the genome to mutate
+     */
+    private void mutate(final int[] genome) {
+        if (mutationRate <= 0) {
+            return;
+        }
+
+        final int alleles = getNumberOfAlleles();
+        for (long g = getGenesToSkip(); g < genome.length; g += 1 + getGenesToSkip()) {
+            genome[(int) g] = getRandomValue(alleles);
+        }
+    }
+
+    private long getGenesToSkip() {
+        return (long) (Math.log(1 - getRandom().sample()) / Math.log(1 - mutationRate));
+    }
+
+    /**
+     * Selects the indexes of the lowest or highest cost individuals of the current population.
+     *
+     * @param count the number of individuals to select
+     * @param lowestCost true to select the lowest cost individuals, false to select the highest cost ones
+     * @return the indexes of the selected individuals, ordered from the lowest to the highest cost (or vice-versa)
+     */
+    private int[] selectIndexes(final int count, final boolean lowestCost) {
+        final int[] indexes = new int[count];
+        final boolean[] selected = new boolean[populationSize];
+        for (int s = 0; s < count; s++) {
+            int index = -1;
+            for (int i = 0; i < populationSize; i++) {
+                if (!selected[i] && (index < 0 || (lowestCost ? costs[i] < costs[index] : costs[i] > costs[index]))) {
+                    index = i;
+                }
+            }
+
+            selected[index] = true;
+            indexes[s] = index;
+        }
+
+        return indexes;
+    }
+
+    private void updateBestIndex() {
+        bestIndex = 0;
+        for (int i = 1; i < populationSize; i++) {
+            if (costs[i] < costs[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+    }
+
+    /**
+     * Gets the cost of the lowest cost individual of the current population.
+     * @return the best cost
+     */
+    protected double getBestCost() {
+        return costs[bestIndex];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Just neighbors better than the {@link #getBestSolutionSoFar() current solution} are accepted.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double getAcceptanceProbability() {
+        return getNeighborSolution().getCost() < getBestSolutionSoFar().getCost() ? 1 : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return true if the {@link #getMaxGenerations() maximum number of generations} was reached, false otherwise
+     */
+    @Override
+    public boolean isToStopSearch() {
+        return generation >= maxGenerations;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Advances to the next generation.
+     */
+    @Override
+    public void updateSystemState() {
+        generation++;
+    }
+
+    /**
+     * Gets the current generation of the solution search.
+     * @return the current generation, starting from 0
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the number of individuals in the population.
+     * @return the population size
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Sets the number of individuals in the population.
+     * @param populationSize the population size to set
+     * @throws IllegalArgumentException when the population size is lower than 2
+     */
+    public void setPopulationSize(final int populationSize) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("The population size must be at least 2.");
+        }
+
+        this.populationSize = populationSize;
+    }
+
+    /**
+     * Gets the probability of two selected parents to be recombined,
+     * instead of just being copied to the next generation.
+     * @return the crossover rate, in scale from [0 to 1]
+     */
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    /**
+     * Sets the probability of two selected parents to be recombined,
+     * instead of just being copied to the next generation.
+     * @param crossoverRate the crossover rate to set, in scale from [0 to 1]
+     * @throws IllegalArgumentException when the rate is out of the [0 to 1] range
+     */
+    public void setCrossoverRate(final double crossoverRate) {
+        this.crossoverRate = validateRate(crossoverRate, "crossover");
+    }
+
+    /**
+     * Gets the probability of each gene of a child to be randomly changed.
+     * @return the mutation rate, in scale from [0 to 1]
+     */
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    /**
+     * Sets the probability of each gene of a child to be randomly changed.
+     * @param mutationRate the mutation rate to set, in scale from [0 to 1]
+     * @throws IllegalArgumentException when the rate is out of the [0 to 1] range
+     */
+    public void setMutationRate(final double mutationRate) {
+        this.mutationRate = validateRate(mutationRate, "mutation");
+    }
+
+    private static double validateRate(final double rate, final String name) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("The " + name + " rate must be between 0 and 1.");
+        }
+
+        return rate;
+    }
+
+    /**
+     * Gets the number of randomly selected individuals competing to be a parent.
+     * @return the tournament size
+     */
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+
+    /**
+     * Sets the number of randomly selected individuals competing to be a parent.
+     * Larger tournaments increase the selection pressure.
+     * @param tournamentSize the tournament size to set
+     * @throws IllegalArgumentException when the tournament size is lower than 1
+     */
+    public void setTournamentSize(final int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("The tournament size must be at least 1.");
+        }
+
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * Gets the number of best individuals copied unchanged to the next generation.
+     * @return the elite size
+     */
+    public int getEliteSize() {
+        return eliteSize;
+    }
+
+    /**
+     * Sets the number of best individuals copied unchanged to the next generation.
+     * @param eliteSize the elite size to set
+     * @throws IllegalArgumentException when the elite size is negative
+     */
+    public void setEliteSize(final int eliteSize) {
+        if (eliteSize < 0) {
+            throw new IllegalArgumentException("The elite size cannot be negative.");
+        }
+
+        this.eliteSize = eliteSize;
+    }
+
+    /**
+     * Gets the number of generations after which the solution search stops.
+     * @return the maximum number of generations
+     */
+    public int getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    /**
+     * Sets the number of generations after which the solution search stops.
+     * @param maxGenerations the maximum number of generations to set
+     * @throws IllegalArgumentException when the number of generations is lower than 1
+     */
+    public void setMaxGenerations(final int maxGenerations) {
+        if (maxGenerations < 1) {
+            throw new IllegalArgumentException("The maximum number of generations must be at least 1.");
+        }
+
+        this.maxGenerations = maxGenerations;
+    }
+
+    /**
+     * Gets the number of generations islands evolve before migrating individuals,
+     * when the {@link #solveIslandModel(int) island model} is used.
+     * @return the migration interval (in number of generations)
+     */
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    /**
+     * Sets the number of generations islands evolve before migrating individuals,
+     * when the {@link #solveIslandModel(int) island model} is used.
+     * @param migrationInterval the migration interval to set (in number of generations)
+     * @throws IllegalArgumentException when the interval is lower than 1
+     */
+    public void setMigrationInterval(final int migrationInterval) {
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("The migration interval must be at least 1.");
+        }
+
+        this.migrationInterval = migrationInterval;
+    }
+
+    /**
+     * Gets the number of best individuals each island sends to the next one at every migration,
+     * when the {@link #solveIslandModel(int) island model} is used.
+     * @return the migration size
+     */
+    public int getMigrationSize() {
+        return migrationSize;
+    }
+
+    /**
+     * Sets the number of best individuals each island sends to the next one at every migration,
+     * when the {@link #solveIslandModel(int) island model} is used.
+     * @param migrationSize the migration size to set
+     * @throws IllegalArgumentException when the migration size is negative
+     */
+    public void setMigrationSize(final int migrationSize) {
+        if (migrationSize < 0) {
+            throw new IllegalArgumentException("The migration size cannot be negative.");
+        }
+
+        this.migrationSize = migrationSize;
+    }
+
+    /**
+     * Checks if the cost of the individuals of each generation is computed on a parallel stream.
+     * @return true if the fitness evaluation is parallel, false otherwise
+     */
+    public boolean isParallelFitnessEvaluation() {
+        return parallelFitnessEvaluation;
+    }
+
+    /**
+     * Defines if the cost of the individuals of each generation is computed on a parallel stream.
+     * It's worth enabling it for large populations or costly {@link #computeCost(int[]) cost functions}.
+     * The results don't depend on this setting.
+     * @param parallelFitnessEvaluation true to compute costs in parallel, false otherwise
+     */
+    public void setParallelFitnessEvaluation(final boolean parallelFitnessEvaluation) {
+        this.parallelFitnessEvaluation = parallelFitnessEvaluation;
+    }
+}
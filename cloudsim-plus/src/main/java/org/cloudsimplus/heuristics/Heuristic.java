@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.heuristics;
 
+import java.io.Serializable;
+
 /**
  * <p>Provides the methods to be used for implementation of heuristics
  * to find solution for complex problems where the solution space
@@ -47,7 +49,7 @@ package org.cloudsimplus.heuristics;
  * @param <S> the class of solutions the heuristic will deal with
  * @since CloudSim Plus 1.0
  */
-public interface Heuristic<S extends HeuristicSolution<?>> {
+public interface Heuristic<S extends HeuristicSolution<?>> extends Serializable {
 
     /**
      * A property that implements the Null Object Design Pattern for {@link Heuristic}
@@ -137,11 +139,27 @@ public interface Heuristic<S extends HeuristicSolution<?>> {
 	 *
 	 * @return the final solution
 	 * @see #getBestSolutionSoFar()
-	 * @TODO @author manoelcampos Try to parallelize the solution finding in order
-	 * to reduce search time using Parallel Streams.
+	 * @see #solveMultiStart(int)
 	 */
 	S solve();
 
+	/**
+	 * Starts the heuristic to find a suboptimal solution running
+	 * a given number of independent search chains in parallel (multi-start),
+	 * each one starting from a different random solution and using a different seed.
+	 * The lowest cost solution among all chains is selected
+	 * and becomes the {@link #getBestSolutionSoFar() best solution so far}.
+	 *
+	 * <p>The seed of each chain is computed from the seed of the heuristic random number generator,
+	 * so the result is reproducible for a given seed,
+	 * regardless of the order chains finish.</p>
+	 *
+	 * @param numberOfChains the number of chains to run in parallel
+	 * @return the final solution
+	 * @throws IllegalArgumentException when the number of chains is lower than 1
+	 */
+	S solveMultiStart(int numberOfChains);
+
 	/**
 	 *
 	 * @return the time taken to finish the solution search (in seconds).
@@ -24,10 +24,16 @@
 package org.cloudsimplus.heuristics;
 
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.stream.IntStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * A base class for {@link Heuristic} implementations.
@@ -129,13 +135,7 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 		long startTime = System.currentTimeMillis();
 		setBestSolutionSoFar(getInitialSolution());
 		while (!isToStopSearch()) {
-			IntStream.range(0, getNumberOfNeighborhoodSearchesByIteration()).forEach(i -> {
-				setNeighborSolution(createNeighbor(getBestSolutionSoFar()));
-				if (getAcceptanceProbability() > getRandomValue(1)) {
-					setBestSolutionSoFar(getNeighborSolution());
-				}
-			});
-
+			searchNeighborhood();
 			updateSystemState();
 		}
 		setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
@@ -143,6 +143,161 @@ public abstract class HeuristicAbstract<S extends HeuristicSolution<?>>  impleme
 		return getBestSolutionSoFar();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Each chain is a {@link #createReplica(ContinuousDistribution) replica} of this heuristic
+	 * using a {@link UniformDistr} seeded with the seed of this heuristic's
+	 * random number generator plus the chain index.
+	 * The {@link #getNumberOfNeighborhoodSearchesByIteration() neighborhood searches by iteration}
+	 * are divided among the chains, so that the total number of searches
+	 * is about the same of the sequential {@link #solve()}, but running in multiple CPU cores.</p>
+	 *
+	 * @param numberOfChains {@inheritDoc}
+	 * @return {@inheritDoc}
+	 */
+	@Override
+	public S solveMultiStart(final int numberOfChains) {
+		final long startTime = System.currentTimeMillis();
+		final List<HeuristicAbstract<S>> chains = createReplicas(numberOfChains);
+		final ExecutorService executor = newExecutor(numberOfChains);
+		try {
+			runInParallel(executor, chains, HeuristicAbstract::solve);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		setBestSolutionSoFar(getBestSolution(chains));
+		setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+		return getBestSolutionSoFar();
+	}
+
+	/**
+	 * Creates a replica of this heuristic, having the same parameters
+	 * but a given random number generator, to run an independent search
+	 * chain in parallel.
+	 *
+	 * @param random the random number generator for the replica
+	 * @return the new replica
+	 * @see #solveMultiStart(int)
+	 */
+	protected abstract HeuristicAbstract<S> createReplica(ContinuousDistribution random);
+
+	/**
+	 * Creates a given number of {@link #createReplica(ContinuousDistribution) replicas} of this heuristic,
+	 * where the replica i uses a {@link UniformDistr} seeded with the seed of this heuristic's
+	 * random number generator plus i.
+	 * The {@link #getNumberOfNeighborhoodSearchesByIteration() neighborhood searches by iteration}
+	 * of this heuristic are divided among the replicas.
+	 *
+	 * @param numberOfReplicas the number of replicas to create
+	 * @return the list of created replicas
+	 * @throws IllegalArgumentException when the number of replicas is lower than 1
+	 */
+	protected List<HeuristicAbstract<S>> createReplicas(final int numberOfReplicas) {
+		if(numberOfReplicas < 1){
+			throw new IllegalArgumentException("The number of replicas must be at least 1.");
+		}
+
+		final long baseSeed = random.getSeed();
+		final int searches = Math.max(1, (int)Math.ceil(getNumberOfNeighborhoodSearchesByIteration() / (double)numberOfReplicas));
+		final List<HeuristicAbstract<S>> replicas = new ArrayList<>(numberOfReplicas);
+		for (int i = 0; i < numberOfReplicas; i++) {
+			final HeuristicAbstract<S> replica = createReplica(new UniformDistr(baseSeed + i));
+			replica.setNumberOfNeighborhoodSearchesByIteration(searches);
+			replicas.add(replica);
+		}
+
+		return replicas;
+	}
+
+	/**
+	 * Creates a thread pool to run a given number of replicas,
+	 * having at most the number of available CPU cores.
+	 *
+	 * @param numberOfReplicas the number of replicas to run
+	 * @return the new thread pool
+	 */
+	protected static ExecutorService newExecutor(final int numberOfReplicas) {
+		return Executors.newFixedThreadPool(Math.min(numberOfReplicas, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Runs an action for each replica in parallel, waiting all of them to finish.
+	 *
+	 * @param executor the thread pool to run the actions
+	 * @param replicas the replicas to run the action for
+	 * @param action the action to run
+	 * @param <H> the type of the replicas
+	 */
+	protected static <H extends Heuristic<?>> void runInParallel(
+		final ExecutorService executor, final List<H> replicas, final Consumer<H> action)
+	{
+		final List<Callable<Void>> tasks = replicas.stream()
+			.map(replica -> (Callable<Void>) () -> { action.accept(replica); return null; })
+			.collect(toList());
+		try {
+			for (final Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting the heuristic replicas to finish.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Gets the lowest cost solution among the current ones of a list of replicas.
+	 * If there are solutions with the same cost, the one from the first replica is returned,
+	 * so that the result doesn't depend on the order replicas finished.
+	 *
+	 * @param replicas the replicas to get the best solution from
+	 * @return the best solution
+	 */
+	protected S getBestSolution(final List<? extends Heuristic<S>> replicas) {
+		S best = replicas.get(0).getBestSolutionSoFar();
+		for (final Heuristic<S> replica : replicas) {
+			if(replica.getBestSolutionSoFar().getCost() < best.getCost()) {
+				best = replica.getBestSolutionSoFar();
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * Performs the {@link #getNumberOfNeighborhoodSearchesByIteration() neighborhood searches}
+	 * of a single iteration of the solution find.
+	 * @see #searchNeighbor()
+	 */
+	protected void searchNeighborhood() {
+		for (int i = 0; i < getNumberOfNeighborhoodSearchesByIteration(); i++) {
+			searchNeighbor();
+		}
+	}
+
+	/**
+	 * Performs a single neighborhood search, {@link #createNeighbor(HeuristicSolution) creating a neighbor}
+	 * for the {@link #getBestSolutionSoFar() current solution} and accepting it
+	 * as the new current solution according to the {@link #getAcceptanceProbability() acceptance probability}.
+	 *
+	 * <p>Subclasses may override this method to change the current solution in place,
+	 * evaluating just the difference a random move makes on the solution cost,
+	 * instead of cloning the entire solution for every neighbor.</p>
+	 */
+	protected void searchNeighbor() {
+		setNeighborSolution(createNeighbor(getBestSolutionSoFar()));
+		if (getAcceptanceProbability() > getRandomValue(1)) {
+			setBestSolutionSoFar(getNeighborSolution());
+		}
+	}
+
 	@Override
 	public S getBestSolutionSoFar() {
 	    return bestSolutionSoFar;
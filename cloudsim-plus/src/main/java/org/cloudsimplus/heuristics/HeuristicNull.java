@@ -37,6 +37,7 @@ class HeuristicNull<S extends HeuristicSolution<?>> implements Heuristic<S> {
     @Override public S getNeighborSolution() { return (S)HeuristicSolution.NULL; }
     @Override public S createNeighbor(S source) { return (S)HeuristicSolution.NULL; }
     @Override public S solve() { return (S)HeuristicSolution.NULL; }
+    @Override public S solveMultiStart(int numberOfChains) { return (S)HeuristicSolution.NULL; }
 	@Override public S getBestSolutionSoFar() { return (S)HeuristicSolution.NULL; }
 	@Override public int getNumberOfNeighborhoodSearchesByIteration() { return 0; }
 	@Override public void setNumberOfNeighborhoodSearchesByIteration(int neighborhoodSearches) {}
@@ -23,6 +23,8 @@
  */
 package org.cloudsimplus.heuristics;
 
+import java.io.Serializable;
+
 /**
  * A solution for a complex problem found using a {@link Heuristic} implementation.
  *
@@ -34,7 +36,7 @@ package org.cloudsimplus.heuristics;
  * run each Cloudlet. Such result can be obtained by calling the {@link #getResult()} method.
  * @since CloudSim Plus 1.0
  */
-public interface HeuristicSolution<T> extends Comparable<HeuristicSolution<T>> {
+public interface HeuristicSolution<T> extends Comparable<HeuristicSolution<T>>, Serializable {
 
     /**
      * An attribute that implements the Null Object Design Pattern for {@link HeuristicSolution}
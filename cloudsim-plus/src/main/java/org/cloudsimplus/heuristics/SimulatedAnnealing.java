@@ -24,6 +24,12 @@
 package org.cloudsimplus.heuristics;
 
 import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * A base class for implementation of
@@ -77,6 +83,11 @@ public abstract class SimulatedAnnealing<S extends HeuristicSolution<?>> extends
      */
     private double coolingRate;
 
+    /**
+     * @see #getReplicaExchangeInterval()
+     */
+    private int replicaExchangeInterval = 10;
+
 	/**
      * Instantiates a simulated annealing heuristic.
      *
@@ -104,9 +115,21 @@ public abstract class SimulatedAnnealing<S extends HeuristicSolution<?>> extends
      */
     @Override
     public double getAcceptanceProbability() {
+        return getAcceptanceProbability(getNeighborSolution().getCost() - getBestSolutionSoFar().getCost());
+    }
+
+    /**
+     * Computes the acceptance probability for a neighbor solution
+     * that changes the cost of the {@link #getBestSolutionSoFar() current solution} by a given amount.
+     * It enables evaluating a neighbor without creating it.
+     *
+     * @param costDelta the neighbor solution cost minus the current solution cost
+     * @return the acceptance probability, in scale from [0 to 1]
+     * @see #getAcceptanceProbability()
+     */
+    protected double getAcceptanceProbability(final double costDelta) {
         final double boltzmannConstant = 1.0;
-        return Math.exp((getBestSolutionSoFar().getCost() - getNeighborSolution().getCost())
-               / (boltzmannConstant * currentTemperature));
+        return Math.exp(-costDelta / (boltzmannConstant * currentTemperature));
     }
 
     /**
@@ -185,4 +208,153 @@ public abstract class SimulatedAnnealing<S extends HeuristicSolution<?>> extends
         this.coldTemperature = coldTemperature;
     }
 
+    /**
+     * Gets the number of iterations replicas search for solutions
+     * before trying to exchange them, when the {@link #solveParallelTempering(int) parallel tempering} is used.
+     * Higher values reduce the synchronization between replicas.
+     *
+     * @return the replica exchange interval (in number of iterations)
+     */
+    public int getReplicaExchangeInterval() {
+        return replicaExchangeInterval;
+    }
+
+    /**
+     * Sets the number of iterations replicas search for solutions
+     * before trying to exchange them, when the {@link #solveParallelTempering(int) parallel tempering} is used.
+     *
+     * @param replicaExchangeInterval the replica exchange interval to set (in number of iterations)
+     * @throws IllegalArgumentException when the interval is lower than 1
+     */
+    public void setReplicaExchangeInterval(final int replicaExchangeInterval) {
+        if(replicaExchangeInterval < 1){
+            throw new IllegalArgumentException("The replica exchange interval must be at least 1.");
+        }
+
+        this.replicaExchangeInterval = replicaExchangeInterval;
+    }
+
+    /**
+     * Starts the heuristic to find a suboptimal solution using
+     * <a href="https://en.wikipedia.org/wiki/Parallel_tempering">parallel tempering</a>
+     * (replica exchange): a given number of replicas search in parallel at different temperatures
+     * and periodically try to exchange their solutions with the replicas at adjacent temperatures.
+     * This way, good solutions found by replicas at high temperatures, which escape local minima easily,
+     * may be refined by replicas at low temperatures.
+     * The lowest cost solution among all replicas is selected
+     * and becomes the {@link #getBestSolutionSoFar() best solution so far}.
+     *
+     * <p>The seed of each replica is computed from the seed of the heuristic random number generator,
+     * so the result is reproducible for a given seed.</p>
+     *
+     * <p>The replicas are kept at fixed temperatures, geometrically distributed
+     * from the {@link #getCurrentTemperature() current temperature} down to the {@link #getColdTemperature() cold temperature}.
+     * They search in parallel for the same number of iterations the sequential {@link #solve()}
+     * takes to cool the system, dividing among them the {@link #getNumberOfNeighborhoodSearchesByIteration() neighborhood searches}
+     * by iteration. At every {@link #getReplicaExchangeInterval() exchange interval},
+     * the solutions of replicas at adjacent temperatures are exchanged according to the Metropolis criterion.
+     * Exchanges are decided sequentially, using a {@link UniformDistr} seeded with the seed of this
+     * heuristic's random number generator plus the number of replicas.</p>
+     *
+     * @param numberOfReplicas the number of replicas to run in parallel
+     * @return the final solution
+     * @throws IllegalArgumentException when the number of replicas is lower than 1
+     * @throws IllegalStateException when the cold temperature is not greater than zero
+     */
+    public S solveParallelTempering(final int numberOfReplicas) {
+        if(coldTemperature <= 0){
+            throw new IllegalStateException("The cold temperature must be greater than zero for parallel tempering.");
+        }
+
+        final long startTime = System.currentTimeMillis();
+        final List<SimulatedAnnealing<S>> replicas = createReplicas(numberOfReplicas).stream()
+            .map(replica -> (SimulatedAnnealing<S>) replica)
+            .collect(toList());
+        for (int i = 0; i < numberOfReplicas; i++) {
+            final SimulatedAnnealing<S> replica = replicas.get(i);
+            replica.setCurrentTemperature(getReplicaTemperature(i, numberOfReplicas));
+            replica.setBestSolutionSoFar(replica.getInitialSolution());
+        }
+
+        final ContinuousDistribution exchangeRandom = new UniformDistr(getRandom().getSeed() + numberOfReplicas);
+        final ExecutorService executor = newExecutor(numberOfReplicas);
+        try {
+            int round = 0;
+            while (!isToStopSearch()) {
+                final int iterations = coolUntilNextReplicaExchange();
+                runInParallel(executor, replicas, replica -> {
+                    for (int i = 0; i < iterations; i++) {
+                        replica.searchNeighborhood();
+                    }
+                });
+                exchangeReplicaSolutions(replicas, exchangeRandom, round++);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        setBestSolutionSoFar(getBestSolution(replicas));
+        setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+        return getBestSolutionSoFar();
+    }
+
+    /**
+     * Gets the fixed temperature of a replica for the parallel tempering,
+     * where the first replica is the hottest one.
+     * A single replica is kept at the cold temperature.
+     *
+     * @param replicaIndex the index of the replica
+     * @param numberOfReplicas the total number of replicas
+     * @return the replica temperature
+     */
+    private double getReplicaTemperature(final int replicaIndex, final int numberOfReplicas) {
+        if(numberOfReplicas == 1){
+            return coldTemperature;
+        }
+
+        return currentTemperature * Math.pow(coldTemperature / currentTemperature, replicaIndex / (numberOfReplicas - 1.0));
+    }
+
+    /**
+     * Cools this heuristic for the iterations the replicas have to
+     * run until the next exchange, following the same schedule of the sequential {@link #solve()}.
+     *
+     * @return the number of iterations replicas have to run
+     */
+    private int coolUntilNextReplicaExchange() {
+        int iterations = 0;
+        while (!isToStopSearch() && iterations < replicaExchangeInterval) {
+            updateSystemState();
+            iterations++;
+        }
+
+        return iterations;
+    }
+
+    /**
+     * Tries to exchange the solutions of replicas at adjacent temperatures.
+     * Even and odd pairs of replicas are alternated at each round.
+     * An exchange is accepted with probability
+     * {@code min(1, exp((1/T_i - 1/T_j) * (cost_i - cost_j)))}.
+     *
+     * @param replicas the replicas, ordered from the hottest to the coldest one
+     * @param exchangeRandom the random number generator to decide the exchanges
+     * @param round the number of the current exchange round
+     */
+    private void exchangeReplicaSolutions(
+        final List<SimulatedAnnealing<S>> replicas, final ContinuousDistribution exchangeRandom, final int round)
+    {
+        for (int i = round % 2; i + 1 < replicas.size(); i += 2) {
+            final SimulatedAnnealing<S> replica1 = replicas.get(i);
+            final SimulatedAnnealing<S> replica2 = replicas.get(i + 1);
+            final S solution1 = replica1.getBestSolutionSoFar();
+            final S solution2 = replica2.getBestSolutionSoFar();
+            final double delta =
+                (1/replica1.currentTemperature - 1/replica2.currentTemperature) * (solution1.getCost() - solution2.getCost());
+            if (delta >= 0 || exchangeRandom.sample() < Math.exp(delta)) {
+                replica1.setBestSolutionSoFar(solution2);
+                replica2.setBestSolutionSoFar(solution1);
+            }
+        }
+    }
 }
@@ -0,0 +1,299 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.distributions.ContinuousDistribution;
+
+import java.util.Arrays;
+
+/**
+ * A base class for implementation of
+ * <a href="https://en.wikipedia.org/wiki/Tabu_search">Tabu Search</a>
+ * algorithms used to find a suboptimal solution for a problem defined by sub-classes of this one.
+ *
+ * <p>The Tabu Search starts from an initial solution and, at each iteration,
+ * evaluates a set of candidate moves (changes to the current solution),
+ * always moving to the best candidate, even if it is worse than the current solution.
+ * To avoid cycling back to recently visited solutions,
+ * the attributes changed by a move (such as the elements of the solution that were moved)
+ * are kept into a tabu list for a given {@link #getTabuTenure() number of iterations},
+ * where moves changing such attributes are forbidden.
+ * A tabu move is just allowed when it leads to a solution better than the
+ * {@link #getBestSolutionSoFar() best one found so far} (aspiration criterion).</p>
+ *
+ * <p>Attributes are identified by non-negative integers defined by sub-classes,
+ * such as the index of an element into the solution.
+ * Sub-classes implement the {@link #searchNeighborhood()} to evaluate
+ * the {@link #getNumberOfNeighborhoodSearchesByIteration() candidate moves} of an iteration,
+ * using {@link #isTabu(int)}, {@link #isAspirated(double)} and {@link #makeTabu(int)}.
+ * Since the current solution may be changed in place, the best solution is just copied
+ * when the current one is about to become worse than it
+ * (see {@link #prepareCurrentSolutionChange(double)}).</p>
+ *
+ * @param <S> the class of solutions the heuristic will deal with, starting with an initial solution
+ *           and executing the solution search in order to achieve a satisfying solution (defined by a stop criteria)
+ * @author Manoel Campos da Silva Filho
+ * @see <a href="https://doi.org/10.1287/ijoc.1.3.190">[1] F. Glover,
+ * “Tabu Search - Part I,” ORSA Journal on Computing, vol. 1, no. 3, pp. 190–206, 1989.</a>
+ * @since CloudSim Plus 1.2.5
+ */
+public abstract class TabuSearch<S extends HeuristicSolution<?>> extends HeuristicAbstract<S> {
+    /**
+     * @see #getTabuTenure()
+     */
+    private int tabuTenure;
+
+    /**
+     * @see #getMaxIterations()
+     */
+    private int maxIterations;
+
+    /**
+     * @see #getIteration()
+     */
+    private int iteration;
+
+    /**
+     * The solution the search is currently at, which may be worse
+     * than the {@link #getBestSolutionSoFar() best solution so far}.
+     */
+    private S currentSolution;
+
+    /**
+     * The iteration until which (exclusive) each attribute is tabu,
+     * where the element at the index i is for the attribute i.
+     */
+    private int[] tabuUntil;
+
+    /**
+     * Instantiates a tabu search heuristic.
+     *
+     * @param random a pseudo random number generator
+     * @param solutionClass reference to the generic class that will be used to instantiate heuristic solutions
+     */
+    TabuSearch(ContinuousDistribution random, Class<S> solutionClass){
+        super(random, solutionClass);
+        this.tabuTenure = 7;
+        this.maxIterations = 1000;
+        this.tabuUntil = new int[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The search starts from a copy of the {@link #getInitialSolution() initial solution},
+     * with an empty tabu list.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public S solve() {
+        final long startTime = System.currentTimeMillis();
+        iteration = 0;
+        Arrays.fill(tabuUntil, 0);
+        currentSolution = copySolution(getInitialSolution());
+        setBestSolutionSoFar(currentSolution);
+        while (!isToStopSearch()) {
+            searchNeighborhood();
+            updateSystemState();
+        }
+
+        setSolveTime((System.currentTimeMillis() - startTime)/1000.0);
+        return getBestSolutionSoFar();
+    }
+
+    /**
+     * Evaluates the {@link #getNumberOfNeighborhoodSearchesByIteration() candidate moves}
+     * of the current iteration and applies the best allowed one to the {@link #getCurrentSolution() current solution},
+     * {@link #makeTabu(int) making tabu} the attributes it changed.
+     */
+    @Override
+    protected abstract void searchNeighborhood();
+
+    /**
+     * Creates an independent copy of a given solution,
+     * so that changes to the copy don't affect the original one.
+     *
+     * @param solution the solution to copy
+     * @return the solution copy
+     */
+    protected abstract S copySolution(S solution);
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Just neighbors better than the {@link #getBestSolutionSoFar() current solution} are accepted,
+     * since the tabu search moves to the best candidate of each iteration.</p>
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double getAcceptanceProbability() {
+        return getNeighborSolution().getCost() < getBestSolutionSoFar().getCost() ? 1 : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return true if the {@link #getMaxIterations() maximum number of iterations} was reached, false otherwise
+     */
+    @Override
+    public boolean isToStopSearch() {
+        return iteration >= maxIterations;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Advances to the next iteration, releasing attributes which tabu tenure has expired.
+     */
+    @Override
+    public void updateSystemState() {
+        iteration++;
+    }
+
+    /**
+     * Gets the solution the search is currently at, which may be worse
+     * than the {@link #getBestSolutionSoFar() best solution so far}.
+     *
+     * @return the current solution
+     */
+    protected S getCurrentSolution() {
+        return currentSolution;
+    }
+
+    /**
+     * Must be called before changing the {@link #getCurrentSolution() current solution} in place.
+     * If the current solution is the best one so far and it's going to become worse,
+     * the best solution is copied before it's changed.
+     *
+     * @param costDelta how much the change will increase the current solution cost
+     */
+    protected void prepareCurrentSolutionChange(final double costDelta) {
+        if (costDelta > 0 && getBestSolutionSoFar() == currentSolution) {
+            setBestSolutionSoFar(copySolution(currentSolution));
+        }
+    }
+
+    /**
+     * Must be called after changing the {@link #getCurrentSolution() current solution} in place,
+     * to set it as the best solution so far when it's better than the previous best one.
+     */
+    protected void updateBestSolution() {
+        if (currentSolution.getCost() < getBestSolutionSoFar().getCost()) {
+            setBestSolutionSoFar(currentSolution);
+        }
+    }
+
+    /**
+     * Checks if a move that makes the {@link #getCurrentSolution() current solution} reach a given cost
+     * is allowed even if it's tabu, since the reached solution is better than the best one so far
+     * (aspiration criterion).
+     *
+     * @param newCost the cost the current solution will have after the move
+     * @return true if the move is allowed regardless of its attributes, false otherwise
+     */
+    protected boolean isAspirated(final double newCost) {
+        return newCost < getBestSolutionSoFar().getCost();
+    }
+
+    /**
+     * Checks if an attribute is tabu at the current iteration,
+     * so that moves changing it are forbidden, unless {@link #isAspirated(double) aspirated}.
+     *
+     * @param attribute the attribute to check
+     * @return true if the attribute is tabu, false otherwise
+     */
+    protected boolean isTabu(final int attribute) {
+        return attribute < tabuUntil.length && iteration < tabuUntil[attribute];
+    }
+
+    /**
+     * Makes an attribute tabu for the next {@link #getTabuTenure() tabu tenure} iterations.
+     *
+     * @param attribute the attribute to make tabu
+     */
+    protected void makeTabu(final int attribute) {
+        if (attribute >= tabuUntil.length) {
+            tabuUntil = Arrays.copyOf(tabuUntil, Math.max(attribute + 1, tabuUntil.length * 2));
+        }
+
+        tabuUntil[attribute] = iteration + tabuTenure + 1;
+    }
+
+    /**
+     * Gets the number of iterations an attribute changed by a move keeps tabu.
+     *
+     * @return the tabu tenure (in number of iterations)
+     */
+    public int getTabuTenure() {
+        return tabuTenure;
+    }
+
+    /**
+     * Sets the number of iterations an attribute changed by a move keeps tabu.
+     *
+     * @param tabuTenure the tabu tenure to set (in number of iterations)
+     * @throws IllegalArgumentException when the tenure is negative
+     */
+    public void setTabuTenure(final int tabuTenure) {
+        if (tabuTenure < 0) {
+            throw new IllegalArgumentException("The tabu tenure cannot be negative.");
+        }
+
+        this.tabuTenure = tabuTenure;
+    }
+
+    /**
+     * Gets the number of iterations after which the solution search stops.
+     *
+     * @return the maximum number of iterations
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Sets the number of iterations after which the solution search stops.
+     *
+     * @param maxIterations the maximum number of iterations to set
+     * @throws IllegalArgumentException when the number of iterations is lower than 1
+     */
+    public void setMaxIterations(final int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("The maximum number of iterations must be at least 1.");
+        }
+
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Gets the current iteration of the solution search.
+     *
+     * @return the current iteration, starting from 0
+     */
+    public int getIteration() {
+        return iteration;
+    }
+}
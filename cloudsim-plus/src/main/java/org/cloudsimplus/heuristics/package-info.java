@@ -8,13 +8,17 @@
  * <p>
  * Different heuristics include
  * <a href="http://en.wikipedia.org/wiki/Simulated_annealing">Simulated Annealing</a>,
- * <a href="http://en.wikipedia.org/wiki/Tabu_search">Tabu Search</a> and
+ * <a href="http://en.wikipedia.org/wiki/Tabu_search">Tabu Search</a>,
+ * <a href="https://en.wikipedia.org/wiki/Genetic_algorithm">Genetic Algorithms</a> and
  * <a href="http://en.wikipedia.org/wiki/Ant_colony_optimization_algorithms">Ant Colony Optimization</a>.
  * </p>
  *
  * <p>The first introduced heuristic is the {@link org.cloudsimplus.heuristics.CloudletToVmMappingSimulatedAnnealing}
  * that is used by a {@link org.cloudbus.cloudsim.brokers.DatacenterBrokerHeuristic}
- * to map Cloudlets to VMs.</p>
+ * to map Cloudlets to VMs.
+ * The {@link org.cloudsimplus.heuristics.CloudletToVmMappingTabuSearch} and
+ * {@link org.cloudsimplus.heuristics.CloudletToVmMappingGeneticAlgorithm}
+ * are alternatives for the same problem.</p>
  *
  * @author Manoel Campos da Silva Filho
  */
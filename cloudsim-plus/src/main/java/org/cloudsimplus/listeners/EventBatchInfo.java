@@ -0,0 +1,52 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.listeners;
+
+import org.cloudbus.cloudsim.core.Simulation;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+
+import java.util.List;
+
+/**
+ * An interface that represents data to be passed
+ * to {@link EventListener} objects that are registered to be notified
+ * once after a batch of events happening at the same simulation time is processed.
+ *
+ * <p>To avoid allocating objects at every clock tick, the simulation may reuse the same instance
+ * for all notifications. Listeners must not keep a reference to it or to its list of events
+ * after they return.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ *
+ * @see Simulation#addOnEventBatchProcessedListener(EventListener)
+ */
+public interface EventBatchInfo extends EventInfo {
+    /**
+     * Gets a read-only list of events processed at the {@link #getTime() time} of the batch,
+     * in the order they were processed.
+     * @return
+     */
+    List<SimEvent> getEvents();
+}
@@ -27,6 +27,7 @@ import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
 import org.cloudbus.cloudsim.hosts.Host;
 import org.cloudbus.cloudsim.vms.Vm;
+import java.io.Serializable;
 
 /**
  * A general interface that represents data to be passed to
@@ -51,7 +52,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @see VmEventInfo
  * @see CloudletEventInfo
  */
-public interface EventInfo {
+public interface EventInfo extends Serializable {
 
     /**
      * Gets the time the event happened.
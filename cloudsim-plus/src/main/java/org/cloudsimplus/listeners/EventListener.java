@@ -25,6 +25,7 @@ package org.cloudsimplus.listeners;
 
 import org.cloudbus.cloudsim.cloudlets.Cloudlet;
 import org.cloudbus.cloudsim.vms.Vm;
+import java.io.Serializable;
 
 /**
  *
@@ -53,7 +54,7 @@ import org.cloudbus.cloudsim.vms.Vm;
  * @since CloudSim Plus 1.0
  */
 @FunctionalInterface
-public interface EventListener<T extends EventInfo> {
+public interface EventListener<T extends EventInfo> extends Serializable {
 
     /**
      * A implementation of Null Object pattern that makes nothing (it doesn't
@@ -72,4 +73,19 @@ public interface EventListener<T extends EventInfo> {
      */
     void update(T info);
 
+    /**
+     * Gets a listener that just forwards notifications to a given listener when a minimum
+     * simulation time interval has passed since the last forwarded notification,
+     * in order to reduce the overhead of listeners that don't need to be notified at every event.
+     * The returned object is the one to be registered and removed from the observed object.
+     *
+     * @param samplingInterval the minimum simulation time interval between notifications
+     * @param listener the listener to be notified at the sampling interval
+     * @param <T> The class of the object containing information to be given to the listener
+     * @return the sampled listener
+     * @see SampledEventListener
+     */
+    static <T extends EventInfo> EventListener<T> sampled(final double samplingInterval, final EventListener<T> listener) {
+        return new SampledEventListener<>(listener, samplingInterval);
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.listeners;
+
+import java.util.Objects;
+
+/**
+ * An {@link EventListener} decorator that just forwards notifications to another listener
+ * when a minimum simulation time interval has passed since the last forwarded notification.
+ * It reduces the cost of monitoring listeners, such as the ones used by autoscaling or
+ * dashboards, that don't need to be notified on every update of a Host or VM
+ * or on every simulation clock tick.
+ *
+ * <p>The first notification is always forwarded. Then, a notification is just forwarded
+ * if its {@link EventInfo#getTime() time} is at least the sampling interval after the
+ * time of the last forwarded one. To remove a sampled listener, the object returned by
+ * {@link EventListener#sampled(double, EventListener)} must be used.</p>
+ *
+ * @param <T> The class of the object containing information to be given to the listener
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public final class SampledEventListener<T extends EventInfo> implements EventListener<T> {
+    private final EventListener<T> listener;
+    private final double samplingInterval;
+    private double lastNotificationTime;
+
+    /**
+     * Creates a SampledEventListener.
+     *
+     * @param listener the listener to be notified at the sampling interval
+     * @param samplingInterval the minimum simulation time interval between notifications
+     * @throws IllegalArgumentException when the sampling interval is negative
+     */
+    public SampledEventListener(final EventListener<T> listener, final double samplingInterval) {
+        if(samplingInterval < 0){
+            throw new IllegalArgumentException("Sampling interval cannot be negative.");
+        }
+
+        this.listener = Objects.requireNonNull(listener);
+        this.samplingInterval = samplingInterval;
+        this.lastNotificationTime = Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public void update(final T info) {
+        if(info.getTime() - lastNotificationTime < samplingInterval){
+            return;
+        }
+
+        lastNotificationTime = info.getTime();
+        listener.update(info);
+    }
+
+    /**
+     * Gets the listener to be notified at the sampling interval.
+     * @return
+     */
+    public EventListener<T> getListener() {
+        return listener;
+    }
+
+    public double getSamplingInterval() {
+        return samplingInterval;
+    }
+}
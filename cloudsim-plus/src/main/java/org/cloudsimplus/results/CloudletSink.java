@@ -0,0 +1,76 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.results;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A destination for finished {@link Cloudlet}s, which receives each Cloudlet
+ * as soon as it is returned to its {@link DatacenterBroker}.
+ * A sink is set by {@link DatacenterBroker#setCloudletSink(CloudletSink)}
+ * to enable a streaming results mode, where the broker doesn't keep finished Cloudlets,
+ * so that memory doesn't grow with the number of finished Cloudlets.
+ *
+ * <p>A sink may write results to a file, such as the {@link CsvCloudletSink},
+ * or aggregate them, such as the {@link CloudletStatisticsSink}.
+ * It must extract the required data from the Cloudlet when it is received,
+ * without keeping a reference to it. Multiple sinks can be combined using
+ * {@link #andThen(CloudletSink)}.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+@FunctionalInterface
+public interface CloudletSink extends Serializable {
+    /**
+     * An attribute that implements the Null Object Design Pattern for {@link CloudletSink}
+     * objects, indicating no sink is set.
+     */
+    CloudletSink NULL = new CloudletSinkNull();
+
+    /**
+     * Receives a finished Cloudlet.
+     *
+     * @param cloudlet the Cloudlet that has finished and was returned to its broker
+     */
+    void accept(Cloudlet cloudlet);
+
+    /**
+     * Gets a sink that sends each finished Cloudlet to this sink and then to another one.
+     *
+     * @param next the sink to receive Cloudlets after this one
+     * @return the composed sink
+     */
+    default CloudletSink andThen(final CloudletSink next) {
+        Objects.requireNonNull(next);
+        return cloudlet -> {
+            accept(cloudlet);
+            next.accept(cloudlet);
+        };
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.results;
+
+import org.apache.commons.math3.stat.descriptive.StatisticalSummary;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A {@link CloudletSink} that aggregates statistics of finished Cloudlets,
+ * such as the number of Cloudlets for each status and the mean, minimum and maximum
+ * waiting, execution and finish times.
+ * It uses a constant amount of memory, regardless of the number of Cloudlets received.
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class CloudletStatisticsSink implements CloudletSink {
+    private final Map<Cloudlet.Status, Long> statusCount;
+    private final SummaryStatistics waitingTime;
+    private final SummaryStatistics execTime;
+    private final SummaryStatistics finishTime;
+    private long totalLength;
+
+    public CloudletStatisticsSink() {
+        this.statusCount = new EnumMap<>(Cloudlet.Status.class);
+        this.waitingTime = new SummaryStatistics();
+        this.execTime = new SummaryStatistics();
+        this.finishTime = new SummaryStatistics();
+    }
+
+    @Override
+    public void accept(final Cloudlet cloudlet) {
+        statusCount.merge(cloudlet.getStatus(), 1L, Long::sum);
+        waitingTime.addValue(cloudlet.getWaitingTime());
+        execTime.addValue(cloudlet.getActualCpuTime());
+        finishTime.addValue(cloudlet.getFinishTime());
+        totalLength += cloudlet.getLength();
+    }
+
+    /**
+     * Gets the number of Cloudlets received.
+     * @return
+     */
+    public long getCount() {
+        return waitingTime.getN();
+    }
+
+    /**
+     * Gets the number of Cloudlets received with a given status.
+     *
+     * @param status the status to get the number of Cloudlets
+     * @return
+     */
+    public long getCount(final Cloudlet.Status status) {
+        return statusCount.getOrDefault(status, 0L);
+    }
+
+    /**
+     * Gets a read-only map with the number of Cloudlets received for each status.
+     * @return
+     */
+    public Map<Cloudlet.Status, Long> getStatusCount() {
+        return Collections.unmodifiableMap(statusCount);
+    }
+
+    /**
+     * Gets the sum of the length (in MI) of all Cloudlets received.
+     * @return
+     */
+    public long getTotalLength() {
+        return totalLength;
+    }
+
+    /**
+     * Gets statistics about the time Cloudlets waited to start executing (in seconds).
+     * @return
+     * @see Cloudlet#getWaitingTime()
+     */
+    public StatisticalSummary getWaitingTime() {
+        return waitingTime.getSummary();
+    }
+
+    /**
+     * Gets statistics about the Cloudlets execution time (in seconds).
+     * @return
+     * @see Cloudlet#getActualCpuTime()
+     */
+    public StatisticalSummary getExecTime() {
+        return execTime.getSummary();
+    }
+
+    /**
+     * Gets statistics about the time Cloudlets finished (in seconds).
+     * @return
+     * @see Cloudlet#getFinishTime()
+     */
+    public StatisticalSummary getFinishTime() {
+        return finishTime.getSummary();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d Cloudlets %s: mean waiting time %.2f s, mean exec time %.2f s, last finish time %.2f s",
+            getCount(), statusCount, waitingTime.getMean(), execTime.getMean(), finishTime.getMax());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.results;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudsimplus.builders.tables.CloudletsTableBuilder;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link CloudletSink} that writes a CSV line for each finished Cloudlet
+ * as soon as it is received, instead of building a table from a list of all finished
+ * Cloudlets at the end of the simulation, as the {@link CloudletsTableBuilder} does.
+ * It has the same default columns of such a table builder and new ones can be added
+ * by {@link #addColumn(String, Function)} before the first Cloudlet is received.
+ * The header line is written along with the first Cloudlet.
+ *
+ * <p>The sink must be {@link #close() closed} after the simulation finishes,
+ * to flush and close the underlying writer. Since it holds a writer,
+ * a simulation where a broker uses this sink cannot be snapshot.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ * @since CloudSim Plus 1.2.5
+ */
+public class CsvCloudletSink implements CloudletSink, Closeable {
+    private static final String SEPARATOR = ",";
+
+    private final transient Writer writer;
+
+    /**
+     * A Map where each key is the title of a column and the value is a function
+     * that gets the data for that column from a Cloudlet.
+     */
+    private final Map<String, Function<Cloudlet, Object>> columns;
+    private boolean headerWritten;
+
+    /**
+     * Creates a CSV sink that writes to a given writer.
+     *
+     * @param writer the writer to write the CSV lines to
+     */
+    public CsvCloudletSink(final Writer writer) {
+        this.writer = Objects.requireNonNull(writer);
+        this.columns = new LinkedHashMap<>();
+        createDefaultColumns();
+    }
+
+    /**
+     * Creates a CSV sink that writes to a given file, replacing it if it already exists.
+     *
+     * @param file the path of the file to write the CSV lines to
+     * @throws UncheckedIOException when the file cannot be created
+     */
+    public CsvCloudletSink(final Path file) {
+        this(newWriter(file));
+    }
+
+    private static Writer newWriter(final Path file) {
+        try {
+            return Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void createDefaultColumns() {
+        columns.put("Cloudlet", Cloudlet::getId);
+        columns.put("Status", c -> c.getStatus().name());
+        columns.put("DC", c -> c.getVm().getHost().getDatacenter().getId());
+        columns.put("Host", c -> c.getVm().getHost().getId());
+        columns.put("HostPEs", c -> c.getVm().getHost().getNumberOfWorkingPes());
+        columns.put("VM", c -> c.getVm().getId());
+        columns.put("VmPEs", c -> c.getVm().getNumberOfPes());
+        columns.put("CloudletLen", Cloudlet::getLength);
+        columns.put("CloudletPEs", Cloudlet::getNumberOfPes);
+        columns.put("StartTime", Cloudlet::getExecStartTime);
+        columns.put("FinishTime", Cloudlet::getFinishTime);
+        columns.put("ExecTime", Cloudlet::getActualCpuTime);
+    }
+
+    /**
+     * Adds a column to the end of the CSV lines.
+     *
+     * @param title the title of the column
+     * @param dataFunction a function that receives a Cloudlet and returns the data for the column
+     * @return
+     * @throws IllegalStateException when some Cloudlet was already written
+     */
+    public CsvCloudletSink addColumn(final String title, final Function<Cloudlet, Object> dataFunction) {
+        Objects.requireNonNull(title);
+        Objects.requireNonNull(dataFunction);
+        if(headerWritten){
+            throw new IllegalStateException("Columns cannot be added after Cloudlets were written.");
+        }
+
+        columns.put(title, dataFunction);
+        return this;
+    }
+
+    @Override
+    public void accept(final Cloudlet cloudlet) {
+        try {
+            if(!headerWritten) {
+                writeLine(String.join(SEPARATOR, columns.keySet()));
+                headerWritten = true;
+            }
+
+            final StringBuilder line = new StringBuilder();
+            for (final Function<Cloudlet, Object> dataFunction : columns.values()) {
+                if(line.length() > 0) {
+                    line.append(SEPARATOR);
+                }
+                line.append(escape(String.valueOf(dataFunction.apply(cloudlet))));
+            }
+            writeLine(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeLine(final CharSequence line) throws IOException {
+        writer.append(line).append(System.lineSeparator());
+    }
+
+    /**
+     * Quotes a value if it contains a separator, quote or line break.
+     * @param value the value to escape
+     * @return the escaped value
+     */
+    private static String escape(final String value) {
+        if(value.contains(SEPARATOR) || value.contains("\"") || value.contains("\n")) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
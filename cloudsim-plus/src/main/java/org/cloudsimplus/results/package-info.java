@@ -0,0 +1,13 @@
+/**
+ * Provides {@link org.cloudsimplus.results.CloudletSink} implementations that
+ * receive each finished {@link org.cloudbus.cloudsim.cloudlets.Cloudlet} as soon as
+ * it is returned to its {@link org.cloudbus.cloudsim.brokers.DatacenterBroker},
+ * enabling results to be streamed to a file or aggregated into statistics.
+ *
+ * <p>When a broker has a sink set, it doesn't keep finished Cloudlets anymore,
+ * thus they can be garbage collected and the memory used by simulations with
+ * millions of Cloudlets doesn't grow with the number of finished ones.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+package org.cloudsimplus.results;
@@ -68,6 +68,21 @@ public class VmAllocationPolicySimpleTest {
         assertEquals(hostWithLessPes, allocatedHostForVm);
     }
 
+    @Test
+    public void setDatacenter_WhenHostsAlreadyHaveVms_ConsiderTheirPesAsUsed() {
+        final Vm vm0 = VmSimpleTest.createVm(0, 1000, 4);
+        assertTrue(policy.allocateHostForVm(vm0));
+
+        final VmAllocationPolicySimple newPolicy = new VmAllocationPolicySimple();
+        newPolicy.setDatacenter(policy.getDatacenter());
+
+        final Vm vm1 = VmSimpleTest.createVm(1, 1000, 2);
+        assertTrue(newPolicy.allocateHostForVm(vm1));
+
+        final Host hostWithMoreFreePes = policy.getDatacenter().getHostList().get(3);
+        assertEquals(hostWithMoreFreePes, vm1.getHost());
+    }
+
     @Test
     public void allocateHostForVm_WhenOneVmIsGivenAndSelectedHostDoesntHaveStorage_AllocateOtherHost() {
         final Host secondHostWithLessPes = policy.getDatacenter().getHostList().get(3);
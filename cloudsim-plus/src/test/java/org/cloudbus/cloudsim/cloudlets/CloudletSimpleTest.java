@@ -596,6 +596,33 @@ public class CloudletSimpleTest {
         assertEquals(utilizationModelCpu.getUtilization(0), cloudlet.getUtilizationOfCpu(0), 0);
     }
 
+    @Test
+    public void testGetUtilizationOfCpuIsComputedOncePerTime() {
+        final int[] calls = {0};
+        final UtilizationModel model = new UtilizationModelFull() {
+            @Override
+            public double getUtilization(final double time) {
+                calls[0]++;
+                return super.getUtilization(time);
+            }
+        };
+        final CloudletSimple instance = createCloudlet(0, 1000, 1);
+        instance.setUtilizationModelCpu(model);
+
+        instance.getUtilizationOfCpu(1);
+        instance.getUtilizationOfCpu(1);
+        assertEquals(1, calls[0]);
+
+        instance.getUtilizationOfCpu(2);
+        assertEquals(2, calls[0]);
+
+        instance.setUtilizationModelCpu(new UtilizationModelFull());
+        instance.getUtilizationOfCpu(2);
+        instance.setUtilizationModelCpu(model);
+        instance.getUtilizationOfCpu(2);
+        assertEquals(3, calls[0]);
+    }
+
     @Test
     public void testGetUtilizationOfRam() {
         assertEquals(utilizationModelRam.getUtilization(0), cloudlet.getUtilizationOfRam(0), 0);
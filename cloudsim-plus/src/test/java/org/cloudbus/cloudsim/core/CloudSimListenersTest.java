@@ -0,0 +1,174 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.events.SimEvent;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.cloudsimplus.listeners.EventBatchInfo;
+import org.cloudsimplus.listeners.EventInfo;
+import org.cloudsimplus.listeners.EventListener;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the notification of {@link CloudSim}, {@link Host} and {@link Vm} Listeners.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudSimListenersTest {
+    private static final int CLOUDLETS = 4;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private Host host;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        host = SimulationScenarioTestUtil.createDatacenter(scenario, 1).getFirstHostFromFirstDatacenter();
+        broker = SimulationScenarioTestUtil.createBroker(scenario, 1, CLOUDLETS).getBroker();
+    }
+
+    @Test
+    public void testEventBatchListenerReceivesAllProcessedEvents() {
+        final List<SimEvent> processedEvents = new ArrayList<>();
+        final List<SimEvent> batchedEvents = new ArrayList<>();
+        final List<Double> batchTimes = new ArrayList<>();
+        simulation.addOnEventProcessingListener(processedEvents::add);
+        simulation.addOnEventBatchProcessedListener(info -> {
+            assertFalse(info.getEvents().isEmpty());
+            for (final SimEvent evt : info.getEvents()) {
+                assertEquals(info.getTime(), evt.getTime(), 0);
+            }
+
+            batchedEvents.addAll(info.getEvents());
+            batchTimes.add(info.getTime());
+        });
+        simulation.start();
+
+        assertEquals(processedEvents, batchedEvents);
+        assertTrue(batchTimes.size() < batchedEvents.size());
+        for (int i = 1; i < batchTimes.size(); i++) {
+            assertTrue(batchTimes.get(i) >= batchTimes.get(i-1));
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testEventBatchListIsReadOnly() {
+        simulation.addOnEventBatchProcessedListener(info -> info.getEvents().clear());
+        simulation.start();
+    }
+
+    @Test
+    public void testRemoveEventBatchListener() {
+        final EventListener<EventBatchInfo> listener = info -> fail("Removed listener should not be notified");
+        simulation.addOnEventBatchProcessedListener(listener);
+        assertTrue(simulation.removeOnEventBatchProcessedListener(listener));
+        assertFalse(simulation.removeOnEventBatchProcessedListener(listener));
+        simulation.start();
+    }
+
+    @Test
+    public void testEventBatchListenerRemovingItselfDuringNotification() {
+        final int[] notifications = {0};
+        final EventListener<EventBatchInfo> selfRemovingListener = new EventListener<EventBatchInfo>() {
+            @Override
+            public void update(final EventBatchInfo info) {
+                notifications[0]++;
+                simulation.removeOnEventBatchProcessedListener(this);
+            }
+        };
+        simulation.addOnEventBatchProcessedListener(info -> notifications[0]++);
+        simulation.addOnEventBatchProcessedListener(selfRemovingListener);
+        simulation.addOnEventBatchProcessedListener(info -> notifications[0]++);
+        simulation.start();
+
+        assertTrue(notifications[0] > 3);
+    }
+
+    @Test
+    public void testEventBatchDoesntKeepEventsProcessedWhileListenerWasRemoved() {
+        final EventListener<EventBatchInfo> batchListener = info -> {
+            for (final SimEvent evt : info.getEvents()) {
+                assertEquals(info.getTime(), evt.getTime(), 0);
+            }
+        };
+        simulation.addOnEventBatchProcessedListener(batchListener);
+        //Removes the listener while events are processed and adds it back for the next event
+        simulation.addOnEventProcessingListener(evt -> {
+            if(!simulation.removeOnEventBatchProcessedListener(batchListener)) {
+                simulation.addOnEventBatchProcessedListener(batchListener);
+            }
+        });
+        simulation.start();
+    }
+
+    @Test
+    public void testClockTickListenerReceivesReusedInfo() {
+        final Set<EventInfo> infos = new HashSet<>();
+        final List<Double> times = new ArrayList<>();
+        simulation.addOnClockTickListener(info -> {
+            infos.add(info);
+            times.add(info.getTime());
+        });
+        simulation.start();
+
+        assertEquals(1, infos.size());
+        assertTrue(times.size() > 1);
+        assertEquals(simulation.clock(), times.get(times.size()-1), 0);
+    }
+
+    @Test
+    public void testHostAndVmUpdateProcessingListenersReceiveReusedInfo() {
+        final Vm vm = broker.getVmWaitingList().get(0);
+        final Set<Object> infos = new HashSet<>();
+        final int[] notifications = {0};
+        host.addOnUpdateProcessingListener(info -> {
+            assertSame(host, info.getHost());
+            assertEquals(simulation.clock(), info.getTime(), 0);
+            infos.add(info);
+            notifications[0]++;
+        });
+        vm.addOnUpdateProcessingListener(info -> {
+            assertSame(vm, info.getVm());
+            assertSame(host, info.getHost());
+            assertEquals(simulation.clock(), info.getTime(), 0);
+            infos.add(info);
+            notifications[0]++;
+        });
+        simulation.start();
+
+        assertTrue(notifications[0] > 2);
+        assertEquals("Host and VM should each reuse a single info object", 2, infos.size());
+    }
+
+    @Test
+    public void testSampledHostUpdateProcessingListener() {
+        final List<Double> allTimes = new ArrayList<>();
+        final List<Double> sampledTimes = new ArrayList<>();
+        host.addOnUpdateProcessingListener(info -> allTimes.add(info.getTime()));
+        host.addOnUpdateProcessingListener(EventListener.sampled(5, info -> sampledTimes.add(info.getTime())));
+        simulation.start();
+
+        assertTrue(sampledTimes.size() < allTimes.size());
+        assertEquals(allTimes.get(0), sampledTimes.get(0));
+        for (int i = 1; i < sampledTimes.size(); i++) {
+            assertTrue(sampledTimes.get(i) - sampledTimes.get(i-1) >= 5);
+        }
+    }
+}
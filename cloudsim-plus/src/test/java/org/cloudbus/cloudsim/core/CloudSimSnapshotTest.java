@@ -0,0 +1,201 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicy;
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudSimSnapshotTest {
+    private static final double PAUSE_TIME = 15;
+    private static final int CLOUDLETS = 8;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    @Test
+    public void testRestoredSimulationContinuesFromSnapshot() {
+        final String expected = runPausedReference();
+
+        final CloudSim simulation = createSimulation();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        simulation.pause(PAUSE_TIME);
+        simulation.addOnSimulationPausedListener(info -> {
+            simulation.snapshot(out);
+            simulation.resume();
+        });
+        simulation.start();
+        assertTrue(out.size() > 0);
+        assertEquals("Taking a snapshot must not change the simulation results", expected, getResults(simulation));
+
+        final CloudSim restored = CloudSim.restore(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(PAUSE_TIME, restored.clock(), 0);
+        assertTrue(getBroker(restored).getCloudletFinishedList().size() < CLOUDLETS);
+        restored.start();
+        assertEquals(expected, getResults(restored));
+    }
+
+    @Test
+    public void testRestoredNullObjectsAreTheSameInstances() {
+        final CloudSim simulation = createSimulation();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        simulation.snapshot(out);
+
+        final CloudSim restored = CloudSim.restore(new ByteArrayInputStream(out.toByteArray()));
+        for (final Cloudlet cloudlet : getBroker(restored).getCloudletWaitingList()) {
+            assertSame(Vm.NULL, cloudlet.getVm());
+        }
+
+        restored.start();
+        assertEquals(CLOUDLETS, getBroker(restored).getCloudletFinishedList().size());
+    }
+
+    @Test
+    public void testForkedBranchesRunIndependently() throws Exception {
+        final String expected = runPausedReference();
+
+        final CloudSim simulation = createSimulation();
+        final List<CloudSim> branches = new ArrayList<>();
+        simulation.pause(PAUSE_TIME);
+        simulation.addOnSimulationPausedListener(info -> {
+            branches.addAll(simulation.fork(2));
+            simulation.resume();
+        });
+        simulation.start();
+        assertEquals(2, branches.size());
+        assertNotSame(branches.get(0), branches.get(1));
+
+        final VmAllocationPolicy policy = new VmAllocationPolicySimple();
+        final Datacenter datacenter = getDatacenter(branches.get(1));
+        datacenter.setVmAllocationPolicy(policy);
+        assertSame(policy, datacenter.getVmAllocationPolicy());
+        assertNotSame(policy, getDatacenter(branches.get(0)).getVmAllocationPolicy());
+
+        //Makes the branch 1 diverge from the branch 0, doubling the length of Cloudlets still running
+        final List<Cloudlet> runningCloudlets = new ArrayList<>(getBroker(branches.get(1)).getCloudletCreatedList());
+        runningCloudlets.removeIf(Cloudlet::isFinished);
+        assertFalse(runningCloudlets.isEmpty());
+        runningCloudlets.forEach(c -> c.setLength(c.getLength() * 2));
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> otherThreadResults = executor.submit(() -> {
+                branches.get(0).start();
+                return getResults(branches.get(0));
+            });
+
+            branches.get(1).start();
+            assertEquals(expected, otherThreadResults.get());
+            assertNotEquals(expected, getResults(branches.get(1)));
+            assertTrue(branches.get(1).clock() > branches.get(0).clock());
+            assertEquals(CLOUDLETS, getBroker(branches.get(1)).getCloudletFinishedList().size());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(expected, getResults(simulation));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForkWithZeroBranches() {
+        createSimulation().fork(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotOfRunningSimulationNotPaused() {
+        final CloudSim simulation = createSimulation();
+        simulation.addOnClockTickListener(info -> simulation.snapshot(new ByteArrayOutputStream()));
+        simulation.start();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRestoreInvalidSnapshot() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream zip = new GZIPOutputStream(out);
+             ObjectOutputStream objOut = new ObjectOutputStream(zip)) {
+            objOut.writeObject("not a simulation");
+        }
+
+        CloudSim.restore(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    /**
+     * Runs a simulation that is paused and resumed at the same time snapshots are taken.
+     * Pausing the simulation processes Cloudlets at the pause time,
+     * so results are just comparable with simulations paused at the same time.
+     *
+     * @return the simulation results
+     */
+    private static String runPausedReference() {
+        final CloudSim reference = createSimulation();
+        reference.pause(PAUSE_TIME);
+        reference.addOnSimulationPausedListener(info -> reference.resume());
+        reference.start();
+        return getResults(reference);
+    }
+
+    private static CloudSim createSimulation() {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        SimulationScenarioTestUtil.createDatacenter(scenario, 2);
+        SimulationScenarioTestUtil.createBroker(scenario, 3, CLOUDLETS/2)
+            .getCloudletBuilder()
+            .setLength(40000)
+            .createAndSubmitCloudlets(CLOUDLETS/2);
+
+        return simulation;
+    }
+
+    private static DatacenterBroker getBroker(final CloudSim simulation) {
+        return simulation.getEntityList().stream()
+            .filter(e -> e instanceof DatacenterBroker)
+            .map(e -> (DatacenterBroker) e)
+            .findFirst()
+            .orElse(DatacenterBroker.NULL);
+    }
+
+    private static Datacenter getDatacenter(final CloudSim simulation) {
+        return simulation.getEntityList().stream()
+            .filter(e -> e instanceof Datacenter)
+            .map(e -> (Datacenter) e)
+            .findFirst()
+            .orElse(Datacenter.NULL);
+    }
+
+    private static String getResults(final CloudSim simulation) {
+        final StringBuilder result = new StringBuilder();
+        result.append(String.format("clock %.2f%n", simulation.clock()));
+        final List<Cloudlet> finished = new ArrayList<>(getBroker(simulation).getCloudletFinishedList());
+        finished.sort(Comparator.comparingInt(Cloudlet::getId));
+        for (final Cloudlet c : finished) {
+            result.append(String.format(
+                "cloudlet %d vm %d host %d start %.2f finish %.2f%n",
+                c.getId(), c.getVm().getId(), c.getVm().getHost().getId(),
+                c.getExecStartTime(), c.getFinishTime()));
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package org.cloudbus.cloudsim.core;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class SimulationMetricsTest {
+    private static final int CLOUDLETS = 6;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        SimulationScenarioTestUtil.createDatacenter(scenario, 2);
+        broker = SimulationScenarioTestUtil.createBroker(scenario, 2, CLOUDLETS).getBroker();
+    }
+
+    @After
+    public void tearDown() {
+        simulation.getMetrics().unregisterMBean();
+    }
+
+    @Test
+    public void testMetricsDisabledByDefault() {
+        simulation.start();
+        final SimulationMetrics metrics = simulation.getMetrics();
+        assertFalse(metrics.isEnabled());
+        assertEquals(0, metrics.getProcessedEvents());
+        assertEquals(0, metrics.getClockTicks());
+        assertTrue(metrics.getEventsByTag().isEmpty());
+        assertTrue(metrics.getEntityProcessingTimeMs().isEmpty());
+    }
+
+    @Test
+    public void testEnabledMetrics() {
+        final long[] events = {0};
+        simulation.addOnEventProcessingListener(evt -> events[0]++);
+        simulation.enableMetrics().start();
+
+        final SimulationMetrics metrics = simulation.getMetrics();
+        assertEquals(events[0], metrics.getProcessedEvents());
+        assertEquals(CLOUDLETS, metrics.getEventsByTag(CloudSimTags.CLOUDLET_RETURN));
+        assertEquals(CLOUDLETS, metrics.getEventsByTag().get("CLOUDLET_RETURN").longValue());
+        assertEquals(events[0], metrics.getEventsByTag().values().stream().mapToLong(Long::longValue).sum());
+
+        assertTrue(metrics.getClockTicks() > 0);
+        assertTrue(metrics.getClockTicks() <= metrics.getProcessedEvents());
+        assertTrue(metrics.getWallTimeMs() > 0);
+        assertTrue(metrics.getEventsPerSecond() > metrics.getTicksPerSecond());
+        assertTrue(metrics.getFutureQueueHighWaterMark() > 0);
+
+        final Map<String, Double> entityTimes = metrics.getEntityProcessingTimeMs();
+        assertTrue(entityTimes.containsKey(broker.getName()));
+        assertEquals(metrics.getEntityProcessingTimeMs(broker), entityTimes.get(broker.getName()), 0);
+        final double[] times = entityTimes.values().stream().mapToDouble(Double::doubleValue).toArray();
+        for (int i = 1; i < times.length; i++) {
+            assertTrue("Entities should be sorted by descending time", times[i-1] >= times[i]);
+        }
+    }
+
+    @Test
+    public void testDisableMetricsKeepsCollectedValues() {
+        final long[] events = {0};
+        simulation.addOnEventProcessingListener(evt -> events[0]++);
+        simulation.addOnClockTickListener(info -> simulation.disableMetrics());
+        simulation.enableMetrics().start();
+
+        final long processedEvents = simulation.getMetrics().getProcessedEvents();
+        assertFalse(simulation.getMetrics().isEnabled());
+        assertTrue(processedEvents > 0);
+        assertTrue(processedEvents < events[0]);
+    }
+
+    @Test
+    public void testRegisterMBean() throws Exception {
+        simulation.enableMetrics().start();
+        final SimulationMetrics metrics = simulation.getMetrics();
+        final ObjectName name = metrics.registerMBean();
+        assertSame(name, metrics.registerMBean());
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertTrue(server.isRegistered(name));
+        assertEquals(metrics.getProcessedEvents(), server.getAttribute(name, "ProcessedEvents"));
+        assertNotNull(server.getAttribute(name, "EventsByTag"));
+
+        assertTrue(metrics.unregisterMBean());
+        assertFalse(server.isRegistered(name));
+        assertFalse(metrics.unregisterMBean());
+    }
+}
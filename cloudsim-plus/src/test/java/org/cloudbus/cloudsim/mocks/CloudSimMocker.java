@@ -3,6 +3,7 @@ package org.cloudbus.cloudsim.mocks;
 import java.util.List;
 import java.util.function.Consumer;
 import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.Simulation;
 import org.easymock.EasyMock;
 import org.easymock.IExpectationSetters;
 
@@ -67,6 +68,7 @@ public final class CloudSimMocker {
         CloudSimMocker mocker = new CloudSimMocker();
         consumer.accept(mocker);
         EasyMock.expect(mocker.mock.isRunning()).andReturn(true).anyTimes();
+        EasyMock.expect(mocker.mock.getLogger()).andReturn(Simulation.NULL.getLogger()).anyTimes();
         CloudSimMocker.replay(mocker.mock);
         return mocker.mock;
     }
@@ -0,0 +1,69 @@
+package org.cloudbus.cloudsim.network;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class HostPacketPoolTest {
+    private static final NetworkHost HOST =
+        new NetworkHost(1024, 1000, 1000, Collections.singletonList(new PeSimple(1000, new PeProvisionerSimple())));
+
+    @Test
+    public void testAcquireCreatesPacketWhenPoolIsEmpty() {
+        final HostPacketPool pool = new HostPacketPool();
+        final VmPacket vmPkt = createVmPacket(10);
+        final HostPacket pkt = pool.acquire(HOST, vmPkt);
+
+        assertSame(vmPkt, pkt.getVmPacket());
+        assertSame(HOST, pkt.getSource());
+        assertEquals(1, pool.getCreatedPackets());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testAcquireReusesReleasedPacket() {
+        final HostPacketPool pool = new HostPacketPool();
+        final HostPacket pkt = pool.acquire(HOST, createVmPacket(10));
+        pkt.setDestination(HOST);
+        pkt.setReceiveTime(5);
+        assertTrue(pool.release(pkt));
+        assertEquals(1, pool.size());
+
+        final VmPacket vmPkt = createVmPacket(20);
+        final HostPacket reused = pool.acquire(HOST, vmPkt);
+        assertSame(pkt, reused);
+        assertSame(vmPkt, reused.getVmPacket());
+        assertEquals(20, reused.getSize());
+        assertNull(reused.getDestination());
+        assertEquals(0, reused.getReceiveTime(), 0);
+        assertEquals(1, pool.getCreatedPackets());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testReleaseWhenPoolIsFull() {
+        final HostPacketPool pool = new HostPacketPool(1);
+        assertTrue(pool.release(new HostPacket(HOST, createVmPacket(10))));
+        assertFalse(pool.release(new HostPacket(HOST, createVmPacket(10))));
+        assertEquals(1, pool.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaxSize() {
+        new HostPacketPool(-1);
+    }
+
+    private static VmPacket createVmPacket(final long size) {
+        return new VmPacket(Vm.NULL, Vm.NULL, size, Cloudlet.NULL, Cloudlet.NULL);
+    }
+}
@@ -0,0 +1,106 @@
+package org.cloudbus.cloudsim.network.topologies;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class BinaryNetworkTopologyTest {
+    private static final int NODES = 5;
+    private static final String BRITE_CONTENT =
+        "Topology: ( 5 Nodes, 8 Edges )\n" +
+        "Model (1 - RTWaxman):  5 5 5 1  2  0.15 0.2 1 1 10.0 1024.0\n\n" +
+        "Nodes: ( 5 )\n" +
+        "0\t1\t3\t3\t3\t-1\tRT_NODE\n" +
+        "1\t0\t3\t3\t3\t-1\tRT_NODE\n" +
+        "2\t4\t3\t3\t3\t-1\tRT_NODE\n" +
+        "3\t3\t1\t3\t3\t-1\tRT_NODE\n" +
+        "4\t3\t3\t4\t4\t-1\tRT_NODE\n\n\n" +
+        "Edges: ( 8 )\n" +
+        "0\t2\t0\t3.0\t1.1\t10.0\t-1\t-1\tE_RT\tU\n" +
+        "1\t2\t1\t4.0\t2.1\t10.0\t-1\t-1\tE_RT\tU\n" +
+        "2\t3\t0\t2.8\t3.9\t10.0\t-1\t-1\tE_RT\tU\n" +
+        "3\t3\t1\t3.6\t4.1\t10.0\t-1\t-1\tE_RT\tU\n" +
+        "4\t4\t3\t2.0\t5.0\t10.0\t-1\t-1\tE_RT\tU\n" +
+        "5\t4\t2\t1.0\t4.0\t20.0\t-1\t-1\tE_RT\tU\n" +
+        "6\t0\t4\t2.0\t3.0\t10.0\t-1\t-1\tE_RT\tU\n" +
+        "7\t1\t4\t3.0\t4.1\t10.0\t-1\t-1\tE_RT\tU\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private BriteNetworkTopology brite;
+    private BinaryNetworkTopology binary;
+
+    @Before
+    public void setUp() throws IOException {
+        final File briteFile = folder.newFile("topology.brite");
+        Files.write(briteFile.toPath(), BRITE_CONTENT.getBytes());
+        final File binaryFile = new File(folder.getRoot(), "topology.bin");
+
+        BinaryNetworkTopology.convertFromBrite(briteFile.getPath(), binaryFile.getPath());
+        brite = new BriteNetworkTopology(briteFile.getPath());
+        binary = new BinaryNetworkTopology(binaryFile.getPath());
+
+        for (int node = 0; node < NODES; node++) {
+            final int entityId = node + 10;
+            brite.mapNode(entityId, node);
+            binary.mapNode(entityId, node);
+        }
+    }
+
+    @Test
+    public void testGetDelaySameAsBriteTopology() {
+        for (int src = 10; src < 10 + NODES; src++) {
+            for (int dest = 10; dest < 10 + NODES; dest++) {
+                assertEquals(
+                    String.format("Delay from %d to %d", src, dest),
+                    brite.getDelay(src, dest), binary.getDelay(src, dest), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testGetBwSameAsBriteTopology() {
+        final double[][] bwMatrix = brite.getBwMatrix();
+        for (int src = 0; src < NODES; src++) {
+            for (int dest = 0; dest < NODES; dest++) {
+                assertEquals(bwMatrix[src][dest], binary.getBw(src + 10, dest + 10), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testGetDelayUnmappedEntity() {
+        assertEquals(0, binary.getDelay(0, 10), 0);
+    }
+
+    @Test
+    public void testGetTopologycalGraph() {
+        final TopologicalGraph graph = binary.getTopologycalGraph();
+        assertEquals(NODES, graph.getNumberOfNodes());
+        assertEquals(8, graph.getNumberOfLinks());
+        final TopologicalLink link = graph.getLinksList().get(5);
+        assertEquals(4, link.getSrcNodeID());
+        assertEquals(2, link.getDestNodeID());
+        assertEquals(4.0, link.getLinkDelay(), 0);
+        assertEquals(20.0, link.getLinkBw(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFile() throws IOException {
+        final File file = folder.newFile("invalid.bin");
+        Files.write(file.toPath(), Arrays.copyOf(BRITE_CONTENT.getBytes(), 64));
+        new BinaryNetworkTopology(file.getPath());
+    }
+}
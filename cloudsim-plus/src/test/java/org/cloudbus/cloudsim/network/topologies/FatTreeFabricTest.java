@@ -0,0 +1,135 @@
+package org.cloudbus.cloudsim.network.topologies;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.switches.AggregateSwitch;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.network.switches.RootSwitch;
+import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudbus.cloudsim.util.Conversion;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class FatTreeFabricTest {
+    private static final int PORTS = 4;
+
+    @Test
+    public void testNumberOfElements() {
+        final FatTreeFabric fabric = new FatTreeFabric(PORTS);
+        assertEquals(16, fabric.getNumberOfHosts());
+        assertEquals(8, fabric.getNumberOfEdgeSwitches());
+        assertEquals(8, fabric.getNumberOfAggregateSwitches());
+        assertEquals(4, fabric.getNumberOfRootSwitches());
+        assertEquals(20, fabric.getNumberOfSwitches());
+        assertEquals(2, fabric.getHostsPerEdgeSwitch());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOddNumberOfPorts() {
+        new FatTreeFabric(3);
+    }
+
+    @Test
+    public void testGetRouteSameEdgeSwitch() {
+        final FatTreeFabric fabric = new FatTreeFabric(PORTS);
+        assertArrayEquals(new int[]{3}, fabric.getRoute(3, 3, 0));
+    }
+
+    @Test
+    public void testGetRouteSamePod() {
+        final FatTreeFabric fabric = new FatTreeFabric(PORTS);
+        assertArrayEquals(new int[]{0, 8, 1}, fabric.getRoute(0, 1, 0));
+        assertArrayEquals(new int[]{0, 9, 1}, fabric.getRoute(0, 1, 1));
+    }
+
+    @Test
+    public void testGetRouteDifferentPods() {
+        final FatTreeFabric fabric = new FatTreeFabric(PORTS);
+        assertArrayEquals(new int[]{0, 8, 16, 14, 7}, fabric.getRoute(0, 7, 0));
+        assertArrayEquals(new int[]{0, 9, 19, 15, 7}, fabric.getRoute(0, 7, 3));
+        for (int sw = 16; sw < 20; sw++) {
+            assertEquals(RootSwitch.LEVEL, fabric.getSwitchLevel(sw));
+        }
+    }
+
+    @Test
+    public void testGetDelay() {
+        final FatTreeFabric fabric = new FatTreeFabric(PORTS);
+        final long bytes = 1000;
+        final double mbits = Conversion.bytesToMegaBites(bytes);
+        assertEquals(0, fabric.getDelay(2, 2, 0, bytes), 0);
+
+        final double samePod = 2 * mbits / AggregateSwitch.DOWNLINK_BW + AggregateSwitch.SWITCHING_DELAY;
+        assertEquals(samePod, fabric.getDelay(0, 1, 0, bytes), 0.000000001);
+
+        final double otherPod =
+            2 * mbits / AggregateSwitch.DOWNLINK_BW + 2 * mbits / RootSwitch.DOWNLINK_BW +
+            2 * AggregateSwitch.SWITCHING_DELAY + RootSwitch.SWITCHING_DELAY;
+        assertEquals(otherPod, fabric.getDelay(0, 7, 0, bytes), 0.000000001);
+    }
+
+    @Test
+    public void testBuild() {
+        final CloudSim simulation = new CloudSim();
+        final NetworkDatacenter dc = createDatacenter(simulation, 16);
+        final FatTreeFabric fabric = new FatTreeFabric(PORTS);
+        final List<Switch> switches = fabric.build(dc);
+
+        assertEquals(20, switches.size());
+        assertSame(fabric, dc.getFabric());
+        assertEquals(8, dc.getEdgeSwitch().size());
+
+        final List<NetworkHost> hosts = dc.getHostList();
+        for (int i = 0; i < hosts.size(); i++) {
+            final EdgeSwitch edgeSwitch = hosts.get(i).getEdgeSwitch();
+            assertSame(switches.get(i / 2), edgeSwitch);
+            assertEquals(i / 2, fabric.getEdgeSwitchIndex(edgeSwitch));
+            assertEquals(PORTS/2, edgeSwitch.getUplinkSwitches().size());
+        }
+
+        for (int i = 8; i < 16; i++) {
+            assertEquals(PORTS/2, switches.get(i).getDownlinkSwitches().size());
+            assertEquals(PORTS/2, switches.get(i).getUplinkSwitches().size());
+        }
+
+        for (int i = 16; i < 20; i++) {
+            assertEquals(PORTS, switches.get(i).getDownlinkSwitches().size());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuildTooManyHosts() {
+        final CloudSim simulation = new CloudSim();
+        new FatTreeFabric(2).build(createDatacenter(simulation, 3));
+    }
+
+    static NetworkDatacenter createDatacenter(final CloudSim simulation, final int numberOfHosts) {
+        final List<Host> hosts = new ArrayList<>(numberOfHosts);
+        for (int i = 0; i < numberOfHosts; i++) {
+            final List<Pe> peList = Collections.singletonList(new PeSimple(1000, new PeProvisionerSimple()));
+            hosts.add(new NetworkHost(2048, 10000, 100000, peList)
+                .setRamProvisioner(new ResourceProvisionerSimple())
+                .setBwProvisioner(new ResourceProvisionerSimple())
+                .setVmScheduler(new VmSchedulerSpaceShared()));
+        }
+
+        return new NetworkDatacenter(simulation, new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple());
+    }
+}
@@ -0,0 +1,135 @@
+package org.cloudbus.cloudsim.network.topologies;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletExecutionTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletSendTask;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.switches.AggregateSwitch;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.network.switches.Switch;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.network.NetworkVm;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class LeafSpineFabricTest {
+    private static final long MIPS = 1000;
+    private static final long TASK_LENGTH = 1000;
+    private static final long PACKET_BYTES = 100000;
+
+    @Test
+    public void testGetRoute() {
+        final LeafSpineFabric fabric = new LeafSpineFabric(4, 2, 2);
+        assertEquals(8, fabric.getNumberOfHosts());
+        assertArrayEquals(new int[]{1}, fabric.getRoute(1, 1, 0));
+        assertArrayEquals(new int[]{0, 4, 3}, fabric.getRoute(0, 3, 0));
+        assertArrayEquals(new int[]{0, 5, 3}, fabric.getRoute(0, 3, 1));
+    }
+
+    /**
+     * Checks if a packet sent between Hosts on different leaves
+     * takes the same time when routed analytically by the fabric
+     * and when forwarded hop-by-hop through the same switches wired manually.
+     */
+    @Test
+    public void testSingleFlowDelaySameAsManuallyWiredSwitches() {
+        final double fabricDelay = runSimulationAndGetPacketDelay(dc -> new LeafSpineFabric(2, 1, 1).build(dc));
+        final double manualDelay = runSimulationAndGetPacketDelay(LeafSpineFabricTest::wireSwitchesManually);
+
+        //the packet must have gone through the spine switch
+        assertTrue(fabricDelay > AggregateSwitch.SWITCHING_DELAY);
+        assertEquals(manualDelay, fabricDelay, 0.000000001);
+    }
+
+    private static void wireSwitchesManually(final NetworkDatacenter dc) {
+        final CloudSim simulation = (CloudSim) dc.getSimulation();
+        final Switch spine = new AggregateSwitch(simulation, dc);
+        dc.addSwitch(spine);
+        for (final NetworkHost host : dc.<NetworkHost>getHostList()) {
+            final EdgeSwitch leaf = new EdgeSwitch(simulation, dc);
+            dc.addSwitch(leaf);
+            leaf.connectHost(host);
+            host.setEdgeSwitch(leaf);
+            leaf.getUplinkSwitches().add(spine);
+            spine.getDownlinkSwitches().add(leaf);
+        }
+    }
+
+    /**
+     * Runs a simulation where a Cloudlet sends a single packet to another one.
+     *
+     * @param networkCreator a function that creates the Datacenter network
+     * @return the time from the packet arrival at the source Edge Switch
+     * up to its delivery to the destination Host
+     */
+    private double runSimulationAndGetPacketDelay(final Consumer<NetworkDatacenter> networkCreator) {
+        Log.disable();
+        try {
+            final CloudSim simulation = new CloudSim();
+            final NetworkDatacenter dc = FatTreeFabricTest.createDatacenter(simulation, 2);
+            networkCreator.accept(dc);
+            final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+            final double[] switchArrivalTime = {-1};
+            final double[] hostDeliveryTime = {-1};
+            simulation.addOnEventProcessingListener(evt -> {
+                if(evt.getTag() == CloudSimTags.NETWORK_EVENT_UP && switchArrivalTime[0] < 0) {
+                    switchArrivalTime[0] = evt.getTime();
+                } else if(evt.getTag() == CloudSimTags.NETWORK_EVENT_HOST) {
+                    hostDeliveryTime[0] = evt.getTime();
+                }
+            });
+
+            final List<NetworkVm> vms = Arrays.asList(createVm(0), createVm(1));
+            broker.submitVmList(vms);
+
+            final NetworkCloudlet sender = createCloudlet(0, vms.get(0));
+            final NetworkCloudlet receiver = createCloudlet(1, vms.get(1));
+
+            sender.addTask(new CloudletExecutionTask(0, TASK_LENGTH));
+            final CloudletSendTask sendTask = new CloudletSendTask(1);
+            sender.addTask(sendTask);
+            sendTask.addPacket(receiver, PACKET_BYTES);
+
+            final CloudletReceiveTask receiveTask = new CloudletReceiveTask(0, vms.get(0));
+            receiveTask.setNumberOfExpectedPacketsToReceive(1);
+            receiver.addTask(receiveTask);
+
+            broker.submitCloudletList(Arrays.asList(sender, receiver));
+            simulation.start();
+
+            assertEquals(1, receiveTask.getPacketsReceived().size());
+            return hostDeliveryTime[0] - switchArrivalTime[0];
+        } finally {
+            Log.enable();
+        }
+    }
+
+    private NetworkVm createVm(final int id) {
+        final NetworkVm vm = new NetworkVm(id, MIPS, 1);
+        vm.setRam(512).setBw(1000).setSize(1000).setCloudletScheduler(new CloudletSchedulerTimeShared());
+        return vm;
+    }
+
+    private NetworkCloudlet createCloudlet(final int id, final NetworkVm vm) {
+        final NetworkCloudlet cloudlet = new NetworkCloudlet(id, TASK_LENGTH, 1);
+        cloudlet.setUtilizationModel(new UtilizationModelFull());
+        cloudlet.setVm(vm);
+        return cloudlet;
+    }
+}
@@ -0,0 +1,106 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the backfilling policies of {@link CloudletSchedulerEasyBackfilling}
+ * and {@link CloudletSchedulerConservativeBackfilling}
+ * using a VM with 4 PEs and the following Cloudlets, all submitted at the same time:
+ *
+ * <ul>
+ *     <li>0: 2 PEs for 10 seconds, which starts right away;</li>
+ *     <li>1: 3 PEs for 10 seconds, which has to wait for Cloudlet 0;</li>
+ *     <li>2: 4 PEs for 10 seconds, which has to wait for Cloudlet 1;</li>
+ *     <li>3: 1 PE for 30 seconds, which doesn't delay Cloudlet 1 if started right away,
+ *     but delays Cloudlet 2.</li>
+ * </ul>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletSchedulerBackfillingTest {
+    private static final long MIPS = 1000;
+    /**
+     * Tolerance for the delay between a Cloudlet finishing and the next one starting.
+     */
+    private static final double DELTA = 1;
+
+    @Before
+    public void setUp() {
+        Log.disable();
+    }
+
+    @After
+    public void tearDown() {
+        Log.enable();
+    }
+
+    @Test
+    public void testEasyBackfillingDelaysJustNonHeadCloudlets() {
+        final List<Cloudlet> cloudlets = runSimulation(CloudletSchedulerEasyBackfilling::new);
+        assertStartTimes(cloudlets, 0, 10, 30, 0);
+    }
+
+    @Test
+    public void testConservativeBackfillingDoesNotDelayAnyCloudlet() {
+        final List<Cloudlet> cloudlets = runSimulation(CloudletSchedulerConservativeBackfilling::new);
+        assertStartTimes(cloudlets, 0, 10, 20, 30);
+    }
+
+    /**
+     * Checks the start time of each Cloudlet, relative to the start of the first one.
+     * @param cloudlets the finished Cloudlets
+     * @param expected the expected relative start times
+     */
+    private static void assertStartTimes(final List<Cloudlet> cloudlets, final double... expected) {
+        final double firstStart = cloudlets.get(0).getExecStartTime();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Cloudlet " + i, expected[i], cloudlets.get(i).getExecStartTime() - firstStart, DELTA);
+            assertTrue(cloudlets.get(i).isFinished());
+        }
+    }
+
+    private List<Cloudlet> runSimulation(final Supplier<CloudletScheduler> schedulerSupplier) {
+        final int[] pes = {2, 3, 4, 1};
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        scenario.getDatacenterBuilder().createDatacenter(
+            new HostBuilder().setPes(4).setMips(MIPS).createHosts(1).getHosts()
+        );
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().createBroker();
+        brokerBuilder.getVmBuilder()
+            .setPes(4).setMips(MIPS)
+            .setCloudletSchedulerSupplier(schedulerSupplier)
+            .createAndSubmitVms(1);
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(pes.length);
+        for (int i = 0; i < pes.length; i++) {
+            final long seconds = i == 3 ? 30 : 10;
+            cloudlets.add(
+                new CloudletSimple(i, seconds * MIPS, pes[i])
+                    .setUtilizationModel(new UtilizationModelFull()));
+        }
+
+        final DatacenterBroker broker = brokerBuilder.getBroker();
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+        return cloudlets;
+    }
+}
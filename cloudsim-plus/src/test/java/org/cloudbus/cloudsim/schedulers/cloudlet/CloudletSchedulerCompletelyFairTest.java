@@ -0,0 +1,79 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimpleTest;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletSchedulerCompletelyFairTest {
+    private static final long MIPS = 1000;
+    private static final long CLOUDLET_LENGTH = 10000;
+
+    private CloudletSchedulerCompletelyFair instance;
+
+    @Before
+    public void setUp() {
+        instance = new CloudletSchedulerCompletelyFair();
+        instance.setCurrentMipsShare(CloudletSchedulerUtil.createUnitaryMipsList(MIPS));
+        instance.setVm(new VmSimple(0, MIPS, 1));
+    }
+
+    @Test
+    public void testGetCloudletWaitingList_Empty() {
+        assertTrue(instance.getCloudletWaitingList().isEmpty());
+    }
+
+    @Test
+    public void testGetCloudletWaitingList_SortedByVirtualRuntime() {
+        submitCloudlets(3, 2, 1, 0);
+
+        assertEquals(Arrays.asList(3), getIds(instance.getCloudletExecList()));
+        assertEquals(Arrays.asList(0, 1, 2), getIds(instance.getCloudletWaitingList()));
+    }
+
+    @Test
+    public void testPreemptedCloudletIsReinsertedIntoWaitingList() {
+        submitCloudlets(3, 2, 1, 0);
+
+        instance.updateProcessing(instance.getMinimumGranularity(), instance.getCurrentMipsShare());
+        assertEquals(Arrays.asList(0), getIds(instance.getCloudletExecList()));
+        assertEquals(Arrays.asList(1, 2, 3), getIds(instance.getCloudletWaitingList()));
+    }
+
+    @Test
+    public void testCloudletCancelFromWaitingList() {
+        submitCloudlets(0, 1, 2);
+
+        assertEquals(1, instance.cloudletCancel(1).getId());
+        assertEquals(Arrays.asList(2), getIds(instance.getCloudletWaitingList()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSortCloudletWaitingList() {
+        instance.sortCloudletWaitingList((c1, c2) -> 0);
+    }
+
+    private void submitCloudlets(final int... ids) {
+        for (final int id : ids) {
+            final Cloudlet cloudlet = CloudletSimpleTest.createCloudlet(id, CLOUDLET_LENGTH, 1);
+            cloudlet.assignToDatacenter(Datacenter.NULL);
+            instance.cloudletSubmit(cloudlet);
+        }
+    }
+
+    private static List<Integer> getIds(final List<CloudletExecutionInfo> list) {
+        return list.stream().map(CloudletExecutionInfo::getCloudletId).collect(toList());
+    }
+}
@@ -7,6 +7,10 @@ import org.cloudbus.cloudsim.cloudlets.CloudletExecutionInfo;
 import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
 import org.cloudbus.cloudsim.cloudlets.CloudletSimpleTest;
 import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.resources.Bandwidth;
+import org.cloudbus.cloudsim.resources.Processor;
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.resources.Storage;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModel;
 import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelDynamic;
 import org.cloudbus.cloudsim.vms.VmSimple;
@@ -225,6 +229,29 @@ public class CloudletSchedulerTimeSharedTest {
         assertEquals(expected, instance.getRequestedCpuPercentUtilization(0), 0);
     }
 
+    @Test
+    public void testGetCloudletsAbsoluteUtilizationOfCpu() {
+        final long mips = 1000;
+        final CloudletSchedulerTimeShared instance = newSchedulerWithRunningCloudlets(mips, 4, 2, 2);
+
+        final double[] expected = {2000, 2000};
+        assertArrayEquals(expected, instance.getCloudletsAbsoluteUtilization(Processor.class, 0, null), 0);
+    }
+
+    @Test
+    public void testGetCloudletsAbsoluteUtilizationReusesGivenArray() {
+        final CloudletSchedulerTimeShared instance = newSchedulerWithSingleCoreRunningCloudlets(1000, 2, 2);
+
+        final double[] utilizations = new double[3];
+        assertSame(utilizations, instance.getCloudletsAbsoluteUtilization(Bandwidth.class, 0, utilizations));
+        assertNotSame(utilizations, instance.getCloudletsAbsoluteUtilization(Ram.class, 0, new double[1]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetCloudletsAbsoluteUtilizationOfInvalidResource() {
+        instance.getCloudletsAbsoluteUtilization(Storage.class, 0, null);
+    }
+
     @Test
     public void testGetTotalUtilizationOfCpu_LessCloudletsThanPesHalfUsage() {
         final long mips = 1000;
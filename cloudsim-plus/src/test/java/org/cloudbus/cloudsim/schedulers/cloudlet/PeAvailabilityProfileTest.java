@@ -0,0 +1,66 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PeAvailabilityProfileTest {
+    private static final long CAPACITY = 4;
+    private static final double DELTA = 0.001;
+
+    private PeAvailabilityProfile instance;
+
+    @Before
+    public void setUp() {
+        instance = new PeAvailabilityProfile();
+    }
+
+    @Test
+    public void testAllocateAndRelease() {
+        instance.allocate(0, 10, 2);
+        instance.allocate(5, 15, 1);
+        assertEquals(2, instance.getUsedPes(0));
+        assertEquals(3, instance.getUsedPes(5));
+        assertEquals(1, instance.getUsedPes(10));
+        assertEquals(0, instance.getUsedPes(15));
+
+        instance.release(5, 15, 1);
+        instance.release(0, 10, 2);
+        assertEquals(0, instance.getUsedPes(5));
+        assertEquals(1, instance.size());
+    }
+
+    @Test
+    public void testFits() {
+        instance.allocate(10, 20, 3);
+        assertTrue(instance.fits(0, 10, 4, CAPACITY));
+        assertFalse(instance.fits(0, 11, 2, CAPACITY));
+        assertTrue(instance.fits(5, 25, 1, CAPACITY));
+        assertFalse(instance.fits(0, 1, 5, CAPACITY));
+    }
+
+    @Test
+    public void testFindEarliestStart() {
+        instance.allocate(0, 10, 2);
+        instance.allocate(10, 20, 3);
+        assertEquals(0, instance.findEarliestStart(0, 5, 2, CAPACITY), DELTA);
+        assertEquals(20, instance.findEarliestStart(0, 15, 2, CAPACITY), DELTA);
+        assertEquals(20, instance.findEarliestStart(0, 1, 4, CAPACITY), DELTA);
+        assertEquals(0, instance.findEarliestStart(0, 100, 1, CAPACITY), DELTA);
+        assertEquals(Double.POSITIVE_INFINITY, instance.findEarliestStart(0, 1, 5, CAPACITY), DELTA);
+    }
+
+    @Test
+    public void testRemoveStepsBefore() {
+        instance.allocate(0, 10, 2);
+        instance.allocate(10, 20, 3);
+        instance.removeStepsBefore(15);
+        assertEquals(3, instance.getUsedPes(15));
+        assertEquals(0, instance.getUsedPes(20));
+        assertEquals(2, instance.size());
+    }
+}
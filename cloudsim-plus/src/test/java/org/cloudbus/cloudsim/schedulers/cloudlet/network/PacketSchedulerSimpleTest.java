@@ -0,0 +1,252 @@
+package org.cloudbus.cloudsim.schedulers.cloudlet.network;
+
+import org.cloudbus.cloudsim.allocationpolicies.VmAllocationPolicySimple;
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletExecutionTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletReceiveTask;
+import org.cloudbus.cloudsim.cloudlets.network.CloudletSendTask;
+import org.cloudbus.cloudsim.cloudlets.network.NetworkCloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.datacenters.Datacenter;
+import org.cloudbus.cloudsim.datacenters.DatacenterCharacteristicsSimple;
+import org.cloudbus.cloudsim.datacenters.network.NetworkDatacenter;
+import org.cloudbus.cloudsim.hosts.Host;
+import org.cloudbus.cloudsim.hosts.network.NetworkHost;
+import org.cloudbus.cloudsim.network.VmPacket;
+import org.cloudbus.cloudsim.network.switches.EdgeSwitch;
+import org.cloudbus.cloudsim.provisioners.PeProvisionerSimple;
+import org.cloudbus.cloudsim.provisioners.ResourceProvisionerSimple;
+import org.cloudbus.cloudsim.resources.Pe;
+import org.cloudbus.cloudsim.resources.PeSimple;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerSpaceShared;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.network.NetworkVm;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PacketSchedulerSimpleTest {
+    private static final long MIPS = 1000;
+    private static final long TASK_LENGTH = 4000;
+    private static final int PACKETS = 10;
+
+    /**
+     * Checks if the stages of a NetworkCloudlet which waits for packets
+     * advance as soon as the packets arrive, instead of waiting for
+     * the next Datacenter's scheduling interval.
+     */
+    @Test
+    public void testFinishTimeIndependentOfSchedulingInterval() {
+        final double finishTimeShortInterval = runSimulationAndGetReceiverFinishTime(1);
+        final double finishTimeLongInterval = runSimulationAndGetReceiverFinishTime(50);
+        assertTrue(finishTimeShortInterval > 2 * TASK_LENGTH / MIPS);
+        assertEquals(finishTimeShortInterval, finishTimeLongInterval, 0.01);
+    }
+
+    /**
+     * Checks if a packet is delivered to the receiver Cloudlet as soon as it arrives,
+     * instead of being held until all the packets the Cloudlet expects have arrived.
+     */
+    @Test
+    public void testPacketsDeliveredAsTheyArrive() {
+        final CloudSim simulation = new CloudSim();
+        createDatacenter(simulation);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<NetworkVm> vms = Arrays.asList(createVm(0), createVm(1));
+        broker.submitVmList(vms);
+
+        final NetworkCloudlet sender = createCloudlet(0, vms.get(0));
+        final NetworkCloudlet receiver = createCloudlet(1, vms.get(1));
+
+        final CloudletSendTask firstSendTask = new CloudletSendTask(0);
+        sender.addTask(firstSendTask);
+        firstSendTask.addPacket(receiver, 1000);
+        sender.addTask(new CloudletExecutionTask(1, TASK_LENGTH));
+        final CloudletSendTask secondSendTask = new CloudletSendTask(2);
+        sender.addTask(secondSendTask);
+        secondSendTask.addPacket(receiver, 1000);
+
+        final CloudletReceiveTask receiveTask = new CloudletReceiveTask(0, vms.get(0));
+        receiveTask.setNumberOfExpectedPacketsToReceive(2);
+        receiver.addTask(receiveTask);
+
+        broker.submitCloudletList(Arrays.asList(sender, receiver));
+        simulation.start();
+
+        final List<VmPacket> pkts = receiveTask.getPacketsReceived();
+        assertEquals(2, pkts.size());
+        assertTrue(pkts.get(0).getReceiveTime() < pkts.get(1).getSendTime());
+        assertTrue(pkts.get(1).getReceiveTime() >= pkts.get(1).getSendTime());
+    }
+
+    /**
+     * Checks if a Cloudlet blocked waiting for packets has no packets processing
+     * at every update of its VM, but just when the expected packets arrive.
+     */
+    @Test
+    public void testCloudletWaitingForPacketsIsNotProcessedAtEveryUpdate() {
+        final CloudSim simulation = new CloudSim();
+        createDatacenter(simulation).setSchedulingInterval(1);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<NetworkVm> vms = Arrays.asList(createVm(0), createVm(1));
+        final int[] blockedProcessings = {0};
+        vms.get(1).getCloudletScheduler().setPacketScheduler(new PacketSchedulerSimple() {
+            @Override
+            public void processCloudletPackets(final Cloudlet cloudlet, final double currentTime) {
+                if(isWaitingForPackets(cloudlet)) {
+                    blockedProcessings[0]++;
+                }
+
+                super.processCloudletPackets(cloudlet, currentTime);
+            }
+        });
+        broker.submitVmList(vms);
+
+        final NetworkCloudlet sender = createCloudlet(0, vms.get(0));
+        final NetworkCloudlet receiver = createCloudlet(1, vms.get(1));
+        sender.addTask(new CloudletExecutionTask(0, TASK_LENGTH));
+        final CloudletSendTask sendTask = new CloudletSendTask(1);
+        sender.addTask(sendTask);
+        sendTask.addPacket(receiver, 1000);
+
+        final CloudletReceiveTask receiveTask = new CloudletReceiveTask(0, vms.get(0));
+        receiveTask.setNumberOfExpectedPacketsToReceive(1);
+        receiver.addTask(receiveTask);
+        receiver.addTask(new CloudletExecutionTask(1, TASK_LENGTH));
+
+        broker.submitCloudletList(Arrays.asList(sender, receiver));
+        simulation.start();
+
+        assertTrue(receiver.isFinished());
+        assertEquals(1, receiveTask.getPacketsReceived().size());
+        assertEquals(0, blockedProcessings[0]);
+    }
+
+    @Test
+    public void testReceiveTaskGetsJustPacketsFromExpectedVm() {
+        final NetworkVm expectedSourceVm = createVm(0);
+        final NetworkVm otherSourceVm = createVm(1);
+        final NetworkVm receiverVm = createVm(2);
+        final PacketSchedulerSimple scheduler = new PacketSchedulerSimple();
+        scheduler.setVm(receiverVm);
+
+        final NetworkCloudlet receiver = createCloudlet(0, receiverVm);
+        final CloudletReceiveTask receiveTask = new CloudletReceiveTask(0, expectedSourceVm);
+        receiveTask.setNumberOfExpectedPacketsToReceive(2);
+        receiver.addTask(receiveTask);
+        scheduler.processCloudletPackets(receiver, 0);
+
+        final VmPacket otherPkt = createPacket(otherSourceVm, receiverVm, receiver);
+        final VmPacket firstPkt = createPacket(expectedSourceVm, receiverVm, receiver);
+        scheduler.addPacketToListOfPacketsSentFromVm(otherPkt);
+        scheduler.addPacketToListOfPacketsSentFromVm(firstPkt);
+        scheduler.processCloudletPackets(receiver, 0);
+        assertEquals(Collections.singletonList(firstPkt), receiveTask.getPacketsReceived());
+        assertFalse(receiveTask.isFinished());
+
+        final VmPacket secondPkt = createPacket(expectedSourceVm, receiverVm, receiver);
+        scheduler.addPacketToListOfPacketsSentFromVm(secondPkt);
+        scheduler.processCloudletPackets(receiver, 0);
+        assertEquals(Arrays.asList(firstPkt, secondPkt), receiveTask.getPacketsReceived());
+        assertTrue(receiveTask.isFinished());
+    }
+
+    @Test
+    public void testPacketsOfFinishedCloudletAreDiscarded() {
+        final NetworkVm sourceVm = createVm(0);
+        final NetworkVm receiverVm = createVm(1);
+        final PacketSchedulerSimple scheduler = new PacketSchedulerSimple();
+        scheduler.setVm(receiverVm);
+
+        final NetworkCloudlet receiver = createCloudlet(0, receiverVm);
+        scheduler.addPacketToListOfPacketsSentFromVm(createPacket(sourceVm, receiverVm, receiver));
+        assertEquals(1, scheduler.getNumberOfReceiverCloudlets());
+
+        receiver.assignToDatacenter(Datacenter.NULL);
+        receiver.setFinishedLengthSoFar(receiver.getLength());
+        scheduler.processCloudletPackets(receiver, 0);
+        assertEquals(0, scheduler.getNumberOfReceiverCloudlets());
+    }
+
+    private VmPacket createPacket(final NetworkVm sourceVm, final NetworkVm destinationVm, final NetworkCloudlet receiver) {
+        return new VmPacket(sourceVm, destinationVm, 1000, Cloudlet.NULL, receiver);
+    }
+
+    private double runSimulationAndGetReceiverFinishTime(final double schedulingInterval) {
+        final CloudSim simulation = new CloudSim();
+        final NetworkDatacenter dc = createDatacenter(simulation);
+        dc.setSchedulingInterval(schedulingInterval);
+        final DatacenterBroker broker = new DatacenterBrokerSimple(simulation);
+
+        final List<NetworkVm> vms = Arrays.asList(createVm(0), createVm(1));
+        broker.submitVmList(vms);
+
+        final NetworkCloudlet sender = createCloudlet(0, vms.get(0));
+        final NetworkCloudlet receiver = createCloudlet(1, vms.get(1));
+
+        sender.addTask(new CloudletExecutionTask(0, TASK_LENGTH));
+        final CloudletSendTask sendTask = new CloudletSendTask(1);
+        sender.addTask(sendTask);
+        for (int i = 0; i < PACKETS; i++) {
+            sendTask.addPacket(receiver, 1000);
+        }
+
+        final CloudletReceiveTask receiveTask = new CloudletReceiveTask(0, vms.get(0));
+        receiveTask.setNumberOfExpectedPacketsToReceive(PACKETS);
+        receiver.addTask(receiveTask);
+        receiver.addTask(new CloudletExecutionTask(1, TASK_LENGTH));
+
+        broker.submitCloudletList(Arrays.asList(sender, receiver));
+        simulation.start();
+
+        return receiver.getFinishTime();
+    }
+
+    private NetworkDatacenter createDatacenter(final CloudSim simulation) {
+        final List<Host> hosts = new ArrayList<>(2);
+        for (int i = 0; i < 2; i++) {
+            final List<Pe> peList = Collections.singletonList(new PeSimple(MIPS, new PeProvisionerSimple()));
+            hosts.add(new NetworkHost(2048, 10000, 100000, peList)
+                .setRamProvisioner(new ResourceProvisionerSimple())
+                .setBwProvisioner(new ResourceProvisionerSimple())
+                .setVmScheduler(new VmSchedulerSpaceShared()));
+        }
+
+        final NetworkDatacenter dc =
+            new NetworkDatacenter(simulation, new DatacenterCharacteristicsSimple(hosts), new VmAllocationPolicySimple());
+        final EdgeSwitch edgeSwitch = new EdgeSwitch(simulation, dc);
+        dc.addSwitch(edgeSwitch);
+        for (final NetworkHost host : dc.<NetworkHost>getHostList()) {
+            edgeSwitch.connectHost(host);
+            host.setEdgeSwitch(edgeSwitch);
+        }
+
+        return dc;
+    }
+
+    private NetworkVm createVm(final int id) {
+        final NetworkVm vm = new NetworkVm(id, MIPS, 1);
+        vm.setRam(512).setBw(1000).setSize(1000).setCloudletScheduler(new CloudletSchedulerTimeShared());
+        return vm;
+    }
+
+    private NetworkCloudlet createCloudlet(final int id, final NetworkVm vm) {
+        final NetworkCloudlet cloudlet = new NetworkCloudlet(id, TASK_LENGTH, 1);
+        cloudlet.setUtilizationModel(new UtilizationModelFull());
+        cloudlet.setVm(vm);
+        return cloudlet;
+    }
+}
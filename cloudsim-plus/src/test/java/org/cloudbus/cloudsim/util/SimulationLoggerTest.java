@@ -0,0 +1,174 @@
+package org.cloudbus.cloudsim.util;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.Simulation;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.IllegalFormatException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class SimulationLoggerTest {
+    @Test
+    public void testMessageNotFormattedWhenLevelIsDisabled() {
+        final List<String> messages = new ArrayList<>();
+        final SimulationLogger logger = new SimulationLogger(new CloudSim(), createListSink(messages)).setDebug(false);
+        final Object arg = new Object() {
+            @Override
+            public String toString() {
+                fail("The message argument must not be formatted when the level is disabled");
+                return "";
+            }
+        };
+
+        logger.debug(getClass(), "%s", arg);
+        logger.log(Log.Level.DEBUG, getClass(), () -> arg.toString());
+        assertFalse(logger.isEnabled(Log.Level.DEBUG));
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void testDisabledLogger() {
+        final List<String> messages = new ArrayList<>();
+        final SimulationLogger logger = new SimulationLogger(new CloudSim(), createListSink(messages)).setEnabled(false);
+        logger.info(getClass(), "message");
+        logger.error(getClass(), "message");
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void testEachSimulationHasItsOwnLogger() {
+        final List<String> messages1 = new ArrayList<>();
+        final List<String> messages2 = new ArrayList<>();
+        final CloudSim simulation1 = new CloudSim();
+        final CloudSim simulation2 = new CloudSim();
+        simulation1.getLogger().setSink(createListSink(messages1));
+        simulation2.getLogger().setSink(createListSink(messages2));
+
+        simulation1.getLogger().info(getClass(), "%s %d", "msg", 1);
+        simulation2.getLogger().info(getClass(), "msg 2");
+
+        assertNotSame(simulation1.getLogger(), simulation2.getLogger());
+        assertEquals(1, messages1.size());
+        assertEquals("msg 1", messages1.get(0));
+        assertEquals(1, messages2.size());
+        assertEquals("msg 2", messages2.get(0));
+    }
+
+    @Test
+    public void testNullSimulationLoggerAfterSerialization() throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(Simulation.NULL);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Simulation copy = (Simulation) in.readObject();
+            assertSame(Simulation.NULL, copy);
+            assertSame(Simulation.NULL.getLogger(), copy.getLogger());
+        }
+    }
+
+    @Test
+    public void testSetNullSink() {
+        final SimulationLogger logger = new SimulationLogger(new CloudSim()).setSink(null);
+        assertSame(LogSink.NULL, logger.getSink());
+        assertFalse(logger.isEnabled(Log.Level.ERROR));
+    }
+
+    @Test
+    public void testFormatWithoutArgs() {
+        assertEquals("100%", SimulationLogger.format("100%"));
+        assertEquals("100%", SimulationLogger.format("%d%%", 100));
+    }
+
+    @Test
+    public void testAsyncLogSink() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogSink sink = new AsyncLogSink(output, 2);
+        final SimulationLogger logger = new SimulationLogger(new CloudSim(), sink);
+        for (int i = 0; i < 10; i++) {
+            logger.error(getClass(), "message %d", i);
+        }
+
+        sink.flush();
+        final String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(10, lines.length);
+        assertEquals(String.format("%.4f\tERROR\t%s\tmessage 9", 0.0, getClass().getSimpleName()), lines[9]);
+
+        sink.close();
+        assertFalse(sink.isEnabled());
+        assertFalse(logger.isEnabled(Log.Level.ERROR));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAsyncLogSinkWriteAfterClose() {
+        final AsyncLogSink sink = new AsyncLogSink(new ByteArrayOutputStream());
+        sink.close();
+        sink.write(Log.Level.INFO, 0, getClass(), "message");
+    }
+
+    @Test
+    public void testAsyncLogSinkReportsWriteFailure() {
+        final OutputStream output = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+
+        final AsyncLogSink sink = new AsyncLogSink(output);
+        sink.write(Log.Level.INFO, 0, getClass(), "message");
+        try {
+            sink.flush();
+            fail("The write failure must be thrown by flush()");
+        } catch (UncheckedIOException e) {
+            assertEquals("disk full", e.getCause().getMessage());
+        }
+
+        try {
+            sink.close();
+            fail("The write failure must be thrown by close()");
+        } catch (UncheckedIOException e) {
+            assertEquals("disk full", e.getCause().getMessage());
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testAsyncLogSinkReportsFormatFailure() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AsyncLogSink sink = new AsyncLogSink(output);
+        sink.write(Log.Level.INFO, 0, getClass(), "invalid %d", "argument");
+        sink.write(Log.Level.INFO, 0, getClass(), "valid %d", 1);
+        try {
+            sink.flush();
+            fail("The format failure must be thrown by flush()");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof IllegalFormatException);
+        }
+
+        assertTrue("Records after the invalid one must still be written", output.toString().contains("valid 1"));
+        try {
+            sink.close();
+            fail("The format failure must be thrown by close()");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() instanceof IllegalFormatException);
+        }
+    }
+
+    private static LogSink createListSink(final List<String> messages) {
+        return (level, time, source, format, args) -> messages.add(SimulationLogger.format(format, args));
+    }
+}
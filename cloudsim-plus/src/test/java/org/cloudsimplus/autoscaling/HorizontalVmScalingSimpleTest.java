@@ -0,0 +1,70 @@
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class HorizontalVmScalingSimpleTest {
+    private static final int CLOUDLETS = 4;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private Vm vm;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        SimulationScenarioTestUtil.createDatacenter(scenario, 2);
+        broker = SimulationScenarioTestUtil.createBroker(scenario, 1, CLOUDLETS).getBroker();
+        vm = broker.getVmWaitingList().get(0);
+    }
+
+    @Test
+    public void testOverloadedVmIsScaledOnceForTheSameCloudlets() {
+        vm.setHorizontalScaling(createScaling());
+        simulation.start();
+
+        assertEquals(CLOUDLETS, broker.getCloudletCreationRequests());
+        assertEquals(2, broker.getVmCreatedList().size());
+    }
+
+    @Test
+    public void testScalingSetAfterVmCreationIsEvaluated() {
+        broker.addOnVmsCreatedListener(evt -> {
+            if(vm.getHorizontalScaling() == HorizontalVmScaling.NULL) {
+                vm.setHorizontalScaling(createScaling());
+            }
+        });
+        simulation.start();
+
+        assertEquals(2, broker.getVmCreatedList().size());
+    }
+
+    @Test
+    public void testVmWithoutScalingIsNotScaled() {
+        simulation.start();
+        assertEquals(1, broker.getVmCreatedList().size());
+    }
+
+    private HorizontalVmScaling createScaling() {
+        final HorizontalVmScaling scaling = new HorizontalVmScalingSimple();
+        scaling.setVmSupplier(SimulationScenarioTestUtil::createVm)
+               .setOverloadPredicate(vm -> vm.getCpuPercentUsage() > 0.7);
+        return scaling;
+    }
+}
@@ -0,0 +1,111 @@
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.autoscaling.forecasting.Forecaster;
+import org.cloudsimplus.autoscaling.forecasting.HoltWintersForecaster;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PredictiveHorizontalVmScalingTest {
+    private static final int CLOUDLETS = 4;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private Forecaster forecaster;
+    private PredictiveHorizontalVmScaling instance;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        SimulationScenarioTestUtil.createDatacenter(scenario, 2);
+        broker = SimulationScenarioTestUtil.createBroker(scenario, 1, CLOUDLETS).getBroker();
+
+        forecaster = new HoltWintersForecaster(0.5, 0.5);
+        instance = new PredictiveHorizontalVmScaling(forecaster);
+        instance.setVmSupplier((Supplier<Vm> & Serializable) SimulationScenarioTestUtil::createVm);
+        final Vm vm = broker.getVmWaitingList().get(0);
+        vm.setHorizontalScaling(instance);
+    }
+
+    @Test
+    public void testSampleIsAddedOncePerEvaluationTime() {
+        instance.requestScalingIfPredicateMatch(1);
+        instance.requestScalingIfPredicateMatch(1);
+        assertEquals(1, forecaster.getSamples());
+
+        instance.requestScalingIfPredicateMatch(2);
+        assertEquals(2, forecaster.getSamples());
+
+        //A past time must not be evaluated
+        instance.requestScalingIfPredicateMatch(1.5);
+        assertEquals(2, forecaster.getSamples());
+
+        //The VM isn't running any Cloudlet yet
+        assertEquals(0, instance.getForecast(), 0);
+    }
+
+    @Test
+    public void testPredictedOverloadRequestsNewVm() {
+        instance.setOverloadThreshold(0.7);
+        simulation.start();
+
+        assertTrue(forecaster.getSamples() > 1);
+        assertEquals(2, broker.getVmCreatedList().size());
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+    }
+
+    @Test
+    public void testNoVmIsRequestedBelowPredictedThreshold() {
+        instance.setOverloadThreshold(1);
+        simulation.start();
+
+        assertTrue(forecaster.getSamples() > 1);
+        assertEquals(1, broker.getVmCreatedList().size());
+    }
+
+    @Test
+    public void testRestoredSnapshotKeepsPredictiveScaling() {
+        instance.setOverloadThreshold(0.7);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        simulation.snapshot(out);
+
+        final CloudSim restored = CloudSim.restore(new ByteArrayInputStream(out.toByteArray()));
+        final DatacenterBroker restoredBroker = restored.getEntityList().stream()
+            .filter(e -> e instanceof DatacenterBroker)
+            .map(e -> (DatacenterBroker) e)
+            .findFirst()
+            .orElse(DatacenterBroker.NULL);
+        final HorizontalVmScaling restoredScaling = restoredBroker.getVmWaitingList().get(0).getHorizontalScaling();
+        assertTrue(restoredScaling instanceof PredictiveHorizontalVmScaling);
+
+        restored.start();
+        assertTrue(((PredictiveHorizontalVmScaling) restoredScaling).getForecaster().getSamples() > 1);
+        assertEquals(2, restoredBroker.getVmCreatedList().size());
+        assertEquals(0, forecaster.getSamples());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOverloadThresholdGreaterThanOne() {
+        instance.setOverloadThreshold(1.1);
+    }
+}
@@ -0,0 +1,108 @@
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.resources.Ram;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudsimplus.autoscaling.forecasting.Forecaster;
+import org.cloudsimplus.autoscaling.forecasting.HoltWintersForecaster;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class PredictiveVerticalVmScalingTest {
+    private Forecaster forecaster;
+    private PredictiveVerticalVmScaling instance;
+
+    @Before
+    public void setUp() {
+        forecaster = new HoltWintersForecaster(0.5, 0.5);
+        instance = new PredictiveVerticalVmScaling(Ram.class, 0.1, forecaster);
+        instance.setLowerThresholdFunction((Function<Vm, Double> & Serializable) vm -> 0.2)
+                .setUpperThresholdFunction((Function<Vm, Double> & Serializable) vm -> 0.9);
+        final Vm vm = new VmSimple(1000, 2).setRam(1000);
+        vm.setRamVerticalScaling(instance);
+    }
+
+    @Test
+    public void testOverloadIsPredictedFromIncreasingUtilization() {
+        addSamples(0.3, 0.5, 0.7, 0.8);
+        instance.setLookahead(2);
+
+        assertEquals(0, instance.getResource().getPercentUtilization(), 0);
+        assertTrue(instance.getForecast() > 0.9);
+        assertTrue(instance.isVmOverloaded());
+        assertFalse(instance.isVmUnderloaded());
+    }
+
+    @Test
+    public void testStableUtilizationIsNeitherOverNorUnderloaded() {
+        addSamples(0.5, 0.5, 0.5, 0.5);
+        assertFalse(instance.isVmOverloaded());
+        assertFalse(instance.isVmUnderloaded());
+    }
+
+    @Test
+    public void testUnderloadIsPredictedFromDecreasingUtilization() {
+        addSamples(0.8, 0.6, 0.4, 0.3);
+        instance.setLookahead(2);
+        assertTrue(instance.isVmUnderloaded());
+    }
+
+    @Test
+    public void testSampleIsAddedOncePerEvaluationTime() {
+        //The RAM of a VM outside a running simulation isn't used, so the forecast is underload
+        assertTrue(instance.requestScalingIfPredicateMatch(1));
+        assertFalse(instance.requestScalingIfPredicateMatch(1));
+        assertEquals(1, forecaster.getSamples());
+        assertEquals(0, instance.getForecast(), 0);
+
+        assertTrue(instance.requestScalingIfPredicateMatch(2));
+        assertEquals(2, forecaster.getSamples());
+
+        //A past time must not be evaluated
+        assertFalse(instance.requestScalingIfPredicateMatch(1.5));
+        assertEquals(2, forecaster.getSamples());
+    }
+
+    @Test
+    public void testSerializedCopyKeepsForecasterState() throws IOException, ClassNotFoundException {
+        addSamples(0.3, 0.5, 0.7, 0.8);
+        instance.setLookahead(2);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(instance);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final PredictiveVerticalVmScaling copy = (PredictiveVerticalVmScaling) in.readObject();
+            assertNotSame(forecaster, copy.getForecaster());
+            assertEquals(forecaster.getSamples(), copy.getForecaster().getSamples());
+            assertEquals(instance.getForecast(), copy.getForecast(), 0);
+            assertTrue(copy.isVmOverloaded());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLookahead() {
+        instance.setLookahead(-1);
+    }
+
+    private void addSamples(final double... samples) {
+        for (final double sample : samples) {
+            forecaster.addSample(sample);
+        }
+    }
+}
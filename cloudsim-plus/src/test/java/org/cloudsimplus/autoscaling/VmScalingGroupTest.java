@@ -0,0 +1,161 @@
+package org.cloudsimplus.autoscaling;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.brokers.DatacenterBrokerSimple;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class VmScalingGroupTest {
+    private static final int CLOUDLETS = 8;
+    private static final long CLOUDLET_LENGTH = SimulationScenarioTestUtil.CLOUDLET_LENGTH;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private VmScalingGroup instance;
+    private int maxGroupSize;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        SimulationScenarioTestUtil.createDatacenter(new SimulationScenarioBuilder(simulation), 10);
+        broker = new DatacenterBrokerSimple(simulation);
+        instance = new VmScalingGroup(broker, SimulationScenarioTestUtil::createVm);
+        simulation.addOnClockTickListener(evt -> maxGroupSize = Math.max(maxGroupSize, instance.getVmList().size()));
+    }
+
+    @Test
+    public void testBurstIsHandledInSingleScaleOutAndScaledIn() {
+        final Vm firstVm = instance.createAndSubmitVms(1).get(0);
+        final List<Cloudlet> cloudlets = createCloudlets();
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        //8 PEs required by Cloudlets / 2 VM PEs / 0.7 target utilization
+        assertEquals(6, maxGroupSize);
+        assertEquals(6, broker.getVmCreatedList().size());
+        assertEquals(instance.getMinSize(), instance.getVmList().size());
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+
+        //Cloudlets already bound to a VM aren't moved to the new VMs
+        for (final Cloudlet cloudlet : cloudlets) {
+            assertSame(firstVm, cloudlet.getVm());
+        }
+    }
+
+    @Test
+    public void testCloudletsSubmittedAfterScaleOutRunOnNewVms() {
+        final double secondBurstTime = 5;
+        final Vm firstVm = instance.createAndSubmitVms(1).get(0);
+        final List<Cloudlet> firstBurst = createCloudlets();
+        final List<Cloudlet> secondBurst = createCloudlets();
+        broker.submitCloudletList(firstBurst);
+        simulation.addOnClockTickListener(evt -> {
+            if(evt.getTime() >= secondBurstTime && secondBurst.get(0).getVm() == Vm.NULL) {
+                broker.submitCloudletList(secondBurst);
+            }
+        });
+        simulation.start();
+
+        assertEquals(2*CLOUDLETS, broker.getCloudletFinishedList().size());
+        final Set<Vm> secondBurstVms = new HashSet<>();
+        for (final Cloudlet cloudlet : secondBurst) {
+            assertTrue(cloudlet.getExecStartTime() >= secondBurstTime);
+            secondBurstVms.add(cloudlet.getVm());
+        }
+
+        //The second burst is spread across the VMs created by the scale out
+        assertTrue(secondBurstVms.size() > 1);
+        assertTrue(getMaxExecutionTime(secondBurst) < getMaxExecutionTime(firstBurst));
+        for (final Cloudlet cloudlet : firstBurst) {
+            assertSame(firstVm, cloudlet.getVm());
+        }
+    }
+
+    @Test
+    public void testScaleOutIsLimitedToMaxSize() {
+        instance.setMaxSize(3).createAndSubmitVms(1);
+        broker.submitCloudletList(createCloudlets());
+        simulation.start();
+
+        assertEquals(3, maxGroupSize);
+        assertEquals(3, broker.getVmCreatedList().size());
+    }
+
+    @Test
+    public void testClosedGroupIsNotEvaluated() {
+        instance.createAndSubmitVms(1);
+        broker.submitCloudletList(createCloudlets());
+        instance.close();
+        simulation.start();
+
+        assertEquals(1, maxGroupSize);
+        assertEquals(1, broker.getVmCreatedList().size());
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+    }
+
+    @Test
+    public void testVmsNotDestroyedByBrokerAreKeptInGroup() {
+        instance.close();
+        final DatacenterBroker refusingBroker = new DatacenterBrokerSimple(simulation) {
+            @Override
+            public <T extends Vm> List<T> destroyIdleVms(final List<T> list) {
+                return Collections.emptyList();
+            }
+        };
+        final VmScalingGroup group = new VmScalingGroup(refusingBroker, SimulationScenarioTestUtil::createVm);
+        group.createAndSubmitVms(1);
+        refusingBroker.submitCloudletList(createCloudlets());
+        simulation.start();
+
+        assertEquals(6, refusingBroker.getVmCreatedList().size());
+        assertEquals(6, group.getVmList().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMinSizeGreaterThanMaxSize() {
+        instance.setMaxSize(2).setMinSize(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroTargetUtilization() {
+        instance.setTargetUtilization(0);
+    }
+
+    private static double getMaxExecutionTime(final List<Cloudlet> cloudlets) {
+        return cloudlets.stream().mapToDouble(c -> c.getFinishTime() - c.getExecStartTime()).max().orElse(0);
+    }
+
+    private List<Cloudlet> createCloudlets() {
+        final List<Cloudlet> list = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            final Cloudlet cloudlet = new CloudletSimple(CLOUDLET_LENGTH, 1);
+            cloudlet.setUtilizationModel(new UtilizationModelFull());
+            list.add(cloudlet);
+        }
+
+        return list;
+    }
+}
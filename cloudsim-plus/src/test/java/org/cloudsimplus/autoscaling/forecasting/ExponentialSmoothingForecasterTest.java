@@ -0,0 +1,41 @@
+package org.cloudsimplus.autoscaling.forecasting;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class ExponentialSmoothingForecasterTest {
+    private static final double DELTA = 0.000001;
+
+    @Test
+    public void testForecastWithoutSamples() {
+        final Forecaster instance = new ExponentialSmoothingForecaster(0.5);
+        assertEquals(0, instance.forecast(1), DELTA);
+        assertEquals(0, instance.getSamples());
+    }
+
+    @Test
+    public void testForecastIsTheSmoothedLevel() {
+        final Forecaster instance = new ExponentialSmoothingForecaster(0.5);
+        instance.addSample(0.2);
+        instance.addSample(0.6);
+        instance.addSample(1.0);
+
+        assertEquals(3, instance.getSamples());
+        assertEquals(0.7, instance.forecast(0), DELTA);
+        assertEquals(0.7, instance.forecast(10), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroAlpha() {
+        new ExponentialSmoothingForecaster(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeStepsAhead() {
+        new ExponentialSmoothingForecaster(0.5).forecast(-1);
+    }
+}
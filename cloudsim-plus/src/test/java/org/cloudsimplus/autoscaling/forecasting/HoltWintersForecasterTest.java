@@ -0,0 +1,54 @@
+package org.cloudsimplus.autoscaling.forecasting;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class HoltWintersForecasterTest {
+    private static final double DELTA = 0.01;
+
+    @Test
+    public void testLinearTrendIsExtrapolated() {
+        final HoltWintersForecaster instance = new HoltWintersForecaster(0.8, 0.8);
+        for (int i = 0; i < 50; i++) {
+            instance.addSample(0.01 * i);
+        }
+
+        assertEquals(0.01, instance.getTrend(), DELTA);
+        assertEquals(0.49, instance.forecast(0), DELTA);
+        assertEquals(0.54, instance.forecast(5), DELTA);
+    }
+
+    @Test
+    public void testSeasonalPatternIsLearned() {
+        final double[] season = {0.2, 0.4, 0.9, 0.5};
+        final HoltWintersForecaster instance = new HoltWintersForecaster(0.3, 0, 0.5, season.length);
+        for (int i = 0; i < 40 * season.length; i++) {
+            instance.addSample(season[i % season.length]);
+        }
+
+        for (int step = 1; step <= season.length; step++) {
+            assertEquals(season[(step - 1) % season.length], instance.forecast(step), DELTA);
+        }
+    }
+
+    @Test
+    public void testSingleSample() {
+        final Forecaster instance = new HoltWintersForecaster(0.5, 0.5, 0.5, 24);
+        instance.addSample(0.3);
+        assertEquals(0.3, instance.forecast(3), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroSeasonLength() {
+        new HoltWintersForecaster(0.5, 0.5, 0.5, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBetaGreaterThanOne() {
+        new HoltWintersForecaster(0.5, 1.1);
+    }
+}
@@ -0,0 +1,158 @@
+package org.cloudsimplus.batch;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerSpaceShared;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudsimplus.builders.BrokerBuilderDecorator;
+import org.cloudsimplus.builders.HostBuilder;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link ClusterBatchScheduler} using 2 VMs with 4 PEs each
+ * and the following Cloudlets, all submitted at the same time:
+ *
+ * <ul>
+ *     <li>0: 4 PEs for 10 seconds, which starts right away into the first VM;</li>
+ *     <li>1: 2 PEs for 10 seconds, which starts right away into the second VM;</li>
+ *     <li>2: 4 PEs for 10 seconds, which has to wait for Cloudlet 0;</li>
+ *     <li>3: 2 PEs for 30 seconds, which can be backfilled into the second VM.</li>
+ * </ul>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public class ClusterBatchSchedulerTest {
+    private static final long MIPS = 1000;
+    private static final int VM_PES = 4;
+
+    /**
+     * Tolerance for the delay between a Cloudlet finishing and the next one starting.
+     */
+    private static final double DELTA = 1;
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+    private ClusterBatchScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        Log.disable();
+        simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        scenario.getDatacenterBuilder().createDatacenter(
+            new HostBuilder().setPes(VM_PES * 2).setMips(MIPS).createHosts(1).getHosts()
+        );
+
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().createBroker();
+        brokerBuilder.getVmBuilder()
+            .setPes(VM_PES).setMips(MIPS)
+            .setCloudletSchedulerSupplier(CloudletSchedulerSpaceShared::new)
+            .createAndSubmitVms(2);
+        broker = brokerBuilder.getBroker();
+        scheduler = new ClusterBatchScheduler(simulation);
+        broker.setBatchScheduler(scheduler);
+    }
+
+    @After
+    public void tearDown() {
+        Log.enable();
+    }
+
+    @Test
+    public void testBackfillingCloudletThatDoesNotDelayTheQueueHead() {
+        final List<Cloudlet> cloudlets = submitCloudlets(4, 2, 4, 2);
+        simulation.start();
+
+        assertStartTimes(cloudlets, 0, 0, 10, 0);
+        assertEquals(cloudlets.get(0).getVm(), cloudlets.get(2).getVm());
+        assertEquals(cloudlets.get(1).getVm(), cloudlets.get(3).getVm());
+        assertEquals(0, scheduler.getWaitingCloudletsNumber());
+        assertEquals(0, scheduler.getRunningCloudletsNumber());
+    }
+
+    @Test
+    public void testCloudletsRunInArrivalOrderWithoutBackfilling() {
+        scheduler.setBackfilling(false);
+        final List<Cloudlet> cloudlets = submitCloudlets(4, 2, 4, 2);
+        simulation.start();
+
+        assertStartTimes(cloudlets, 0, 0, 10, 10);
+    }
+
+    @Test
+    public void testCloudletRequiringMorePesThanAnyVmDoesNotBlockTheQueue() {
+        final List<Cloudlet> cloudlets = submitCloudlets(VM_PES + 1, 2, 2);
+        simulation.start();
+
+        assertFalse(cloudlets.get(0).isFinished());
+        assertEquals(1, scheduler.getWaitingCloudletsNumber());
+        assertTrue(cloudlets.get(1).isFinished());
+        assertTrue(cloudlets.get(2).isFinished());
+    }
+
+    @Test
+    public void testCloudletSubmittedTwiceIsSentToSchedulerOnce() {
+        final List<Cloudlet> cloudlets = submitCloudlets(2, 2);
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        assertEquals(cloudlets.size(), broker.getCloudletCreationRequests());
+        assertEquals(cloudlets.size(), broker.getCloudletFinishedList().size());
+        assertEquals(0, scheduler.getWaitingCloudletsNumber());
+    }
+
+    @Test
+    public void testQueueHeadReservationIsKeptWhileOtherVmFinishesCloudlets() {
+        //The first 2 Cloudlets go to a VM that has Cloudlets finishing while the head waits for the other VM
+        final List<Cloudlet> cloudlets = Arrays.asList(
+            createCloudlet(0, 10, 2), createCloudlet(1, 50, 2),
+            createCloudlet(2, 20, 2), createCloudlet(3, 10, VM_PES),
+            createCloudlet(4, 10, 2), createCloudlet(5, 10, 2));
+        broker.submitCloudletList(cloudlets);
+        simulation.start();
+
+        assertEquals(cloudlets.get(0).getVm(), cloudlets.get(1).getVm());
+        assertEquals(cloudlets.get(2).getVm(), cloudlets.get(3).getVm());
+        assertStartTimes(cloudlets, 0, 0, 0, 20, 0, 10);
+        assertEquals(0, scheduler.getWaitingCloudletsNumber());
+    }
+
+    /**
+     * Checks the start time of each Cloudlet, relative to the start of the second one.
+     * @param cloudlets the finished Cloudlets
+     * @param expected the expected relative start times
+     */
+    private static void assertStartTimes(final List<Cloudlet> cloudlets, final double... expected) {
+        final double firstStart = cloudlets.get(1).getExecStartTime();
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(cloudlets.get(i).isFinished());
+            assertEquals("Cloudlet " + i, expected[i], cloudlets.get(i).getExecStartTime() - firstStart, DELTA);
+        }
+    }
+
+    private List<Cloudlet> submitCloudlets(final int... pes) {
+        final List<Cloudlet> cloudlets = new ArrayList<>(pes.length);
+        for (int i = 0; i < pes.length; i++) {
+            cloudlets.add(createCloudlet(i, i == 3 ? 30 : 10, pes[i]));
+        }
+
+        broker.submitCloudletList(cloudlets);
+        return cloudlets;
+    }
+
+    private static Cloudlet createCloudlet(final int id, final long seconds, final int pes) {
+        return new CloudletSimple(id, seconds * MIPS, pes).setUtilizationModel(new UtilizationModelFull());
+    }
+}
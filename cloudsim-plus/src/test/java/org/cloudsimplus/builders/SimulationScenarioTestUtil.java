@@ -0,0 +1,123 @@
+package org.cloudsimplus.builders;
+
+import org.cloudbus.cloudsim.schedulers.cloudlet.CloudletSchedulerTimeShared;
+import org.cloudbus.cloudsim.schedulers.vm.VmSchedulerTimeShared;
+import org.cloudbus.cloudsim.util.Log;
+import org.cloudbus.cloudsim.utilizationmodels.UtilizationModelFull;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.junit.rules.ExternalResource;
+import org.junit.rules.TestRule;
+
+/**
+ * A class to help setting up the small simulation scenario shared by several tests,
+ * where Hosts have {@link #HOST_PES} PEs, VMs have {@link #VM_PES} PEs and
+ * a {@link CloudletSchedulerTimeShared}, and Cloudlets fully use a single PE.
+ * All PEs have {@link #MIPS} MIPS capacity.
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public final class SimulationScenarioTestUtil {
+    public static final int HOST_PES = 4;
+    public static final int VM_PES = 2;
+    public static final long MIPS = 1000;
+    public static final long CLOUDLET_LENGTH = 10000;
+
+    /**
+     * A private constructor to avoid class instantiation.
+     */
+    private SimulationScenarioTestUtil(){}
+
+    /**
+     * Creates a JUnit rule that disables the log before each test
+     * and enables it again after the test finishes.
+     * @return the created rule
+     */
+    public static TestRule disableLog() {
+        return new ExternalResource() {
+            @Override
+            protected void before() {
+                Log.disable();
+            }
+
+            @Override
+            protected void after() {
+                Log.enable();
+            }
+        };
+    }
+
+    /**
+     * Creates a Datacenter with a scheduling interval of 1 second.
+     *
+     * @param scenario the scenario to create the Datacenter into
+     * @param hosts the number of Hosts to create
+     * @return the builder of the scenario Datacenters
+     */
+    public static DatacenterBuilder createDatacenter(final SimulationScenarioBuilder scenario, final int hosts) {
+        return scenario.getDatacenterBuilder().setSchedulingInterval(1).createDatacenter(
+            new HostBuilder()
+                .setVmSchedulerClass(VmSchedulerTimeShared.class)
+                .setRam(8000).setBw(100000)
+                .setPes(HOST_PES).setMips(MIPS)
+                .createHosts(hosts)
+                .getHosts()
+        );
+    }
+
+    /**
+     * Creates a broker and submits VMs and Cloudlets of {@link #CLOUDLET_LENGTH} MI to it.
+     *
+     * @param scenario the scenario to create the broker into
+     * @param vms the number of VMs to submit
+     * @param cloudlets the number of Cloudlets to submit
+     * @return the builder of the created broker, which keeps the VM and Cloudlet settings
+     *         to create more of them
+     * @see #createBroker(SimulationScenarioBuilder, int, int, long)
+     */
+    public static BrokerBuilderDecorator createBroker(final SimulationScenarioBuilder scenario, final int vms, final int cloudlets) {
+        return createBroker(scenario, vms, cloudlets, CLOUDLET_LENGTH);
+    }
+
+    /**
+     * Creates a broker and submits VMs and Cloudlets to it.
+     *
+     * @param scenario the scenario to create the broker into
+     * @param vms the number of VMs to submit
+     * @param cloudlets the number of Cloudlets to submit
+     * @param cloudletLength the length of each Cloudlet (in MI)
+     * @return the builder of the created broker, which keeps the VM and Cloudlet settings
+     *         to create more of them
+     */
+    public static BrokerBuilderDecorator createBroker(
+        final SimulationScenarioBuilder scenario, final int vms,
+        final int cloudlets, final long cloudletLength)
+    {
+        final BrokerBuilderDecorator brokerBuilder = scenario.getBrokerBuilder().createBroker();
+        brokerBuilder.getVmBuilder()
+            .setRam(1000).setBw(10000)
+            .setPes(VM_PES).setMips(MIPS).setSize(1000)
+            .setCloudletSchedulerSupplier(CloudletSchedulerTimeShared::new)
+            .createAndSubmitVms(vms);
+
+        brokerBuilder.getCloudletBuilder()
+            .setLength(cloudletLength)
+            .setUtilizationModelCpu(new UtilizationModelFull())
+            .setPEs(1)
+            .createAndSubmitCloudlets(cloudlets);
+
+        return brokerBuilder;
+    }
+
+    /**
+     * Creates a VM with the same configuration of the ones submitted by
+     * {@link #createBroker(SimulationScenarioBuilder, int, int)},
+     * to be used as a VM supplier.
+     * @return the created VM
+     */
+    public static Vm createVm() {
+        return new VmSimple(MIPS, VM_PES)
+            .setRam(1000).setBw(10000).setSize(1000)
+            .setCloudletScheduler(new CloudletSchedulerTimeShared());
+    }
+}
@@ -0,0 +1,147 @@
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimple;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimpleTest;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimple;
+import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletToVmMappingGeneticAlgorithmTest {
+    private static final int CLOUDLETS = 60;
+    private static final int VMS = 50;
+
+    @Test
+    public void testSolve_CostIsTheSameOfTheSolution() {
+        final CloudletToVmMappingGeneticAlgorithm heuristic = createHeuristic();
+        final CloudletToVmMappingSolution solution = heuristic.solve();
+
+        assertEquals(CLOUDLETS, solution.getResult().size());
+        assertEquals(heuristic.getMaxGenerations(), heuristic.getGeneration());
+        assertEquals(heuristic.getBestCost(), solution.getCost(true), CloudletToVmMappingSolution.MIN_DIFF);
+    }
+
+    @Test
+    public void testSolve_ParallelFitnessEvaluationDoesNotChangeResult() {
+        final CloudletToVmMappingGeneticAlgorithm heuristic1 = createHeuristic();
+        final CloudletToVmMappingGeneticAlgorithm heuristic2 = createHeuristic();
+        heuristic2.setParallelFitnessEvaluation(false);
+
+        assertEquals(getIds(heuristic1.solve()), getIds(heuristic2.solve()));
+    }
+
+    @Test
+    public void testSolve_ImprovesAlongGenerations() {
+        final CloudletToVmMappingGeneticAlgorithm heuristic1 = createHeuristic();
+        heuristic1.setMaxGenerations(1);
+        final CloudletToVmMappingGeneticAlgorithm heuristic2 = createHeuristic();
+        heuristic2.setMaxGenerations(100);
+
+        assertTrue(heuristic2.solve().getCost() < heuristic1.solve().getCost());
+    }
+
+    @Test
+    public void testSolveIslandModel_Reproducible() {
+        final CloudletToVmMappingGeneticAlgorithm heuristic1 = createHeuristic();
+        final CloudletToVmMappingGeneticAlgorithm heuristic2 = createHeuristic();
+
+        final CloudletToVmMappingSolution solution1 = heuristic1.solveIslandModel(3);
+        assertEquals(CLOUDLETS, solution1.getResult().size());
+        assertEquals(heuristic1.getMaxGenerations(), heuristic1.getGeneration());
+        assertEquals(getIds(solution1), getIds(heuristic2.solveIslandModel(3)));
+    }
+
+    @Test
+    public void testSerialization_SolvedHeuristicCanBeCopiedAndSolvedAgain() throws IOException, ClassNotFoundException {
+        //Uses VMs and Cloudlets attached to no simulation, since mocked ones aren't serializable
+        final List<Vm> vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(new VmSimple(i, 1000, i % 4 + 1));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(new CloudletSimple(i, 1000, i % 3 + 1));
+        }
+
+        final CloudletToVmMappingGeneticAlgorithm heuristic = createHeuristic();
+        heuristic.setVmList(vms);
+        heuristic.setCloudletList(cloudlets);
+        heuristic.solve();
+
+        final CloudletToVmMappingGeneticAlgorithm copy = serializationCopy(heuristic);
+        assertEquals(getIds(heuristic.solve()), getIds(copy.solve()));
+        assertEquals(heuristic.getBestCost(), copy.getBestCost(), CloudletToVmMappingSolution.MIN_DIFF);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSolveIslandModel_NoIslands() {
+        createHeuristic().solveIslandModel(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetMutationRate_GreaterThanOne() {
+        createHeuristic().setMutationRate(1.1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetPopulationSize_One() {
+        createHeuristic().setPopulationSize(1);
+    }
+
+    private CloudletToVmMappingGeneticAlgorithm createHeuristic() {
+        final List<Vm> vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmSimpleTest.createVm(i, 1000, i % 4 + 1));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(CloudletSimpleTest.createCloudlet(i, 1000, i % 3 + 1));
+        }
+
+        final CloudletToVmMappingGeneticAlgorithm heuristic = new CloudletToVmMappingGeneticAlgorithm(new UniformDistr(11));
+        heuristic.setPopulationSize(30);
+        heuristic.setMaxGenerations(50);
+        heuristic.setMutationRate(0.02);
+        heuristic.setVmList(vms);
+        heuristic.setCloudletList(cloudlets);
+        return heuristic;
+    }
+
+    private static CloudletToVmMappingGeneticAlgorithm serializationCopy(final CloudletToVmMappingGeneticAlgorithm heuristic)
+        throws IOException, ClassNotFoundException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(heuristic);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (CloudletToVmMappingGeneticAlgorithm) in.readObject();
+        }
+    }
+
+    private static Map<Integer, Integer> getIds(final CloudletToVmMappingSolution solution) {
+        final Map<Integer, Integer> ids = new TreeMap<>();
+        solution.getResult().forEach((cloudlet, vm) -> ids.put(cloudlet.getId(), vm.getId()));
+        return ids;
+    }
+}
@@ -0,0 +1,99 @@
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimpleTest;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletToVmMappingSimulatedAnnealingTest {
+    private static final int CLOUDLETS = 60;
+    private static final int VMS = 20;
+    private static final long SEED = 11;
+
+    @Test
+    public void testSolveMultiStart_Reproducible() {
+        final CloudletToVmMappingSimulatedAnnealing heuristic1 = createHeuristic();
+        final CloudletToVmMappingSimulatedAnnealing heuristic2 = createHeuristic();
+
+        final CloudletToVmMappingSolution solution1 = heuristic1.solveMultiStart(4);
+        final CloudletToVmMappingSolution solution2 = heuristic2.solveMultiStart(4);
+        assertEquals(CLOUDLETS, solution1.getResult().size());
+        assertEquals(getIds(solution1), getIds(solution2));
+        assertSame(solution1, heuristic1.getBestSolutionSoFar());
+    }
+
+    @Test
+    public void testSolveMultiStart_OneChainIsTheSameAsSequentialSolve() {
+        final CloudletToVmMappingSolution sequential = createHeuristic().solve();
+        final CloudletToVmMappingSolution multiStart = createHeuristic().solveMultiStart(1);
+        assertEquals(getIds(sequential), getIds(multiStart));
+    }
+
+    @Test
+    public void testSolveParallelTempering_Reproducible() {
+        final CloudletToVmMappingSimulatedAnnealing heuristic1 = createHeuristic();
+        final CloudletToVmMappingSimulatedAnnealing heuristic2 = createHeuristic();
+
+        final CloudletToVmMappingSolution solution1 = heuristic1.solveParallelTempering(4);
+        final CloudletToVmMappingSolution solution2 = heuristic2.solveParallelTempering(4);
+        assertEquals(CLOUDLETS, solution1.getResult().size());
+        assertEquals(getIds(solution1), getIds(solution2));
+        assertEquals(solution1.getCost(), solution1.getCost(true), 0);
+        assertTrue(solution1.getCost() <= heuristic1.getInitialSolution().getCost());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSolveMultiStart_NoChains() {
+        createHeuristic().solveMultiStart(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSolveParallelTempering_ZeroColdTemperature() {
+        final CloudletToVmMappingSimulatedAnnealing heuristic = createHeuristic();
+        heuristic.setColdTemperature(0);
+        heuristic.solveParallelTempering(2);
+    }
+
+    private CloudletToVmMappingSimulatedAnnealing createHeuristic() {
+        final List<Vm> vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmSimpleTest.createVm(i, 1000, i % 4 + 1));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(CloudletSimpleTest.createCloudlet(i, 1000, i % 3 + 1));
+        }
+
+        final CloudletToVmMappingSimulatedAnnealing heuristic =
+            new CloudletToVmMappingSimulatedAnnealing(1, new UniformDistr(SEED));
+        heuristic.setColdTemperature(0.001);
+        heuristic.setCoolingRate(0.01);
+        heuristic.setNumberOfNeighborhoodSearchesByIteration(20);
+        heuristic.setVmList(vms);
+        heuristic.setCloudletList(cloudlets);
+        return heuristic;
+    }
+
+    /**
+     * Gets the mapping of a solution as Cloudlet and VM IDs,
+     * since solutions from distinct heuristics map distinct object instances.
+     */
+    private static Map<Integer, Integer> getIds(final CloudletToVmMappingSolution solution) {
+        final Map<Integer, Integer> ids = new TreeMap<>();
+        solution.getResult().forEach((cloudlet, vm) -> ids.put(cloudlet.getId(), vm.getId()));
+        return ids;
+    }
+}
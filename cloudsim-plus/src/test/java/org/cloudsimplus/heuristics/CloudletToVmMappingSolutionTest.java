@@ -155,39 +155,79 @@ public class CloudletToVmMappingSolutionTest {
         assertNotNull(instance.getResult());
     }
 
+    /**
+     * Creates a solution mapping Cloudlets requiring from 1 to 4 PEs
+     * to VMs with 2 PEs, in a round-robin fashion.
+     */
+    private CloudletToVmMappingSolution createSolution(final int numberOfCloudlets, final int numberOfVms) {
+        final Vm[] vms = new Vm[numberOfVms];
+        IntStream.range(0, numberOfVms).forEach(i -> vms[i] = VmSimpleTest.createVm(i, 1000, 2));
+
+        final CloudletToVmMappingSolution instance = new CloudletToVmMappingSolution(Heuristic.NULL);
+        IntStream.range(0, numberOfCloudlets).forEach(i ->
+            instance.bindCloudletToVm(CloudletSimpleTest.createCloudlet(i, 1000, i % 4 + 1), vms[i % numberOfVms]));
+        return instance;
+    }
+
     @Test
-    public void testSwapVmsOfTwoMapEntries() {
-        final int numberOfEntries = 2;
-        final Map.Entry<Cloudlet, Vm> originalEntries[] = new Map.Entry[numberOfEntries];
-        final Map.Entry<Cloudlet, Vm> swapedVmsEntries[] = new Map.Entry[numberOfEntries];
-        final Cloudlet[] cloudlets = new Cloudlet[numberOfEntries];
-        for(int i = 1; i <= numberOfEntries; i++){
-            cloudlets[i-1] = CloudletSimpleTest.createCloudlet(i, i*1000, i);
+    public void testGetSwapCostDelta() {
+        final CloudletToVmMappingSolution instance = createSolution(20, 3);
+        for (int i = 0; i < instance.getCloudletsNumber(); i++) {
+            for (int j = 0; j < instance.getCloudletsNumber(); j++) {
+                final double previousCost = instance.getCost();
+                final double delta = instance.getSwapCostDelta(i, j);
+                instance.swapVmsOfTwoCloudlets(i, j);
+                assertEquals(previousCost + delta, instance.getCost(), 0);
+                assertEquals(instance.getCost(true), previousCost + delta, 0);
+            }
         }
+    }
 
-        final Vm[] vms = createVms(numberOfEntries);
-
-        IntStream.range(0, numberOfEntries).forEach(i->{
-            originalEntries[i] = new HashMap.SimpleEntry(cloudlets[i], vms[i]);
-            /*After swapping VMs that are hosting given cloudlets,
-            cloudlet 0 that was in VM 0 will be placed into VM 1,
-            and cloudlet 1 that was in VM 1 will be placed into VM 0.
-            The line below makes this change in the index of the VM
-            to swap.*/
-            int swapedVmIndex = (i+1)%numberOfEntries;
-            swapedVmsEntries[i] = new HashMap.SimpleEntry(cloudlets[i], vms[swapedVmIndex]);
-        });
+    @Test
+    public void testSwapVmsOfTwoCloudlets_SwappingAgainUndoesTheChange() {
+        final CloudletToVmMappingSolution instance = createSolution(10, 4);
+        final Map<Cloudlet, Vm> originalMapping = new HashMap<>(instance.getResult());
+        final double originalCost = instance.getCost();
+
+        assertTrue(instance.swapVmsOfTwoCloudlets(0, 1));
+        assertNotEquals(originalMapping, instance.getResult());
+
+        instance.swapVmsOfTwoCloudlets(0, 1);
+        assertEquals(originalMapping, instance.getResult());
+        assertEquals(originalCost, instance.getCost(), 0);
+    }
 
+    @Test
+    public void testSwapVmsOfTwoCloudlets_SameVm() {
+        final CloudletToVmMappingSolution instance = createSolution(10, 4);
+        assertFalse(instance.swapVmsOfTwoCloudlets(0, 4));
+        assertEquals(0, instance.getSwapCostDelta(0, 4), 0);
+    }
+
+    @Test
+    public void testBindCloudletToVm_RebindUpdatesCost() {
+        final Vm vm0 = VmSimpleTest.createVm(0, 1000, 2);
+        final Vm vm1 = VmSimpleTest.createVm(1, 1000, 2);
+        final Cloudlet cloudlet = CloudletSimpleTest.createCloudlet(0, 1000, 1);
         final CloudletToVmMappingSolution instance = new CloudletToVmMappingSolution(Heuristic.NULL);
-        instance.swapVmsOfTwoMapEntries(originalEntries);
 
-        assertArrayEquals(
-            String.format(
-                "The VMs of the given cloudlets were not swapped. It was expected the cloudlet %d to move to VM %d and cloudlet %d to move to VM %d.",
-                swapedVmsEntries[0].getKey().getId(),
-                swapedVmsEntries[0].getValue().getId(),
-                swapedVmsEntries[1].getKey().getId(),
-                swapedVmsEntries[1].getValue().getId()),
-            swapedVmsEntries, originalEntries);
+        instance.bindCloudletToVm(cloudlet, vm0);
+        assertEquals(1, instance.getCost(), 0);
+
+        instance.bindCloudletToVm(cloudlet, vm1);
+        assertEquals(1, instance.getCloudletsNumber());
+        assertSame(vm1, instance.getResult().get(cloudlet));
+        assertEquals("An empty VM must not add cost to the solution", 1, instance.getCost(), 0);
+    }
+
+    @Test
+    public void testCloneIsIndependent() {
+        final CloudletToVmMappingSolution instance = createSolution(10, 4);
+        final CloudletToVmMappingSolution clone = new CloudletToVmMappingSolution(instance);
+        final Map<Cloudlet, Vm> originalMapping = new HashMap<>(instance.getResult());
+
+        clone.swapVmsOfTwoCloudlets(0, 1);
+        assertEquals(originalMapping, instance.getResult());
+        assertNotEquals(originalMapping, clone.getResult());
     }
 }
@@ -0,0 +1,92 @@
+package org.cloudsimplus.heuristics;
+
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.cloudlets.CloudletSimpleTest;
+import org.cloudbus.cloudsim.distributions.UniformDistr;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudbus.cloudsim.vms.VmSimpleTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletToVmMappingTabuSearchTest {
+    private static final int CLOUDLETS = 60;
+    private static final int VMS = 20;
+
+    @Test
+    public void testSolve_ImprovesInitialSolution() {
+        final CloudletToVmMappingTabuSearch heuristic = createHeuristic();
+        final CloudletToVmMappingSolution solution = heuristic.solve();
+
+        assertEquals(CLOUDLETS, solution.getResult().size());
+        assertEquals(heuristic.getMaxIterations(), heuristic.getIteration());
+        assertTrue(solution.getCost() < heuristic.getInitialSolution().getCost());
+        assertEquals(solution.getCost(), solution.getCost(true), 0);
+    }
+
+    @Test
+    public void testSolve_DoesNotChangeInitialSolution() {
+        final CloudletToVmMappingTabuSearch heuristic = createHeuristic();
+        final double initialCost = heuristic.getInitialSolution().getCost();
+        heuristic.solve();
+        assertEquals(initialCost, heuristic.getInitialSolution().getCost(true), 0);
+    }
+
+    @Test
+    public void testSolveMultiStart() {
+        final CloudletToVmMappingTabuSearch heuristic = createHeuristic();
+        final CloudletToVmMappingSolution solution = heuristic.solveMultiStart(2);
+        assertEquals(CLOUDLETS, solution.getResult().size());
+        assertEquals(solution.getCost(), solution.getCost(true), 0);
+    }
+
+    @Test
+    public void testMakeTabu() {
+        final CloudletToVmMappingTabuSearch heuristic = createHeuristic();
+        heuristic.setTabuTenure(2);
+        assertFalse(heuristic.isTabu(5));
+
+        heuristic.makeTabu(5);
+        assertTrue(heuristic.isTabu(5));
+        heuristic.updateSystemState();
+        heuristic.updateSystemState();
+        assertTrue(heuristic.isTabu(5));
+        heuristic.updateSystemState();
+        assertFalse(heuristic.isTabu(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetTabuTenure_Negative() {
+        createHeuristic().setTabuTenure(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetMaxIterations_Zero() {
+        createHeuristic().setMaxIterations(0);
+    }
+
+    private CloudletToVmMappingTabuSearch createHeuristic() {
+        final List<Vm> vms = new ArrayList<>(VMS);
+        for (int i = 0; i < VMS; i++) {
+            vms.add(VmSimpleTest.createVm(i, 1000, i % 4 + 1));
+        }
+
+        final List<Cloudlet> cloudlets = new ArrayList<>(CLOUDLETS);
+        for (int i = 0; i < CLOUDLETS; i++) {
+            cloudlets.add(CloudletSimpleTest.createCloudlet(i, 1000, i % 3 + 1));
+        }
+
+        final CloudletToVmMappingTabuSearch heuristic = new CloudletToVmMappingTabuSearch(new UniformDistr(11));
+        heuristic.setMaxIterations(200);
+        heuristic.setNumberOfNeighborhoodSearchesByIteration(20);
+        heuristic.setVmList(vms);
+        heuristic.setCloudletList(cloudlets);
+        return heuristic;
+    }
+}
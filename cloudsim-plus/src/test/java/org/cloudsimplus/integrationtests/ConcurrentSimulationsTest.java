@@ -0,0 +1,116 @@
+/*
+ * CloudSim Plus: A modern, highly-extensible and easier-to-use Framework for
+ * Modeling and Simulation of Cloud Computing Infrastructures and Services.
+ * http://cloudsimplus.org
+ *
+ *     Copyright (C) 2015-2016  Universidade da Beira Interior (UBI, Portugal) and
+ *     the Instituto Federal de Educação Ciência e Tecnologia do Tocantins (IFTO, Brazil).
+ *
+ *     This file is part of CloudSim Plus.
+ *
+ *     CloudSim Plus is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     CloudSim Plus is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with CloudSim Plus. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.cloudsimplus.integrationtests;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * An Integration Test (IT) that runs several independent {@link CloudSim} instances
+ * concurrently in different threads of the same JVM and checks
+ * their results are the same as when the simulations run sequentially.
+ *
+ * <p>Each simulation has a different scenario, so that any state wrongly
+ * shared between simulations changes the results.</p>
+ *
+ * @author Manoel Campos da Silva Filho
+ */
+public final class ConcurrentSimulationsTest {
+    private static final int NUMBER_OF_SIMULATIONS = 16;
+    private static final int THREADS = 8;
+    private static final int HOSTS = 4;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    @Test
+    public void integrationTest() throws Exception {
+        final List<String> expected = new ArrayList<>(NUMBER_OF_SIMULATIONS);
+        for (int i = 0; i < NUMBER_OF_SIMULATIONS; i++) {
+            expected.add(runSimulation(i));
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<String>> futures = new ArrayList<>(NUMBER_OF_SIMULATIONS);
+            for (int i = 0; i < NUMBER_OF_SIMULATIONS; i++) {
+                final int index = i;
+                futures.add(executor.submit(() -> runSimulation(index)));
+            }
+
+            for (int i = 0; i < NUMBER_OF_SIMULATIONS; i++) {
+                assertEquals("Simulation " + i, expected.get(i), futures.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Builds and runs a simulation scenario which size depends on
+     * the given index.
+     *
+     * @param index the index of the simulation
+     * @return a String describing the results of all finished Cloudlets
+     */
+    private String runSimulation(final int index) {
+        final CloudSim simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        SimulationScenarioTestUtil.createDatacenter(scenario, HOSTS);
+        final DatacenterBroker broker =
+            SimulationScenarioTestUtil
+                .createBroker(scenario, HOSTS + index % HOSTS, 10 + index, 10000 + 1000 * index)
+                .getBroker();
+
+        simulation.start();
+
+        final StringBuilder result = new StringBuilder();
+        result.append(String.format("clock %.2f%n", simulation.clock()));
+        final List<Cloudlet> finished = new ArrayList<>(broker.getCloudletFinishedList());
+        finished.sort(Comparator.comparingInt(Cloudlet::getId));
+        for (final Cloudlet c : finished) {
+            result.append(String.format(
+                "cloudlet %d vm %d host %d start %.2f finish %.2f%n",
+                c.getId(), c.getVm().getId(), c.getVm().getHost().getId(),
+                c.getExecStartTime(), c.getFinishTime()));
+        }
+
+        return result.toString();
+    }
+}
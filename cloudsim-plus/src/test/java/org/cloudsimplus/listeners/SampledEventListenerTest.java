@@ -0,0 +1,58 @@
+package org.cloudsimplus.listeners;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class SampledEventListenerTest {
+    @Test
+    public void testUpdateJustNotifiesAtSamplingInterval() {
+        final List<Double> times = new ArrayList<>();
+        final EventListener<EventInfo> listener = EventListener.sampled(10, info -> times.add(info.getTime()));
+
+        for (final double time : new double[]{0, 1, 9.9, 10, 15, 19.9, 20.5, 30, 30.1, 45}) {
+            listener.update(EventInfo.of(time));
+        }
+
+        final List<Double> expected = new ArrayList<>();
+        for (final double time : new double[]{0, 10, 20.5, 45}) {
+            expected.add(time);
+        }
+        assertEquals(expected, times);
+    }
+
+    @Test
+    public void testZeroSamplingIntervalNotifiesAllEvents() {
+        final int[] count = {0};
+        final EventListener<EventInfo> listener = EventListener.sampled(0, info -> count[0]++);
+        listener.update(EventInfo.of(1));
+        listener.update(EventInfo.of(1));
+        listener.update(EventInfo.of(2));
+        assertEquals(3, count[0]);
+    }
+
+    @Test
+    public void testGetListener() {
+        final EventListener<EventInfo> listener = info -> {};
+        final SampledEventListener<EventInfo> sampled = new SampledEventListener<>(listener, 5);
+        assertSame(listener, sampled.getListener());
+        assertEquals(5, sampled.getSamplingInterval(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeSamplingInterval() {
+        EventListener.sampled(-1, info -> {});
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullListener() {
+        EventListener.sampled(1, null);
+    }
+}
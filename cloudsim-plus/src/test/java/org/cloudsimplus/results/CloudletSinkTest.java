@@ -0,0 +1,107 @@
+package org.cloudsimplus.results;
+
+import org.cloudbus.cloudsim.brokers.DatacenterBroker;
+import org.cloudbus.cloudsim.cloudlets.Cloudlet;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.vms.Vm;
+import org.cloudsimplus.builders.SimulationScenarioBuilder;
+import org.cloudsimplus.builders.SimulationScenarioTestUtil;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Manoel Campos da Silva Filho
+ */
+public class CloudletSinkTest {
+    private static final int CLOUDLETS = 10;
+    private static final long CLOUDLET_LENGTH = SimulationScenarioTestUtil.CLOUDLET_LENGTH;
+
+    @Rule
+    public final TestRule disableLog = SimulationScenarioTestUtil.disableLog();
+
+    private CloudSim simulation;
+    private DatacenterBroker broker;
+
+    @Before
+    public void setUp() {
+        simulation = new CloudSim();
+        final SimulationScenarioBuilder scenario = new SimulationScenarioBuilder(simulation);
+        SimulationScenarioTestUtil.createDatacenter(scenario, 2);
+        broker = SimulationScenarioTestUtil.createBroker(scenario, 2, CLOUDLETS).getBroker();
+    }
+
+    @Test
+    public void testBrokerWithoutSinkKeepsFinishedCloudlets() {
+        assertSame(CloudletSink.NULL, broker.getCloudletSink());
+        simulation.start();
+        assertEquals(CLOUDLETS, broker.getCloudletFinishedList().size());
+        assertEquals(CLOUDLETS, broker.getCloudletCreatedList().size());
+    }
+
+    @Test
+    public void testBrokerWithSinkReleasesFinishedCloudlets() {
+        final List<Vm> vms = new ArrayList<>(broker.getVmWaitingList());
+        final List<Cloudlet> received = new ArrayList<>();
+        broker.setCloudletSink(received::add);
+        simulation.start();
+
+        assertEquals(CLOUDLETS, received.size());
+        for (final Cloudlet cloudlet : received) {
+            assertTrue(cloudlet.isFinished());
+        }
+
+        assertTrue(broker.getCloudletFinishedList().isEmpty());
+        assertTrue(broker.getCloudletCreatedList().isEmpty());
+        assertEquals(CLOUDLETS, broker.getCloudletCreationRequests());
+        for (final Vm vm : vms) {
+            assertTrue(vm.getCloudletScheduler().getCloudletFinishedList().isEmpty());
+            assertTrue(vm.getCloudletScheduler().getCloudletReturnedList().isEmpty());
+        }
+    }
+
+    @Test
+    public void testStatisticsAndCsvSinks() throws Exception {
+        final CloudletStatisticsSink statistics = new CloudletStatisticsSink();
+        final StringWriter writer = new StringWriter();
+        try(CsvCloudletSink csv = new CsvCloudletSink(writer)) {
+            csv.addColumn("Description", c -> "cloudlet, \"" + c.getId() + "\"");
+            broker.setCloudletSink(statistics.andThen(csv));
+            simulation.start();
+        }
+
+        assertEquals(CLOUDLETS, statistics.getCount());
+        assertEquals(CLOUDLETS, statistics.getCount(Cloudlet.Status.SUCCESS));
+        assertEquals(0, statistics.getCount(Cloudlet.Status.FAILED));
+        assertEquals(CLOUDLETS * CLOUDLET_LENGTH, statistics.getTotalLength());
+        assertTrue(statistics.getExecTime().getMean() > 0);
+        assertEquals(simulation.clock(), statistics.getFinishTime().getMax(), 1);
+
+        final String[] lines = writer.toString().split(System.lineSeparator());
+        assertEquals(CLOUDLETS + 1, lines.length);
+        assertTrue(lines[0].startsWith("Cloudlet,Status,DC,Host"));
+        assertTrue(lines[0].endsWith(",ExecTime,Description"));
+        assertTrue(lines[1].contains(",SUCCESS,"));
+        assertTrue(lines[1].endsWith(",\"cloudlet, \"\"" + lines[1].split(",")[0] + "\"\"\""));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddCsvColumnAfterWritingCloudlets() {
+        final CsvCloudletSink csv = new CsvCloudletSink(new StringWriter());
+        broker.setCloudletSink(csv);
+        simulation.start();
+        csv.addColumn("Late", Cloudlet::getId);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSetNullSink() {
+        broker.setCloudletSink(null);
+    }
+}